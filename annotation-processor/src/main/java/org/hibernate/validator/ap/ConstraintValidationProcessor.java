@@ -23,6 +23,7 @@
 
 import org.hibernate.validator.ap.internal.ClassVisitor;
 import org.hibernate.validator.ap.internal.ConstraintAnnotationVisitor;
+import org.hibernate.validator.ap.internal.mapping.ConstraintMappingGenerator;
 import org.hibernate.validator.ap.internal.util.AnnotationApiHelper;
 import org.hibernate.validator.ap.internal.util.Configuration;
 import org.hibernate.validator.ap.internal.util.MessagerAdapter;
@@ -45,6 +46,15 @@
  * set to {@code false} in order to allow only getter based property
  * constraints but not method level constraints as supported by Hibernate
  * Validator. Default is {@code true}.</li>
+ * <li>{@code generateConstraintMappings}: whether a constraint mapping
+ * contributor shall be generated for each constrained bean or not. The generated
+ * contributors are registered via the service loader mechanism and allow the
+ * validation engine to skip the introspection of the annotations of these beans
+ * at bootstrap. The getters are identified using the default getter property
+ * selection strategy so the generated contributors must not be used with a custom
+ * getter property selection strategy. The discovery of the contributors must be
+ * enabled when bootstrapping the validator factory. Must be given as String
+ * parsable by {@link Boolean#parseBoolean}. Default is {@code false}.</li>
  * </ul>
  *
  * @author Hardy Ferentschik
@@ -54,7 +64,8 @@
 @SupportedOptions({
 		Configuration.DIAGNOSTIC_KIND_PROCESSOR_OPTION,
 		Configuration.VERBOSE_PROCESSOR_OPTION,
-		Configuration.METHOD_CONSTRAINTS_SUPPORTED_PROCESSOR_OPTION
+		Configuration.METHOD_CONSTRAINTS_SUPPORTED_PROCESSOR_OPTION,
+		Configuration.GENERATE_CONSTRAINT_MAPPINGS_PROCESSOR_OPTION
 })
 public class ConstraintValidationProcessor extends AbstractProcessor {
 
@@ -73,6 +84,11 @@ public class ConstraintValidationProcessor extends AbstractProcessor {
 	 */
 	private Configuration configuration;
 
+	/**
+	 * Generates the constraint mapping contributors, {@code null} if their generation is not enabled.
+	 */
+	private ConstraintMappingGenerator constraintMappingGenerator;
+
 	@Override
 	public synchronized void init(ProcessingEnvironment processingEnv) {
 
@@ -80,6 +96,10 @@ public synchronized void init(ProcessingEnvironment processingEnv) {
 
 		configuration = new Configuration( processingEnv.getOptions(), processingEnv.getMessager() );
 		messager = new MessagerAdapter( processingEnv.getMessager(), configuration.getDiagnosticKind() );
+
+		if ( configuration.generateConstraintMappings() ) {
+			constraintMappingGenerator = new ConstraintMappingGenerator( processingEnv, messager, configuration );
+		}
 	}
 
 	@Override
@@ -126,6 +146,15 @@ public boolean process(
 			element.accept( classVisitor, null );
 		}
 
+		if ( constraintMappingGenerator != null && !roundEnvironment.errorRaised() ) {
+			for ( Element element : roundEnvironment.getRootElements() ) {
+				constraintMappingGenerator.generate( element );
+			}
+			if ( roundEnvironment.processingOver() ) {
+				constraintMappingGenerator.writeServiceFile();
+			}
+		}
+
 		return ANNOTATIONS_CLAIMED_EXCLUSIVELY;
 	}
 
@@ -0,0 +1,664 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.ap.internal.mapping;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.TypeParameterElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+
+import org.hibernate.validator.ap.internal.util.AnnotationApiHelper;
+import org.hibernate.validator.ap.internal.util.CollectionHelper;
+import org.hibernate.validator.ap.internal.util.Configuration;
+import org.hibernate.validator.ap.internal.util.ConstraintHelper;
+import org.hibernate.validator.ap.internal.util.ConstraintHelper.AnnotationProcessorValidationTarget;
+import org.hibernate.validator.ap.internal.util.ConstraintHelper.AnnotationType;
+import org.hibernate.validator.ap.internal.util.MessagerAdapter;
+import org.hibernate.validator.ap.internal.util.StringHelper;
+import org.hibernate.validator.ap.internal.util.TypeNames.BeanValidationTypes;
+import org.hibernate.validator.ap.internal.util.TypeNames.HibernateValidatorTypes;
+
+/**
+ * Generates a {@code ConstraintMappingContributor} for each constrained bean, declaring its constraints, cascades
+ * and group conversions with the programmatic API. The generated contributors are registered via the service loader
+ * mechanism and are only applied if their discovery is enabled when bootstrapping the validator factory.
+ * <p>
+ * The generated mappings ignore all the annotations of the beans they configure: the engine then does not need to
+ * introspect the annotations of their members at bootstrap. The default group sequence and the default group
+ * sequence provider of the beans are still retrieved from their annotations.
+ * <p>
+ * No contributor is generated for the beans using constructs which cannot be expressed with the programmatic API,
+ * e.g. container element constraints or constraint attributes of an annotation type. These beans are handled by the
+ * annotation based metadata as usual.
+ * <p>
+ * The getters are identified at compile time using the rules of the default getter property selection strategy and
+ * are declared with {@code type.getter( "property" )}. The strategy used at runtime cannot be known by the processor:
+ * with a custom strategy, the generated getter mappings may designate other methods or fail at bootstrap, so the
+ * generated contributors must not be used together with a custom getter property selection strategy.
+ *
+ * @author Guillaume Smet
+ */
+public class ConstraintMappingGenerator {
+
+	/**
+	 * The suffix of the generated contributors, appended to the name of the bean.
+	 */
+	public static final String CONTRIBUTOR_SUFFIX = "_ConstraintMappingContributor";
+
+	/**
+	 * The service file the generated contributors are registered in.
+	 */
+	public static final String SERVICE_FILE = "META-INF/services/" + HibernateValidatorTypes.CONSTRAINT_MAPPING_CONTRIBUTOR;
+
+	private static final String GETTER_PREFIX_GET = "get";
+	private static final String GETTER_PREFIX_IS = "is";
+	private static final String GETTER_PREFIX_HAS = "has";
+
+	private static final String INDENTATION = "\t\t";
+	private static final String CHAINED_CALL_INDENTATION = INDENTATION + "\t\t";
+
+	private final Filer filer;
+
+	private final Elements elementUtils;
+
+	private final Types typeUtils;
+
+	private final AnnotationApiHelper annotationApiHelper;
+
+	private final ConstraintHelper constraintHelper;
+
+	private final MessagerAdapter messager;
+
+	private final boolean verbose;
+
+	private final Set<String> processedTypes = CollectionHelper.newHashSet();
+
+	private final Set<String> generatedContributors = CollectionHelper.newTreeSet();
+
+	public ConstraintMappingGenerator(ProcessingEnvironment processingEnvironment, MessagerAdapter messager, Configuration configuration) {
+		this.filer = processingEnvironment.getFiler();
+		this.elementUtils = processingEnvironment.getElementUtils();
+		this.typeUtils = processingEnvironment.getTypeUtils();
+		this.annotationApiHelper = new AnnotationApiHelper( elementUtils, typeUtils );
+		this.constraintHelper = new ConstraintHelper( typeUtils, annotationApiHelper );
+		this.messager = messager;
+		this.verbose = configuration.isVerbose();
+	}
+
+	/**
+	 * Generates the contributors of the given type and of its nested types, if they host any constraint.
+	 *
+	 * @param element a root element of the current round
+	 */
+	public void generate(Element element) {
+		if ( element.getKind() != ElementKind.CLASS && element.getKind() != ElementKind.INTERFACE ) {
+			return;
+		}
+
+		TypeElement type = (TypeElement) element;
+		if ( !processedTypes.add( type.getQualifiedName().toString() ) ) {
+			return;
+		}
+
+		if ( isAccessibleFrom( type, elementUtils.getPackageOf( type ) ) ) {
+			try {
+				String body = getContributorBody( type );
+				if ( body != null ) {
+					writeContributor( type, body );
+				}
+			}
+			catch (UnsupportedConstructException e) {
+				if ( verbose ) {
+					messager.getDelegate().printMessage(
+							Kind.NOTE,
+							StringHelper.format( "No constraint mapping generated for %1$s: %2$s.", type.getQualifiedName(), e.getMessage() ),
+							e.getElement()
+					);
+				}
+			}
+		}
+
+		for ( TypeElement nestedType : ElementFilter.typesIn( type.getEnclosedElements() ) ) {
+			generate( nestedType );
+		}
+	}
+
+	/**
+	 * Registers all the contributors generated so far in the service file.
+	 */
+	public void writeServiceFile() {
+		if ( generatedContributors.isEmpty() ) {
+			return;
+		}
+
+		try ( Writer writer = filer.createResource( StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE ).openWriter() ) {
+			for ( String contributor : generatedContributors ) {
+				writer.write( contributor );
+				writer.write( '\n' );
+			}
+		}
+		catch (IOException e) {
+			messager.getDelegate().printMessage(
+					Kind.WARNING,
+					StringHelper.format( "Unable to write %1$s: %2$s", SERVICE_FILE, e.getMessage() )
+			);
+		}
+	}
+
+	/**
+	 * Returns the statements configuring the given type or {@code null} if the type does not host any constraint.
+	 */
+	private String getContributorBody(TypeElement type) throws UnsupportedConstructException {
+		PackageElement packageElement = elementUtils.getPackageOf( type );
+		StringBuilder body = new StringBuilder();
+
+		checkTypeParameters( type.getTypeParameters() );
+
+		appendStatement( body, "type", getCalls( type.getAnnotationMirrors(), null, packageElement ) );
+
+		for ( VariableElement field : ElementFilter.fieldsIn( type.getEnclosedElements() ) ) {
+			if ( field.getModifiers().contains( Modifier.STATIC ) ) {
+				continue;
+			}
+			checkContainerElements( field, field.asType() );
+			appendStatement(
+					body,
+					"type.field( " + elementUtils.getConstantExpression( field.getSimpleName().toString() ) + " )",
+					getCalls( field.getAnnotationMirrors(), null, packageElement )
+			);
+		}
+
+		int methodIndex = 0;
+		for ( ExecutableElement method : ElementFilter.methodsIn( type.getEnclosedElements() ) ) {
+			if ( method.getModifiers().contains( Modifier.STATIC ) ) {
+				continue;
+			}
+
+			String property = getProperty( method );
+			if ( property != null ) {
+				checkTypeParameters( method.getTypeParameters() );
+				checkContainerElements( method, method.getReturnType() );
+				checkAmbiguousGetter( type, method, property );
+				appendStatement(
+						body,
+						"type.getter( " + elementUtils.getConstantExpression( property ) + " )",
+						getCalls( method.getAnnotationMirrors(), null, packageElement )
+				);
+				continue;
+			}
+
+			String parameterTypes = getParameterTypeLiterals( method, packageElement );
+			String initializer = "type.method( " + elementUtils.getConstantExpression( method.getSimpleName().toString() )
+					+ ( parameterTypes.isEmpty() ? "" : ", " + parameterTypes ) + " )";
+			if ( appendExecutable( body, method, HibernateValidatorTypes.METHOD_CONSTRAINT_MAPPING_CONTEXT, "method" + methodIndex, initializer,
+					packageElement ) ) {
+				methodIndex++;
+			}
+		}
+
+		int constructorIndex = 0;
+		for ( ExecutableElement constructor : ElementFilter.constructorsIn( type.getEnclosedElements() ) ) {
+			String parameterTypes = getParameterTypeLiterals( constructor, packageElement );
+			String initializer = parameterTypes.isEmpty() ? "type.constructor()" : "type.constructor( " + parameterTypes + " )";
+			if ( appendExecutable( body, constructor, HibernateValidatorTypes.CONSTRUCTOR_CONSTRAINT_MAPPING_CONTEXT, "constructor" + constructorIndex,
+					initializer, packageElement ) ) {
+				// the constructors of the inner classes have an implicit parameter for the enclosing instance
+				if ( type.getNestingKind() == NestingKind.MEMBER && !type.getModifiers().contains( Modifier.STATIC ) ) {
+					throw new UnsupportedConstructException( constructor, "constraints on the constructors of inner classes are not supported" );
+				}
+				constructorIndex++;
+			}
+		}
+
+		return body.length() > 0 ? body.toString() : null;
+	}
+
+	/**
+	 * Appends the statements configuring the given executable.
+	 *
+	 * @return {@code true} if the executable hosts any constraint
+	 */
+	private boolean appendExecutable(StringBuilder body, ExecutableElement executable, String contextType, String variable, String initializer,
+			PackageElement packageElement) throws UnsupportedConstructException {
+		checkTypeParameters( executable.getTypeParameters() );
+		checkContainerElements( executable, executable.getReturnType() );
+
+		StringBuilder statements = new StringBuilder();
+
+		List<? extends VariableElement> parameters = executable.getParameters();
+		for ( int i = 0; i < parameters.size(); i++ ) {
+			VariableElement parameter = parameters.get( i );
+			checkContainerElements( parameter, parameter.asType() );
+			appendStatement( statements, variable + ".parameter( " + i + " )", getCalls( parameter.getAnnotationMirrors(), null, packageElement ) );
+		}
+		appendStatement( statements, variable + ".crossParameter()",
+				getCalls( executable.getAnnotationMirrors(), executable, AnnotationProcessorValidationTarget.PARAMETERS, packageElement ) );
+		appendStatement( statements, variable + ".returnValue()",
+				getCalls( executable.getAnnotationMirrors(), executable, AnnotationProcessorValidationTarget.ANNOTATED_ELEMENT, packageElement ) );
+
+		if ( statements.length() == 0 ) {
+			return false;
+		}
+
+		body.append( INDENTATION ).append( contextType ).append( ' ' ).append( variable ).append( " = " ).append( initializer ).append( ";\n" );
+		body.append( statements );
+		return true;
+	}
+
+	private List<String> getCalls(List<? extends AnnotationMirror> annotationMirrors, ExecutableElement executable,
+			PackageElement packageElement) throws UnsupportedConstructException {
+		return getCalls( annotationMirrors, executable, null, packageElement );
+	}
+
+	/**
+	 * Returns the calls declaring the constraints, the cascade and the group conversions hosted by the given
+	 * annotations.
+	 *
+	 * @param annotationMirrors the annotations of the element
+	 * @param executable the executable hosting the annotations, {@code null} if the annotations are not hosted by an
+	 * executable
+	 * @param target the validation target of interest if the annotations are hosted by an executable: cross-parameter
+	 * constraints for {@link AnnotationProcessorValidationTarget#PARAMETERS} or constraints, cascade and group
+	 * conversions of the return value for {@link AnnotationProcessorValidationTarget#ANNOTATED_ELEMENT}
+	 * @param packageElement the package of the generated contributor
+	 */
+	private List<String> getCalls(List<? extends AnnotationMirror> annotationMirrors, ExecutableElement executable,
+			AnnotationProcessorValidationTarget target, PackageElement packageElement) throws UnsupportedConstructException {
+		List<AnnotationMirror> constraints = CollectionHelper.newArrayList();
+		List<AnnotationMirror> groupConversions = CollectionHelper.newArrayList();
+		boolean valid = false;
+
+		for ( AnnotationMirror annotationMirror : annotationMirrors ) {
+			switch ( constraintHelper.getAnnotationType( annotationMirror ) ) {
+				case CONSTRAINT_ANNOTATION:
+					constraints.add( annotationMirror );
+					break;
+				case MULTI_VALUED_CONSTRAINT_ANNOTATION:
+					constraints.addAll( constraintHelper.getPartsOfMultiValuedConstraint( annotationMirror ) );
+					break;
+				case GRAPH_VALIDATION_ANNOTATION:
+					valid = true;
+					break;
+				default:
+					String annotationTypeName = getQualifiedName( annotationMirror );
+					if ( BeanValidationTypes.CONVERT_GROUP.equals( annotationTypeName ) ) {
+						groupConversions.add( annotationMirror );
+					}
+					else if ( BeanValidationTypes.CONVERT_GROUP_LIST.equals( annotationTypeName ) ) {
+						for ( AnnotationValue groupConversion : annotationApiHelper.getAnnotationArrayValue( annotationMirror, "value" ) ) {
+							groupConversions.add( (AnnotationMirror) groupConversion.getValue() );
+						}
+					}
+			}
+		}
+
+		List<String> calls = CollectionHelper.newArrayList();
+		for ( AnnotationMirror constraint : constraints ) {
+			if ( executable != null ) {
+				AnnotationProcessorValidationTarget constraintTarget = constraintHelper.resolveValidationTarget( executable, constraint );
+				if ( constraintTarget == null ) {
+					throw new UnsupportedConstructException( executable, "the validation target of " + constraint + " cannot be resolved" );
+				}
+				if ( constraintTarget != target ) {
+					continue;
+				}
+			}
+			calls.add( ".constraint( " + getConstraintDef( constraint, executable, packageElement ) + " )" );
+		}
+
+		if ( target == AnnotationProcessorValidationTarget.PARAMETERS ) {
+			return calls;
+		}
+
+		if ( valid ) {
+			calls.add( ".valid()" );
+		}
+		for ( AnnotationMirror groupConversion : groupConversions ) {
+			calls.add( ".convertGroup( " + getLiteral( annotationApiHelper.getAnnotationValueOrDefault( groupConversion, "from" ), null, executable, packageElement )
+					+ " ).to( " + getLiteral( annotationApiHelper.getAnnotationValue( groupConversion, "to" ), null, executable, packageElement ) + " )" );
+		}
+
+		return calls;
+	}
+
+	private String getConstraintDef(AnnotationMirror constraint, Element element, PackageElement packageElement) throws UnsupportedConstructException {
+		StringBuilder constraintDef = new StringBuilder( "new " )
+				.append( HibernateValidatorTypes.GENERIC_CONSTRAINT_DEF )
+				.append( "<>( " )
+				.append( getClassLiteral( constraint.getAnnotationType(), element, packageElement ) )
+				.append( " )" );
+
+		// only the explicit values are passed, the others are retrieved from the constraint annotation
+		for ( Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> elementValue : constraint.getElementValues().entrySet() ) {
+			constraintDef.append( ".param( " )
+					.append( elementUtils.getConstantExpression( elementValue.getKey().getSimpleName().toString() ) )
+					.append( ", " )
+					.append( getLiteral( elementValue.getValue(), elementValue.getKey().getReturnType(), element, packageElement ) )
+					.append( " )" );
+		}
+
+		return constraintDef.toString();
+	}
+
+	private String getLiteral(AnnotationValue annotationValue, TypeMirror type, Element element, PackageElement packageElement)
+			throws UnsupportedConstructException {
+		Object value = annotationValue.getValue();
+
+		if ( value instanceof List ) {
+			TypeMirror componentType = ( (ArrayType) type ).getComponentType();
+			StringBuilder literal = new StringBuilder( "new " ).append( getTypeName( componentType, element, packageElement ) ).append( "[] {" );
+			boolean first = true;
+			for ( Object component : (List<?>) value ) {
+				literal.append( first ? " " : ", " ).append( getLiteral( (AnnotationValue) component, componentType, element, packageElement ) );
+				first = false;
+			}
+			return literal.append( first ? "}" : " }" ).toString();
+		}
+		else if ( value instanceof TypeMirror ) {
+			return getClassLiteral( (TypeMirror) value, element, packageElement );
+		}
+		else if ( value instanceof VariableElement ) {
+			TypeElement enumType = (TypeElement) ( (VariableElement) value ).getEnclosingElement();
+			if ( !isAccessibleFrom( enumType, packageElement ) ) {
+				throw new UnsupportedConstructException( element, enumType.getQualifiedName() + " is not accessible" );
+			}
+			return enumType.getQualifiedName() + "." + ( (VariableElement) value ).getSimpleName();
+		}
+		else if ( value instanceof AnnotationMirror ) {
+			throw new UnsupportedConstructException( element, "annotation typed constraint attributes are not supported" );
+		}
+
+		return elementUtils.getConstantExpression( value );
+	}
+
+	private String getClassLiteral(TypeMirror type, Element element, PackageElement packageElement) throws UnsupportedConstructException {
+		return getTypeName( type, element, packageElement ) + ".class";
+	}
+
+	private String getTypeName(TypeMirror type, Element element, PackageElement packageElement) throws UnsupportedConstructException {
+		if ( type.getKind().isPrimitive() || type.getKind() == TypeKind.VOID ) {
+			return type.getKind().name().toLowerCase( Locale.ROOT );
+		}
+
+		switch ( type.getKind() ) {
+			case ARRAY:
+				return getTypeName( ( (ArrayType) type ).getComponentType(), element, packageElement ) + "[]";
+			case DECLARED:
+				TypeElement typeElement = (TypeElement) ( (DeclaredType) type ).asElement();
+				if ( !isAccessibleFrom( typeElement, packageElement ) ) {
+					throw new UnsupportedConstructException( element, typeElement.getQualifiedName() + " is not accessible" );
+				}
+				return typeElement.getQualifiedName().toString();
+			case TYPEVAR:
+				return getTypeName( typeUtils.erasure( type ), element, packageElement );
+			default:
+				throw new UnsupportedConstructException( element, "type " + type + " is not supported" );
+		}
+	}
+
+	private String getParameterTypeLiterals(ExecutableElement executable, PackageElement packageElement) throws UnsupportedConstructException {
+		StringBuilder parameterTypes = new StringBuilder();
+		for ( VariableElement parameter : executable.getParameters() ) {
+			if ( parameterTypes.length() > 0 ) {
+				parameterTypes.append( ", " );
+			}
+			parameterTypes.append( getClassLiteral( typeUtils.erasure( parameter.asType() ), executable, packageElement ) );
+		}
+		return parameterTypes.toString();
+	}
+
+	/**
+	 * Returns the property of the given method if it is a getter according to the default getter property selection
+	 * strategy, {@code null} otherwise.
+	 */
+	private static String getProperty(ExecutableElement method) {
+		if ( !method.getParameters().isEmpty() ) {
+			return null;
+		}
+
+		String methodName = method.getSimpleName().toString();
+		TypeKind returnType = method.getReturnType().getKind();
+
+		String prefix;
+		if ( methodName.startsWith( GETTER_PREFIX_GET ) && returnType != TypeKind.VOID ) {
+			prefix = GETTER_PREFIX_GET;
+		}
+		else if ( methodName.startsWith( GETTER_PREFIX_IS ) && returnType == TypeKind.BOOLEAN ) {
+			prefix = GETTER_PREFIX_IS;
+		}
+		else if ( methodName.startsWith( GETTER_PREFIX_HAS ) && returnType == TypeKind.BOOLEAN ) {
+			prefix = GETTER_PREFIX_HAS;
+		}
+		else {
+			return null;
+		}
+
+		return decapitalize( methodName.substring( prefix.length() ) );
+	}
+
+	/**
+	 * A property of the programmatic API designates the first getter found among its candidates: the getters sharing
+	 * their property with another getter cannot be designated reliably.
+	 */
+	private void checkAmbiguousGetter(TypeElement type, ExecutableElement getter, String property) throws UnsupportedConstructException {
+		if ( property.isEmpty() ) {
+			throw new UnsupportedConstructException( getter, "getters without property name are not supported" );
+		}
+
+		for ( ExecutableElement method : ElementFilter.methodsIn( type.getEnclosedElements() ) ) {
+			if ( !method.equals( getter ) && !method.getModifiers().contains( Modifier.STATIC ) && property.equals( getProperty( method ) ) ) {
+				throw new UnsupportedConstructException( getter, "several getters are defined for property " + property );
+			}
+		}
+	}
+
+	/**
+	 * Container element constraints, cascades and group conversions cannot be expressed with the programmatic API.
+	 */
+	private void checkContainerElements(Element element, TypeMirror type) throws UnsupportedConstructException {
+		switch ( type.getKind() ) {
+			case DECLARED:
+				for ( TypeMirror typeArgument : ( (DeclaredType) type ).getTypeArguments() ) {
+					checkContainerElement( element, typeArgument );
+				}
+				break;
+			case ARRAY:
+				checkContainerElement( element, ( (ArrayType) type ).getComponentType() );
+				break;
+			case WILDCARD:
+				WildcardType wildcardType = (WildcardType) type;
+				if ( wildcardType.getExtendsBound() != null ) {
+					checkContainerElement( element, wildcardType.getExtendsBound() );
+				}
+				if ( wildcardType.getSuperBound() != null ) {
+					checkContainerElement( element, wildcardType.getSuperBound() );
+				}
+				break;
+			default:
+				break;
+		}
+	}
+
+	private void checkContainerElement(Element element, TypeMirror containerElementType) throws UnsupportedConstructException {
+		if ( hasValidationAnnotations( containerElementType.getAnnotationMirrors() ) ) {
+			throw new UnsupportedConstructException( element, "container element constraints are not supported" );
+		}
+		checkContainerElements( element, containerElementType );
+	}
+
+	private void checkTypeParameters(List<? extends TypeParameterElement> typeParameters) throws UnsupportedConstructException {
+		for ( TypeParameterElement typeParameter : typeParameters ) {
+			if ( hasValidationAnnotations( typeParameter.getAnnotationMirrors() ) ) {
+				throw new UnsupportedConstructException( typeParameter, "type parameter constraints are not supported" );
+			}
+		}
+	}
+
+	private boolean hasValidationAnnotations(List<? extends AnnotationMirror> annotationMirrors) {
+		for ( AnnotationMirror annotationMirror : annotationMirrors ) {
+			AnnotationType annotationType = constraintHelper.getAnnotationType( annotationMirror );
+			if ( annotationType == AnnotationType.CONSTRAINT_ANNOTATION
+					|| annotationType == AnnotationType.MULTI_VALUED_CONSTRAINT_ANNOTATION
+					|| annotationType == AnnotationType.GRAPH_VALIDATION_ANNOTATION ) {
+				return true;
+			}
+
+			String annotationTypeName = getQualifiedName( annotationMirror );
+			if ( BeanValidationTypes.CONVERT_GROUP.equals( annotationTypeName ) || BeanValidationTypes.CONVERT_GROUP_LIST.equals( annotationTypeName ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void writeContributor(TypeElement type, String body) {
+		PackageElement packageElement = elementUtils.getPackageOf( type );
+		String packageName = packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+		String beanName = type.getQualifiedName().toString();
+		String contributorName = ( packageName.isEmpty() ? beanName : beanName.substring( packageName.length() + 1 ) ).replace( '.', '_' )
+				+ CONTRIBUTOR_SUFFIX;
+		String qualifiedContributorName = packageName.isEmpty() ? contributorName : packageName + "." + contributorName;
+
+		StringBuilder source = new StringBuilder();
+		if ( !packageName.isEmpty() ) {
+			source.append( "package " ).append( packageName ).append( ";\n\n" );
+		}
+		source.append( "/**\n" )
+				.append( " * Constraint mapping of {@link " ).append( beanName ).append( "}.\n" )
+				.append( " * <p>\n" )
+				.append( " * Generated by the Hibernate Validator annotation processor.\n" )
+				.append( " */\n" )
+				.append( "@SuppressWarnings({ \"rawtypes\", \"unchecked\" })\n" )
+				.append( "public final class " ).append( contributorName )
+				.append( " implements " ).append( HibernateValidatorTypes.CONSTRAINT_MAPPING_CONTRIBUTOR ).append( " {\n\n" )
+				.append( "\t@Override\n" )
+				.append( "\tpublic void createConstraintMappings(" ).append( HibernateValidatorTypes.CONSTRAINT_MAPPING_CONTRIBUTOR )
+				.append( ".ConstraintMappingBuilder builder) {\n" )
+				.append( INDENTATION ).append( HibernateValidatorTypes.TYPE_CONSTRAINT_MAPPING_CONTEXT ).append( "<?> type = builder.addConstraintMapping()\n" )
+				.append( CHAINED_CALL_INDENTATION ).append( ".type( " ).append( beanName ).append( ".class )\n" )
+				.append( CHAINED_CALL_INDENTATION ).append( ".ignoreAllAnnotations();\n" )
+				.append( body )
+				.append( "\t}\n" )
+				.append( "}\n" );
+
+		try {
+			JavaFileObject sourceFile = filer.createSourceFile( qualifiedContributorName, type );
+			try ( Writer writer = sourceFile.openWriter() ) {
+				writer.write( source.toString() );
+			}
+			generatedContributors.add( qualifiedContributorName );
+
+			if ( verbose ) {
+				messager.getDelegate().printMessage(
+						Kind.NOTE,
+						StringHelper.format( "Generated constraint mapping %1$s.", qualifiedContributorName ),
+						type
+				);
+			}
+		}
+		catch (IOException e) {
+			messager.getDelegate().printMessage(
+					Kind.WARNING,
+					StringHelper.format( "Unable to generate constraint mapping %1$s: %2$s", qualifiedContributorName, e.getMessage() ),
+					type
+			);
+		}
+	}
+
+	private static void appendStatement(StringBuilder body, String target, List<String> calls) {
+		if ( calls.isEmpty() ) {
+			return;
+		}
+
+		body.append( INDENTATION ).append( target );
+		for ( String call : calls ) {
+			body.append( '\n' ).append( CHAINED_CALL_INDENTATION ).append( call );
+		}
+		body.append( ";\n" );
+	}
+
+	/**
+	 * Whether the given type can be referenced from the given package, the generated contributors being declared in
+	 * the package of the bean they configure.
+	 */
+	private boolean isAccessibleFrom(TypeElement type, PackageElement packageElement) {
+		Element element = type;
+		while ( element.getKind().isClass() || element.getKind().isInterface() ) {
+			TypeElement typeElement = (TypeElement) element;
+			if ( typeElement.getNestingKind() == NestingKind.LOCAL || typeElement.getNestingKind() == NestingKind.ANONYMOUS
+					|| typeElement.getModifiers().contains( Modifier.PRIVATE ) ) {
+				return false;
+			}
+			if ( !typeElement.getModifiers().contains( Modifier.PUBLIC ) && !elementUtils.getPackageOf( typeElement ).equals( packageElement ) ) {
+				return false;
+			}
+			element = typeElement.getEnclosingElement();
+		}
+		return true;
+	}
+
+	private static String getQualifiedName(AnnotationMirror annotationMirror) {
+		return ( (TypeElement) annotationMirror.getAnnotationType().asElement() ).getQualifiedName().toString();
+	}
+
+	/**
+	 * Same as {@code java.beans.Introspector#decapitalize(String)}, used by the default getter property selection
+	 * strategy of the engine.
+	 */
+	private static String decapitalize(String string) {
+		if ( string.isEmpty() || ( string.length() > 1 && Character.isUpperCase( string.charAt( 0 ) ) && Character.isUpperCase( string.charAt( 1 ) ) ) ) {
+			return string;
+		}
+		return Character.toLowerCase( string.charAt( 0 ) ) + string.substring( 1 );
+	}
+
+	/**
+	 * Raised when an element uses a construct which cannot be expressed with the programmatic API.
+	 */
+	private static class UnsupportedConstructException extends Exception {
+
+		private static final long serialVersionUID = -3404745219358356817L;
+
+		private final transient Element element;
+
+		UnsupportedConstructException(Element element, String message) {
+			super( message );
+			this.element = element;
+		}
+
+		Element getElement() {
+			return element;
+		}
+	}
+}
@@ -36,6 +36,12 @@ public class Configuration {
 	 */
 	public static final String METHOD_CONSTRAINTS_SUPPORTED_PROCESSOR_OPTION = "methodConstraintsSupported";
 
+	/**
+	 * The name of the processor option for generating a constraint mapping
+	 * contributor for each constrained bean.
+	 */
+	public static final String GENERATE_CONSTRAINT_MAPPINGS_PROCESSOR_OPTION = "generateConstraintMappings";
+
 	/**
 	 * The diagnostic kind to be used if no or an invalid kind is given as processor option.
 	 */
@@ -47,11 +53,14 @@ public class Configuration {
 
 	private final boolean methodConstraintsSupported;
 
+	private final boolean generateConstraintMappings;
+
 	public Configuration(Map<String, String> options, Messager messager) {
 
 		this.diagnosticKind = getDiagnosticKindOption( options, messager );
 		this.verbose = getVerboseOption( options, messager );
 		this.methodConstraintsSupported = getMethodConstraintsSupportedOption( options );
+		this.generateConstraintMappings = getGenerateConstraintMappingsOption( options );
 	}
 
 	/**
@@ -82,6 +91,16 @@ public boolean methodConstraintsSupported() {
 		return methodConstraintsSupported;
 	}
 
+	/**
+	 * Whether a constraint mapping contributor shall be generated for each
+	 * constrained bean or not.
+	 *
+	 * @return {@code true} if constraint mapping contributors shall be generated, {@code false} otherwise
+	 */
+	public boolean generateConstraintMappings() {
+		return generateConstraintMappings;
+	}
+
 	/**
 	 * Retrieves the diagnostic kind to be used for error messages. If given in
 	 * processor options, it will be taken from there, otherwise the default
@@ -142,4 +161,11 @@ private boolean getMethodConstraintsSupportedOption(Map<String, String> options)
 
 		return Boolean.parseBoolean( methodConstraintsSupported );
 	}
+
+	/**
+	 * Retrieves the value for the "generateConstraintMappings" property from the options.
+	 */
+	private boolean getGenerateConstraintMappingsOption(Map<String, String> options) {
+		return Boolean.parseBoolean( options.get( GENERATE_CONSTRAINT_MAPPINGS_PROCESSOR_OPTION ) );
+	}
 }
@@ -25,6 +25,8 @@ public static class BeanValidationTypes {
 		public static final String GROUP_SEQUENCE = JAVAX_VALIDATION + ".GroupSequence";
 		public static final String PAYLOAD = JAVAX_VALIDATION + ".Payload";
 		public static final String VALID = JAVAX_VALIDATION + ".Valid";
+		public static final String CONVERT_GROUP = JAVAX_VALIDATION + ".groups.ConvertGroup";
+		public static final String CONVERT_GROUP_LIST = CONVERT_GROUP + ".List";
 
 		public static final String JAVAX_VALIDATION_CONSTRAINTS = "javax.validation.constraints";
 
@@ -64,6 +66,15 @@ public static class HibernateValidatorTypes {
 		private static final String ORG_HIBERNATE_VALIDATOR_SPI_GROUP = "org.hibernate.validator.spi.group";
 		public static final String DEFAULT_GROUP_SEQUENCE_PROVIDER = ORG_HIBERNATE_VALIDATOR_SPI_GROUP + ".DefaultGroupSequenceProvider";
 
+		private static final String ORG_HIBERNATE_VALIDATOR_CFG = "org.hibernate.validator.cfg";
+		public static final String GENERIC_CONSTRAINT_DEF = ORG_HIBERNATE_VALIDATOR_CFG + ".GenericConstraintDef";
+		public static final String TYPE_CONSTRAINT_MAPPING_CONTEXT = ORG_HIBERNATE_VALIDATOR_CFG + ".context.TypeConstraintMappingContext";
+		public static final String METHOD_CONSTRAINT_MAPPING_CONTEXT = ORG_HIBERNATE_VALIDATOR_CFG + ".context.MethodConstraintMappingContext";
+		public static final String CONSTRUCTOR_CONSTRAINT_MAPPING_CONTEXT = ORG_HIBERNATE_VALIDATOR_CFG + ".context.ConstructorConstraintMappingContext";
+
+		private static final String ORG_HIBERNATE_VALIDATOR_SPI_CFG = "org.hibernate.validator.spi.cfg";
+		public static final String CONSTRAINT_MAPPING_CONTRIBUTOR = ORG_HIBERNATE_VALIDATOR_SPI_CFG + ".ConstraintMappingContributor";
+
 		private static final String ORG_HIBERNATE_VALIDATOR_CONSTRAINTS = "org.hibernate.validator.constraints";
 
 		public static final String CODE_POINT_LENGTH = ORG_HIBERNATE_VALIDATOR_CONSTRAINTS + ".CodePointLength";
@@ -0,0 +1,164 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.ap;
+
+import static org.hibernate.validator.ap.testutil.CompilerTestHelper.assertThatDiagnosticsMatch;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.io.File;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.ServiceLoader;
+import java.util.TreeSet;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validation;
+import javax.validation.Validator;
+
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.ap.testmodel.constraintmapping.Order;
+import org.hibernate.validator.ap.testmodel.constraintmapping.OrderWithContainerElementConstraints;
+import org.hibernate.validator.ap.testmodel.constraintmapping.ValidRange;
+import org.hibernate.validator.ap.testutil.CompilerTestHelper;
+import org.hibernate.validator.cfg.ConstraintMapping;
+import org.hibernate.validator.messageinterpolation.ParameterMessageInterpolator;
+import org.hibernate.validator.spi.cfg.ConstraintMappingContributor;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for the generation of the constraint mapping contributors.
+ *
+ * @author Guillaume Smet
+ */
+public class ConstraintMappingGenerationTest extends ConstraintValidationProcessorTestBase {
+
+	@Test
+	public void constraintMappingContributorsAreGenerated() throws Exception {
+		assertTrue( compileModel() );
+		assertThatDiagnosticsMatch( diagnostics );
+
+		try ( URLClassLoader classLoader = getGeneratedClassesClassLoader() ) {
+			Set<String> contributors = new TreeSet<>();
+			for ( ConstraintMappingContributor contributor : ServiceLoader.load( ConstraintMappingContributor.class, classLoader ) ) {
+				contributors.add( contributor.getClass().getName() );
+			}
+
+			assertEquals(
+					contributors,
+					new TreeSet<>( Arrays.asList(
+							Order.class.getName() + "_ConstraintMappingContributor",
+							Order.class.getName() + "_Item_ConstraintMappingContributor"
+					) )
+			);
+		}
+	}
+
+	@Test
+	public void generatedConstraintMappingsMatchConstraintAnnotations() throws Exception {
+		assertTrue( compileModel() );
+
+		try ( URLClassLoader classLoader = getGeneratedClassesClassLoader() ) {
+			Validator annotationBasedValidator = getValidator( Collections.<ConstraintMappingContributor>emptyList() );
+			Validator generatedMappingsValidator = getValidator( ServiceLoader.load( ConstraintMappingContributor.class, classLoader ) );
+
+			Order invalidOrder = new Order();
+			invalidOrder.setReference( "AB" );
+			invalidOrder.setCode( "1A" );
+			invalidOrder.setAmount( new BigDecimal( "0.001" ) );
+			invalidOrder.setMainItem( new Order.Item( "", 0 ) );
+			invalidOrder.setItems( Arrays.asList( new Order.Item( " ", 0 ) ) );
+
+			Order validOrder = new Order( "ABC-1", 1 );
+			validOrder.setCode( "a1" );
+			validOrder.setAmount( new BigDecimal( "10.50" ) );
+
+			Method ship = Order.class.getMethod( "ship", String.class, int.class );
+			Method reserve = Order.class.getMethod( "reserve", Integer.class, Integer.class );
+			Constructor<Order> constructor = Order.class.getConstructor( String.class, int.class );
+
+			for ( Validator validator : Arrays.asList( annotationBasedValidator, generatedMappingsValidator ) ) {
+				assertFalse( describe( validator.validate( invalidOrder ) ).isEmpty() );
+				assertTrue( validator.validate( validOrder ).isEmpty() );
+			}
+
+			assertEquals(
+					describe( generatedMappingsValidator.validate( invalidOrder ) ),
+					describe( annotationBasedValidator.validate( invalidOrder ) )
+			);
+			assertEquals(
+					describe( generatedMappingsValidator.validate( invalidOrder, Order.Item.Strict.class ) ),
+					describe( annotationBasedValidator.validate( invalidOrder, Order.Item.Strict.class ) )
+			);
+			assertEquals(
+					describe( generatedMappingsValidator.forExecutables().validateParameters( validOrder, ship, new Object[] { " ", 0 } ) ),
+					describe( annotationBasedValidator.forExecutables().validateParameters( validOrder, ship, new Object[] { " ", 0 } ) )
+			);
+			assertEquals(
+					describe( generatedMappingsValidator.forExecutables().validateReturnValue( validOrder, ship, null ) ),
+					describe( annotationBasedValidator.forExecutables().validateReturnValue( validOrder, ship, null ) )
+			);
+			assertEquals(
+					describe( generatedMappingsValidator.forExecutables().validateParameters( validOrder, reserve, new Object[] { 5, 1 } ) ),
+					describe( annotationBasedValidator.forExecutables().validateParameters( validOrder, reserve, new Object[] { 5, 1 } ) )
+			);
+			assertEquals(
+					describe( generatedMappingsValidator.forExecutables().validateConstructorParameters( constructor, new Object[] { null, 0 } ) ),
+					describe( annotationBasedValidator.forExecutables().validateConstructorParameters( constructor, new Object[] { null, 0 } ) )
+			);
+		}
+	}
+
+	private boolean compileModel() {
+		return compilerHelper.compileWithConstraintMappingGeneration(
+				new ConstraintValidationProcessor(),
+				diagnostics,
+				compilerHelper.getSourceFile( Order.class ),
+				compilerHelper.getSourceFile( ValidRange.class ),
+				compilerHelper.getSourceFile( OrderWithContainerElementConstraints.class )
+		);
+	}
+
+	private URLClassLoader getGeneratedClassesClassLoader() throws Exception {
+		File outputDir = CompilerTestHelper.getProcessorOutputDir();
+		return new URLClassLoader( new URL[] { outputDir.toURI().toURL() }, getClass().getClassLoader() );
+	}
+
+	private static Validator getValidator(Iterable<ConstraintMappingContributor> contributors) {
+		HibernateValidatorConfiguration configuration = Validation.byProvider( HibernateValidator.class )
+				.configure()
+				.messageInterpolator( new ParameterMessageInterpolator() );
+
+		for ( ConstraintMappingContributor contributor : contributors ) {
+			contributor.createConstraintMappings( () -> {
+				ConstraintMapping mapping = configuration.createConstraintMapping();
+				configuration.addMapping( mapping );
+				return mapping;
+			} );
+		}
+
+		return configuration.buildValidatorFactory().getValidator();
+	}
+
+	private static <T> Set<String> describe(Set<ConstraintViolation<T>> violations) {
+		Set<String> descriptions = new TreeSet<>();
+		for ( ConstraintViolation<T> violation : violations ) {
+			descriptions.add( violation.getPropertyPath() + " "
+					+ violation.getConstraintDescriptor().getAnnotation().annotationType().getSimpleName() + " "
+					+ violation.getMessage() );
+		}
+		return descriptions;
+	}
+}
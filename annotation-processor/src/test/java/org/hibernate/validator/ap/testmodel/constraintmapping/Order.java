@@ -0,0 +1,117 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.ap.testmodel.constraintmapping;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import javax.validation.Valid;
+import javax.validation.constraints.AssertTrue;
+import javax.validation.constraints.DecimalMin;
+import javax.validation.constraints.Digits;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.Size;
+import javax.validation.groups.ConvertGroup;
+import javax.validation.groups.Default;
+
+public class Order {
+
+	@NotNull
+	@Size(min = 3, max = 10, message = "invalid \"reference\"")
+	private String reference;
+
+	@Pattern.List({
+			@Pattern(regexp = "[a-z].*", flags = Pattern.Flag.CASE_INSENSITIVE),
+			@Pattern(regexp = ".*[0-9]")
+	})
+	private String code;
+
+	@DecimalMin(value = "0.00", inclusive = false)
+	@Digits(integer = 5, fraction = 2)
+	private BigDecimal amount;
+
+	@Valid
+	@ConvertGroup(from = Default.class, to = Item.Strict.class)
+	private Item mainItem;
+
+	@Valid
+	private List<Item> items;
+
+	private int priority;
+
+	public Order() {
+	}
+
+	public Order(@NotNull String reference, @Min(1) int priority) {
+		this.reference = reference;
+		this.priority = priority;
+	}
+
+	@Min(1)
+	public int getPriority() {
+		return priority;
+	}
+
+	@AssertTrue(message = "an order with items must have a main item")
+	public boolean isConsistent() {
+		return items == null || items.isEmpty() || mainItem != null;
+	}
+
+	@NotNull
+	public String ship(@NotBlank String carrier, @Min(1) int quantity) {
+		return null;
+	}
+
+	@ValidRange
+	public void reserve(Integer from, Integer to) {
+	}
+
+	public void setReference(String reference) {
+		this.reference = reference;
+	}
+
+	public void setCode(String code) {
+		this.code = code;
+	}
+
+	public void setAmount(BigDecimal amount) {
+		this.amount = amount;
+	}
+
+	public void setMainItem(Item mainItem) {
+		this.mainItem = mainItem;
+	}
+
+	public void setItems(List<Item> items) {
+		this.items = items;
+	}
+
+	public void setPriority(int priority) {
+		this.priority = priority;
+	}
+
+	public static class Item {
+
+		@NotBlank
+		private String name;
+
+		@Positive(groups = Strict.class)
+		private int quantity;
+
+		public Item(String name, int quantity) {
+			this.name = name;
+			this.quantity = quantity;
+		}
+
+		public interface Strict {
+		}
+	}
+}
@@ -0,0 +1,22 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.ap.testmodel.constraintmapping;
+
+import java.util.List;
+
+import javax.validation.constraints.NotNull;
+
+/**
+ * Container element constraints cannot be expressed with the programmatic API: no constraint mapping is generated.
+ */
+public class OrderWithContainerElementConstraints {
+
+	@NotNull
+	private String reference;
+
+	private List<@NotNull String> tags;
+}
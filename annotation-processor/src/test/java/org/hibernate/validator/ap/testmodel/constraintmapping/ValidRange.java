@@ -0,0 +1,47 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.ap.testmodel.constraintmapping;
+
+import static java.lang.annotation.ElementType.CONSTRUCTOR;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import javax.validation.Constraint;
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+import javax.validation.Payload;
+import javax.validation.constraintvalidation.SupportedValidationTarget;
+import javax.validation.constraintvalidation.ValidationTarget;
+
+@Target({ METHOD, CONSTRUCTOR })
+@Retention(RUNTIME)
+@Constraint(validatedBy = ValidRange.Validator.class)
+@Documented
+public @interface ValidRange {
+
+	String message() default "invalid range";
+
+	Class<?>[] groups() default {};
+
+	Class<? extends Payload>[] payload() default {};
+
+	@SupportedValidationTarget(ValidationTarget.PARAMETERS)
+	class Validator implements ConstraintValidator<ValidRange, Object[]> {
+
+		@Override
+		public boolean isValid(Object[] parameters, ConstraintValidatorContext context) {
+			if ( parameters[0] == null || parameters[1] == null ) {
+				return true;
+			}
+			return (Integer) parameters[0] <= (Integer) parameters[1];
+		}
+	}
+}
@@ -14,6 +14,7 @@
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
@@ -152,6 +153,27 @@ public boolean compile(Processor annotationProcessor,
 		return compile( annotationProcessor, diagnostics, null, null, null, dependencies, sourceFiles );
 	}
 
+	/**
+	 * Compiles the given source files with the generation of the constraint mapping contributors enabled. The
+	 * generated contributors are written to {@link #getProcessorOutputDir()}.
+	 *
+	 * @see CompilerTestHelper#compile(Processor, DiagnosticCollector, Kind, Boolean, Boolean, EnumSet, File...)
+	 */
+	public boolean compileWithConstraintMappingGeneration(Processor annotationProcessor,
+						   DiagnosticCollector<JavaFileObject> diagnostics,
+						   File... sourceFiles) {
+		return compile(
+				annotationProcessor,
+				diagnostics,
+				null,
+				null,
+				null,
+				EnumSet.allOf( Library.class ),
+				Arrays.asList( StringHelper.format( "-A%s=%b", Configuration.GENERATE_CONSTRAINT_MAPPINGS_PROCESSOR_OPTION, true ) ),
+				sourceFiles
+		);
+	}
+
 
 	/**
 	 * Creates and executes a {@link CompilationTask} using the given input.
@@ -176,9 +198,29 @@ public boolean compile(Processor annotationProcessor,
 						   Boolean allowMethodConstraints,
 						   EnumSet<Library> dependencies,
 						   File... sourceFiles) {
+		return compile(
+				annotationProcessor,
+				diagnostics,
+				diagnosticKind,
+				verbose,
+				allowMethodConstraints,
+				dependencies,
+				Collections.<String>emptyList(),
+				sourceFiles
+		);
+	}
+
+	private boolean compile(Processor annotationProcessor,
+						   DiagnosticCollector<JavaFileObject> diagnostics,
+						   Kind diagnosticKind,
+						   Boolean verbose,
+						   Boolean allowMethodConstraints,
+						   EnumSet<Library> dependencies,
+						   List<String> additionalOptions,
+						   File... sourceFiles) {
 		StandardJavaFileManager fileManager = compiler.getStandardFileManager( null, null, null );
 		Iterable<? extends JavaFileObject> compilationUnits = fileManager.getJavaFileObjects( sourceFiles );
-		List<String> options = new ArrayList<String>();
+		List<String> options = new ArrayList<String>( additionalOptions );
 
 		if ( diagnosticKind != null ) {
 			options.add( StringHelper.format( "-A%s=%s", Configuration.DIAGNOSTIC_KIND_PROCESSOR_OPTION, diagnosticKind ) );
@@ -250,6 +292,15 @@ private Set<File> getDependenciesAsFiles(EnumSet<Library> dependencies) {
 		return files;
 	}
 
+	/**
+	 * Returns the directory the classes and resources generated by the compilation tasks are written to.
+	 *
+	 * @return the output directory of the compilation tasks
+	 */
+	public static File getProcessorOutputDir() {
+		return PROCESSOR_OUT_DIR;
+	}
+
 	/**
 	 * Returns the target directory of the build.
 	 *
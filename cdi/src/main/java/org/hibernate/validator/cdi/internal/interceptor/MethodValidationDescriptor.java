@@ -0,0 +1,55 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.cdi.internal.interceptor;
+
+import java.lang.reflect.Method;
+
+import javax.validation.Validator;
+import javax.validation.metadata.MethodDescriptor;
+
+/**
+ * Describes which phases of the validation of an intercepted method invocation are required, i.e. whether the
+ * parameters and/or the return value of the method host constraints or are marked for cascaded validation.
+ *
+ * @author Guillaume Smet
+ */
+final class MethodValidationDescriptor {
+
+	/**
+	 * Used when the validator does not provide any information about the method: both phases are executed, as it was
+	 * done before the introduction of this descriptor.
+	 */
+	private static final MethodValidationDescriptor VALIDATE_ALL = new MethodValidationDescriptor( true, true );
+
+	private final boolean parametersValidationRequired;
+
+	private final boolean returnValueValidationRequired;
+
+	private MethodValidationDescriptor(boolean parametersValidationRequired, boolean returnValueValidationRequired) {
+		this.parametersValidationRequired = parametersValidationRequired;
+		this.returnValueValidationRequired = returnValueValidationRequired;
+	}
+
+	static MethodValidationDescriptor of(Validator validator, Method method) {
+		MethodDescriptor methodDescriptor = validator.getConstraintsForClass( method.getDeclaringClass() )
+				.getConstraintsForMethod( method.getName(), method.getParameterTypes() );
+
+		if ( methodDescriptor == null ) {
+			return VALIDATE_ALL;
+		}
+
+		return new MethodValidationDescriptor( methodDescriptor.hasConstrainedParameters(), methodDescriptor.hasConstrainedReturnValue() );
+	}
+
+	boolean isParametersValidationRequired() {
+		return parametersValidationRequired;
+	}
+
+	boolean isReturnValueValidationRequired() {
+		return returnValueValidationRequired;
+	}
+}
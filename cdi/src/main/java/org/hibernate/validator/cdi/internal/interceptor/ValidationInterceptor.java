@@ -6,9 +6,15 @@
  */
 package org.hibernate.validator.cdi.internal.interceptor;
 
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.Option.IDENTITY_COMPARISONS;
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType.STRONG;
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType.WEAK;
+
 import java.io.Serializable;
 import java.lang.reflect.Member;
+import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.Iterator;
 import java.util.Set;
 
@@ -25,6 +31,8 @@
 import javax.validation.Validator;
 import javax.validation.executable.ExecutableValidator;
 
+import org.hibernate.validator.internal.util.ConcurrentReferenceHashMap;
+
 /**
  * An interceptor which performs a validation of the Bean Validation constraints specified at the parameters and/or return
  * values of intercepted methods using the method validation functionality provided by Hibernate Validator.
@@ -39,6 +47,20 @@ public class ValidationInterceptor implements Serializable {
 
 	private static final long serialVersionUID = 604440259030722151L;
 
+	/**
+	 * The validation descriptors of the intercepted methods, per validator, allowing to skip the parameters or return
+	 * value validation when they are not constrained.
+	 * <p>
+	 * The interceptor instances are bound to the lifecycle of the intercepted bean instances so the descriptors are
+	 * shared between them. They depend on the metadata of the validator they were built with (e.g. the constraints
+	 * declared via XML or the programmatic API), thus they are cached per validator, compared by identity. The
+	 * validators and the methods are weakly referenced so that the classes of undeployed applications can be garbage
+	 * collected.
+	 * </p>
+	 */
+	private static final ConcurrentReferenceHashMap<Validator, ConcurrentReferenceHashMap<Method, MethodValidationDescriptor>> METHOD_VALIDATION_DESCRIPTORS =
+			new ConcurrentReferenceHashMap<>( 16, 0.75f, 16, WEAK, STRONG, EnumSet.of( IDENTITY_COMPARISONS ) );
+
 	/**
 	 * The validator to be used for method validation.
 	 * <p>
@@ -62,33 +84,40 @@ public class ValidationInterceptor implements Serializable {
 	 */
 	@AroundInvoke
 	public Object validateMethodInvocation(InvocationContext ctx) throws Exception {
+		Method method = ctx.getMethod();
+		MethodValidationDescriptor methodValidationDescriptor = getMethodValidationDescriptor( method );
 		ExecutableValidator executableValidator = validator.forExecutables();
-		Set<ConstraintViolation<Object>> violations = executableValidator.validateParameters(
-				ctx.getTarget(),
-				ctx.getMethod(),
-				ctx.getParameters()
-		);
 
-		if ( !violations.isEmpty() ) {
-			throw new ConstraintViolationException(
-					getMessage( ctx.getMethod(), ctx.getParameters(), violations ),
-					violations
+		if ( methodValidationDescriptor.isParametersValidationRequired() ) {
+			Set<ConstraintViolation<Object>> violations = executableValidator.validateParameters(
+					ctx.getTarget(),
+					method,
+					ctx.getParameters()
 			);
+
+			if ( !violations.isEmpty() ) {
+				throw new ConstraintViolationException(
+						getMessage( method, ctx.getParameters(), violations ),
+						violations
+				);
+			}
 		}
 
 		Object result = ctx.proceed();
 
-		violations = executableValidator.validateReturnValue(
-				ctx.getTarget(),
-				ctx.getMethod(),
-				result
-		);
-
-		if ( !violations.isEmpty() ) {
-			throw new ConstraintViolationException(
-					getMessage( ctx.getMethod(), ctx.getParameters(), violations ),
-					violations
+		if ( methodValidationDescriptor.isReturnValueValidationRequired() ) {
+			Set<ConstraintViolation<Object>> violations = executableValidator.validateReturnValue(
+					ctx.getTarget(),
+					method,
+					result
 			);
+
+			if ( !violations.isEmpty() ) {
+				throw new ConstraintViolationException(
+						getMessage( method, ctx.getParameters(), violations ),
+						violations
+				);
+			}
 		}
 
 		return result;
@@ -133,6 +162,28 @@ public void validateConstructorInvocation(InvocationContext ctx) throws Exceptio
 		}
 	}
 
+	private MethodValidationDescriptor getMethodValidationDescriptor(Method method) {
+		ConcurrentReferenceHashMap<Method, MethodValidationDescriptor> methodValidationDescriptors = METHOD_VALIDATION_DESCRIPTORS.get( validator );
+
+		if ( methodValidationDescriptors == null ) {
+			methodValidationDescriptors = new ConcurrentReferenceHashMap<>( 100, WEAK, STRONG );
+			ConcurrentReferenceHashMap<Method, MethodValidationDescriptor> previousMethodValidationDescriptors =
+					METHOD_VALIDATION_DESCRIPTORS.putIfAbsent( validator, methodValidationDescriptors );
+			if ( previousMethodValidationDescriptors != null ) {
+				methodValidationDescriptors = previousMethodValidationDescriptors;
+			}
+		}
+
+		MethodValidationDescriptor methodValidationDescriptor = methodValidationDescriptors.get( method );
+
+		if ( methodValidationDescriptor == null ) {
+			methodValidationDescriptor = MethodValidationDescriptor.of( validator, method );
+			methodValidationDescriptors.putIfAbsent( method, methodValidationDescriptor );
+		}
+
+		return methodValidationDescriptor;
+	}
+
 	private String getMessage(Member member, Object[] args, Set<? extends ConstraintViolation<?>> violations) {
 
 		StringBuilder message = new StringBuilder();
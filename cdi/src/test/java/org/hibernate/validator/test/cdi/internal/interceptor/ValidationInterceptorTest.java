@@ -0,0 +1,230 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.cdi.internal.interceptor;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.fail;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import javax.interceptor.InvocationContext;
+import javax.validation.ConstraintViolation;
+import javax.validation.ConstraintViolationException;
+import javax.validation.Validation;
+import javax.validation.Validator;
+import javax.validation.constraints.NotNull;
+import javax.validation.executable.ExecutableValidator;
+import javax.validation.metadata.BeanDescriptor;
+
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.cdi.internal.interceptor.ValidationInterceptor;
+import org.hibernate.validator.cfg.ConstraintMapping;
+import org.hibernate.validator.cfg.defs.NotNullDef;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the caching of the method validation descriptors by {@link ValidationInterceptor}.
+ *
+ * @author Guillaume Smet
+ */
+public class ValidationInterceptorTest {
+
+	@Test
+	public void testUnconstrainedValidationPhasesAreSkipped() throws Exception {
+		CountingValidator validator = new CountingValidator( getValidator() );
+		ValidationInterceptor interceptor = getInterceptor( validator );
+
+		interceptor.validateMethodInvocation( new MethodInvocationContext( getMethod( "constrainedParameter" ), "Bob" ) );
+		assertEquals( validator.parametersValidationCount, 1 );
+		assertEquals( validator.returnValueValidationCount, 0 );
+
+		interceptor.validateMethodInvocation( new MethodInvocationContext( getMethod( "constrainedReturnValue" ), "Bob" ) );
+		assertEquals( validator.parametersValidationCount, 1 );
+		assertEquals( validator.returnValueValidationCount, 1 );
+	}
+
+	@Test
+	public void testMethodValidationDescriptorsAreCachedPerValidator() throws Exception {
+		Method method = getMethod( "constrainedReturnValueOnly" );
+
+		// the annotation based metadata only require the validation of the return value
+		getInterceptor( getValidator() ).validateMethodInvocation( new MethodInvocationContext( method, (Object) null ) );
+
+		HibernateValidatorConfiguration configuration = Validation.byProvider( HibernateValidator.class ).configure();
+		ConstraintMapping mapping = configuration.createConstraintMapping();
+		mapping.type( Greeter.class )
+				.method( "constrainedReturnValueOnly", String.class )
+						.parameter( 0 )
+								.constraint( new NotNullDef() );
+		Validator programmaticValidator = configuration.addMapping( mapping ).buildValidatorFactory().getValidator();
+
+		try {
+			getInterceptor( programmaticValidator ).validateMethodInvocation( new MethodInvocationContext( method, (Object) null ) );
+			fail( "The parameter constraint declared via the programmatic API should have been validated" );
+		}
+		catch (ConstraintViolationException e) {
+			assertEquals( e.getConstraintViolations().size(), 1 );
+		}
+	}
+
+	private static Validator getValidator() {
+		return Validation.byProvider( HibernateValidator.class ).configure().buildValidatorFactory().getValidator();
+	}
+
+	private static ValidationInterceptor getInterceptor(Validator validator) throws Exception {
+		ValidationInterceptor interceptor = new ValidationInterceptor();
+		Field validatorField = ValidationInterceptor.class.getDeclaredField( "validator" );
+		validatorField.setAccessible( true );
+		validatorField.set( interceptor, validator );
+		return interceptor;
+	}
+
+	private static Method getMethod(String name) throws Exception {
+		return Greeter.class.getMethod( name, String.class );
+	}
+
+	public static class Greeter {
+
+		public String constrainedParameter(@NotNull String name) {
+			return "Hello " + name;
+		}
+
+		@NotNull
+		public String constrainedReturnValue(String name) {
+			return "Hello " + name;
+		}
+
+		@NotNull
+		public String constrainedReturnValueOnly(String name) {
+			return "Hello " + name;
+		}
+	}
+
+	private static class MethodInvocationContext implements InvocationContext {
+
+		private final Greeter target = new Greeter();
+		private final Method method;
+		private Object[] parameters;
+		private final Map<String, Object> contextData = new HashMap<>();
+
+		private MethodInvocationContext(Method method, Object... parameters) {
+			this.method = method;
+			this.parameters = parameters;
+		}
+
+		@Override
+		public Object getTarget() {
+			return target;
+		}
+
+		@Override
+		public Object getTimer() {
+			return null;
+		}
+
+		@Override
+		public Method getMethod() {
+			return method;
+		}
+
+		@Override
+		public Constructor<?> getConstructor() {
+			return null;
+		}
+
+		@Override
+		public Object[] getParameters() {
+			return parameters;
+		}
+
+		@Override
+		public void setParameters(Object[] parameters) {
+			this.parameters = parameters;
+		}
+
+		@Override
+		public Map<String, Object> getContextData() {
+			return contextData;
+		}
+
+		@Override
+		public Object proceed() throws Exception {
+			return method.invoke( target, parameters );
+		}
+	}
+
+	private static class CountingValidator implements Validator, ExecutableValidator {
+
+		private final Validator delegate;
+		private int parametersValidationCount;
+		private int returnValueValidationCount;
+
+		private CountingValidator(Validator delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public <T> Set<ConstraintViolation<T>> validate(T object, Class<?>... groups) {
+			return delegate.validate( object, groups );
+		}
+
+		@Override
+		public <T> Set<ConstraintViolation<T>> validateProperty(T object, String propertyName, Class<?>... groups) {
+			return delegate.validateProperty( object, propertyName, groups );
+		}
+
+		@Override
+		public <T> Set<ConstraintViolation<T>> validateValue(Class<T> beanType, String propertyName, Object value, Class<?>... groups) {
+			return delegate.validateValue( beanType, propertyName, value, groups );
+		}
+
+		@Override
+		public BeanDescriptor getConstraintsForClass(Class<?> clazz) {
+			return delegate.getConstraintsForClass( clazz );
+		}
+
+		@Override
+		public <T> T unwrap(Class<T> type) {
+			return delegate.unwrap( type );
+		}
+
+		@Override
+		public ExecutableValidator forExecutables() {
+			return this;
+		}
+
+		@Override
+		public <T> Set<ConstraintViolation<T>> validateParameters(T object, Method method, Object[] parameterValues, Class<?>... groups) {
+			parametersValidationCount++;
+			return delegate.forExecutables().validateParameters( object, method, parameterValues, groups );
+		}
+
+		@Override
+		public <T> Set<ConstraintViolation<T>> validateReturnValue(T object, Method method, Object returnValue, Class<?>... groups) {
+			returnValueValidationCount++;
+			return delegate.forExecutables().validateReturnValue( object, method, returnValue, groups );
+		}
+
+		@Override
+		public <T> Set<ConstraintViolation<T>> validateConstructorParameters(Constructor<? extends T> constructor, Object[] parameterValues,
+				Class<?>... groups) {
+			return delegate.forExecutables().validateConstructorParameters( constructor, parameterValues, groups );
+		}
+
+		@Override
+		public <T> Set<ConstraintViolation<T>> validateConstructorReturnValue(Constructor<? extends T> constructor, T createdObject,
+				Class<?>... groups) {
+			return delegate.forExecutables().validateConstructorReturnValue( constructor, createdObject, groups );
+		}
+	}
+}
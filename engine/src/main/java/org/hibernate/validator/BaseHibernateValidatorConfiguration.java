@@ -8,6 +8,7 @@
 
 import java.time.Duration;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 
 import javax.validation.Configuration;
 import javax.validation.TraversableResolver;
@@ -20,6 +21,7 @@
 import org.hibernate.validator.cfg.ConstraintMapping;
 import org.hibernate.validator.constraints.ParameterScriptAssert;
 import org.hibernate.validator.constraints.ScriptAssert;
+import org.hibernate.validator.metadata.BeanMetaDataCacheFactory;
 import org.hibernate.validator.spi.properties.GetterPropertySelectionStrategy;
 import org.hibernate.validator.spi.resourceloading.ResourceBundleLocator;
 import org.hibernate.validator.spi.scripting.ScriptEvaluator;
@@ -119,6 +121,78 @@
 	@Incubating
 	String GETTER_PROPERTY_SELECTION_STRATEGY_CLASSNAME = "hibernate.validator.getter_property_selection_strategy";
 
+	/**
+	 * Property corresponding to the {@link #enableMethodHandlePropertyAccessors(boolean)} method.
+	 * Accepts {@code true} or {@code false}.
+	 * Defaults to {@code false}.
+	 *
+	 * @since 6.1.0
+	 */
+	@Incubating
+	String ENABLE_METHOD_HANDLE_PROPERTY_ACCESSORS = "hibernate.validator.enable_method_handle_property_accessors";
+
+	/**
+	 * Property corresponding to the {@link #parallelCascadingThreshold(int)} method.
+	 * Accepts a positive integer. Defaults to {@code 0}, i.e. parallel cascading is disabled.
+	 *
+	 * @since 6.1.0
+	 */
+	@Incubating
+	String PARALLEL_CASCADING_THRESHOLD = "hibernate.validator.parallel_cascading_threshold";
+
+	/**
+	 * Property corresponding to the {@link #lazyMessageInterpolation(boolean)} method.
+	 * Accepts {@code true} or {@code false}.
+	 * Defaults to {@code false}.
+	 *
+	 * @since 6.1.0
+	 */
+	@Incubating
+	String LAZY_MESSAGE_INTERPOLATION = "hibernate.validator.lazy_message_interpolation";
+
+	/**
+	 * Property corresponding to the {@link #enableConstraintMappingContributorDiscovery(boolean)} method.
+	 * Accepts {@code true} or {@code false}.
+	 * Defaults to {@code false}.
+	 *
+	 * @since 6.1.0
+	 */
+	@Incubating
+	String ENABLE_CONSTRAINT_MAPPING_CONTRIBUTOR_DISCOVERY = "hibernate.validator.enable_constraint_mapping_contributor_discovery";
+
+	/**
+	 * Property for configuring the bean metadata cache. Accepts {@code soft}, {@code strong}, {@code lru} or the fully
+	 * qualified class name of a {@link BeanMetaDataCacheFactory} implementation.
+	 * Defaults to {@code soft}.
+	 *
+	 * @see BeanMetaDataCacheFactory
+	 * @since 6.1.0
+	 */
+	@Incubating
+	String BEAN_METADATA_CACHE = "hibernate.validator.bean_metadata_cache";
+
+	/**
+	 * Property for configuring the maximum number of bean metadata instances kept by the {@code lru} bean metadata
+	 * cache. Accepts a positive integer. Defaults to {@code 1000}.
+	 *
+	 * @since 6.1.0
+	 */
+	@Incubating
+	String BEAN_METADATA_CACHE_MAX_SIZE = "hibernate.validator.bean_metadata_cache_max_size";
+
+	/**
+	 * Property for configuring the maximum number of constraint validator factories, besides the default one, for which
+	 * the initialized constraint validators are cached. This is useful when validators are obtained with different
+	 * constraint validator factories, e.g. one per tenant, through {@link javax.validation.ValidatorFactory#usingContext()}.
+	 * A factory used with different initialization contexts (e.g. different clock providers) counts once per context.
+	 * When more factories are used, the constraint validators of the least recently used factory and context are released.
+	 * Accepts a positive integer. Defaults to {@code 16}.
+	 *
+	 * @since 6.1.0
+	 */
+	@Incubating
+	String CONSTRAINT_VALIDATOR_CACHE_MAX_FACTORIES = "hibernate.validator.constraint_validator_cache_max_factories";
+
 	/**
 	 * <p>
 	 * Returns the {@link ResourceBundleLocator} used by the
@@ -336,4 +410,105 @@
 	 */
 	@Incubating
 	S getterPropertySelectionStrategy(GetterPropertySelectionStrategy getterPropertySelectionStrategy);
+
+	/**
+	 * Define whether the values of the constrained and cascaded fields and getters are read through method handles
+	 * instead of reflection. The default value is {@code false}, i.e. reflection is used.
+	 * <p>
+	 * Method handles avoid the access checks performed by reflection on each call and are easier to optimize for the
+	 * JIT compiler. If a method handle cannot be created for a given property, reflection is used for this property.
+	 *
+	 * @param enabled flag determining whether method handles are used to access the property values
+	 *
+	 * @return {@code this} following the chaining method pattern
+	 *
+	 * @since 6.1.0
+	 */
+	@Incubating
+	S enableMethodHandlePropertyAccessors(boolean enabled);
+
+	/**
+	 * Allows to validate the elements of large cascaded containers in parallel. The elements of lists, arrays and maps
+	 * containing at least the given number of elements are split into chunks validated concurrently by the executor
+	 * defined via {@link #parallelCascadingExecutor(ForkJoinPool)}.
+	 * <p>
+	 * The constraint violations are the same as the ones of a sequential validation. In fail fast mode, the validation
+	 * still stops at the first failing element. Constraint validators, message interpolators and traversable resolvers
+	 * must be thread-safe if parallel cascading is enabled.
+	 *
+	 * @param threshold the minimal number of elements of a container for its elements to be validated in parallel;
+	 * parallel cascading is disabled if the value is lower or equal to {@code 0}, which is the default
+	 *
+	 * @return {@code this} following the chaining method pattern
+	 *
+	 * @since 6.1.0
+	 */
+	@Incubating
+	S parallelCascadingThreshold(int threshold);
+
+	/**
+	 * Allows to define the executor used to validate the elements of large cascaded containers in parallel. Defaults
+	 * to the {@link ForkJoinPool#commonPool() common pool}.
+	 *
+	 * @param executor the executor used for parallel cascading
+	 *
+	 * @return {@code this} following the chaining method pattern
+	 *
+	 * @see #parallelCascadingThreshold(int)
+	 * @since 6.1.0
+	 */
+	@Incubating
+	S parallelCascadingExecutor(ForkJoinPool executor);
+
+	/**
+	 * Define whether the messages of the constraint violations are interpolated lazily, i.e. the first time
+	 * {@link javax.validation.ConstraintViolation#getMessage()} is called, instead of when the constraint violations are
+	 * created. The default value is {@code false}.
+	 * <p>
+	 * This avoids the cost of the interpolation when the messages are not used. Note that the message is then
+	 * interpolated with the default locale and the state of the invalid value at the time of the first call.
+	 *
+	 * @param enabled flag determining whether the messages are interpolated lazily
+	 *
+	 * @return {@code this} following the chaining method pattern
+	 *
+	 * @since 6.1.0
+	 */
+	@Incubating
+	S lazyMessageInterpolation(boolean enabled);
+
+	/**
+	 * Define whether the {@link org.hibernate.validator.spi.cfg.ConstraintMappingContributor}s registered via the Java
+	 * service loader mechanism, e.g. the ones generated by the annotation processor, are discovered and applied. The
+	 * default value is {@code false}.
+	 * <p>
+	 * Discovery is disabled by default as looking up the contributors on the class path has a cost for each validator
+	 * factory bootstrapped. The contributors configured via {@link #CONSTRAINT_MAPPING_CONTRIBUTORS} are always applied.
+	 *
+	 * @param enabled flag determining whether the constraint mapping contributors are discovered via the service loader
+	 *
+	 * @return {@code this} following the chaining method pattern
+	 *
+	 * @since 6.1.0
+	 */
+	@Incubating
+	S enableConstraintMappingContributorDiscovery(boolean enabled);
+
+	/**
+	 * Allows to set the factory of the caches holding the metadata of the validated beans.
+	 * <p>
+	 * By default, the metadata is softly referenced and might be cleared by the garbage collector under memory
+	 * pressure, in which case it is rebuilt on the next validation of the bean. The built-in factories are available
+	 * from {@link BeanMetaDataCacheFactory}.
+	 * <p>
+	 * The predefined scope validator factory does not use any cache as all its metadata is built eagerly.
+	 *
+	 * @param beanMetaDataCacheFactory the {@link BeanMetaDataCacheFactory} to be used
+	 *
+	 * @return {@code this} following the chaining method pattern
+	 *
+	 * @since 6.1.0
+	 */
+	@Incubating
+	S beanMetaDataCacheFactory(BeanMetaDataCacheFactory beanMetaDataCacheFactory);
 }
@@ -0,0 +1,66 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+
+/**
+ * Hibernate Validator specific extension of {@link Validator} allowing to validate a batch of objects at once.
+ * <p>
+ * Each object is validated as if {@link Validator#validate(Object, Class[])} was called for it. The violations are
+ * returned keyed by the index of the object in the batch and the valid objects are left out, so that the caller does
+ * not have to track which object a set of violations belongs to. The violations can also be consumed as a lazy stream,
+ * in which case the objects are only validated as the stream is consumed.
+ * <p>
+ * This is a convenience API: it is not meant to validate the objects faster than validating them one by one.
+ * <p>
+ * An instance can be obtained by unwrapping a validator: {@code validator.unwrap( BatchValidator.class )}.
+ *
+ * @author Guillaume Smet
+ * @since 6.1.0
+ */
+@Incubating
+public interface BatchValidator extends Validator {
+
+	/**
+	 * Validates all constraints on each of the given objects.
+	 *
+	 * @param objects the objects to validate
+	 * @param groups the group or list of groups targeted for validation (defaults to
+	 *        {@link javax.validation.groups.Default})
+	 * @param <T> the type of the objects to validate
+	 *
+	 * @return the constraint violations of the objects violating at least one constraint, keyed by the index of the
+	 *         object in the given iterable and ordered by index
+	 *
+	 * @throws IllegalArgumentException if {@code objects} is null, if one of the objects is null or if null is passed
+	 *         to the varargs groups
+	 * @throws javax.validation.ValidationException if a non recoverable error happens during the validation process
+	 */
+	<T> Map<Integer, Set<ConstraintViolation<T>>> validateAll(Iterable<? extends T> objects, Class<?>... groups);
+
+	/**
+	 * Lazily validates all constraints on each of the given objects: the objects are validated while the returned
+	 * stream is consumed.
+	 *
+	 * @param objects the objects to validate
+	 * @param groups the group or list of groups targeted for validation (defaults to
+	 *        {@link javax.validation.groups.Default})
+	 * @param <T> the type of the objects to validate
+	 *
+	 * @return a sequential stream of the constraint violations of the objects violating at least one constraint,
+	 *         keyed by the index of the object in the given iterable and ordered by index
+	 *
+	 * @throws IllegalArgumentException if {@code objects} is null or if null is passed to the varargs groups
+	 */
+	<T> Stream<Map.Entry<Integer, Set<ConstraintViolation<T>>>> validateAllAsStream(Iterable<? extends T> objects, Class<?>... groups);
+}
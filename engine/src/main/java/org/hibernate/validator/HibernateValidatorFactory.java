@@ -13,6 +13,9 @@
 
 import org.hibernate.validator.constraints.ParameterScriptAssert;
 import org.hibernate.validator.constraints.ScriptAssert;
+import org.hibernate.validator.constraintvalidation.ConstraintValidatorCacheStatistics;
+import org.hibernate.validator.metadata.BeanMetaDataCacheFactory;
+import org.hibernate.validator.metadata.BeanMetaDataCacheStatistics;
 import org.hibernate.validator.spi.properties.GetterPropertySelectionStrategy;
 import org.hibernate.validator.spi.scripting.ScriptEvaluator;
 import org.hibernate.validator.spi.scripting.ScriptEvaluatorFactory;
@@ -58,6 +61,29 @@ public interface HibernateValidatorFactory extends ValidatorFactory {
 	@Incubating
 	GetterPropertySelectionStrategy getGetterPropertySelectionStrategy();
 
+	/**
+	 * Returns a snapshot of the statistics of the bean metadata caches of this factory, allowing to size the caches
+	 * configured with {@link BaseHibernateValidatorConfiguration#beanMetaDataCacheFactory(BeanMetaDataCacheFactory)}.
+	 *
+	 * @return the statistics of the bean metadata caches
+	 *
+	 * @since 6.1.0
+	 */
+	@Incubating
+	BeanMetaDataCacheStatistics getBeanMetaDataCacheStatistics();
+
+	/**
+	 * Returns a snapshot of the statistics of the cache of initialized constraint validators of this factory, e.g. to
+	 * check that the cache is large enough for the constraint validator factories used through
+	 * {@link #usingContext()}, see {@link BaseHibernateValidatorConfiguration#CONSTRAINT_VALIDATOR_CACHE_MAX_FACTORIES}.
+	 *
+	 * @return the statistics of the constraint validator cache
+	 *
+	 * @since 6.1.0
+	 */
+	@Incubating
+	ConstraintValidatorCacheStatistics getConstraintValidatorCacheStatistics();
+
 	/**
 	 * Returns a context for validator configuration via options from the
 	 * Bean Validation API as well as specific ones from Hibernate Validator.
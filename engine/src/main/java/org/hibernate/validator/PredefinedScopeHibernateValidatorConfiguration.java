@@ -8,6 +8,8 @@
 
 import java.util.Locale;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 import org.hibernate.validator.metadata.BeanMetaDataClassNormalizer;
 
@@ -30,4 +32,38 @@ public interface PredefinedScopeHibernateValidatorConfiguration extends BaseHibe
 
 	@Incubating
 	PredefinedScopeHibernateValidatorConfiguration beanMetaDataClassNormalizer(BeanMetaDataClassNormalizer beanMetaDataClassNormalizer);
+
+	/**
+	 * Allows to initialize the metadata of the classes passed to {@link #initializeBeanMetaData(Set)} in parallel,
+	 * using the executor defined via {@link #beanMetaDataInitializationExecutor(Executor)}.
+	 * <p>
+	 * The metadata of a class is built once the configurations of all the types of its hierarchy have been retrieved.
+	 * The resulting metadata are the same as the ones of a sequential initialization. The metadata providers and
+	 * the getter property selection strategy must be thread-safe if parallel initialization is enabled.
+	 *
+	 * @param enabled whether the metadata are initialized in parallel or not, defaults to {@code false}
+	 *
+	 * @return {@code this} following the chaining method pattern
+	 *
+	 * @since 6.1.0
+	 */
+	@Incubating
+	PredefinedScopeHibernateValidatorConfiguration parallelBeanMetaDataInitialization(boolean enabled);
+
+	/**
+	 * Allows to define the executor used to initialize the metadata in parallel. Defaults to the
+	 * {@link ForkJoinPool#commonPool() common pool}.
+	 * <p>
+	 * If a security manager is enabled, the threads of the executor must be granted the permissions required to
+	 * introspect the bean classes.
+	 *
+	 * @param executor the executor used to initialize the metadata
+	 *
+	 * @return {@code this} following the chaining method pattern
+	 *
+	 * @see #parallelBeanMetaDataInitialization(boolean)
+	 * @since 6.1.0
+	 */
+	@Incubating
+	PredefinedScopeHibernateValidatorConfiguration beanMetaDataInitializationExecutor(Executor executor);
 }
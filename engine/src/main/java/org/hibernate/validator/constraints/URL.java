@@ -76,6 +76,12 @@
  * </constraint-mappings>
  * }
  * </pre>
+ * <p>
+ * The same way, the single pass parser based {@code org.hibernate.validator.constraintvalidators.ParsingURLValidator}
+ * can be used instead of the default validator. It does not require a protocol handler either and thus accepts any
+ * syntactically valid protocol, including the ones without hierarchical part such as {@code javascript:}: use the
+ * {@code protocol} attribute to restrict the accepted protocols.
+ * </p>
  *
  * @see <a href="http://www.ietf.org/rfc/rfc2396.txt">RFC2396</a>
  * @see org.hibernate.validator.cfg.ConstraintMapping#constraintDefinition(Class)
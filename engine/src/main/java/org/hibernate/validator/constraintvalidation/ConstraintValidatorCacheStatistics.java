@@ -0,0 +1,52 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.constraintvalidation;
+
+import org.hibernate.validator.Incubating;
+
+/**
+ * A snapshot of the statistics of the cache of initialized constraint validators of a validator factory.
+ *
+ * @author Guillaume Smet
+ * @since 6.1
+ */
+@Incubating
+public interface ConstraintValidatorCacheStatistics {
+
+	/**
+	 * @return the number of constraint validators served from the cache
+	 */
+	long getHitCount();
+
+	/**
+	 * @return the number of constraint validators created and initialized as they were not present in the cache
+	 */
+	long getMissCount();
+
+	/**
+	 * @return the ratio of the requests served from the cache, between {@code 0} and {@code 1}; {@code 0} if no
+	 * constraint validator has been requested yet
+	 */
+	double getHitRatio();
+
+	/**
+	 * @return the number of constraint validators evicted from the cache together with the constraint validator
+	 * factory and initialization context they were created with
+	 */
+	long getEvictionCount();
+
+	/**
+	 * @return the number of constraint validator factories other than the default one currently tracked by the cache,
+	 * a factory used with several initialization contexts being counted once per context
+	 */
+	long getNonDefaultConstraintValidatorFactoryCount();
+
+	/**
+	 * @return the number of constraint validators currently cached
+	 */
+	long getSize();
+}
@@ -0,0 +1,376 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.constraintvalidators;
+
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+
+import org.hibernate.validator.Incubating;
+import org.hibernate.validator.constraints.URL;
+import org.hibernate.validator.internal.util.DomainNameUtil;
+
+/**
+ * Validate that the character sequence (e.g. string) is a valid URL by parsing it in a single pass, according to the
+ * syntax of <a href="https://tools.ietf.org/html/rfc3986">RFC 3986</a> extended with the characters of
+ * <a href="https://tools.ietf.org/html/rfc3987">RFC 3987</a>.
+ * <p>
+ * It accepts the same URLs as {@link RegexpURLValidator} without relying on a regular expression. The host is
+ * validated using the same rules as the other URL validators.
+ * <p>
+ * This validator is not used by default and has to be configured via XML or the programmatic API. Compared to the
+ * default validator, which relies on the {@code java.net.URL} constructor, it behaves differently:
+ * <ul>
+ * <li>any syntactically valid protocol is accepted, even the ones without a protocol handler (e.g.
+ * {@code foo://bar}) or without hierarchical part (e.g. {@code mailto:someone@example.com} or
+ * {@code javascript:alert(1)}). Use the {@code protocol} attribute of {@link URL} to restrict the accepted
+ * protocols;</li>
+ * <li>the URLs without host (e.g. {@code http://}), with an invalid domain name (e.g. {@code http://a..b/}) or with
+ * characters not allowed by the RFCs (e.g. {@code http://exa mple.com}) are rejected;</li>
+ * <li>an empty host is only allowed for the {@code file} protocol (e.g. {@code file:///tmp}) and an empty port is
+ * considered absent.</li>
+ * </ul>
+ * The URLs without authority are considered invalid if a host or a port is required.
+ *
+ * @author Guillaume Smet
+ *
+ * @since 6.1
+ */
+@Incubating
+public class ParsingURLValidator implements ConstraintValidator<URL, CharSequence> {
+
+	private static final String FILE_PROTOCOL = "file";
+
+	private static final String UNRESERVED_AND_SUB_DELIMS = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789-._~!$&'()*+,;=";
+
+	private static final boolean[] SCHEME_CHARS = DomainNameUtil.asciiCharacters( "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789+-." );
+
+	private static final boolean[] USER_INFO_CHARS = DomainNameUtil.asciiCharacters( UNRESERVED_AND_SUB_DELIMS + ":" );
+
+	private static final boolean[] REG_NAME_CHARS = DomainNameUtil.asciiCharacters( UNRESERVED_AND_SUB_DELIMS + "@" );
+
+	private static final boolean[] PATH_CHARS = DomainNameUtil.asciiCharacters( UNRESERVED_AND_SUB_DELIMS + ":@/" );
+
+	private static final boolean[] QUERY_CHARS = DomainNameUtil.asciiCharacters( UNRESERVED_AND_SUB_DELIMS + ":@/?|" );
+
+	private static final boolean[] FRAGMENT_CHARS = DomainNameUtil.asciiCharacters( UNRESERVED_AND_SUB_DELIMS + ":@/?" );
+
+	private String protocol;
+	private String host;
+	private int port;
+
+	@Override
+	public void initialize(URL url) {
+		this.protocol = url.protocol();
+		this.host = url.host();
+		this.port = url.port();
+	}
+
+	@Override
+	public boolean isValid(CharSequence value, ConstraintValidatorContext constraintValidatorContext) {
+		if ( value == null || value.length() == 0 ) {
+			return true;
+		}
+
+		int length = value.length();
+
+		// scheme
+		if ( !isAsciiLetter( value.charAt( 0 ) ) ) {
+			return false;
+		}
+		int i = skipAsciiCharacters( value, 1, length, SCHEME_CHARS );
+		if ( i == length || value.charAt( i ) != ':' ) {
+			return false;
+		}
+		int schemeEnd = i;
+		i++;
+
+		int hostStart = -1;
+		int hostEnd = -1;
+		int urlPort = -1;
+
+		if ( i + 1 < length && value.charAt( i ) == '/' && value.charAt( i + 1 ) == '/' ) {
+			i += 2;
+
+			// user info
+			int userInfoEnd = skipCharacters( value, i, length, USER_INFO_CHARS, false );
+			if ( userInfoEnd < length && value.charAt( userInfoEnd ) == '@' ) {
+				i = userInfoEnd + 1;
+			}
+
+			// host
+			hostStart = i;
+			if ( i < length && value.charAt( i ) == '[' ) {
+				int ipLiteralEnd = indexOf( value, ']', i + 1, length );
+				if ( ipLiteralEnd < 0 || !isValidIpV6Address( value, i + 1, ipLiteralEnd ) ) {
+					return false;
+				}
+				i = ipLiteralEnd + 1;
+			}
+			else {
+				i = skipCharacters( value, i, length, REG_NAME_CHARS, false );
+			}
+			hostEnd = i;
+
+			if ( hostStart == hostEnd ) {
+				if ( !regionMatchesIgnoreCase( value, 0, schemeEnd, FILE_PROTOCOL ) ) {
+					return false;
+				}
+			}
+			else if ( !DomainNameUtil.isValidDomainAddress( value, hostStart, hostEnd ) ) {
+				return false;
+			}
+
+			// port
+			if ( i < length && value.charAt( i ) == ':' ) {
+				i++;
+				int portStart = i;
+				long parsedPort = 0;
+				while ( i < length && value.charAt( i ) >= '0' && value.charAt( i ) <= '9' ) {
+					parsedPort = parsedPort * 10 + ( value.charAt( i ) - '0' );
+					if ( parsedPort > Integer.MAX_VALUE ) {
+						return false;
+					}
+					i++;
+				}
+				if ( i > portStart ) {
+					urlPort = (int) parsedPort;
+				}
+			}
+
+			// the path of a URL with an authority is either empty or starts with a slash
+			if ( i < length && value.charAt( i ) == '/' ) {
+				i = skipCharacters( value, i, length, PATH_CHARS, false );
+			}
+		}
+		else {
+			i = skipCharacters( value, i, length, PATH_CHARS, false );
+		}
+
+		// query
+		if ( i < length && value.charAt( i ) == '?' ) {
+			i = skipCharacters( value, i + 1, length, QUERY_CHARS, true );
+		}
+
+		// fragment
+		if ( i < length && value.charAt( i ) == '#' ) {
+			i = skipCharacters( value, i + 1, length, FRAGMENT_CHARS, false );
+		}
+
+		if ( i < length ) {
+			return false;
+		}
+
+		if ( protocol != null && protocol.length() > 0 && !regionMatchesIgnoreCase( value, 0, schemeEnd, protocol ) ) {
+			return false;
+		}
+
+		if ( host != null && host.length() > 0 && ( hostStart < 0 || !regionMatches( value, hostStart, hostEnd, host ) ) ) {
+			return false;
+		}
+
+		if ( port != -1 && urlPort != port ) {
+			return false;
+		}
+
+		return true;
+	}
+
+	/**
+	 * Skips the allowed ASCII characters, the percent-encoded octets and the non ASCII characters allowed by RFC 3987.
+	 *
+	 * @return the index of the first character which is not allowed
+	 */
+	private static int skipCharacters(CharSequence value, int start, int end, boolean[] allowedAsciiCharacters, boolean allowPrivateCharacters) {
+		int i = start;
+		while ( i < end ) {
+			char c = value.charAt( i );
+			if ( c < 128 ) {
+				if ( allowedAsciiCharacters[c] ) {
+					i++;
+				}
+				else if ( c == '%' && i + 2 < end && isHexDigit( value.charAt( i + 1 ) ) && isHexDigit( value.charAt( i + 2 ) ) ) {
+					i += 3;
+				}
+				else {
+					return i;
+				}
+			}
+			else {
+				int codePoint = Character.codePointAt( value, i );
+				if ( !isUcsCharacter( codePoint ) && !( allowPrivateCharacters && isPrivateCharacter( codePoint ) ) ) {
+					return i;
+				}
+				i += Character.charCount( codePoint );
+			}
+		}
+		return i;
+	}
+
+	private static int skipAsciiCharacters(CharSequence value, int start, int end, boolean[] allowedAsciiCharacters) {
+		int i = start;
+		while ( i < end && value.charAt( i ) < 128 && allowedAsciiCharacters[value.charAt( i )] ) {
+			i++;
+		}
+		return i;
+	}
+
+	/**
+	 * The {@code ucschar} rule of RFC 3987.
+	 */
+	private static boolean isUcsCharacter(int codePoint) {
+		if ( codePoint < 0x10000 ) {
+			return ( codePoint >= 0xA0 && codePoint <= 0xD7FF )
+					|| ( codePoint >= 0xF900 && codePoint <= 0xFDCF )
+					|| ( codePoint >= 0xFDF0 && codePoint <= 0xFFEF );
+		}
+		// the planes 1 to 14 without their 2 last code points, the first 4096 code points of the plane 14 excepted
+		return codePoint < 0xF0000 && ( codePoint & 0xFFFF ) <= 0xFFFD && ( codePoint >= 0xE1000 || codePoint < 0xE0000 );
+	}
+
+	/**
+	 * The {@code iprivate} rule of RFC 3987.
+	 */
+	private static boolean isPrivateCharacter(int codePoint) {
+		return ( codePoint >= 0xE000 && codePoint <= 0xF8FF ) || ( codePoint >= 0xF0000 && ( codePoint & 0xFFFF ) <= 0xFFFD );
+	}
+
+	/**
+	 * Checks an IPv6 address as defined by RFC 3986: 8 groups of 1 to 4 hexadecimal digits separated by colons, the 2
+	 * last ones being possibly replaced by an IPv4 address, or at most 7 groups with exactly one {@code ::}.
+	 */
+	private static boolean isValidIpV6Address(CharSequence value, int start, int end) {
+		int doubleColonIndex = -1;
+		for ( int i = start; i < end - 1; i++ ) {
+			if ( value.charAt( i ) == ':' && value.charAt( i + 1 ) == ':' ) {
+				doubleColonIndex = i;
+				break;
+			}
+		}
+
+		if ( doubleColonIndex < 0 ) {
+			return countIpV6Groups( value, start, end, true ) == 8;
+		}
+
+		int leadingGroupCount = countIpV6Groups( value, start, doubleColonIndex, false );
+		int trailingGroupCount = countIpV6Groups( value, doubleColonIndex + 2, end, true );
+		return leadingGroupCount >= 0 && trailingGroupCount >= 0 && leadingGroupCount + trailingGroupCount <= 7;
+	}
+
+	/**
+	 * Counts the groups of 1 to 4 hexadecimal digits separated by colons, an IPv4 address in last position counting
+	 * for 2 groups if allowed.
+	 *
+	 * @return the number of groups, {@code 0} for an empty range and {@code -1} if the range is not made of such groups
+	 */
+	private static int countIpV6Groups(CharSequence value, int start, int end, boolean allowIpV4Suffix) {
+		if ( start == end ) {
+			return 0;
+		}
+		int groupCount = 0;
+		int groupStart = start;
+		for ( int i = start; i <= end; i++ ) {
+			if ( i < end && value.charAt( i ) != ':' ) {
+				continue;
+			}
+
+			int groupLength = i - groupStart;
+			if ( groupLength >= 1 && groupLength <= 4 && areHexDigits( value, groupStart, i ) ) {
+				groupCount++;
+			}
+			else if ( allowIpV4Suffix && i == end && isValidIpV4Address( value, groupStart, end ) ) {
+				groupCount += 2;
+			}
+			else {
+				return -1;
+			}
+			groupStart = i + 1;
+		}
+		return groupCount;
+	}
+
+	/**
+	 * Checks an IPv4 address made of 4 numbers between 0 and 255, without leading zeros, separated by dots.
+	 */
+	private static boolean isValidIpV4Address(CharSequence value, int start, int end) {
+		int numberCount = 0;
+		int number = 0;
+		int numberStart = start;
+		for ( int i = start; i <= end; i++ ) {
+			if ( i == end || value.charAt( i ) == '.' ) {
+				int numberLength = i - numberStart;
+				if ( numberLength < 1 || ( numberLength > 1 && value.charAt( numberStart ) == '0' ) || ++numberCount > 4 ) {
+					return false;
+				}
+				number = 0;
+				numberStart = i + 1;
+				continue;
+			}
+
+			char c = value.charAt( i );
+			if ( c < '0' || c > '9' ) {
+				return false;
+			}
+			number = number * 10 + ( c - '0' );
+			if ( number > 255 ) {
+				return false;
+			}
+		}
+		return numberCount == 4;
+	}
+
+	private static boolean areHexDigits(CharSequence value, int start, int end) {
+		for ( int i = start; i < end; i++ ) {
+			if ( !isHexDigit( value.charAt( i ) ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isHexDigit(char c) {
+		return ( c >= '0' && c <= '9' ) || ( c >= 'a' && c <= 'f' ) || ( c >= 'A' && c <= 'F' );
+	}
+
+	private static boolean isAsciiLetter(char c) {
+		return ( c >= 'a' && c <= 'z' ) || ( c >= 'A' && c <= 'Z' );
+	}
+
+	private static int indexOf(CharSequence value, char searched, int start, int end) {
+		for ( int i = start; i < end; i++ ) {
+			if ( value.charAt( i ) == searched ) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static boolean regionMatches(CharSequence value, int start, int end, String expected) {
+		if ( end - start != expected.length() ) {
+			return false;
+		}
+		for ( int i = 0; i < expected.length(); i++ ) {
+			if ( value.charAt( start + i ) != expected.charAt( i ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean regionMatchesIgnoreCase(CharSequence value, int start, int end, String expected) {
+		if ( end - start != expected.length() ) {
+			return false;
+		}
+		for ( int i = 0; i < expected.length(); i++ ) {
+			char c = value.charAt( start + i );
+			char e = expected.charAt( i );
+			if ( c != e && Character.toLowerCase( c ) != Character.toLowerCase( e ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
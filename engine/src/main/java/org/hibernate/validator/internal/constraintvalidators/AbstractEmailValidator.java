@@ -6,11 +6,7 @@
  */
 package org.hibernate.validator.internal.constraintvalidators;
 
-import static java.util.regex.Pattern.CASE_INSENSITIVE;
-
 import java.lang.annotation.Annotation;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
@@ -27,6 +23,9 @@
  * <a href="http://www.regular-expressions.info/email.html">article</a> discusses it is not necessarily practical to
  * implement a 100% compliant email validator. This implementation is a trade-off trying to match most email while ignoring
  * for example emails with double quotes or comments.
+ * <p>
+ * The email address is checked by hand written scanners rather than by regular expressions so that the validation
+ * time is linear, even for long or hostile inputs.
  *
  * @author Emmanuel Bernard
  * @author Hardy Ferentschik
@@ -36,15 +35,19 @@
 
 	private static final int MAX_LOCAL_PART_LENGTH = 64;
 
-	private static final String LOCAL_PART_ATOM = "[a-z0-9!#$%&'*+/=?^_`{|}~\u0080-\uFFFF-]";
-	private static final String LOCAL_PART_INSIDE_QUOTES_ATOM = "([a-z0-9!#$%&'*.(),<>\\[\\]:;  @+/=?^_`{|}~\u0080-\uFFFF-]|\\\\\\\\|\\\\\\\")";
 	/**
-	 * Regular expression for the local part of an email address (everything before '@')
+	 * The ASCII characters allowed in the unquoted words of the local part of an email address, in addition to the
+	 * non ASCII characters.
 	 */
-	private static final Pattern LOCAL_PART_PATTERN = Pattern.compile(
-			"(" + LOCAL_PART_ATOM + "+|\"" + LOCAL_PART_INSIDE_QUOTES_ATOM + "+\")" +
-					"(\\." + "(" + LOCAL_PART_ATOM + "+|\"" + LOCAL_PART_INSIDE_QUOTES_ATOM + "+\")" + ")*", CASE_INSENSITIVE
-	);
+	private static final boolean[] LOCAL_PART_ATOM = DomainNameUtil.asciiCharacters(
+			"abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789!#$%&'*+/=?^_`{|}~-" );
+
+	/**
+	 * The ASCII characters allowed in the quoted words of the local part of an email address, in addition to the non
+	 * ASCII characters and to the escaped backslashes and double quotes.
+	 */
+	private static final boolean[] LOCAL_PART_INSIDE_QUOTES_ATOM = DomainNameUtil.asciiCharacters(
+			"abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789!#$%&'*.(),<>[]:; @+/=?^_`{|}~-" );
 
 	@Override
 	public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
@@ -54,29 +57,115 @@ public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
 
 		// cannot split email string at @ as it can be a part of quoted local part of email.
 		// so we need to split at a position of last @ present in the string:
-		String stringValue = value.toString();
-		int splitPosition = stringValue.lastIndexOf( '@' );
+		int splitPosition = lastIndexOf( value, '@' );
 
 		// need to check if
 		if ( splitPosition < 0 ) {
 			return false;
 		}
 
-		String localPart = stringValue.substring( 0, splitPosition );
-		String domainPart = stringValue.substring( splitPosition + 1 );
-
-		if ( !isValidEmailLocalPart( localPart ) ) {
+		if ( !isValidEmailLocalPart( value, splitPosition ) ) {
 			return false;
 		}
 
-		return DomainNameUtil.isValidEmailDomainAddress( domainPart );
+		return DomainNameUtil.isValidEmailDomainAddress( value, splitPosition + 1, value.length() );
 	}
 
-	private boolean isValidEmailLocalPart(String localPart) {
-		if ( localPart.length() > MAX_LOCAL_PART_LENGTH ) {
+	/**
+	 * Checks the local part of an email address (everything before '@'): words separated by dots, each word being
+	 * either made of atom characters or of quoted characters between double quotes.
+	 * <p>
+	 * The local part is checked in a single pass, the grammar being deterministic: a double quote starts a quoted word
+	 * and, inside a quoted word, a backslash is only allowed to escape a backslash or a double quote.
+	 */
+	private boolean isValidEmailLocalPart(CharSequence value, int end) {
+		if ( end > MAX_LOCAL_PART_LENGTH ) {
 			return false;
 		}
-		Matcher matcher = LOCAL_PART_PATTERN.matcher( localPart );
-		return matcher.matches();
+
+		int i = 0;
+		while ( true ) {
+			if ( i == end ) {
+				// empty word
+				return false;
+			}
+
+			if ( value.charAt( i ) == '"' ) {
+				i = skipQuotedWord( value, i + 1, end );
+			}
+			else {
+				i = skipWord( value, i, end );
+			}
+
+			if ( i < 0 ) {
+				return false;
+			}
+			if ( i == end ) {
+				return true;
+			}
+			if ( value.charAt( i ) != '.' ) {
+				return false;
+			}
+			i++;
+		}
+	}
+
+	/**
+	 * @return the index after the word or -1 if the word is empty
+	 */
+	private static int skipWord(CharSequence value, int start, int end) {
+		int i = start;
+		while ( i < end && isAllowed( value, i, end, LOCAL_PART_ATOM ) ) {
+			i++;
+		}
+		return i == start ? -1 : i;
+	}
+
+	/**
+	 * @return the index after the closing double quote or -1 if the quoted word is empty or invalid
+	 */
+	private static int skipQuotedWord(CharSequence value, int start, int end) {
+		int i = start;
+		while ( i < end ) {
+			char c = value.charAt( i );
+			if ( c == '"' ) {
+				return i == start ? -1 : i + 1;
+			}
+			if ( c == '\\' ) {
+				if ( i + 1 == end ) {
+					return -1;
+				}
+				char escaped = value.charAt( i + 1 );
+				if ( escaped != '\\' && escaped != '"' ) {
+					return -1;
+				}
+				i += 2;
+			}
+			else if ( isAllowed( value, i, end, LOCAL_PART_INSIDE_QUOTES_ATOM ) ) {
+				i++;
+			}
+			else {
+				return -1;
+			}
+		}
+		// no closing double quote
+		return -1;
+	}
+
+	private static boolean isAllowed(CharSequence value, int index, int end, boolean[] allowedAsciiCharacters) {
+		char c = value.charAt( index );
+		if ( c < 128 ) {
+			return allowedAsciiCharacters[c];
+		}
+		return DomainNameUtil.isInNonAsciiBmpRange( value, index, end );
+	}
+
+	private static int lastIndexOf(CharSequence value, char searched) {
+		for ( int i = value.length() - 1; i >= 0; i-- ) {
+			if ( value.charAt( i ) == searched ) {
+				return i;
+			}
+		}
+		return -1;
 	}
 }
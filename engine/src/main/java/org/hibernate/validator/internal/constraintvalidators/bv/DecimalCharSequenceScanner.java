@@ -0,0 +1,263 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.constraintvalidators.bv;
+
+import java.math.BigDecimal;
+
+/**
+ * Scans the character sequences representing decimal numbers without creating a {@link BigDecimal}.
+ * <p>
+ * The plain notation made of an optional sign, ASCII digits and an optional decimal point is handled directly on the
+ * character sequence. The other forms accepted by {@link BigDecimal#BigDecimal(String)}, i.e. the exponents and the
+ * non ASCII digits, are delegated to {@code BigDecimal} so that the results are always the same as the ones of the
+ * {@code BigDecimal} based implementation.
+ * <p>
+ * An instance holds a bound the character sequences are compared to.
+ *
+ * @author Guillaume Smet
+ */
+final class DecimalCharSequenceScanner {
+
+	/**
+	 * Returned by {@link #compareTo(CharSequence)} when the character sequence does not represent a number.
+	 */
+	static final int NOT_A_NUMBER = Integer.MIN_VALUE;
+
+	/**
+	 * Returned by the scanning methods when the character sequence has to be parsed by {@code BigDecimal}.
+	 */
+	private static final int UNSUPPORTED = Integer.MAX_VALUE;
+
+	private final BigDecimal bound;
+
+	private final int boundSignum;
+
+	/**
+	 * The digits of the integer part of the absolute value of the bound, without the leading zeros.
+	 */
+	private final char[] boundIntegerDigits;
+
+	/**
+	 * The digits of the fraction part of the absolute value of the bound, without the trailing zeros.
+	 */
+	private final char[] boundFractionDigits;
+
+	DecimalCharSequenceScanner(BigDecimal bound) {
+		this.bound = bound;
+		this.boundSignum = bound.signum();
+
+		String plainBound = bound.abs().stripTrailingZeros().toPlainString();
+		int decimalPointIndex = plainBound.indexOf( '.' );
+		String integerPart = decimalPointIndex < 0 ? plainBound : plainBound.substring( 0, decimalPointIndex );
+		this.boundIntegerDigits = "0".equals( integerPart ) ? new char[0] : integerPart.toCharArray();
+		this.boundFractionDigits = decimalPointIndex < 0 ? new char[0] : plainBound.substring( decimalPointIndex + 1 ).toCharArray();
+	}
+
+	/**
+	 * Compares the number represented by the character sequence to the bound.
+	 *
+	 * @param value the character sequence to compare
+	 *
+	 * @return a negative integer, zero, or a positive integer as the number is less than, equal to, or greater than
+	 * the bound; {@link #NOT_A_NUMBER} if the character sequence does not represent a number
+	 */
+	int compareTo(CharSequence value) {
+		int length = value.length();
+		int index = 0;
+		boolean negative = false;
+
+		if ( index < length ) {
+			char sign = value.charAt( index );
+			if ( sign == '-' || sign == '+' ) {
+				negative = sign == '-';
+				index++;
+			}
+		}
+
+		int integerStart = index;
+		index = skipDigits( value, index, length );
+		int integerEnd = index;
+
+		int fractionStart = index;
+		int fractionEnd = index;
+		if ( index < length && value.charAt( index ) == '.' ) {
+			fractionStart = index + 1;
+			index = skipDigits( value, fractionStart, length );
+			fractionEnd = index;
+		}
+
+		int status = checkEnd( value, index, length, ( integerEnd - integerStart ) + ( fractionEnd - fractionStart ) );
+		if ( status == UNSUPPORTED ) {
+			return compareToUsingBigDecimal( value );
+		}
+		if ( status == NOT_A_NUMBER ) {
+			return NOT_A_NUMBER;
+		}
+
+		int significantIntegerStart = skipZeros( value, integerStart, integerEnd );
+		int signum;
+		if ( significantIntegerStart == integerEnd && skipZeros( value, fractionStart, fractionEnd ) == fractionEnd ) {
+			signum = 0;
+		}
+		else {
+			signum = negative ? -1 : 1;
+		}
+
+		if ( signum != boundSignum ) {
+			return signum < boundSignum ? -1 : 1;
+		}
+		if ( signum == 0 ) {
+			return 0;
+		}
+
+		int magnitudeComparison = compareMagnitudeToBound( value, significantIntegerStart, integerEnd, fractionStart, fractionEnd );
+		return negative ? -magnitudeComparison : magnitudeComparison;
+	}
+
+	/**
+	 * Checks that the number represented by the character sequence does not have more integer and fraction digits
+	 * than allowed, the same way as {@code Digits} does for a {@code BigDecimal}.
+	 *
+	 * @param value the character sequence to check
+	 * @param maxIntegerLength the maximum number of integral digits
+	 * @param maxFractionLength the maximum number of fractional digits
+	 *
+	 * @return {@code true} if the character sequence represents a number with the allowed number of digits,
+	 * {@code false} otherwise
+	 */
+	static boolean hasDigits(CharSequence value, int maxIntegerLength, int maxFractionLength) {
+		int length = value.length();
+		int index = 0;
+
+		if ( index < length ) {
+			char sign = value.charAt( index );
+			if ( sign == '-' || sign == '+' ) {
+				index++;
+			}
+		}
+
+		int integerStart = index;
+		index = skipDigits( value, index, length );
+		int integerEnd = index;
+
+		int fractionStart = index;
+		int fractionEnd = index;
+		if ( index < length && value.charAt( index ) == '.' ) {
+			fractionStart = index + 1;
+			index = skipDigits( value, fractionStart, length );
+			fractionEnd = index;
+		}
+
+		int digitCount = ( integerEnd - integerStart ) + ( fractionEnd - fractionStart );
+		int status = checkEnd( value, index, length, digitCount );
+		if ( status == UNSUPPORTED ) {
+			return hasDigitsUsingBigDecimal( value, maxIntegerLength, maxFractionLength );
+		}
+		if ( status == NOT_A_NUMBER ) {
+			return false;
+		}
+
+		// the precision of a BigDecimal is the number of digits of its unscaled value, i.e. all the digits without
+		// the leading zeros, and is 1 for zero
+		int leadingZeroCount = skipZeros( value, integerStart, integerEnd ) - integerStart;
+		if ( leadingZeroCount == integerEnd - integerStart ) {
+			leadingZeroCount += skipZeros( value, fractionStart, fractionEnd ) - fractionStart;
+		}
+		int precision = Math.max( digitCount - leadingZeroCount, 1 );
+		int scale = fractionEnd - fractionStart;
+
+		return maxIntegerLength >= precision - scale && maxFractionLength >= scale;
+	}
+
+	private int compareMagnitudeToBound(CharSequence value, int integerStart, int integerEnd, int fractionStart, int fractionEnd) {
+		int integerLength = integerEnd - integerStart;
+		if ( integerLength != boundIntegerDigits.length ) {
+			return integerLength < boundIntegerDigits.length ? -1 : 1;
+		}
+		for ( int i = 0; i < integerLength; i++ ) {
+			int difference = value.charAt( integerStart + i ) - boundIntegerDigits[i];
+			if ( difference != 0 ) {
+				return difference;
+			}
+		}
+
+		int fractionLength = fractionEnd - fractionStart;
+		for ( int i = 0; i < fractionLength; i++ ) {
+			char digit = value.charAt( fractionStart + i );
+			if ( i >= boundFractionDigits.length ) {
+				if ( digit != '0' ) {
+					return 1;
+				}
+				continue;
+			}
+			int difference = digit - boundFractionDigits[i];
+			if ( difference != 0 ) {
+				return difference;
+			}
+		}
+
+		// the bound does not have trailing zeros so if it has more fraction digits, it is greater
+		return fractionLength < boundFractionDigits.length ? -1 : 0;
+	}
+
+	private int compareToUsingBigDecimal(CharSequence value) {
+		try {
+			return new BigDecimal( value.toString() ).compareTo( bound );
+		}
+		catch (NumberFormatException nfe) {
+			return NOT_A_NUMBER;
+		}
+	}
+
+	private static boolean hasDigitsUsingBigDecimal(CharSequence value, int maxIntegerLength, int maxFractionLength) {
+		BigDecimal bigNum;
+		try {
+			bigNum = new BigDecimal( value.toString() );
+		}
+		catch (NumberFormatException nfe) {
+			return false;
+		}
+
+		int integerPartLength = bigNum.precision() - bigNum.scale();
+		int fractionPartLength = bigNum.scale() < 0 ? 0 : bigNum.scale();
+
+		return ( maxIntegerLength >= integerPartLength && maxFractionLength >= fractionPartLength );
+	}
+
+	/**
+	 * Checks what follows the plain notation.
+	 *
+	 * @return {@code 0} if the whole character sequence has been scanned and represents a number,
+	 * {@link #UNSUPPORTED} if the rest has to be parsed by {@code BigDecimal}, {@link #NOT_A_NUMBER} otherwise
+	 */
+	private static int checkEnd(CharSequence value, int index, int length, int digitCount) {
+		if ( index < length ) {
+			char c = value.charAt( index );
+			// exponent or non ASCII digit
+			return c == 'e' || c == 'E' || c > 0x7F ? UNSUPPORTED : NOT_A_NUMBER;
+		}
+		return digitCount == 0 ? NOT_A_NUMBER : 0;
+	}
+
+	private static int skipDigits(CharSequence value, int index, int end) {
+		while ( index < end ) {
+			char c = value.charAt( index );
+			if ( c < '0' || c > '9' ) {
+				break;
+			}
+			index++;
+		}
+		return index;
+	}
+
+	private static int skipZeros(CharSequence value, int index, int end) {
+		while ( index < end && value.charAt( index ) == '0' ) {
+			index++;
+		}
+		return index;
+	}
+}
@@ -25,13 +25,13 @@ public class DecimalMaxValidatorForCharSequence implements ConstraintValidator<D
 
 	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
 
-	private BigDecimal maxValue;
+	private DecimalCharSequenceScanner maxValueScanner;
 	private boolean inclusive;
 
 	@Override
 	public void initialize(DecimalMax maxValue) {
 		try {
-			this.maxValue = new BigDecimal( maxValue.value() );
+			this.maxValueScanner = new DecimalCharSequenceScanner( new BigDecimal( maxValue.value() ) );
 		}
 		catch (NumberFormatException nfe) {
 			throw LOG.getInvalidBigDecimalFormatException( maxValue.value(), nfe );
@@ -45,12 +45,10 @@ public boolean isValid(CharSequence value, ConstraintValidatorContext constraint
 		if ( value == null ) {
 			return true;
 		}
-		try {
-			int comparisonResult = new BigDecimal( value.toString() ).compareTo( maxValue );
-			return inclusive ? comparisonResult <= 0 : comparisonResult < 0;
-		}
-		catch (NumberFormatException nfe) {
+		int comparisonResult = maxValueScanner.compareTo( value );
+		if ( comparisonResult == DecimalCharSequenceScanner.NOT_A_NUMBER ) {
 			return false;
 		}
+		return inclusive ? comparisonResult <= 0 : comparisonResult < 0;
 	}
 }
@@ -25,13 +25,13 @@ public class DecimalMinValidatorForCharSequence implements ConstraintValidator<D
 
 	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
 
-	private BigDecimal minValue;
+	private DecimalCharSequenceScanner minValueScanner;
 	private boolean inclusive;
 
 	@Override
 	public void initialize(DecimalMin minValue) {
 		try {
-			this.minValue = new BigDecimal( minValue.value() );
+			this.minValueScanner = new DecimalCharSequenceScanner( new BigDecimal( minValue.value() ) );
 		}
 		catch (NumberFormatException nfe) {
 			throw LOG.getInvalidBigDecimalFormatException( minValue.value(), nfe );
@@ -45,12 +45,10 @@ public boolean isValid(CharSequence value, ConstraintValidatorContext constraint
 		if ( value == null ) {
 			return true;
 		}
-		try {
-			int comparisonResult = new BigDecimal( value.toString() ).compareTo( minValue );
-			return inclusive ? comparisonResult >= 0 : comparisonResult > 0;
-		}
-		catch (NumberFormatException nfe) {
+		int comparisonResult = minValueScanner.compareTo( value );
+		if ( comparisonResult == DecimalCharSequenceScanner.NOT_A_NUMBER ) {
 			return false;
 		}
+		return inclusive ? comparisonResult >= 0 : comparisonResult > 0;
 	}
 }
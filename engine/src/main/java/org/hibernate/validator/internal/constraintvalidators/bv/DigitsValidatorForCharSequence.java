@@ -7,7 +7,6 @@
 package org.hibernate.validator.internal.constraintvalidators.bv;
 
 import java.lang.invoke.MethodHandles;
-import java.math.BigDecimal;
 import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
 import javax.validation.constraints.Digits;
@@ -43,26 +42,7 @@ public boolean isValid(CharSequence charSequence, ConstraintValidatorContext con
 			return true;
 		}
 
-		BigDecimal bigNum = getBigDecimalValue( charSequence );
-		if ( bigNum == null ) {
-			return false;
-		}
-
-		int integerPartLength = bigNum.precision() - bigNum.scale();
-		int fractionPartLength = bigNum.scale() < 0 ? 0 : bigNum.scale();
-
-		return ( maxIntegerLength >= integerPartLength && maxFractionLength >= fractionPartLength );
-	}
-
-	private BigDecimal getBigDecimalValue(CharSequence charSequence) {
-		BigDecimal bd;
-		try {
-			bd = new BigDecimal( charSequence.toString() );
-		}
-		catch (NumberFormatException nfe) {
-			return null;
-		}
-		return bd;
+		return DecimalCharSequenceScanner.hasDigits( charSequence, maxIntegerLength, maxFractionLength );
 	}
 
 	private void validateParameters() {
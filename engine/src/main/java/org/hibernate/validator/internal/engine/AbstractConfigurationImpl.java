@@ -22,6 +22,7 @@
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 
 import javax.validation.BootstrapConfiguration;
@@ -56,6 +57,7 @@
 import org.hibernate.validator.internal.xml.config.ValidationBootstrapParameters;
 import org.hibernate.validator.internal.xml.config.ValidationXmlParser;
 import org.hibernate.validator.messageinterpolation.ResourceBundleMessageInterpolator;
+import org.hibernate.validator.metadata.BeanMetaDataCacheFactory;
 import org.hibernate.validator.resourceloading.PlatformResourceBundleLocator;
 import org.hibernate.validator.spi.properties.GetterPropertySelectionStrategy;
 import org.hibernate.validator.spi.resourceloading.ResourceBundleLocator;
@@ -110,6 +112,12 @@
 	private Duration temporalValidationTolerance;
 	private Object constraintValidatorPayload;
 	private GetterPropertySelectionStrategy getterPropertySelectionStrategy;
+	private boolean methodHandlePropertyAccessorsEnabled;
+	private Integer parallelCascadingThreshold;
+	private ForkJoinPool parallelCascadingExecutor;
+	private boolean lazyMessageInterpolation;
+	private boolean constraintMappingContributorDiscoveryEnabled;
+	private BeanMetaDataCacheFactory beanMetaDataCacheFactory;
 
 	// locales to initialize eagerly
 	private Set<Locale> localesToInitialize = Collections.emptySet();
@@ -309,6 +317,70 @@ public T getterPropertySelectionStrategy(GetterPropertySelectionStrategy getterP
 		return thisAsT();
 	}
 
+	@Override
+	public T enableMethodHandlePropertyAccessors(boolean enabled) {
+		this.methodHandlePropertyAccessorsEnabled = enabled;
+		return thisAsT();
+	}
+
+	public final boolean isMethodHandlePropertyAccessorsEnabled() {
+		return methodHandlePropertyAccessorsEnabled;
+	}
+
+	@Override
+	public T parallelCascadingThreshold(int threshold) {
+		this.parallelCascadingThreshold = threshold;
+		return thisAsT();
+	}
+
+	public Integer getParallelCascadingThreshold() {
+		return parallelCascadingThreshold;
+	}
+
+	@Override
+	public T parallelCascadingExecutor(ForkJoinPool executor) {
+		Contracts.assertNotNull( executor, MESSAGES.parameterMustNotBeNull( "executor" ) );
+
+		this.parallelCascadingExecutor = executor;
+		return thisAsT();
+	}
+
+	public ForkJoinPool getParallelCascadingExecutor() {
+		return parallelCascadingExecutor;
+	}
+
+	@Override
+	public T lazyMessageInterpolation(boolean enabled) {
+		this.lazyMessageInterpolation = enabled;
+		return thisAsT();
+	}
+
+	public final boolean isLazyMessageInterpolation() {
+		return lazyMessageInterpolation;
+	}
+
+	@Override
+	public T enableConstraintMappingContributorDiscovery(boolean enabled) {
+		this.constraintMappingContributorDiscoveryEnabled = enabled;
+		return thisAsT();
+	}
+
+	public final boolean isConstraintMappingContributorDiscoveryEnabled() {
+		return constraintMappingContributorDiscoveryEnabled;
+	}
+
+	@Override
+	public T beanMetaDataCacheFactory(BeanMetaDataCacheFactory beanMetaDataCacheFactory) {
+		Contracts.assertNotNull( beanMetaDataCacheFactory, MESSAGES.parameterMustNotBeNull( "beanMetaDataCacheFactory" ) );
+
+		this.beanMetaDataCacheFactory = beanMetaDataCacheFactory;
+		return thisAsT();
+	}
+
+	public final BeanMetaDataCacheFactory getBeanMetaDataCacheFactory() {
+		return beanMetaDataCacheFactory;
+	}
+
 	public boolean isAllowParallelMethodsDefineParameterConstraints() {
 		return this.methodValidationConfigurationBuilder.isAllowParallelMethodsDefineParameterConstraints();
 	}
@@ -327,7 +399,8 @@ public final DefaultConstraintMapping createConstraintMapping() {
 			getterPropertySelectionStrategyToUse = getterPropertySelectionStrategy;
 		}
 
-		return new DefaultConstraintMapping( new JavaBeanHelper( getterPropertySelectionStrategyToUse ) );
+		return new DefaultConstraintMapping( new JavaBeanHelper( getterPropertySelectionStrategyToUse,
+				ValidatorFactoryConfigurationHelper.determineMethodHandlePropertyAccessorsEnabled( this, getProperties() ) ) );
 	}
 
 	@Override
@@ -6,9 +6,12 @@
  */
 package org.hibernate.validator.internal.engine;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.lang.invoke.MethodHandles;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import javax.validation.ConstraintViolation;
 import javax.validation.Path;
@@ -28,7 +31,20 @@
 	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
 	private static final long serialVersionUID = -4970067626703103139L;
 
-	private final String interpolatedMessage;
+	private volatile String interpolatedMessage;
+
+	/**
+	 * Interpolates the message on the first call to {@link #getMessage()} if the message is interpolated lazily;
+	 * {@code null} once the message has been interpolated.
+	 */
+	private transient volatile Supplier<String> messageInterpolation;
+
+	/**
+	 * Whether the message was interpolated lazily. Lazily interpolated violations compare their message parameters and
+	 * expression variables instead of their message so that {@link #equals(Object)} and {@link #hashCode()} don't
+	 * force the interpolation.
+	 */
+	private final boolean lazilyInterpolated;
 	private final T rootBean;
 	private final Object value;
 	private final Path propertyPath;
@@ -47,6 +63,7 @@ public static <T> ConstraintViolation<T> forBeanValidation(String messageTemplat
 			Map<String, Object> messageParameters,
 			Map<String, Object> expressionVariables,
 			String interpolatedMessage,
+			Supplier<String> messageInterpolation,
 			Class<T> rootBeanClass,
 			T rootBean,
 			Object leafBeanInstance,
@@ -59,6 +76,7 @@ public static <T> ConstraintViolation<T> forBeanValidation(String messageTemplat
 				messageParameters,
 				expressionVariables,
 				interpolatedMessage,
+				messageInterpolation,
 				rootBeanClass,
 				rootBean,
 				leafBeanInstance,
@@ -75,6 +93,7 @@ public static <T> ConstraintViolation<T> forParameterValidation(String messageTe
 			Map<String, Object> messageParameters,
 			Map<String, Object> expressionVariables,
 			String interpolatedMessage,
+			Supplier<String> messageInterpolation,
 			Class<T> rootBeanClass,
 			T rootBean,
 			Object leafBeanInstance,
@@ -88,6 +107,7 @@ public static <T> ConstraintViolation<T> forParameterValidation(String messageTe
 				messageParameters,
 				expressionVariables,
 				interpolatedMessage,
+				messageInterpolation,
 				rootBeanClass,
 				rootBean,
 				leafBeanInstance,
@@ -104,6 +124,7 @@ public static <T> ConstraintViolation<T> forReturnValueValidation(String message
 			Map<String, Object> messageParameters,
 			Map<String, Object> expressionVariables,
 			String interpolatedMessage,
+			Supplier<String> messageInterpolation,
 			Class<T> rootBeanClass,
 			T rootBean,
 			Object leafBeanInstance,
@@ -117,6 +138,7 @@ public static <T> ConstraintViolation<T> forReturnValueValidation(String message
 				messageParameters,
 				expressionVariables,
 				interpolatedMessage,
+				messageInterpolation,
 				rootBeanClass,
 				rootBean,
 				leafBeanInstance,
@@ -133,6 +155,7 @@ private ConstraintViolationImpl(String messageTemplate,
 			Map<String, Object> messageParameters,
 			Map<String, Object> expressionVariables,
 			String interpolatedMessage,
+			Supplier<String> messageInterpolation,
 			Class<T> rootBeanClass,
 			T rootBean,
 			Object leafBeanInstance,
@@ -146,6 +169,8 @@ private ConstraintViolationImpl(String messageTemplate,
 		this.messageParameters = messageParameters;
 		this.expressionVariables = expressionVariables;
 		this.interpolatedMessage = interpolatedMessage;
+		this.messageInterpolation = messageInterpolation;
+		this.lazilyInterpolated = messageInterpolation != null;
 		this.rootBean = rootBean;
 		this.value = value;
 		this.propertyPath = propertyPath;
@@ -161,6 +186,14 @@ private ConstraintViolationImpl(String messageTemplate,
 
 	@Override
 	public final String getMessage() {
+		if ( messageInterpolation != null ) {
+			synchronized ( this ) {
+				if ( messageInterpolation != null ) {
+					interpolatedMessage = messageInterpolation.get();
+					messageInterpolation = null;
+				}
+			}
+		}
 		return interpolatedMessage;
 	}
 
@@ -265,7 +298,19 @@ public boolean equals(Object o) {
 
 		ConstraintViolationImpl<?> that = (ConstraintViolationImpl<?>) o;
 
-		if ( interpolatedMessage != null ? !interpolatedMessage.equals( that.interpolatedMessage ) : that.interpolatedMessage != null ) {
+		if ( lazilyInterpolated != that.lazilyInterpolated ) {
+			return false;
+		}
+		if ( lazilyInterpolated ) {
+			// the message is determined by the other compared fields, the message parameters and the expression variables
+			if ( messageParameters != null ? !messageParameters.equals( that.messageParameters ) : that.messageParameters != null ) {
+				return false;
+			}
+			if ( expressionVariables != null ? !expressionVariables.equals( that.expressionVariables ) : that.expressionVariables != null ) {
+				return false;
+			}
+		}
+		else if ( interpolatedMessage != null ? !interpolatedMessage.equals( that.interpolatedMessage ) : that.interpolatedMessage != null ) {
 			return false;
 		}
 		if ( messageTemplate != null ? !messageTemplate.equals( that.messageTemplate ) : that.messageTemplate != null ) {
@@ -298,7 +343,7 @@ public int hashCode() {
 	public String toString() {
 		final StringBuilder sb = new StringBuilder();
 		sb.append( "ConstraintViolationImpl" );
-		sb.append( "{interpolatedMessage='" ).append( interpolatedMessage ).append( '\'' );
+		sb.append( "{interpolatedMessage='" ).append( getMessage() ).append( '\'' );
 		sb.append( ", propertyPath=" ).append( propertyPath );
 		sb.append( ", rootBeanClass=" ).append( rootBeanClass );
 		sb.append( ", messageTemplate='" ).append( messageTemplate ).append( '\'' );
@@ -306,11 +351,19 @@ public String toString() {
 		return sb.toString();
 	}
 
+	private void writeObject(ObjectOutputStream out) throws IOException {
+		// the message interpolation is not serializable, make sure the message is interpolated
+		getMessage();
+		out.defaultWriteObject();
+	}
+
 	/**
 	 * @see #equals(Object) on which fields are taken into account
 	 */
 	private int createHashCode() {
-		int result = interpolatedMessage != null ? interpolatedMessage.hashCode() : 0;
+		// the message parameters and expression variables of lazily interpolated violations are not taken into account
+		// as they might contain arbitrary objects
+		int result = !lazilyInterpolated && interpolatedMessage != null ? interpolatedMessage.hashCode() : 0;
 		result = 31 * result + ( propertyPath != null ? propertyPath.hashCode() : 0 );
 		result = 31 * result + System.identityHashCode( rootBean );
 		result = 31 * result + System.identityHashCode( leafBeanInstance );
@@ -6,8 +6,12 @@
  */
 package org.hibernate.validator.internal.engine;
 
+import static org.hibernate.validator.internal.util.logging.Messages.MESSAGES;
+
 import java.util.Locale;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 import javax.validation.spi.BootstrapState;
 import javax.validation.spi.ConfigurationState;
@@ -15,6 +19,7 @@
 
 import org.hibernate.validator.PredefinedScopeHibernateValidatorConfiguration;
 import org.hibernate.validator.internal.util.CollectionHelper;
+import org.hibernate.validator.internal.util.Contracts;
 import org.hibernate.validator.metadata.BeanMetaDataClassNormalizer;
 
 /**
@@ -27,6 +32,10 @@ public class PredefinedScopeConfigurationImpl extends AbstractConfigurationImpl<
 
 	private BeanMetaDataClassNormalizer beanMetaDataClassNormalizer;
 
+	private boolean parallelBeanMetaDataInitialization;
+
+	private Executor beanMetaDataInitializationExecutor;
+
 	public PredefinedScopeConfigurationImpl(BootstrapState state) {
 		super( state );
 	}
@@ -60,4 +69,28 @@ public PredefinedScopeHibernateValidatorConfiguration beanMetaDataClassNormalize
 	public BeanMetaDataClassNormalizer getBeanMetaDataClassNormalizer() {
 		return beanMetaDataClassNormalizer;
 	}
+
+	@Override
+	public PredefinedScopeHibernateValidatorConfiguration parallelBeanMetaDataInitialization(boolean enabled) {
+		this.parallelBeanMetaDataInitialization = enabled;
+		return thisAsT();
+	}
+
+	@Override
+	public PredefinedScopeHibernateValidatorConfiguration beanMetaDataInitializationExecutor(Executor executor) {
+		Contracts.assertNotNull( executor, MESSAGES.parameterMustNotBeNull( "executor" ) );
+		this.beanMetaDataInitializationExecutor = executor;
+		return thisAsT();
+	}
+
+	/**
+	 * @return the executor used to initialize the bean metadata, {@code null} if the metadata are initialized
+	 * sequentially
+	 */
+	public Executor getBeanMetaDataInitializationExecutor() {
+		if ( !parallelBeanMetaDataInitialization ) {
+			return null;
+		}
+		return beanMetaDataInitializationExecutor != null ? beanMetaDataInitializationExecutor : ForkJoinPool.commonPool();
+	}
 }
@@ -13,6 +13,9 @@
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineConstraintValidatorPayload;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineExternalClassLoader;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineFailFast;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineLazyMessageInterpolation;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineParallelCascadingExecutor;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineParallelCascadingThreshold;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineScriptEvaluatorFactory;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineTemporalValidationTolerance;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineTraversableResolverResultCacheEnabled;
@@ -119,7 +122,10 @@ public PredefinedScopeValidatorFactoryImpl(ConfigurationState configurationState
 				determineScriptEvaluatorFactory( configurationState, properties, externalClassLoader ),
 				determineFailFast( hibernateSpecificConfig, properties ),
 				determineTraversableResolverResultCacheEnabled( hibernateSpecificConfig, properties ),
-				determineConstraintValidatorPayload( hibernateSpecificConfig )
+				determineConstraintValidatorPayload( hibernateSpecificConfig ),
+				determineParallelCascadingThreshold( hibernateSpecificConfig, properties ),
+				determineParallelCascadingExecutor( hibernateSpecificConfig ),
+				determineLazyMessageInterpolation( hibernateSpecificConfig, properties )
 		);
 
 		this.constraintValidatorManager = new PredefinedScopeConstraintValidatorManagerImpl(
@@ -139,7 +145,10 @@ public PredefinedScopeValidatorFactoryImpl(ConfigurationState configurationState
 				constraintValidatorManager, typeResolutionHelper, valueExtractorManager );
 
 		ExecutableHelper executableHelper = new ExecutableHelper( typeResolutionHelper );
-		JavaBeanHelper javaBeanHelper = new JavaBeanHelper( ValidatorFactoryConfigurationHelper.determineGetterPropertySelectionStrategy( hibernateSpecificConfig, properties, externalClassLoader ) );
+		JavaBeanHelper javaBeanHelper = new JavaBeanHelper(
+				ValidatorFactoryConfigurationHelper.determineGetterPropertySelectionStrategy( hibernateSpecificConfig, properties, externalClassLoader ),
+				ValidatorFactoryConfigurationHelper.determineMethodHandlePropertyAccessorsEnabled( hibernateSpecificConfig, properties )
+		);
 
 		// HV-302; don't load XmlMappingParser if not necessary
 		XmlMetaDataProvider xmlMetaDataProvider;
@@ -172,7 +181,8 @@ public PredefinedScopeValidatorFactoryImpl(ConfigurationState configurationState
 				buildMetaDataProviders( constraintCreationContext, xmlMetaDataProvider, constraintMappings ),
 				methodValidationConfiguration,
 				determineBeanMetaDataClassNormalizer( hibernateSpecificConfig ),
-				hibernateSpecificConfig.getBeanClassesToInitialize()
+				hibernateSpecificConfig.getBeanClassesToInitialize(),
+				hibernateSpecificConfig.getBeanMetaDataInitializationExecutor()
 		);
 
 		if ( LOG.isDebugEnabled() ) {
@@ -18,6 +18,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 
 import javax.validation.spi.ConfigurationState;
 
@@ -25,6 +26,7 @@
 import org.hibernate.validator.cfg.ConstraintMapping;
 import org.hibernate.validator.internal.cfg.context.DefaultConstraintMapping;
 import org.hibernate.validator.internal.engine.constraintdefinition.ConstraintDefinitionContribution;
+import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorManagerImpl;
 import org.hibernate.validator.internal.engine.scripting.DefaultScriptEvaluatorFactory;
 import org.hibernate.validator.internal.metadata.DefaultBeanMetaDataClassNormalizer;
 import org.hibernate.validator.internal.metadata.core.ConstraintHelper;
@@ -35,8 +37,10 @@
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
 import org.hibernate.validator.internal.util.privilegedactions.GetClassLoader;
+import org.hibernate.validator.internal.util.privilegedactions.GetInstancesFromServiceLoader;
 import org.hibernate.validator.internal.util.privilegedactions.LoadClass;
 import org.hibernate.validator.internal.util.privilegedactions.NewInstance;
+import org.hibernate.validator.metadata.BeanMetaDataCacheFactory;
 import org.hibernate.validator.metadata.BeanMetaDataClassNormalizer;
 import org.hibernate.validator.spi.cfg.ConstraintMappingContributor;
 import org.hibernate.validator.spi.properties.GetterPropertySelectionStrategy;
@@ -46,6 +50,8 @@ final class ValidatorFactoryConfigurationHelper {
 
 	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
 
+	private static final int DEFAULT_BEAN_METADATA_CACHE_MAX_SIZE = 1_000;
+
 	private ValidatorFactoryConfigurationHelper() {
 	}
 
@@ -57,6 +63,10 @@ static Set<DefaultConstraintMapping> determineConstraintMappings(TypeResolutionH
 			ConfigurationState configurationState, JavaBeanHelper javaBeanHelper, ClassLoader externalClassLoader) {
 		Set<DefaultConstraintMapping> constraintMappings = newHashSet();
 
+		// XML-defined constraint mapping contributors
+		List<ConstraintMappingContributor> contributors = determinePropertyConfiguredConstraintMappingContributors( configurationState.getProperties(),
+				externalClassLoader );
+
 		if ( configurationState instanceof ConfigurationImpl ) {
 			ConfigurationImpl hibernateConfiguration = (ConfigurationImpl) configurationState;
 
@@ -67,16 +77,32 @@ static Set<DefaultConstraintMapping> determineConstraintMappings(TypeResolutionH
 			constraintMappings.addAll( hibernateConfiguration.getProgrammaticMappings() );
 
 			// service loader based config
+			ClassLoader serviceLoaderClassLoader = externalClassLoader != null ? externalClassLoader : run( GetClassLoader.fromContext() );
 			ConstraintMappingContributor serviceLoaderBasedContributor = new ServiceLoaderBasedConstraintMappingContributor(
 					typeResolutionHelper,
-					externalClassLoader != null ? externalClassLoader : run( GetClassLoader.fromContext() ) );
+					serviceLoaderClassLoader );
 			DefaultConstraintMappingBuilder builder = new DefaultConstraintMappingBuilder( javaBeanHelper, constraintMappings );
 			serviceLoaderBasedContributor.createConstraintMappings( builder );
-		}
 
-		// XML-defined constraint mapping contributors
-		List<ConstraintMappingContributor> contributors = determinePropertyConfiguredConstraintMappingContributors( configurationState.getProperties(),
-				externalClassLoader );
+			// constraint mapping contributors registered via the service loader, e.g. the ones generated by the
+			// annotation processor; the lookup is costly so it is only done if explicitly enabled. A contributor also
+			// configured via the properties is only applied once as applying its mappings twice would lead to duplicate
+			// constraint definitions
+			if ( checkPropertiesForBoolean( configurationState.getProperties(),
+					HibernateValidatorConfiguration.ENABLE_CONSTRAINT_MAPPING_CONTRIBUTOR_DISCOVERY,
+					hibernateConfiguration.isConstraintMappingContributorDiscoveryEnabled() ) ) {
+				Set<Class<?>> contributorTypes = newHashSet( contributors.size() );
+				for ( ConstraintMappingContributor contributor : contributors ) {
+					contributorTypes.add( contributor.getClass() );
+				}
+				for ( ConstraintMappingContributor contributor : run( GetInstancesFromServiceLoader.action( serviceLoaderClassLoader,
+						ConstraintMappingContributor.class ) ) ) {
+					if ( !contributorTypes.contains( contributor.getClass() ) ) {
+						contributor.createConstraintMappings( builder );
+					}
+				}
+			}
+		}
 
 		for ( ConstraintMappingContributor contributor : contributors ) {
 			DefaultConstraintMappingBuilder builder = new DefaultConstraintMappingBuilder( javaBeanHelper, constraintMappings );
@@ -172,6 +198,48 @@ static boolean determineTraversableResolverResultCacheEnabled(AbstractConfigurat
 		);
 	}
 
+	static boolean determineMethodHandlePropertyAccessorsEnabled(AbstractConfigurationImpl<?> configuration, Map<String, String> properties) {
+		return checkPropertiesForBoolean(
+				properties,
+				HibernateValidatorConfiguration.ENABLE_METHOD_HANDLE_PROPERTY_ACCESSORS,
+				configuration != null ? configuration.isMethodHandlePropertyAccessorsEnabled() : false
+		);
+	}
+
+	static int determineParallelCascadingThreshold(AbstractConfigurationImpl<?> configuration, Map<String, String> properties) {
+		if ( configuration != null && configuration.getParallelCascadingThreshold() != null ) {
+			return configuration.getParallelCascadingThreshold();
+		}
+
+		String thresholdProperty = properties.get( HibernateValidatorConfiguration.PARALLEL_CASCADING_THRESHOLD );
+		if ( thresholdProperty != null ) {
+			try {
+				return Integer.parseInt( thresholdProperty.trim() );
+			}
+			catch (NumberFormatException e) {
+				throw LOG.getUnableToParseParallelCascadingThresholdException( thresholdProperty, e );
+			}
+		}
+
+		return 0;
+	}
+
+	static ForkJoinPool determineParallelCascadingExecutor(AbstractConfigurationImpl<?> configuration) {
+		if ( configuration != null && configuration.getParallelCascadingExecutor() != null ) {
+			return configuration.getParallelCascadingExecutor();
+		}
+
+		return ForkJoinPool.commonPool();
+	}
+
+	static boolean determineLazyMessageInterpolation(AbstractConfigurationImpl<?> configuration, Map<String, String> properties) {
+		return checkPropertiesForBoolean(
+				properties,
+				HibernateValidatorConfiguration.LAZY_MESSAGE_INTERPOLATION,
+				configuration != null ? configuration.isLazyMessageInterpolation() : false
+		);
+	}
+
 	static boolean determineFailFast(AbstractConfigurationImpl<?> configuration, Map<String, String> properties) {
 		// check whether fail fast is programmatically enabled
 		boolean tmpFailFast = configuration != null ? configuration.getFailFast() : false;
@@ -281,6 +349,64 @@ static GetterPropertySelectionStrategy determineGetterPropertySelectionStrategy(
 		return new DefaultGetterPropertySelectionStrategy();
 	}
 
+	static BeanMetaDataCacheFactory determineBeanMetaDataCacheFactory(AbstractConfigurationImpl<?> hibernateSpecificConfig, Map<String, String> properties,
+			ClassLoader externalClassLoader) {
+		if ( hibernateSpecificConfig != null && hibernateSpecificConfig.getBeanMetaDataCacheFactory() != null ) {
+			return hibernateSpecificConfig.getBeanMetaDataCacheFactory();
+		}
+
+		String beanMetaDataCacheProperty = properties.get( HibernateValidatorConfiguration.BEAN_METADATA_CACHE );
+		if ( beanMetaDataCacheProperty == null || "soft".equals( beanMetaDataCacheProperty.trim() ) ) {
+			return BeanMetaDataCacheFactory.soft();
+		}
+		if ( "strong".equals( beanMetaDataCacheProperty.trim() ) ) {
+			return BeanMetaDataCacheFactory.strong();
+		}
+		if ( "lru".equals( beanMetaDataCacheProperty.trim() ) ) {
+			return BeanMetaDataCacheFactory.boundedLru( determineBeanMetaDataCacheMaxSize( properties ) );
+		}
+
+		String beanMetaDataCacheFactoryFqcn = beanMetaDataCacheProperty.trim();
+		try {
+			@SuppressWarnings("unchecked")
+			Class<? extends BeanMetaDataCacheFactory> clazz = (Class<? extends BeanMetaDataCacheFactory>) run(
+					LoadClass.action( beanMetaDataCacheFactoryFqcn, externalClassLoader )
+			);
+			return run( NewInstance.action( clazz, "bean metadata cache factory class" ) );
+		}
+		catch (Exception e) {
+			throw LOG.getUnableToInstantiateBeanMetaDataCacheFactoryClassException( beanMetaDataCacheFactoryFqcn, e );
+		}
+	}
+
+	private static int determineBeanMetaDataCacheMaxSize(Map<String, String> properties) {
+		String maxSizeProperty = properties.get( HibernateValidatorConfiguration.BEAN_METADATA_CACHE_MAX_SIZE );
+		if ( maxSizeProperty != null ) {
+			try {
+				return Integer.parseInt( maxSizeProperty.trim() );
+			}
+			catch (NumberFormatException e) {
+				throw LOG.getUnableToParseBeanMetaDataCacheMaxSizeException( maxSizeProperty, e );
+			}
+		}
+
+		return DEFAULT_BEAN_METADATA_CACHE_MAX_SIZE;
+	}
+
+	static int determineConstraintValidatorCacheMaxFactories(Map<String, String> properties) {
+		String maxFactoriesProperty = properties.get( HibernateValidatorConfiguration.CONSTRAINT_VALIDATOR_CACHE_MAX_FACTORIES );
+		if ( maxFactoriesProperty != null ) {
+			try {
+				return Integer.parseInt( maxFactoriesProperty.trim() );
+			}
+			catch (NumberFormatException e) {
+				throw LOG.getUnableToParseConstraintValidatorCacheMaxFactoriesException( maxFactoriesProperty, e );
+			}
+		}
+
+		return ConstraintValidatorManagerImpl.DEFAULT_MAX_CACHED_NON_DEFAULT_CONSTRAINT_VALIDATOR_FACTORIES;
+	}
+
 	static BeanMetaDataClassNormalizer determineBeanMetaDataClassNormalizer(PredefinedScopeConfigurationImpl hibernateSpecificConfig) {
 		if ( hibernateSpecificConfig.getBeanMetaDataClassNormalizer() != null ) {
 			return hibernateSpecificConfig.getBeanMetaDataClassNormalizer();
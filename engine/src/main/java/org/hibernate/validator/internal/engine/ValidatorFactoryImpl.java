@@ -9,10 +9,15 @@
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineAllowMultipleCascadedValidationOnReturnValues;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineAllowOverridingMethodAlterParameterConstraint;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineAllowParallelMethodsDefineParameterConstraints;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineBeanMetaDataCacheFactory;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineConstraintMappings;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineConstraintValidatorCacheMaxFactories;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineConstraintValidatorPayload;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineExternalClassLoader;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineFailFast;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineLazyMessageInterpolation;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineParallelCascadingExecutor;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineParallelCascadingThreshold;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineScriptEvaluatorFactory;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineTemporalValidationTolerance;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineTraversableResolverResultCacheEnabled;
@@ -40,13 +45,14 @@
 
 import org.hibernate.validator.HibernateValidatorContext;
 import org.hibernate.validator.HibernateValidatorFactory;
+import org.hibernate.validator.constraintvalidation.ConstraintValidatorCacheStatistics;
 import org.hibernate.validator.internal.cfg.context.DefaultConstraintMapping;
-import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorManager;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorManagerImpl;
 import org.hibernate.validator.internal.engine.groups.ValidationOrderGenerator;
 import org.hibernate.validator.internal.engine.valueextraction.ValueExtractorManager;
 import org.hibernate.validator.internal.metadata.BeanMetaDataManager;
 import org.hibernate.validator.internal.metadata.BeanMetaDataManagerImpl;
+import org.hibernate.validator.internal.metadata.cache.BeanMetaDataCacheStatisticsImpl;
 import org.hibernate.validator.internal.metadata.core.ConstraintHelper;
 import org.hibernate.validator.internal.metadata.provider.MetaDataProvider;
 import org.hibernate.validator.internal.metadata.provider.ProgrammaticMetaDataProvider;
@@ -59,6 +65,8 @@
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
 import org.hibernate.validator.internal.util.stereotypes.Immutable;
 import org.hibernate.validator.internal.util.stereotypes.ThreadSafe;
+import org.hibernate.validator.metadata.BeanMetaDataCacheFactory;
+import org.hibernate.validator.metadata.BeanMetaDataCacheStatistics;
 import org.hibernate.validator.spi.properties.GetterPropertySelectionStrategy;
 import org.hibernate.validator.spi.scripting.ScriptEvaluatorFactory;
 
@@ -95,6 +103,11 @@ public class ValidatorFactoryImpl implements HibernateValidatorFactory {
 	 */
 	private final ConstraintCreationContext constraintCreationContext;
 
+	/**
+	 * The constraint validator manager of {@link #constraintCreationContext}, kept to expose its cache statistics.
+	 */
+	private final ConstraintValidatorManagerImpl constraintValidatorManager;
+
 	/**
 	 * Used for discovering overridden methods. Thread-safe.
 	 */
@@ -118,7 +131,12 @@ public class ValidatorFactoryImpl implements HibernateValidatorFactory {
 	 * provider. See also HV-659.
 	 */
 	@ThreadSafe
-	private final ConcurrentMap<BeanMetaDataManagerKey, BeanMetaDataManager> beanMetaDataManagers = new ConcurrentHashMap<>();
+	private final ConcurrentMap<BeanMetaDataManagerKey, BeanMetaDataManagerImpl> beanMetaDataManagers = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates the bean metadata caches of the bean metadata managers.
+	 */
+	private final BeanMetaDataCacheFactory beanMetaDataCacheFactory;
 
 	private final JavaBeanHelper javaBeanHelper;
 
@@ -152,16 +170,22 @@ public ValidatorFactoryImpl(ConfigurationState configurationState) {
 				determineScriptEvaluatorFactory( configurationState, properties, externalClassLoader ),
 				determineFailFast( hibernateSpecificConfig, properties ),
 				determineTraversableResolverResultCacheEnabled( hibernateSpecificConfig, properties ),
-				determineConstraintValidatorPayload( hibernateSpecificConfig )
+				determineConstraintValidatorPayload( hibernateSpecificConfig ),
+				determineParallelCascadingThreshold( hibernateSpecificConfig, properties ),
+				determineParallelCascadingExecutor( hibernateSpecificConfig ),
+				determineLazyMessageInterpolation( hibernateSpecificConfig, properties )
 		);
 
-		ConstraintValidatorManager constraintValidatorManager = new ConstraintValidatorManagerImpl(
+		this.constraintValidatorManager = new ConstraintValidatorManagerImpl(
 				configurationState.getConstraintValidatorFactory(),
-				this.validatorFactoryScopedContext.getConstraintValidatorInitializationContext()
+				this.validatorFactoryScopedContext.getConstraintValidatorInitializationContext(),
+				determineConstraintValidatorCacheMaxFactories( properties )
 		);
 
 		this.validationOrderGenerator = new ValidationOrderGenerator();
 
+		this.beanMetaDataCacheFactory = determineBeanMetaDataCacheFactory( hibernateSpecificConfig, properties, externalClassLoader );
+
 		ValueExtractorManager valueExtractorManager = new ValueExtractorManager( configurationState.getValueExtractors() );
 		ConstraintHelper constraintHelper = new ConstraintHelper();
 		TypeResolutionHelper typeResolutionHelper = new TypeResolutionHelper();
@@ -169,7 +193,10 @@ public ValidatorFactoryImpl(ConfigurationState configurationState) {
 		this.constraintCreationContext = new ConstraintCreationContext( constraintHelper, constraintValidatorManager, typeResolutionHelper, valueExtractorManager );
 
 		this.executableHelper = new ExecutableHelper( typeResolutionHelper );
-		this.javaBeanHelper = new JavaBeanHelper( ValidatorFactoryConfigurationHelper.determineGetterPropertySelectionStrategy( hibernateSpecificConfig, properties, externalClassLoader ) );
+		this.javaBeanHelper = new JavaBeanHelper(
+				ValidatorFactoryConfigurationHelper.determineGetterPropertySelectionStrategy( hibernateSpecificConfig, properties, externalClassLoader ),
+				ValidatorFactoryConfigurationHelper.determineMethodHandlePropertyAccessorsEnabled( hibernateSpecificConfig, properties )
+		);
 
 		// HV-302; don't load XmlMappingParser if not necessary
 		if ( configurationState.getMappingStreams().isEmpty() ) {
@@ -274,6 +301,20 @@ public <T> T unwrap(Class<T> type) {
 		throw LOG.getTypeNotSupportedForUnwrappingException( type );
 	}
 
+	@Override
+	public BeanMetaDataCacheStatistics getBeanMetaDataCacheStatistics() {
+		BeanMetaDataCacheStatisticsImpl statistics = new BeanMetaDataCacheStatisticsImpl( 0, 0, 0, 0, 0, 0 );
+		for ( BeanMetaDataManagerImpl beanMetaDataManager : beanMetaDataManagers.values() ) {
+			statistics = statistics.add( beanMetaDataManager.getBeanMetaDataCacheStatistics() );
+		}
+		return statistics;
+	}
+
+	@Override
+	public ConstraintValidatorCacheStatistics getConstraintValidatorCacheStatistics() {
+		return constraintValidatorManager.getConstraintValidatorCacheStatistics();
+	}
+
 	@Override
 	public HibernateValidatorContext usingContext() {
 		return new ValidatorContextImpl( this );
@@ -307,7 +348,8 @@ Validator createValidator(ConstraintValidatorFactory constraintValidatorFactory,
 						javaBeanHelper,
 						validationOrderGenerator,
 						buildMetaDataProviders(),
-						methodValidationConfiguration
+						methodValidationConfiguration,
+						beanMetaDataCacheFactory
 				)
 		);
 
@@ -7,6 +7,7 @@
 package org.hibernate.validator.internal.engine;
 
 import java.time.Duration;
+import java.util.concurrent.ForkJoinPool;
 
 import javax.validation.ClockProvider;
 import javax.validation.MessageInterpolator;
@@ -67,6 +68,22 @@ public class ValidatorFactoryScopedContext {
 	 */
 	private final Object constraintValidatorPayload;
 
+	/**
+	 * The minimal number of elements of a cascaded container for its elements to be validated in parallel. Parallel
+	 * cascading is disabled if lower or equal to 0.
+	 */
+	private final int parallelCascadingThreshold;
+
+	/**
+	 * The executor used to validate the elements of large cascaded containers in parallel.
+	 */
+	private final ForkJoinPool parallelCascadingExecutor;
+
+	/**
+	 * Hibernate Validator specific flag to interpolate the messages of the constraint violations lazily.
+	 */
+	private final boolean lazyMessageInterpolation;
+
 	/**
 	 * The constraint validator initialization context.
 	 */
@@ -80,9 +97,13 @@ public class ValidatorFactoryScopedContext {
 			ScriptEvaluatorFactory scriptEvaluatorFactory,
 			boolean failFast,
 			boolean traversableResolverResultCacheEnabled,
-			Object constraintValidatorPayload) {
+			Object constraintValidatorPayload,
+			int parallelCascadingThreshold,
+			ForkJoinPool parallelCascadingExecutor,
+			boolean lazyMessageInterpolation) {
 		this( messageInterpolator, traversableResolver, parameterNameProvider, clockProvider, temporalValidationTolerance, scriptEvaluatorFactory, failFast,
-				traversableResolverResultCacheEnabled, constraintValidatorPayload,
+				traversableResolverResultCacheEnabled, constraintValidatorPayload, parallelCascadingThreshold, parallelCascadingExecutor,
+				lazyMessageInterpolation,
 				new HibernateConstraintValidatorInitializationContextImpl( scriptEvaluatorFactory, clockProvider,
 						temporalValidationTolerance ) );
 	}
@@ -96,6 +117,9 @@ private ValidatorFactoryScopedContext(MessageInterpolator messageInterpolator,
 			boolean failFast,
 			boolean traversableResolverResultCacheEnabled,
 			Object constraintValidatorPayload,
+			int parallelCascadingThreshold,
+			ForkJoinPool parallelCascadingExecutor,
+			boolean lazyMessageInterpolation,
 			HibernateConstraintValidatorInitializationContextImpl constraintValidatorInitializationContext) {
 		this.messageInterpolator = messageInterpolator;
 		this.traversableResolver = traversableResolver;
@@ -106,6 +130,9 @@ private ValidatorFactoryScopedContext(MessageInterpolator messageInterpolator,
 		this.failFast = failFast;
 		this.traversableResolverResultCacheEnabled = traversableResolverResultCacheEnabled;
 		this.constraintValidatorPayload = constraintValidatorPayload;
+		this.parallelCascadingThreshold = parallelCascadingThreshold;
+		this.parallelCascadingExecutor = parallelCascadingExecutor;
+		this.lazyMessageInterpolation = lazyMessageInterpolation;
 		this.constraintValidatorInitializationContext = constraintValidatorInitializationContext;
 	}
 
@@ -145,6 +172,18 @@ public Object getConstraintValidatorPayload() {
 		return this.constraintValidatorPayload;
 	}
 
+	public int getParallelCascadingThreshold() {
+		return this.parallelCascadingThreshold;
+	}
+
+	public ForkJoinPool getParallelCascadingExecutor() {
+		return this.parallelCascadingExecutor;
+	}
+
+	public boolean isLazyMessageInterpolation() {
+		return this.lazyMessageInterpolation;
+	}
+
 	public HibernateConstraintValidatorInitializationContext getConstraintValidatorInitializationContext() {
 		return this.constraintValidatorInitializationContext;
 	}
@@ -161,6 +200,9 @@ static class Builder {
 		private boolean failFast;
 		private boolean traversableResolverResultCacheEnabled;
 		private Object constraintValidatorPayload;
+		private int parallelCascadingThreshold;
+		private ForkJoinPool parallelCascadingExecutor;
+		private boolean lazyMessageInterpolation;
 		private HibernateConstraintValidatorInitializationContextImpl constraintValidatorInitializationContext;
 
 		Builder(ValidatorFactoryScopedContext defaultContext) {
@@ -176,6 +218,9 @@ static class Builder {
 			this.failFast = defaultContext.failFast;
 			this.traversableResolverResultCacheEnabled = defaultContext.traversableResolverResultCacheEnabled;
 			this.constraintValidatorPayload = defaultContext.constraintValidatorPayload;
+			this.parallelCascadingThreshold = defaultContext.parallelCascadingThreshold;
+			this.parallelCascadingExecutor = defaultContext.parallelCascadingExecutor;
+			this.lazyMessageInterpolation = defaultContext.lazyMessageInterpolation;
 			this.constraintValidatorInitializationContext = defaultContext.constraintValidatorInitializationContext;
 		}
 
@@ -261,6 +306,9 @@ public ValidatorFactoryScopedContext build() {
 					failFast,
 					traversableResolverResultCacheEnabled,
 					constraintValidatorPayload,
+					parallelCascadingThreshold,
+					parallelCascadingExecutor,
+					lazyMessageInterpolation,
 					HibernateConstraintValidatorInitializationContextImpl.of(
 							constraintValidatorInitializationContext,
 							scriptEvaluatorFactory,
@@ -12,15 +12,27 @@
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
 import java.lang.reflect.Method;
+import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import javax.validation.ConstraintValidatorFactory;
 import javax.validation.ConstraintViolation;
@@ -33,6 +45,7 @@
 import javax.validation.metadata.BeanDescriptor;
 import javax.validation.valueextraction.ValueExtractor;
 
+import org.hibernate.validator.BatchValidator;
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorManager;
 import org.hibernate.validator.internal.engine.groups.Group;
@@ -57,6 +70,7 @@
 import org.hibernate.validator.internal.metadata.aggregated.BeanMetaData;
 import org.hibernate.validator.internal.metadata.aggregated.CascadingMetaData;
 import org.hibernate.validator.internal.metadata.aggregated.ContainerCascadingMetaData;
+import org.hibernate.validator.internal.metadata.aggregated.DefaultGroupValidationPlan;
 import org.hibernate.validator.internal.metadata.aggregated.ExecutableMetaData;
 import org.hibernate.validator.internal.metadata.aggregated.ParameterMetaData;
 import org.hibernate.validator.internal.metadata.aggregated.PropertyMetaData;
@@ -81,7 +95,7 @@
  * @author Kevin Pollet &lt;kevin.pollet@serli.com&gt; (C) 2011 SERLI
  * @author Guillaume Smet
  */
-public class ValidatorImpl implements Validator, ExecutableValidator {
+public class ValidatorImpl implements Validator, ExecutableValidator, BatchValidator {
 
 	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
 
@@ -90,6 +104,13 @@ public class ValidatorImpl implements Validator, ExecutableValidator {
 	 */
 	private static final Collection<Class<?>> DEFAULT_GROUPS = Collections.<Class<?>>singletonList( Default.class );
 
+	/**
+	 * The number of chunks per thread of the executor the elements of a container are split into when validated in
+	 * parallel. Having more chunks than threads helps balancing the load when the elements are not equally costly to
+	 * validate.
+	 */
+	private static final int PARALLEL_CASCADING_CHUNKS_PER_THREAD = 4;
+
 	/**
 	 * Used to resolve the group execution order for a validate call.
 	 */
@@ -159,9 +180,61 @@ public final <T> Set<ConstraintViolation<T>> validate(T object, Class<?>... grou
 			return Collections.emptySet();
 		}
 
-		BaseBeanValidationContext<T> validationContext = getValidationContextBuilder().forValidate( rootBeanClass, rootBeanMetaData, object );
+		return validateRootBean( getValidationContextBuilder(), rootBeanClass, rootBeanMetaData, object, determineGroupValidationOrder( groups ) );
+	}
+
+	@Override
+	public <T> Map<Integer, Set<ConstraintViolation<T>>> validateAll(Iterable<? extends T> objects, Class<?>... groups) {
+		Contracts.assertNotNull( objects, MESSAGES.parameterMustNotBeNull( "objects" ) );
+		sanityCheckGroups( groups );
+
+		BatchValidation<T> batchValidation = new BatchValidation<>( determineGroupValidationOrder( groups ) );
+		Map<Integer, Set<ConstraintViolation<T>>> violationsPerIndex = new LinkedHashMap<>();
+
+		int index = 0;
+		for ( T object : objects ) {
+			Set<ConstraintViolation<T>> violations = batchValidation.validate( object );
+			if ( !violations.isEmpty() ) {
+				violationsPerIndex.put( index, violations );
+			}
+			index++;
+		}
+
+		return violationsPerIndex;
+	}
+
+	@Override
+	public <T> Stream<Map.Entry<Integer, Set<ConstraintViolation<T>>>> validateAllAsStream(Iterable<? extends T> objects, Class<?>... groups) {
+		Contracts.assertNotNull( objects, MESSAGES.parameterMustNotBeNull( "objects" ) );
+		sanityCheckGroups( groups );
+
+		BatchValidation<T> batchValidation = new BatchValidation<>( determineGroupValidationOrder( groups ) );
+		Iterator<? extends T> iterator = objects.iterator();
+
+		return StreamSupport.stream( new Spliterators.AbstractSpliterator<Map.Entry<Integer, Set<ConstraintViolation<T>>>>(
+				Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL ) {
+
+			private int index;
+
+			@Override
+			public boolean tryAdvance(Consumer<? super Map.Entry<Integer, Set<ConstraintViolation<T>>>> action) {
+				while ( iterator.hasNext() ) {
+					Set<ConstraintViolation<T>> violations = batchValidation.validate( iterator.next() );
+					int currentIndex = index++;
+					if ( !violations.isEmpty() ) {
+						action.accept( new AbstractMap.SimpleImmutableEntry<>( currentIndex, violations ) );
+						return true;
+					}
+				}
+				return false;
+			}
+		}, false );
+	}
+
+	private <T> Set<ConstraintViolation<T>> validateRootBean(ValidationContextBuilder validationContextBuilder, Class<T> rootBeanClass,
+			BeanMetaData<T> rootBeanMetaData, T object, ValidationOrder validationOrder) {
+		BaseBeanValidationContext<T> validationContext = validationContextBuilder.forValidate( rootBeanClass, rootBeanMetaData, object );
 
-		ValidationOrder validationOrder = determineGroupValidationOrder( groups );
 		BeanValueContext<?, Object> valueContext = ValueContexts.getLocalExecutionContextForBean(
 				validatorScopedContext.getParameterNameProvider(),
 				object,
@@ -321,7 +394,7 @@ public final <T> T unwrap(Class<T> type) {
 		//allow unwrapping into public super types; intentionally not exposing the
 		//fact that ExecutableValidator is implemented by this class as well as this
 		//might change
-		if ( type.isAssignableFrom( Validator.class ) ) {
+		if ( type.isAssignableFrom( BatchValidator.class ) ) {
 			return type.cast( this );
 		}
 
@@ -333,6 +406,52 @@ public ExecutableValidator forExecutables() {
 		return this;
 	}
 
+	/**
+	 * The state shared by the validations of the objects of a batch: the validation order of the groups, resolved
+	 * once, and the metadata of the last validated type, as the objects of a batch are usually of the same type.
+	 */
+	private class BatchValidation<T> {
+
+		private final ValidationOrder validationOrder;
+
+		/**
+		 * The context builder shared by all the validations of the batch; {@code null} if the traversable resolver
+		 * has to be wrapped for each validation, as its cache is specific to a given validation.
+		 */
+		private final ValidationContextBuilder sharedValidationContextBuilder;
+
+		private Class<?> lastRootBeanClass;
+
+		private BeanMetaData<?> lastRootBeanMetaData;
+
+		private BatchValidation(ValidationOrder validationOrder) {
+			this.validationOrder = validationOrder;
+
+			TraversableResolver wrappedTraversableResolver = TraversableResolvers.wrapWithCachingForSingleValidation( traversableResolver,
+					validatorScopedContext.isTraversableResolverResultCacheEnabled() );
+			this.sharedValidationContextBuilder = wrappedTraversableResolver == traversableResolver ? getValidationContextBuilder() : null;
+		}
+
+		@SuppressWarnings("unchecked")
+		private Set<ConstraintViolation<T>> validate(T object) {
+			Contracts.assertNotNull( object, MESSAGES.validatedObjectMustNotBeNull() );
+
+			Class<T> rootBeanClass = (Class<T>) object.getClass();
+			if ( rootBeanClass != lastRootBeanClass ) {
+				lastRootBeanClass = rootBeanClass;
+				lastRootBeanMetaData = beanMetaDataManager.getBeanMetaData( rootBeanClass );
+			}
+			BeanMetaData<T> rootBeanMetaData = (BeanMetaData<T>) lastRootBeanMetaData;
+
+			if ( !rootBeanMetaData.hasConstraints() ) {
+				return Collections.emptySet();
+			}
+
+			return validateRootBean( sharedValidationContextBuilder != null ? sharedValidationContextBuilder : getValidationContextBuilder(),
+					rootBeanClass, rootBeanMetaData, object, validationOrder );
+		}
+	}
+
 	private ValidationContextBuilder getValidationContextBuilder() {
 		return new ValidationContextBuilder(
 				constraintValidatorManager,
@@ -453,6 +572,24 @@ private void validateConstraintsForCurrentGroup(BaseBeanValidationContext<?> val
 
 	private <U> void validateConstraintsForDefaultGroup(BaseBeanValidationContext<?> validationContext, BeanValueContext<U, Object> valueContext) {
 		final BeanMetaData<U> beanMetaData = valueContext.getCurrentBeanMetaData();
+
+		// fast path in case no class of the hierarchy redefines the default group sequence
+		DefaultGroupValidationPlan defaultGroupValidationPlan = beanMetaData.getDefaultGroupValidationPlan( beanMetaDataManager );
+		if ( defaultGroupValidationPlan.isApplicable() ) {
+			valueContext.setCurrentGroup( Group.DEFAULT_GROUP.getDefiningClass() );
+
+			MetaConstraint<?>[] metaConstraints = defaultGroupValidationPlan.getMetaConstraints();
+			for ( int i = 0; i < metaConstraints.length; i++ ) {
+				validateMetaConstraint( validationContext, valueContext, valueContext.getCurrentBean(), metaConstraints[i] );
+				if ( shouldFailFast( validationContext ) ) {
+					break;
+				}
+			}
+
+			validationContext.markCurrentBeanAsProcessed( valueContext );
+			return;
+		}
+
 		final Map<Class<?>, Class<?>> validatedInterfaces = new HashMap<>();
 
 		// evaluating the constraints of a bean per class in hierarchy, this is necessary to detect potential default group re-definitions
@@ -634,19 +771,100 @@ private void validateCascadedContainerElementsForCurrentGroup(Object value, Base
 				continue;
 			}
 
-			ValueExtractorDescriptor extractor = valueExtractorManager.getMaximallySpecificAndRuntimeContainerElementCompliantValueExtractor(
-					cascadingMetaData.getEnclosingType(),
-					cascadingMetaData.getTypeParameter(),
-					value.getClass(),
-					cascadingMetaData.getValueExtractorCandidates()
-			);
+			ValueExtractorDescriptor extractor = cascadingMetaData.getValueExtractor( valueExtractorManager, value.getClass() );
 
 			if ( extractor == null ) {
 				throw LOG.getNoValueExtractorFoundForTypeException( cascadingMetaData.getEnclosingType(), cascadingMetaData.getTypeParameter(), value.getClass() );
 			}
 
-			CascadingValueReceiver receiver = new CascadingValueReceiver( validationContext, valueContext, cascadingMetaData );
-			ValueExtractorHelper.extractValues( extractor, value, receiver );
+			if ( isParallelCascadingRequired( value ) ) {
+				validateCascadedContainerElementsInParallel( extractor, value, validationContext, valueContext, cascadingMetaData );
+			}
+			else {
+				CascadingValueReceiver receiver = new CascadingValueReceiver( validationContext, valueContext, cascadingMetaData );
+				ValueExtractorHelper.extractValues( extractor, value, receiver );
+			}
+		}
+	}
+
+	private boolean isParallelCascadingRequired(Object container) {
+		int parallelCascadingThreshold = validatorScopedContext.getParallelCascadingThreshold();
+		if ( parallelCascadingThreshold <= 0 ) {
+			return false;
+		}
+
+		int size;
+		if ( container instanceof Collection ) {
+			size = ( (Collection<?>) container ).size();
+		}
+		else if ( container instanceof Map ) {
+			size = ( (Map<?, ?>) container ).size();
+		}
+		else if ( container instanceof Object[] ) {
+			size = ( (Object[]) container ).length;
+		}
+		else {
+			return false;
+		}
+
+		return size >= parallelCascadingThreshold;
+	}
+
+	/**
+	 * Validates the elements of a large container by splitting them into chunks validated concurrently, each chunk
+	 * being validated in its own sub-context.
+	 * <p>
+	 * The sub-contexts are merged back in the order of the elements so that the result is the same as the one of a
+	 * sequential validation, fail fast mode included.
+	 */
+	private <T> void validateCascadedContainerElementsInParallel(ValueExtractorDescriptor extractor, Object value,
+			BaseBeanValidationContext<T> validationContext, ValueContext<?, ?> valueContext, ContainerCascadingMetaData cascadingMetaData) {
+		ExtractedValuesCollector collector = new ExtractedValuesCollector();
+		ValueExtractorHelper.extractValues( extractor, value, collector );
+
+		// the elements of non indexed containers (e.g. sets) share the same path: the tracking of the already
+		// validated beans depends on the order in which they are validated so we validate them sequentially
+		if ( !collector.hasDistinctPaths() ) {
+			collector.replay( new CascadingValueReceiver( validationContext, valueContext, cascadingMetaData ), 0, collector.size() );
+			return;
+		}
+
+		ForkJoinPool executor = validatorScopedContext.getParallelCascadingExecutor();
+		int numberOfChunks = Math.min( collector.size(), executor.getParallelism() * PARALLEL_CASCADING_CHUNKS_PER_THREAD );
+		int chunkSize = ( collector.size() + numberOfChunks - 1 ) / numberOfChunks;
+
+		AtomicInteger firstFailingChunk = new AtomicInteger( Integer.MAX_VALUE );
+		List<ParallelCascadingTask<T>> tasks = new ArrayList<>( numberOfChunks );
+		for ( int start = 0; start < collector.size(); start += chunkSize ) {
+			tasks.add( new ParallelCascadingTask<>(
+					tasks.size(),
+					validationContext.createSubContext( TraversableResolvers.wrapWithCachingForSingleValidation( traversableResolver,
+							validatorScopedContext.isTraversableResolverResultCacheEnabled() ) ),
+					ValueContexts.copyOf( valueContext ),
+					cascadingMetaData,
+					collector,
+					start,
+					Math.min( start + chunkSize, collector.size() ),
+					firstFailingChunk
+			) );
+		}
+
+		if ( ForkJoinTask.getPool() == executor ) {
+			ForkJoinTask.invokeAll( tasks );
+		}
+		else {
+			executor.invoke( ForkJoinTask.adapt( () -> ForkJoinTask.invokeAll( tasks ) ) );
+		}
+
+		for ( ParallelCascadingTask<T> task : tasks ) {
+			if ( task.failure != null ) {
+				throw task.failure;
+			}
+
+			validationContext.mergeSubContext( task.subContext );
+			if ( shouldFailFast( validationContext ) ) {
+				return;
+			}
 		}
 	}
 
@@ -727,6 +945,152 @@ private void doValidate(Object value, String nodeName) {
 		}
 	}
 
+	/**
+	 * Collects the values extracted from a container so that they can be validated later, possibly in parallel.
+	 */
+	private static class ExtractedValuesCollector implements ValueExtractor.ValueReceiver {
+
+		private final List<ExtractedValue> values = new ArrayList<>();
+
+		private boolean distinctPaths = true;
+
+		@Override
+		public void value(String nodeName, Object object) {
+			values.add( new ExtractedValue( ExtractedValueKind.VALUE, nodeName, null, null, object ) );
+			distinctPaths = false;
+		}
+
+		@Override
+		public void iterableValue(String nodeName, Object object) {
+			values.add( new ExtractedValue( ExtractedValueKind.ITERABLE, nodeName, null, null, object ) );
+			distinctPaths = false;
+		}
+
+		@Override
+		public void indexedValue(String nodeName, int index, Object object) {
+			values.add( new ExtractedValue( ExtractedValueKind.INDEXED, nodeName, index, null, object ) );
+		}
+
+		@Override
+		public void keyedValue(String nodeName, Object key, Object object) {
+			values.add( new ExtractedValue( ExtractedValueKind.KEYED, nodeName, null, key, object ) );
+		}
+
+		private int size() {
+			return values.size();
+		}
+
+		private boolean hasDistinctPaths() {
+			return distinctPaths;
+		}
+
+		private void replay(ValueExtractor.ValueReceiver receiver, int start, int end) {
+			for ( int i = start; i < end; i++ ) {
+				values.get( i ).replay( receiver );
+			}
+		}
+
+		private void replay(ValueExtractor.ValueReceiver receiver, int index) {
+			values.get( index ).replay( receiver );
+		}
+	}
+
+	private enum ExtractedValueKind {
+		VALUE,
+		ITERABLE,
+		INDEXED,
+		KEYED
+	}
+
+	private static class ExtractedValue {
+
+		private final ExtractedValueKind kind;
+		private final String nodeName;
+		private final Integer index;
+		private final Object key;
+		private final Object value;
+
+		private ExtractedValue(ExtractedValueKind kind, String nodeName, Integer index, Object key, Object value) {
+			this.kind = kind;
+			this.nodeName = nodeName;
+			this.index = index;
+			this.key = key;
+			this.value = value;
+		}
+
+		private void replay(ValueExtractor.ValueReceiver receiver) {
+			switch ( kind ) {
+				case VALUE:
+					receiver.value( nodeName, value );
+					break;
+				case ITERABLE:
+					receiver.iterableValue( nodeName, value );
+					break;
+				case INDEXED:
+					receiver.indexedValue( nodeName, index, value );
+					break;
+				case KEYED:
+					receiver.keyedValue( nodeName, key, value );
+					break;
+				default:
+					throw new IllegalStateException( "Unknown extracted value kind " + kind );
+			}
+		}
+	}
+
+	/**
+	 * Validates a chunk of the elements of a container in its own sub-context.
+	 */
+	private class ParallelCascadingTask<T> extends RecursiveAction {
+
+		private final int chunkIndex;
+		private final BaseBeanValidationContext<T> subContext;
+		private final ValueContext<?, ?> valueContext;
+		private final ContainerCascadingMetaData cascadingMetaData;
+		private final ExtractedValuesCollector values;
+		private final int start;
+		private final int end;
+		private final AtomicInteger firstFailingChunk;
+
+		private RuntimeException failure;
+
+		private ParallelCascadingTask(int chunkIndex, BaseBeanValidationContext<T> subContext, ValueContext<?, ?> valueContext,
+				ContainerCascadingMetaData cascadingMetaData, ExtractedValuesCollector values, int start, int end, AtomicInteger firstFailingChunk) {
+			this.chunkIndex = chunkIndex;
+			this.subContext = subContext;
+			this.valueContext = valueContext;
+			this.cascadingMetaData = cascadingMetaData;
+			this.values = values;
+			this.start = start;
+			this.end = end;
+			this.firstFailingChunk = firstFailingChunk;
+		}
+
+		@Override
+		protected void compute() {
+			try {
+				CascadingValueReceiver receiver = new CascadingValueReceiver( subContext, valueContext, cascadingMetaData );
+				for ( int i = start; i < end; i++ ) {
+					// in fail fast mode, the result of this chunk is discarded if a previous chunk failed
+					if ( firstFailingChunk.get() < chunkIndex ) {
+						return;
+					}
+
+					values.replay( receiver, i );
+
+					if ( shouldFailFast( subContext ) ) {
+						firstFailingChunk.accumulateAndGet( chunkIndex, Math::min );
+						return;
+					}
+				}
+			}
+			catch (RuntimeException e) {
+				// the exception is rethrown by the calling thread to keep its original type and message
+				failure = e;
+			}
+		}
+	}
+
 	private void validateCascadedContainerElementsInContext(Object value, BaseBeanValidationContext<?> validationContext, ValueContext<?, ?> valueContext,
 			ContainerCascadingMetaData cascadingMetaData, ValidationOrder validationOrder) {
 		Iterator<Group> groupIterator = validationOrder.getGroupIterator();
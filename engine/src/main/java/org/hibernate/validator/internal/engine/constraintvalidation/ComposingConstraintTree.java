@@ -15,8 +15,8 @@
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
 import java.util.stream.Collectors;
 
 import javax.validation.ConstraintValidator;
@@ -64,17 +64,45 @@ private <U extends Annotation> ConstraintTree<U> createConstraintTree(Constraint
 	}
 
 	@Override
-	protected void validateConstraints(ValidationContext<?> validationContext,
-			ValueContext<?, ?> valueContext,
-			Collection<ConstraintValidatorContextImpl> violatedConstraintValidatorContexts) {
-		CompositionResult compositionResult = validateComposingConstraints(
-				validationContext, valueContext, violatedConstraintValidatorContexts
-		);
+	protected Collection<ConstraintValidatorContextImpl> collectViolatedConstraintValidatorContexts(ValidationContext<?> validationContext,
+			ValueContext<?, ?> valueContext) {
+		// the list of the violated constraint validator contexts and the composition result are only materialized
+		// when needed so that validating a valid value does not allocate anything
+		List<ConstraintValidatorContextImpl> violatedConstraintValidatorContexts = null;
+		boolean allTrue = true;
+		boolean atLeastOneTrue = false;
+
+		// Validates all composing constraints recursively
+		for ( ConstraintTree<?> tree : children ) {
+			Collection<ConstraintValidatorContextImpl> childViolatedConstraintValidatorContexts = tree.collectViolatedConstraintValidatorContexts(
+					validationContext, valueContext
+			);
 
-		Optional<ConstraintValidatorContextImpl> violatedLocalConstraintValidatorContext;
+			if ( childViolatedConstraintValidatorContexts.isEmpty() ) {
+				atLeastOneTrue = true;
+				// no need to further validate constraints, because at least one validation passed
+				if ( descriptor.getCompositionType() == OR ) {
+					break;
+				}
+			}
+			else {
+				if ( violatedConstraintValidatorContexts == null ) {
+					violatedConstraintValidatorContexts = new ArrayList<>( 5 );
+				}
+				violatedConstraintValidatorContexts.addAll( childViolatedConstraintValidatorContexts );
+
+				allTrue = false;
+				if ( descriptor.getCompositionType() == AND
+						&& ( validationContext.isFailFastModeEnabled() || descriptor.isReportAsSingleViolation() ) ) {
+					break;
+				}
+			}
+		}
+
+		ConstraintValidatorContextImpl violatedLocalConstraintValidatorContext = null;
 
 		// After all children are validated the actual ConstraintValidator of the constraint itself is executed
-		if ( mainConstraintNeedsEvaluation( validationContext, violatedConstraintValidatorContexts ) ) {
+		if ( mainConstraintNeedsEvaluation( validationContext, violatedConstraintValidatorContexts != null ) ) {
 
 			if ( LOG.isTraceEnabled() ) {
 				LOG.tracef(
@@ -92,41 +120,33 @@ protected void validateConstraints(ValidationContext<?> validationContext,
 					descriptor, valueContext.getPropertyPath()
 			);
 
-			// validate
-			violatedLocalConstraintValidatorContext = validateSingleConstraint(
-					valueContext,
-					constraintValidatorContext,
-					validator
-			);
-
-			// We re-evaluate the boolean composition by taking into consideration also the violations
+			// validate and re-evaluate the boolean composition by taking into consideration also the violations
 			// from the local constraintValidator
-			if ( !violatedLocalConstraintValidatorContext.isPresent() ) {
-				compositionResult.setAtLeastOneTrue( true );
+			if ( validateSingleConstraint( valueContext, constraintValidatorContext, validator ) ) {
+				atLeastOneTrue = true;
 			}
 			else {
-				compositionResult.setAllTrue( false );
+				allTrue = false;
+				violatedLocalConstraintValidatorContext = constraintValidatorContext;
 			}
 		}
-		else {
-			violatedLocalConstraintValidatorContext = Optional.empty();
-		}
 
-		if ( !passesCompositionTypeRequirement( violatedConstraintValidatorContexts, compositionResult ) ) {
-			prepareFinalConstraintViolations(
-					validationContext, valueContext, violatedConstraintValidatorContexts, violatedLocalConstraintValidatorContext
-			);
+		if ( passesCompositionTypeRequirement( violatedConstraintValidatorContexts, allTrue, atLeastOneTrue ) ) {
+			return Collections.emptyList();
 		}
+
+		return prepareFinalConstraintViolations(
+				validationContext, valueContext, violatedConstraintValidatorContexts, violatedLocalConstraintValidatorContext
+		);
 	}
 
-	private boolean mainConstraintNeedsEvaluation(ValidationContext<?> validationContext,
-			Collection<ConstraintValidatorContextImpl> violatedConstraintValidatorContexts) {
+	private boolean mainConstraintNeedsEvaluation(ValidationContext<?> validationContext, boolean hasViolatedComposingConstraints) {
 		// we are dealing with a composing constraint with no validator for the main constraint
 		if ( !descriptor.getComposingConstraints().isEmpty() && descriptor.getMatchingConstraintValidatorDescriptors().isEmpty() ) {
 			return false;
 		}
 
-		if ( violatedConstraintValidatorContexts.isEmpty() ) {
+		if ( !hasViolatedComposingConstraints ) {
 			return true;
 		}
 
@@ -149,97 +169,62 @@ private boolean mainConstraintNeedsEvaluation(ValidationContext<?> validationCon
 	 *
 	 * @param validationContext meta data about top level validation
 	 * @param valueContext meta data for currently validated value
-	 * @param violatedConstraintValidatorContexts used to accumulate constraint validator contexts that cause constraint violations
-	 * @param localConstraintValidatorContext an optional of constraint violations of top level constraint
+	 * @param violatedConstraintValidatorContexts the constraint validator contexts of the composing constraints that
+	 * cause constraint violations, might be {@code null}
+	 * @param localConstraintValidatorContext the constraint validator context of the top level constraint if it caused
+	 * constraint violations, {@code null} otherwise
+	 *
+	 * @return the constraint validator contexts that cause constraint violations
 	 */
-	private void prepareFinalConstraintViolations(ValidationContext<?> validationContext,
+	private Collection<ConstraintValidatorContextImpl> prepareFinalConstraintViolations(ValidationContext<?> validationContext,
 			ValueContext<?, ?> valueContext,
-			Collection<ConstraintValidatorContextImpl> violatedConstraintValidatorContexts,
-			Optional<ConstraintValidatorContextImpl> localConstraintValidatorContext) {
+			List<ConstraintValidatorContextImpl> violatedConstraintValidatorContexts,
+			ConstraintValidatorContextImpl localConstraintValidatorContext) {
 		if ( reportAsSingleViolation() ) {
-			// We clear the current violations list anyway
-			violatedConstraintValidatorContexts.clear();
-
+			// We ignore the violations of the composing constraints anyway
 			// But then we need to distinguish whether the local ConstraintValidator has reported
 			// violations or not (or if there is no local ConstraintValidator at all).
 			// If not we create a violation
 			// using the error message in the annotation declaration at top level.
-			if ( !localConstraintValidatorContext.isPresent() ) {
-				violatedConstraintValidatorContexts.add(
+			if ( localConstraintValidatorContext == null ) {
+				return Collections.singletonList(
 						validationContext.createConstraintValidatorContextFor(
 								descriptor, valueContext.getPropertyPath()
 						)
 				);
 			}
+			return Collections.singletonList( localConstraintValidatorContext );
 		}
 
 		// Now, if there were some violations reported by
 		// the local ConstraintValidator, they need to be added to constraintViolations.
-		// Whether we need to report them as a single constraint or just add them to the other violations
-		// from the composing constraints, has been taken care of in the previous conditional block.
 		// This takes also care of possible custom error messages created by the constraintValidator,
 		// as checked in test CustomErrorMessage.java
-		// If no violations have been reported from the local ConstraintValidator, or no such validator exists,
-		// then we just add an empty list.
-		if ( localConstraintValidatorContext.isPresent() ) {
-			violatedConstraintValidatorContexts.add( localConstraintValidatorContext.get() );
+		if ( localConstraintValidatorContext == null ) {
+			return violatedConstraintValidatorContexts != null ? violatedConstraintValidatorContexts : Collections.emptyList();
 		}
-	}
-
-	/**
-	 * Validates all composing constraints recursively.
-	 *
-	 * @param validationContext Meta data about top level validation
-	 * @param valueContext Meta data for currently validated value
-	 * @param violatedConstraintValidatorContexts Used to accumulate constraint validator contexts that cause constraint violations
-	 *
-	 * @return Returns an instance of {@code CompositionResult} relevant for boolean composition of constraints
-	 */
-	private CompositionResult validateComposingConstraints(ValidationContext<?> validationContext,
-			ValueContext<?, ?> valueContext,
-			Collection<ConstraintValidatorContextImpl> violatedConstraintValidatorContexts) {
-		CompositionResult compositionResult = new CompositionResult( true, false );
-		for ( ConstraintTree<?> tree : children ) {
-			List<ConstraintValidatorContextImpl> tmpConstraintValidatorContexts = new ArrayList<>( 5 );
-			tree.validateConstraints( validationContext, valueContext, tmpConstraintValidatorContexts );
-			violatedConstraintValidatorContexts.addAll( tmpConstraintValidatorContexts );
-
-			if ( tmpConstraintValidatorContexts.isEmpty() ) {
-				compositionResult.setAtLeastOneTrue( true );
-				// no need to further validate constraints, because at least one validation passed
-				if ( descriptor.getCompositionType() == OR ) {
-					break;
-				}
-			}
-			else {
-				compositionResult.setAllTrue( false );
-				if ( descriptor.getCompositionType() == AND
-						&& ( validationContext.isFailFastModeEnabled() || descriptor.isReportAsSingleViolation() ) ) {
-					break;
-				}
-			}
+		if ( violatedConstraintValidatorContexts == null ) {
+			return Collections.singletonList( localConstraintValidatorContext );
 		}
-		return compositionResult;
+		violatedConstraintValidatorContexts.add( localConstraintValidatorContext );
+		return violatedConstraintValidatorContexts;
 	}
 
-	private boolean passesCompositionTypeRequirement(Collection<?> constraintViolations, CompositionResult compositionResult) {
+	private boolean passesCompositionTypeRequirement(Collection<?> constraintViolations, boolean allTrue, boolean atLeastOneTrue) {
 		CompositionType compositionType = getDescriptor().getCompositionType();
 		boolean passedValidation = false;
 		switch ( compositionType ) {
 			case OR:
-				passedValidation = compositionResult.isAtLeastOneTrue();
+				passedValidation = atLeastOneTrue;
 				break;
 			case AND:
-				passedValidation = compositionResult.isAllTrue();
+				passedValidation = allTrue;
 				break;
 			case ALL_FALSE:
-				passedValidation = !compositionResult.isAtLeastOneTrue();
+				passedValidation = !atLeastOneTrue;
 				break;
 		}
-		assert ( !passedValidation || !( compositionType == AND ) || constraintViolations.isEmpty() );
-		if ( passedValidation ) {
-			constraintViolations.clear();
-		}
+		assert ( !passedValidation || !( compositionType == AND ) || constraintViolations == null );
 		return passedValidation;
 	}
 
@@ -252,31 +237,4 @@ private boolean reportAsSingleViolation() {
 		return getDescriptor().isReportAsSingleViolation()
 				|| getDescriptor().getCompositionType() == ALL_FALSE;
 	}
-
-	private static final class CompositionResult {
-
-		private boolean allTrue;
-		private boolean atLeastOneTrue;
-
-		CompositionResult(boolean allTrue, boolean atLeastOneTrue) {
-			this.allTrue = allTrue;
-			this.atLeastOneTrue = atLeastOneTrue;
-		}
-
-		public boolean isAllTrue() {
-			return allTrue;
-		}
-
-		public boolean isAtLeastOneTrue() {
-			return atLeastOneTrue;
-		}
-
-		public void setAllTrue(boolean allTrue) {
-			this.allTrue = allTrue;
-		}
-
-		public void setAtLeastOneTrue(boolean atLeastOneTrue) {
-			this.atLeastOneTrue = atLeastOneTrue;
-		}
-	}
 }
@@ -8,16 +8,17 @@
 
 import java.lang.annotation.Annotation;
 import java.lang.invoke.MethodHandles;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Type;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.List;
-import java.util.Optional;
 
 import javax.validation.ConstraintDeclarationException;
 import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorFactory;
 import javax.validation.ValidationException;
 
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
 import org.hibernate.validator.internal.engine.valuecontext.ValueContext;
 import org.hibernate.validator.internal.engine.validationcontext.ValidationContext;
 import org.hibernate.validator.internal.metadata.descriptor.ConstraintDescriptorImpl;
@@ -48,6 +49,12 @@
 
 	private volatile ConstraintValidator<A, ?> defaultInitializedConstraintValidator;
 
+	/**
+	 * Inline cache of the constraint validators initialized with the non default constraint validator factories and
+	 * initialization contexts, e.g. by the validators obtained via {@code ValidatorFactory#usingContext()}.
+	 */
+	private volatile NonDefaultInitializedConstraintValidators nonDefaultInitializedConstraintValidators = NonDefaultInitializedConstraintValidators.EMPTY;
+
 	protected ConstraintTree(ConstraintValidatorManager constraintValidatorManager, ConstraintDescriptorImpl<A> descriptor, Type validatedValueType) {
 		this.descriptor = descriptor;
 		this.validatedValueType = validatedValueType;
@@ -71,22 +78,34 @@ public static <U extends Annotation> ConstraintTree<U> of(ConstraintValidatorMan
 	}
 
 	public final boolean validateConstraints(ValidationContext<?> validationContext, ValueContext<?, ?> valueContext) {
-		List<ConstraintValidatorContextImpl> violatedConstraintValidatorContexts = new ArrayList<>( 5 );
-		validateConstraints( validationContext, valueContext, violatedConstraintValidatorContexts );
-		if ( !violatedConstraintValidatorContexts.isEmpty() ) {
-			for ( ConstraintValidatorContextImpl constraintValidatorContext : violatedConstraintValidatorContexts ) {
-				for ( ConstraintViolationCreationContext constraintViolationCreationContext : constraintValidatorContext.getConstraintViolationCreationContexts() ) {
-					validationContext.addConstraintFailure(
-							valueContext, constraintViolationCreationContext, constraintValidatorContext.getConstraintDescriptor()
-					);
-				}
+		Collection<ConstraintValidatorContextImpl> violatedConstraintValidatorContexts = collectViolatedConstraintValidatorContexts(
+				validationContext, valueContext
+		);
+		if ( violatedConstraintValidatorContexts.isEmpty() ) {
+			return true;
+		}
+
+		for ( ConstraintValidatorContextImpl constraintValidatorContext : violatedConstraintValidatorContexts ) {
+			for ( ConstraintViolationCreationContext constraintViolationCreationContext : constraintValidatorContext.getConstraintViolationCreationContexts() ) {
+				validationContext.addConstraintFailure(
+						valueContext, constraintViolationCreationContext, constraintValidatorContext.getConstraintDescriptor()
+				);
 			}
-			return false;
 		}
-		return true;
+		return false;
 	}
 
-	protected abstract void validateConstraints(ValidationContext<?> validationContext, ValueContext<?, ?> valueContext, Collection<ConstraintValidatorContextImpl> violatedConstraintValidatorContexts);
+	/**
+	 * Validates the constraints of this tree.
+	 * <p>
+	 * This is the hot path of the validation so implementations should not allocate anything besides the constraint
+	 * validator context when the value is valid: an empty collection is returned in this case.
+	 *
+	 * @return the constraint validator contexts causing constraint violations, an empty collection if the value is
+	 * valid
+	 */
+	protected abstract Collection<ConstraintValidatorContextImpl> collectViolatedConstraintValidatorContexts(ValidationContext<?> validationContext,
+			ValueContext<?, ?> valueContext);
 
 	public final ConstraintDescriptorImpl<A> getDescriptor() {
 		return descriptor;
@@ -145,16 +164,7 @@ private ValidationException getExceptionForNullValidator(Type validatedValueType
 				}
 			}
 			else {
-				// For now, we don't cache the result in the ConstraintTree if we don't use the default constraint validator
-				// factory. Creating a lot of CHM for that cache might not be a good idea and we prefer being conservative
-				// for now. Note that we have the ConstraintValidatorManager cache that mitigates the situation.
-				// If you come up with a use case where it makes sense, please reach out to us.
-				validator = validationContext.getConstraintValidatorManager().getInitializedValidator(
-						validatedValueType,
-						descriptor,
-						validationContext.getConstraintValidatorFactory(),
-						validationContext.getConstraintValidatorInitializationContext()
-				);
+				validator = getNonDefaultInitializedConstraintValidator( validationContext );
 			}
 		}
 
@@ -166,18 +176,59 @@ private ValidationException getExceptionForNullValidator(Type validatedValueType
 	}
 
 	/**
-	 * @return an {@link Optional#empty()} if there is no violation or a corresponding {@link ConstraintValidatorContextImpl}
-	 * 		otherwise.
+	 * Returns the constraint validator initialized with the non default constraint validator factory and
+	 * initialization context of the validation context.
+	 * <p>
+	 * We don't want to allocate a map per tree so the constraint validators are kept in a small inline cache compared
+	 * by identity, falling back to the {@link ConstraintValidatorManager} cache. An entry of the inline cache is
+	 * discarded when the manager releases the constraint validators of its factory and initialization context.
+	 */
+	@SuppressWarnings("unchecked")
+	private ConstraintValidator<A, ?> getNonDefaultInitializedConstraintValidator(ValidationContext<?> validationContext) {
+		ConstraintValidatorManager constraintValidatorManager = validationContext.getConstraintValidatorManager();
+		ConstraintValidatorFactory constraintValidatorFactory = validationContext.getConstraintValidatorFactory();
+		HibernateConstraintValidatorInitializationContext initializationContext = validationContext.getConstraintValidatorInitializationContext();
+
+		NonDefaultInitializedConstraintValidators validators = nonDefaultInitializedConstraintValidators;
+
+		ConstraintValidator<?, ?> cachedValidator = validators.get( constraintValidatorFactory, initializationContext );
+		if ( cachedValidator != null ) {
+			return (ConstraintValidator<A, ?>) cachedValidator;
+		}
+
+		// the handle has to be obtained before the constraint validator so that a concurrent release is not missed
+		ConstraintValidatorCacheHandle cacheHandle = validators.isFull() ? null
+				: constraintValidatorManager.getConstraintValidatorCacheHandle( constraintValidatorFactory, initializationContext );
+
+		ConstraintValidator<A, ?> validator = constraintValidatorManager.getInitializedValidator(
+				validatedValueType,
+				descriptor,
+				constraintValidatorFactory,
+				initializationContext
+		);
+
+		if ( validator != null && cacheHandle != null ) {
+			NonDefaultInitializedConstraintValidators newValidators = validators.with( constraintValidatorFactory, initializationContext,
+					cacheHandle, validator );
+			if ( newValidators != validators ) {
+				nonDefaultInitializedConstraintValidators = newValidators;
+			}
+		}
+
+		return validator;
+	}
+
+	/**
+	 * @return {@code true} if the value is valid for the given validator, {@code false} otherwise
 	 */
-	protected final <V> Optional<ConstraintValidatorContextImpl> validateSingleConstraint(
+	protected final <V> boolean validateSingleConstraint(
 			ValueContext<?, ?> valueContext,
 			ConstraintValidatorContextImpl constraintValidatorContext,
 			ConstraintValidator<A, V> validator) {
-		boolean isValid;
 		try {
 			@SuppressWarnings("unchecked")
 			V validatedValue = (V) valueContext.getCurrentValidatedValue();
-			isValid = validator.isValid( validatedValue, constraintValidatorContext );
+			return validator.isValid( validatedValue, constraintValidatorContext );
 		}
 		catch (RuntimeException e) {
 			if ( e instanceof ConstraintDeclarationException ) {
@@ -185,12 +236,6 @@ protected final <V> Optional<ConstraintValidatorContextImpl> validateSingleConst
 			}
 			throw LOG.getExceptionDuringIsValidCallException( e );
 		}
-		if ( !isValid ) {
-			//We do not add these violations yet, since we don't know how they are
-			//going to influence the final boolean evaluation
-			return Optional.of( constraintValidatorContext );
-		}
-		return Optional.empty();
 	}
 
 	@Override
@@ -202,4 +247,98 @@ public String toString() {
 		return sb.toString();
 	}
 
+	/**
+	 * An immutable inline cache of the constraint validators initialized with non default constraint validator factories
+	 * and initialization contexts.
+	 * <p>
+	 * Only a few entries are kept: if more combinations are used, we consider the cache as megamorphic and simply use
+	 * the {@link ConstraintValidatorManager} cache for the other ones.
+	 * <p>
+	 * Each entry keeps the {@link ConstraintValidatorCacheHandle} of its factory and initialization context: an entry
+	 * is only used as long as the manager did not release its constraint validators. Everything is weakly referenced as
+	 * the {@link ConstraintValidatorManager} does not notify the trees when it drops the entries of a garbage collected
+	 * factory: the stale entries are removed when a new entry is added.
+	 */
+	private static final class NonDefaultInitializedConstraintValidators {
+
+		private static final int MAX_ENTRIES = 4;
+
+		private static final int ENTRY_LENGTH = 4;
+
+		private static final NonDefaultInitializedConstraintValidators EMPTY = new NonDefaultInitializedConstraintValidators( new WeakReference<?>[0] );
+
+		/**
+		 * The weak references to the constraint validator factories, initialization contexts, constraint validators and
+		 * cache handles, stored in sequence.
+		 */
+		private final WeakReference<?>[] entries;
+
+		private NonDefaultInitializedConstraintValidators(WeakReference<?>[] entries) {
+			this.entries = entries;
+		}
+
+		private ConstraintValidator<?, ?> get(ConstraintValidatorFactory constraintValidatorFactory,
+				HibernateConstraintValidatorInitializationContext initializationContext) {
+			for ( int i = 0; i < entries.length; i += ENTRY_LENGTH ) {
+				if ( entries[i].get() == constraintValidatorFactory && entries[i + 1].get() == initializationContext ) {
+					return isReleased( i ) ? null : (ConstraintValidator<?, ?>) entries[i + 2].get();
+				}
+			}
+			return null;
+		}
+
+		private boolean isFull() {
+			return countLiveEntries() >= MAX_ENTRIES;
+		}
+
+		/**
+		 * @return a new cache containing the given constraint validator or this cache if it cannot be added
+		 */
+		private NonDefaultInitializedConstraintValidators with(ConstraintValidatorFactory constraintValidatorFactory,
+				HibernateConstraintValidatorInitializationContext initializationContext, ConstraintValidatorCacheHandle cacheHandle,
+				ConstraintValidator<?, ?> validator) {
+			int liveEntries = countLiveEntries();
+			if ( liveEntries >= MAX_ENTRIES ) {
+				return this;
+			}
+
+			// the stale entries are dropped
+			WeakReference<?>[] newEntries = new WeakReference<?>[( liveEntries + 1 ) * ENTRY_LENGTH];
+			int length = 0;
+			for ( int i = 0; i < entries.length && length < liveEntries * ENTRY_LENGTH; i += ENTRY_LENGTH ) {
+				if ( isLive( i ) ) {
+					System.arraycopy( entries, i, newEntries, length, ENTRY_LENGTH );
+					length += ENTRY_LENGTH;
+				}
+			}
+
+			newEntries[length] = new WeakReference<>( constraintValidatorFactory );
+			newEntries[length + 1] = new WeakReference<>( initializationContext );
+			newEntries[length + 2] = new WeakReference<>( validator );
+			newEntries[length + 3] = new WeakReference<>( cacheHandle );
+			length += ENTRY_LENGTH;
+
+			// an entry might have become stale in the meantime
+			return new NonDefaultInitializedConstraintValidators( length == newEntries.length ? newEntries : Arrays.copyOf( newEntries, length ) );
+		}
+
+		private int countLiveEntries() {
+			int count = 0;
+			for ( int i = 0; i < entries.length; i += ENTRY_LENGTH ) {
+				if ( isLive( i ) ) {
+					count++;
+				}
+			}
+			return count;
+		}
+
+		private boolean isLive(int index) {
+			return entries[index].get() != null && entries[index + 1].get() != null && entries[index + 2].get() != null && !isReleased( index );
+		}
+
+		private boolean isReleased(int index) {
+			ConstraintValidatorCacheHandle cacheHandle = (ConstraintValidatorCacheHandle) entries[index + 3].get();
+			return cacheHandle == null || cacheHandle.isReleased();
+		}
+	}
 }
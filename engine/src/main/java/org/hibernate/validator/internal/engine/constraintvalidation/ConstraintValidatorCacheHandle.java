@@ -0,0 +1,26 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.engine.constraintvalidation;
+
+/**
+ * A handle on the cached constraint validators initialized with a given constraint validator factory and
+ * initialization context, allowing to know whether the {@link ConstraintValidatorManager} released them.
+ *
+ * @author Guillaume Smet
+ */
+public interface ConstraintValidatorCacheHandle {
+
+	/**
+	 * Handle of constraint validators which are never released.
+	 */
+	ConstraintValidatorCacheHandle NEVER_RELEASED = () -> false;
+
+	/**
+	 * @return {@code true} if the constraint validators have been released and must not be used anymore
+	 */
+	boolean isReleased();
+}
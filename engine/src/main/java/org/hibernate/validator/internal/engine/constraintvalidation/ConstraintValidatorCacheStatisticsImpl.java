@@ -0,0 +1,76 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.engine.constraintvalidation;
+
+import org.hibernate.validator.constraintvalidation.ConstraintValidatorCacheStatistics;
+
+/**
+ * An immutable snapshot of the constraint validator cache statistics.
+ *
+ * @author Guillaume Smet
+ */
+public class ConstraintValidatorCacheStatisticsImpl implements ConstraintValidatorCacheStatistics {
+
+	private final long hitCount;
+	private final long missCount;
+	private final long evictionCount;
+	private final long nonDefaultConstraintValidatorFactoryCount;
+	private final long size;
+
+	public ConstraintValidatorCacheStatisticsImpl(long hitCount, long missCount, long evictionCount, long nonDefaultConstraintValidatorFactoryCount,
+			long size) {
+		this.hitCount = hitCount;
+		this.missCount = missCount;
+		this.evictionCount = evictionCount;
+		this.nonDefaultConstraintValidatorFactoryCount = nonDefaultConstraintValidatorFactoryCount;
+		this.size = size;
+	}
+
+	@Override
+	public long getHitCount() {
+		return hitCount;
+	}
+
+	@Override
+	public long getMissCount() {
+		return missCount;
+	}
+
+	@Override
+	public double getHitRatio() {
+		long requestCount = hitCount + missCount;
+		return requestCount == 0 ? 0D : (double) hitCount / requestCount;
+	}
+
+	@Override
+	public long getEvictionCount() {
+		return evictionCount;
+	}
+
+	@Override
+	public long getNonDefaultConstraintValidatorFactoryCount() {
+		return nonDefaultConstraintValidatorFactoryCount;
+	}
+
+	@Override
+	public long getSize() {
+		return size;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		sb.append( "ConstraintValidatorCacheStatisticsImpl" );
+		sb.append( "{hitCount=" ).append( hitCount );
+		sb.append( ", missCount=" ).append( missCount );
+		sb.append( ", evictionCount=" ).append( evictionCount );
+		sb.append( ", nonDefaultConstraintValidatorFactoryCount=" ).append( nonDefaultConstraintValidatorFactoryCount );
+		sb.append( ", size=" ).append( size );
+		sb.append( '}' );
+		return sb.toString();
+	}
+}
@@ -45,4 +45,20 @@ public interface ConstraintValidatorManager {
 	HibernateConstraintValidatorInitializationContext getDefaultConstraintValidatorInitializationContext();
 
 	boolean isPredefinedScope();
+
+	/**
+	 * Returns the handle on the cached constraint validators initialized with the given constraint validator factory
+	 * and initialization context.
+	 * <p>
+	 * The constraint validators of the non default constraint validator factories might be released at any time:
+	 * callers keeping references to them must discard these references once the handle reports them as released. The
+	 * handle must be obtained before the constraint validators it covers.
+	 *
+	 * @param constraintValidatorFactory the constraint validator factory. Cannot be {@code null}.
+	 * @param initializationContext the initialization context. Cannot be {@code null}.
+	 *
+	 * @return the handle on the cached constraint validators
+	 */
+	ConstraintValidatorCacheHandle getConstraintValidatorCacheHandle(ConstraintValidatorFactory constraintValidatorFactory,
+			HibernateConstraintValidatorInitializationContext initializationContext);
 }
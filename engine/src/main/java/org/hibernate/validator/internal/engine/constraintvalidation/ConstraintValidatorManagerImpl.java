@@ -6,13 +6,19 @@
  */
 package org.hibernate.validator.internal.engine.constraintvalidation;
 
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.Option.IDENTITY_COMPARISONS;
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType.STRONG;
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType.WEAK;
+
 import java.lang.annotation.Annotation;
 import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Type;
+import java.util.EnumSet;
 import java.util.Iterator;
-import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
@@ -21,6 +27,7 @@
 
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
 import org.hibernate.validator.internal.metadata.descriptor.ConstraintDescriptorImpl;
+import org.hibernate.validator.internal.util.ConcurrentReferenceHashMap;
 import org.hibernate.validator.internal.util.Contracts;
 import org.hibernate.validator.internal.util.annotation.ConstraintAnnotationDescriptor;
 import org.hibernate.validator.internal.util.logging.Log;
@@ -49,26 +56,47 @@ public boolean isValid(Object value, ConstraintValidatorContext context) {
 	};
 
 	/**
-	 * The most recently used non default constraint validator factory.
+	 * The maximum number of combinations of constraint validator factory and initialization context other than the
+	 * default one for which the constraint validators are cached, unless configured otherwise.
 	 */
-	private volatile ConstraintValidatorFactory mostRecentlyUsedNonDefaultConstraintValidatorFactory;
+	public static final int DEFAULT_MAX_CACHED_NON_DEFAULT_CONSTRAINT_VALIDATOR_FACTORIES = 16;
+
+	private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+
+	private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
 
 	/**
-	 * The most recently used non default constraint validator initialization context.
+	 * Cache of the initialized {@code ConstraintValidator} instances created by the default constraint validator factory
+	 * with the default initialization context.
 	 */
-	private volatile HibernateConstraintValidatorInitializationContext mostRecentlyUsedNonDefaultConstraintValidatorInitializationContext;
+	private final ConstraintValidatorFactoryCache defaultConstraintValidatorFactoryCache;
 
 	/**
-	 * Used for synchronizing access to {@link #mostRecentlyUsedNonDefaultConstraintValidatorFactory} (which can be
-	 * null itself).
+	 * Caches of the initialized {@code ConstraintValidator} instances created by the other constraint validator
+	 * factories or with other initialization contexts, per factory then per initialization context.
+	 * <p>
+	 * The factories are weakly referenced so that the factories created per request or per tenant do not leak. When
+	 * more than {@link #maxCachedNonDefaultConstraintValidatorFactories} combinations of factory and initialization
+	 * context are used, the constraint validators of the least recently used combination are released.
 	 */
-	private final Object mostRecentlyUsedNonDefaultConstraintValidatorFactoryAndInitializationContextMutex = new Object();
+	private final ConcurrentReferenceHashMap<ConstraintValidatorFactory, ConcurrentHashMap<HibernateConstraintValidatorInitializationContext, ConstraintValidatorFactoryCache>> nonDefaultConstraintValidatorFactoryCaches;
+
+	private final int maxCachedNonDefaultConstraintValidatorFactories;
 
 	/**
-	 * Cache of initialized {@code ConstraintValidator} instances keyed against validated type, annotation,
-	 * constraint validator factory and constraint validator initialization context ({@code CacheKey}).
+	 * The coarse clock providing the access stamps of the non default caches, used to determine the least recently used
+	 * combination of factory and initialization context.
+	 * <p>
+	 * The clock only advances when a cache is added so that the lookups, way more frequent, do not contend on it: the
+	 * combinations used since the last addition are considered as equally recent.
 	 */
-	private final ConcurrentHashMap<CacheKey, ConstraintValidator<?, ?>> constraintValidatorCache;
+	private final AtomicLong clock = new AtomicLong();
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	private final LongAdder evictions = new LongAdder();
 
 	/**
 	 * Creates a new {@code ConstraintValidatorManager}.
@@ -78,8 +106,36 @@ public boolean isValid(Object value, ConstraintValidatorContext context) {
 	 */
 	public ConstraintValidatorManagerImpl(ConstraintValidatorFactory defaultConstraintValidatorFactory,
 			HibernateConstraintValidatorInitializationContext defaultConstraintValidatorInitializationContext) {
+		this( defaultConstraintValidatorFactory, defaultConstraintValidatorInitializationContext, DEFAULT_MAX_CACHED_NON_DEFAULT_CONSTRAINT_VALIDATOR_FACTORIES );
+	}
+
+	/**
+	 * Creates a new {@code ConstraintValidatorManager}.
+	 *
+	 * @param defaultConstraintValidatorFactory the default validator factory
+	 * @param defaultConstraintValidatorInitializationContext the default initialization context
+	 * @param maxCachedNonDefaultConstraintValidatorFactories the maximum number of combinations of constraint validator
+	 * factory and initialization context other than the default one for which the constraint validators are cached
+	 */
+	public ConstraintValidatorManagerImpl(ConstraintValidatorFactory defaultConstraintValidatorFactory,
+			HibernateConstraintValidatorInitializationContext defaultConstraintValidatorInitializationContext,
+			int maxCachedNonDefaultConstraintValidatorFactories) {
 		super( defaultConstraintValidatorFactory, defaultConstraintValidatorInitializationContext );
-		this.constraintValidatorCache = new ConcurrentHashMap<>();
+
+		if ( maxCachedNonDefaultConstraintValidatorFactories <= 0 ) {
+			throw LOG.getInvalidConstraintValidatorCacheMaxFactoriesException( maxCachedNonDefaultConstraintValidatorFactories );
+		}
+
+		this.defaultConstraintValidatorFactoryCache = new ConstraintValidatorFactoryCache( 0 );
+		this.nonDefaultConstraintValidatorFactoryCaches = new ConcurrentReferenceHashMap<>(
+				maxCachedNonDefaultConstraintValidatorFactories,
+				DEFAULT_LOAD_FACTOR,
+				DEFAULT_CONCURRENCY_LEVEL,
+				WEAK,
+				STRONG,
+				EnumSet.of( IDENTITY_COMPARISONS )
+		);
+		this.maxCachedNonDefaultConstraintValidatorFactories = maxCachedNonDefaultConstraintValidatorFactories;
 	}
 
 	@Override
@@ -108,97 +164,238 @@ public boolean isPredefinedScope() {
 		Contracts.assertNotNull( constraintValidatorFactory );
 		Contracts.assertNotNull( initializationContext );
 
-		CacheKey key = new CacheKey( descriptor.getAnnotationDescriptor(), validatedValueType, constraintValidatorFactory, initializationContext );
+		ConstraintValidatorFactoryCache constraintValidatorFactoryCache = getConstraintValidatorFactoryCache( constraintValidatorFactory, initializationContext );
+
+		CacheKey key = new CacheKey( descriptor.getAnnotationDescriptor(), validatedValueType );
 
 		@SuppressWarnings("unchecked")
-		ConstraintValidator<A, ?> constraintValidator = (ConstraintValidator<A, ?>) constraintValidatorCache.get( key );
+		ConstraintValidator<A, ?> constraintValidator = (ConstraintValidator<A, ?>) constraintValidatorFactoryCache.constraintValidators.get( key );
 
 		if ( constraintValidator == null ) {
+			misses.increment();
 			constraintValidator = createAndInitializeValidator( validatedValueType, descriptor, constraintValidatorFactory, initializationContext );
-			constraintValidator = cacheValidator( key, constraintValidator );
+			constraintValidator = cacheValidator( constraintValidatorFactoryCache, key, constraintValidator );
 		}
 		else {
+			hits.increment();
 			LOG.tracef( "Constraint validator %s found in cache.", constraintValidator );
 		}
 
 		return DUMMY_CONSTRAINT_VALIDATOR == constraintValidator ? null : constraintValidator;
 	}
 
-	private <A extends Annotation> ConstraintValidator<A, ?> cacheValidator(CacheKey key,
-			ConstraintValidator<A, ?> constraintValidator) {
-		// we only cache constraint validator instances for the default and most recently used factory
-		if ( ( key.getConstraintValidatorFactory() != getDefaultConstraintValidatorFactory()
-				&& key.getConstraintValidatorFactory() != mostRecentlyUsedNonDefaultConstraintValidatorFactory ) ||
-				( key.getConstraintValidatorInitializationContext() != getDefaultConstraintValidatorInitializationContext()
-						&& key.getConstraintValidatorInitializationContext() != mostRecentlyUsedNonDefaultConstraintValidatorInitializationContext ) ) {
-
-			synchronized ( mostRecentlyUsedNonDefaultConstraintValidatorFactoryAndInitializationContextMutex ) {
-				if ( key.constraintValidatorFactory != mostRecentlyUsedNonDefaultConstraintValidatorFactory ||
-						key.constraintValidatorInitializationContext != mostRecentlyUsedNonDefaultConstraintValidatorInitializationContext ) {
-					clearEntries( mostRecentlyUsedNonDefaultConstraintValidatorFactory, mostRecentlyUsedNonDefaultConstraintValidatorInitializationContext );
-					mostRecentlyUsedNonDefaultConstraintValidatorFactory = key.getConstraintValidatorFactory();
-					mostRecentlyUsedNonDefaultConstraintValidatorInitializationContext = key.getConstraintValidatorInitializationContext();
+	private ConstraintValidatorFactoryCache getConstraintValidatorFactoryCache(ConstraintValidatorFactory constraintValidatorFactory,
+			HibernateConstraintValidatorInitializationContext initializationContext) {
+		if ( constraintValidatorFactory == getDefaultConstraintValidatorFactory()
+				&& initializationContext == getDefaultConstraintValidatorInitializationContext() ) {
+			return defaultConstraintValidatorFactoryCache;
+		}
+
+		ConcurrentHashMap<HibernateConstraintValidatorInitializationContext, ConstraintValidatorFactoryCache> initializationContextCaches =
+				nonDefaultConstraintValidatorFactoryCaches.get( constraintValidatorFactory );
+		if ( initializationContextCaches == null ) {
+			initializationContextCaches = new ConcurrentHashMap<>();
+			ConcurrentHashMap<HibernateConstraintValidatorInitializationContext, ConstraintValidatorFactoryCache> previousInitializationContextCaches =
+					nonDefaultConstraintValidatorFactoryCaches.putIfAbsent( constraintValidatorFactory, initializationContextCaches );
+			if ( previousInitializationContextCaches != null ) {
+				initializationContextCaches = previousInitializationContextCaches;
+			}
+		}
+
+		ConstraintValidatorFactoryCache constraintValidatorFactoryCache = initializationContextCaches.get( initializationContext );
+		if ( constraintValidatorFactoryCache == null ) {
+			// the added cache is more recent than all the caches used before its addition
+			constraintValidatorFactoryCache = new ConstraintValidatorFactoryCache( clock.getAndIncrement() );
+			ConstraintValidatorFactoryCache previousConstraintValidatorFactoryCache = initializationContextCaches.putIfAbsent(
+					initializationContext, constraintValidatorFactoryCache );
+			if ( previousConstraintValidatorFactoryCache == null ) {
+				evictLeastRecentlyUsedConstraintValidatorFactoryCaches( constraintValidatorFactoryCache );
+				return constraintValidatorFactoryCache;
+			}
+			constraintValidatorFactoryCache = previousConstraintValidatorFactoryCache;
+		}
+
+		constraintValidatorFactoryCache.touch( clock.get() );
+
+		return constraintValidatorFactoryCache;
+	}
+
+	/**
+	 * Releases the constraint validators of the least recently used combinations of factory and initialization context
+	 * until the number of tracked combinations is within the bounds.
+	 * <p>
+	 * No lock is involved: concurrent evictions might remove a few more combinations than strictly required, which is
+	 * harmless as their constraint validators are simply created again on their next use.
+	 */
+	private void evictLeastRecentlyUsedConstraintValidatorFactoryCaches(ConstraintValidatorFactoryCache addedConstraintValidatorFactoryCache) {
+		while ( numberOfNonDefaultConstraintValidatorFactoryCaches() > maxCachedNonDefaultConstraintValidatorFactories ) {
+			ConstraintValidatorFactory leastRecentlyUsedConstraintValidatorFactory = null;
+			ConcurrentHashMap<HibernateConstraintValidatorInitializationContext, ConstraintValidatorFactoryCache> leastRecentlyUsedInitializationContextCaches = null;
+			HibernateConstraintValidatorInitializationContext leastRecentlyUsedInitializationContext = null;
+			ConstraintValidatorFactoryCache leastRecentlyUsedConstraintValidatorFactoryCache = null;
+
+			for ( Entry<ConstraintValidatorFactory, ConcurrentHashMap<HibernateConstraintValidatorInitializationContext, ConstraintValidatorFactoryCache>> factoryEntry :
+					nonDefaultConstraintValidatorFactoryCaches.entrySet() ) {
+				for ( Entry<HibernateConstraintValidatorInitializationContext, ConstraintValidatorFactoryCache> entry : factoryEntry.getValue().entrySet() ) {
+					ConstraintValidatorFactoryCache constraintValidatorFactoryCache = entry.getValue();
+					if ( constraintValidatorFactoryCache == addedConstraintValidatorFactoryCache ) {
+						continue;
+					}
+					if ( leastRecentlyUsedConstraintValidatorFactoryCache == null
+							|| constraintValidatorFactoryCache.lastAccess < leastRecentlyUsedConstraintValidatorFactoryCache.lastAccess ) {
+						leastRecentlyUsedConstraintValidatorFactory = factoryEntry.getKey();
+						leastRecentlyUsedInitializationContextCaches = factoryEntry.getValue();
+						leastRecentlyUsedInitializationContext = entry.getKey();
+						leastRecentlyUsedConstraintValidatorFactoryCache = constraintValidatorFactoryCache;
+					}
+				}
+			}
+
+			if ( leastRecentlyUsedConstraintValidatorFactoryCache == null ) {
+				return;
+			}
+
+			if ( leastRecentlyUsedInitializationContextCaches.remove( leastRecentlyUsedInitializationContext, leastRecentlyUsedConstraintValidatorFactoryCache ) ) {
+				if ( leastRecentlyUsedInitializationContextCaches.isEmpty() ) {
+					nonDefaultConstraintValidatorFactoryCaches.remove( leastRecentlyUsedConstraintValidatorFactory, leastRecentlyUsedInitializationContextCaches );
 				}
+				evictions.add( leastRecentlyUsedConstraintValidatorFactoryCache.release( leastRecentlyUsedConstraintValidatorFactory ) );
 			}
 		}
+	}
+
+	private int numberOfNonDefaultConstraintValidatorFactoryCaches() {
+		int count = 0;
+		for ( ConcurrentHashMap<HibernateConstraintValidatorInitializationContext, ConstraintValidatorFactoryCache> initializationContextCaches :
+				nonDefaultConstraintValidatorFactoryCaches.values() ) {
+			count += initializationContextCaches.size();
+		}
+		return count;
+	}
 
+	private <A extends Annotation> ConstraintValidator<A, ?> cacheValidator(ConstraintValidatorFactoryCache constraintValidatorFactoryCache, CacheKey key,
+			ConstraintValidator<A, ?> constraintValidator) {
 		@SuppressWarnings("unchecked")
-		ConstraintValidator<A, ?> cached = (ConstraintValidator<A, ?>) constraintValidatorCache.putIfAbsent( key,
+		ConstraintValidator<A, ?> cached = (ConstraintValidator<A, ?>) constraintValidatorFactoryCache.constraintValidators.putIfAbsent( key,
 				constraintValidator != null ? constraintValidator : DUMMY_CONSTRAINT_VALIDATOR );
 
 		return cached != null ? cached : constraintValidator;
 	}
 
-	private void clearEntries(ConstraintValidatorFactory constraintValidatorFactory, HibernateConstraintValidatorInitializationContext constraintValidatorInitializationContext) {
-		Iterator<Entry<CacheKey, ConstraintValidator<?, ?>>> cacheEntries = constraintValidatorCache.entrySet().iterator();
+	@Override
+	public void clear() {
+		defaultConstraintValidatorFactoryCache.release( getDefaultConstraintValidatorFactory() );
 
-		while ( cacheEntries.hasNext() ) {
-			Entry<CacheKey, ConstraintValidator<?, ?>> cacheEntry = cacheEntries.next();
-			if ( cacheEntry.getKey().getConstraintValidatorFactory() == constraintValidatorFactory &&
-					cacheEntry.getKey().getConstraintValidatorInitializationContext() == constraintValidatorInitializationContext ) {
-				constraintValidatorFactory.releaseInstance( cacheEntry.getValue() );
-				cacheEntries.remove();
+		for ( Entry<ConstraintValidatorFactory, ConcurrentHashMap<HibernateConstraintValidatorInitializationContext, ConstraintValidatorFactoryCache>> entry :
+				nonDefaultConstraintValidatorFactoryCaches.entrySet() ) {
+			for ( ConstraintValidatorFactoryCache constraintValidatorFactoryCache : entry.getValue().values() ) {
+				constraintValidatorFactoryCache.release( entry.getKey() );
 			}
 		}
+		nonDefaultConstraintValidatorFactoryCaches.clear();
 	}
 
 	@Override
-	public void clear() {
-		for ( Map.Entry<CacheKey, ConstraintValidator<?, ?>> entry : constraintValidatorCache.entrySet() ) {
-			entry.getKey().getConstraintValidatorFactory().releaseInstance( entry.getValue() );
-		}
-		constraintValidatorCache.clear();
+	public ConstraintValidatorCacheHandle getConstraintValidatorCacheHandle(ConstraintValidatorFactory constraintValidatorFactory,
+			HibernateConstraintValidatorInitializationContext initializationContext) {
+		Contracts.assertNotNull( constraintValidatorFactory );
+		Contracts.assertNotNull( initializationContext );
+
+		return getConstraintValidatorFactoryCache( constraintValidatorFactory, initializationContext );
 	}
 
 	public int numberOfCachedConstraintValidatorInstances() {
-		return constraintValidatorCache.size();
+		int count = defaultConstraintValidatorFactoryCache.constraintValidators.size();
+		for ( ConcurrentHashMap<HibernateConstraintValidatorInitializationContext, ConstraintValidatorFactoryCache> initializationContextCaches :
+				nonDefaultConstraintValidatorFactoryCaches.values() ) {
+			for ( ConstraintValidatorFactoryCache constraintValidatorFactoryCache : initializationContextCaches.values() ) {
+				count += constraintValidatorFactoryCache.constraintValidators.size();
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * @return a snapshot of the statistics of the constraint validator cache
+	 */
+	public ConstraintValidatorCacheStatisticsImpl getConstraintValidatorCacheStatistics() {
+		return new ConstraintValidatorCacheStatisticsImpl(
+				hits.sum(),
+				misses.sum(),
+				evictions.sum(),
+				numberOfNonDefaultConstraintValidatorFactoryCaches(),
+				numberOfCachedConstraintValidatorInstances()
+		);
+	}
+
+	/**
+	 * The constraint validators created by a given constraint validator factory with a given initialization context.
+	 * <p>
+	 * Once released, a cache is not used anymore by the manager: a new cache is created on the next use of the factory
+	 * and initialization context.
+	 */
+	private static final class ConstraintValidatorFactoryCache implements ConstraintValidatorCacheHandle {
+
+		private final ConcurrentHashMap<CacheKey, ConstraintValidator<?, ?>> constraintValidators = new ConcurrentHashMap<>();
+
+		/**
+		 * The time of the clock at the last access to this cache, used to determine the least recently used combination
+		 * of factory and initialization context.
+		 */
+		private volatile long lastAccess;
+
+		private volatile boolean released;
+
+		private ConstraintValidatorFactoryCache(long lastAccess) {
+			this.lastAccess = lastAccess;
+		}
+
+		private void touch(long now) {
+			// only write the stamp if it changed to avoid invalidating the cache line on each lookup
+			if ( lastAccess != now ) {
+				lastAccess = now;
+			}
+		}
+
+		@Override
+		public boolean isReleased() {
+			return released;
+		}
+
+		/**
+		 * Releases the cached constraint validators.
+		 *
+		 * @return the number of constraint validators released
+		 */
+		private int release(ConstraintValidatorFactory constraintValidatorFactory) {
+			released = true;
+
+			int count = 0;
+			Iterator<ConstraintValidator<?, ?>> constraintValidatorIterator = constraintValidators.values().iterator();
+			while ( constraintValidatorIterator.hasNext() ) {
+				ConstraintValidator<?, ?> constraintValidator = constraintValidatorIterator.next();
+				constraintValidatorIterator.remove();
+				if ( constraintValidator != DUMMY_CONSTRAINT_VALIDATOR ) {
+					constraintValidatorFactory.releaseInstance( constraintValidator );
+				}
+				count++;
+			}
+			return count;
+		}
 	}
 
 	private static final class CacheKey {
 		// These members are not final for optimization purposes
 		private ConstraintAnnotationDescriptor<?> annotationDescriptor;
 		private Type validatedType;
-		private ConstraintValidatorFactory constraintValidatorFactory;
-		private HibernateConstraintValidatorInitializationContext constraintValidatorInitializationContext;
 		private int hashCode;
 
-		private CacheKey(ConstraintAnnotationDescriptor<?> annotationDescriptor, Type validatorType, ConstraintValidatorFactory constraintValidatorFactory,
-				HibernateConstraintValidatorInitializationContext constraintValidatorInitializationContext) {
+		private CacheKey(ConstraintAnnotationDescriptor<?> annotationDescriptor, Type validatorType) {
 			this.annotationDescriptor = annotationDescriptor;
 			this.validatedType = validatorType;
-			this.constraintValidatorFactory = constraintValidatorFactory;
-			this.constraintValidatorInitializationContext = constraintValidatorInitializationContext;
 			this.hashCode = createHashCode();
 		}
 
-		public ConstraintValidatorFactory getConstraintValidatorFactory() {
-			return constraintValidatorFactory;
-		}
-
-		public HibernateConstraintValidatorInitializationContext getConstraintValidatorInitializationContext() {
-			return constraintValidatorInitializationContext;
-		}
-
 		@Override
 		public boolean equals(Object o) {
 			if ( this == o ) {
@@ -217,12 +414,6 @@ public boolean equals(Object o) {
 			if ( !validatedType.equals( other.validatedType ) ) {
 				return false;
 			}
-			if ( !constraintValidatorFactory.equals( other.constraintValidatorFactory ) ) {
-				return false;
-			}
-			if ( !constraintValidatorInitializationContext.equals( other.constraintValidatorInitializationContext ) ) {
-				return false;
-			}
 
 			return true;
 		}
@@ -235,8 +426,6 @@ public int hashCode() {
 		private int createHashCode() {
 			int result = annotationDescriptor.hashCode();
 			result = 31 * result + validatedType.hashCode();
-			result = 31 * result + constraintValidatorFactory.hashCode();
-			result = 31 * result + constraintValidatorInitializationContext.hashCode();
 			return result;
 		}
 	}
@@ -68,4 +68,10 @@ public boolean isPredefinedScope() {
 	@Override
 	public void clear() {
 	}
+
+	@Override
+	public ConstraintValidatorCacheHandle getConstraintValidatorCacheHandle(ConstraintValidatorFactory constraintValidatorFactory,
+			HibernateConstraintValidatorInitializationContext initializationContext) {
+		return ConstraintValidatorCacheHandle.NEVER_RELEASED;
+	}
 }
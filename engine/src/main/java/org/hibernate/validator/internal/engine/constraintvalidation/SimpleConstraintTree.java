@@ -10,6 +10,7 @@
 import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Type;
 import java.util.Collection;
+import java.util.Collections;
 
 import javax.validation.ConstraintValidator;
 
@@ -38,9 +39,8 @@ public SimpleConstraintTree(ConstraintValidatorManager constraintValidatorManage
 	}
 
 	@Override
-	protected void validateConstraints(ValidationContext<?> validationContext,
-			ValueContext<?, ?> valueContext,
-			Collection<ConstraintValidatorContextImpl> violatedConstraintValidatorContexts) {
+	protected Collection<ConstraintValidatorContextImpl> collectViolatedConstraintValidatorContexts(ValidationContext<?> validationContext,
+			ValueContext<?, ?> valueContext) {
 
 		if ( LOG.isTraceEnabled() ) {
 			LOG.tracef(
@@ -59,8 +59,9 @@ protected void validateConstraints(ValidationContext<?> validationContext,
 		);
 
 		// validate
-		if ( validateSingleConstraint( valueContext, constraintValidatorContext, validator ).isPresent() ) {
-			violatedConstraintValidatorContexts.add( constraintValidatorContext );
+		if ( validateSingleConstraint( valueContext, constraintValidatorContext, validator ) ) {
+			return Collections.emptyList();
 		}
+		return Collections.singletonList( constraintValidatorContext );
 	}
 }
@@ -17,6 +17,7 @@
 import javax.validation.GroupSequence;
 import javax.validation.groups.Default;
 
+import org.hibernate.validator.internal.util.CollectionHelper;
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
 
@@ -30,8 +31,28 @@ public class ValidationOrderGenerator {
 
 	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
 
+	/**
+	 * The maximum number of validation orders kept in each of the validation order caches. Past this limit, the
+	 * validation orders are computed for each call.
+	 */
+	private static final int MAX_CACHED_VALIDATION_ORDERS = 512;
+
 	private final ConcurrentMap<Class<?>, Sequence> resolvedSequences = new ConcurrentHashMap<Class<?>, Sequence>();
 
+	/**
+	 * The validation orders of the lists of groups already requested, keyed by the list of groups as the order of the
+	 * groups is relevant.
+	 * <p>
+	 * The cached {@link DefaultValidationOrder}s are never modified once built so they can safely be shared between
+	 * the validation calls.
+	 */
+	private final ConcurrentMap<List<Class<?>>, ValidationOrder> validationOrders = new ConcurrentHashMap<>();
+
+	/**
+	 * The validation orders of the single groups not expanded, used when cascading without group conversion.
+	 */
+	private final ConcurrentMap<Class<?>, ValidationOrder> nonExpandedValidationOrders = new ConcurrentHashMap<>();
+
 	/**
 	 * Creates a {@link ValidationOrder} for the given validation group.
 	 *
@@ -50,11 +71,15 @@ public ValidationOrder getValidationOrder(Class<?> group, boolean expand) {
 		if ( expand ) {
 			return getValidationOrder( Collections.<Class<?>>singletonList( group ) );
 		}
-		else {
-			DefaultValidationOrder validationOrder = new DefaultValidationOrder();
-			validationOrder.insertGroup( new Group( group ) );
+
+		ValidationOrder validationOrder = nonExpandedValidationOrders.get( group );
+		if ( validationOrder != null ) {
 			return validationOrder;
 		}
+
+		DefaultValidationOrder nonExpandedValidationOrder = new DefaultValidationOrder();
+		nonExpandedValidationOrder.insertGroup( new Group( group ) );
+		return cacheValidationOrder( nonExpandedValidationOrders, group, nonExpandedValidationOrder );
 	}
 
 	/**
@@ -75,6 +100,29 @@ public ValidationOrder getValidationOrder(Collection<Class<?>> groups) {
 			return ValidationOrder.DEFAULT_GROUP;
 		}
 
+		// only lists are cached, the order of the groups being relevant
+		if ( !( groups instanceof List ) ) {
+			return buildValidationOrder( groups );
+		}
+
+		ValidationOrder validationOrder = validationOrders.get( groups );
+		if ( validationOrder != null ) {
+			return validationOrder;
+		}
+
+		validationOrder = buildValidationOrder( groups );
+
+		// the list of groups might be modified by the caller once the validation is done so we need to copy it
+		return cacheValidationOrder( validationOrders, CollectionHelper.toImmutableList( new ArrayList<>( groups ) ), validationOrder );
+	}
+
+	public ValidationOrder getDefaultValidationOrder(Class<?> clazz, List<Class<?>> defaultGroupSequence) {
+		DefaultValidationOrder validationOrder = new DefaultValidationOrder();
+		insertSequence( clazz, defaultGroupSequence.toArray( new Class<?>[defaultGroupSequence.size()] ), false, validationOrder );
+		return validationOrder;
+	}
+
+	private ValidationOrder buildValidationOrder(Collection<Class<?>> groups) {
 		for ( Class<?> clazz : groups ) {
 			if ( !clazz.isInterface() ) {
 				throw LOG.getGroupHasToBeAnInterfaceException( clazz );
@@ -99,10 +147,13 @@ else if ( isGroupSequence( clazz ) ) {
 		return validationOrder;
 	}
 
-	public ValidationOrder getDefaultValidationOrder(Class<?> clazz, List<Class<?>> defaultGroupSequence) {
-		DefaultValidationOrder validationOrder = new DefaultValidationOrder();
-		insertSequence( clazz, defaultGroupSequence.toArray( new Class<?>[defaultGroupSequence.size()] ), false, validationOrder );
-		return validationOrder;
+	private static <K> ValidationOrder cacheValidationOrder(ConcurrentMap<K, ValidationOrder> cache, K key, ValidationOrder validationOrder) {
+		if ( cache.size() >= MAX_CACHED_VALIDATION_ORDERS ) {
+			return validationOrder;
+		}
+
+		ValidationOrder cachedValidationOrder = cache.putIfAbsent( key, validationOrder );
+		return cachedValidationOrder != null ? cachedValidationOrder : validationOrder;
 	}
 
 	private boolean isGroupSequence(Class<?> clazz) {
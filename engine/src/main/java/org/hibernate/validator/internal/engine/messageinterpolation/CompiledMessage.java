@@ -0,0 +1,169 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.engine.messageinterpolation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.hibernate.validator.internal.engine.messageinterpolation.parser.MessageDescriptorFormatException;
+import org.hibernate.validator.internal.engine.messageinterpolation.parser.Token;
+import org.hibernate.validator.internal.engine.messageinterpolation.parser.TokenCollector;
+import org.hibernate.validator.internal.util.stereotypes.Immutable;
+
+/**
+ * A message resolved from the resource bundles, compiled into an immutable plan of literal segments and message
+ * parameter slots.
+ * <p>
+ * Replacing the message parameters of the message boils down to appending the literal segments and the values of the
+ * parameters in a single pass. If neither the literal segments nor the values of the parameters contain any
+ * character meaningful for the following interpolation steps (EL expressions and escaped literals), the result of
+ * this pass is the final interpolated message.
+ *
+ * @author Guillaume Smet
+ */
+public final class CompiledMessage {
+
+	private final String resolvedMessage;
+
+	/**
+	 * The literal segments of the message: {@code literals[i]} is the segment preceding {@code parameterTerms[i]}, the
+	 * last segment follows the last parameter.
+	 */
+	@Immutable
+	private final String[] literals;
+
+	/**
+	 * The message parameter terms, including the curly braces.
+	 */
+	@Immutable
+	private final String[] parameterTerms;
+
+	/**
+	 * The total length of the literal segments, used to size the rendered message.
+	 */
+	private final int literalsLength;
+
+	/**
+	 * Whether the literal segments contain characters requiring the EL and escaped literals interpolation steps.
+	 */
+	private final boolean requiresFurtherInterpolation;
+
+	private CompiledMessage(String resolvedMessage, String[] literals, String[] parameterTerms) {
+		this.resolvedMessage = resolvedMessage;
+		this.literals = literals;
+		this.parameterTerms = parameterTerms;
+
+		int length = 0;
+		boolean metaCharacterFound = false;
+		for ( String literal : literals ) {
+			length += literal.length();
+			metaCharacterFound = metaCharacterFound || containsMetaCharacter( literal );
+		}
+		this.literalsLength = length;
+		this.requiresFurtherInterpolation = metaCharacterFound;
+	}
+
+	/**
+	 * Compiles the given message resolved from the resource bundles.
+	 *
+	 * @param resolvedMessage the message resolved from the resource bundles
+	 *
+	 * @return the compiled message
+	 *
+	 * @throws MessageDescriptorFormatException in case the message descriptor is invalid
+	 */
+	public static CompiledMessage compile(String resolvedMessage) throws MessageDescriptorFormatException {
+		if ( resolvedMessage.indexOf( '{' ) < 0 ) {
+			return new CompiledMessage( resolvedMessage, new String[] { resolvedMessage }, new String[0] );
+		}
+
+		List<String> literals = new ArrayList<>();
+		List<String> parameterTerms = new ArrayList<>();
+		StringBuilder literal = new StringBuilder();
+		for ( Token token : new TokenCollector( resolvedMessage, InterpolationTermType.PARAMETER ).getTokenList() ) {
+			if ( token.isParameter() ) {
+				literals.add( literal.toString() );
+				literal.setLength( 0 );
+				parameterTerms.add( token.getTokenValue() );
+			}
+			else {
+				literal.append( token.getTokenValue() );
+			}
+		}
+		literals.add( literal.toString() );
+
+		return new CompiledMessage( resolvedMessage, literals.toArray( new String[literals.size()] ),
+				parameterTerms.toArray( new String[parameterTerms.size()] ) );
+	}
+
+	public String getResolvedMessage() {
+		return resolvedMessage;
+	}
+
+	/**
+	 * @return {@code true} if the message contains message parameters or EL expressions
+	 */
+	public boolean hasInterpolationTerms() {
+		return resolvedMessage.indexOf( '{' ) > -1;
+	}
+
+	/**
+	 * Replaces the message parameters of the message.
+	 * <p>
+	 * A parameter resolved to {@code null} is rendered as {@code "null"}.
+	 *
+	 * @param parameterResolver resolves the value of a message parameter term
+	 *
+	 * @return the message with its parameters replaced
+	 */
+	public String render(Function<String, String> parameterResolver) {
+		if ( parameterTerms.length == 0 ) {
+			return resolvedMessage;
+		}
+
+		String[] values = new String[parameterTerms.length];
+		int length = literalsLength;
+		for ( int i = 0; i < parameterTerms.length; i++ ) {
+			values[i] = String.valueOf( parameterResolver.apply( parameterTerms[i] ) );
+			length += values[i].length();
+		}
+
+		StringBuilder message = new StringBuilder( length );
+		for ( int i = 0; i < parameterTerms.length; i++ ) {
+			message.append( literals[i] ).append( values[i] );
+		}
+		message.append( literals[parameterTerms.length] );
+
+		return message.toString();
+	}
+
+	/**
+	 * @param renderedMessage the message rendered by {@link #render(Function)}
+	 *
+	 * @return {@code true} if the EL expressions and the escaped literals of the rendered message still have to be
+	 * interpolated, {@code false} if the rendered message is final
+	 */
+	public boolean requiresFurtherInterpolation(String renderedMessage) {
+		return requiresFurtherInterpolation || ( parameterTerms.length > 0 && containsMetaCharacter( renderedMessage ) );
+	}
+
+	private static boolean containsMetaCharacter(String value) {
+		for ( int i = 0; i < value.length(); i++ ) {
+			switch ( value.charAt( i ) ) {
+				case '{':
+				case '}':
+				case '$':
+				case '\\':
+					return true;
+				default:
+					// continue
+			}
+		}
+		return false;
+	}
+}
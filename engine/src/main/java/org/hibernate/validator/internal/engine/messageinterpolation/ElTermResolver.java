@@ -7,6 +7,7 @@
 package org.hibernate.validator.internal.engine.messageinterpolation;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Collections;
 import java.util.Locale;
 import java.util.Map;
 
@@ -18,6 +19,7 @@
 
 import org.hibernate.validator.internal.engine.messageinterpolation.el.RootResolver;
 import org.hibernate.validator.internal.engine.messageinterpolation.el.SimpleELContext;
+import org.hibernate.validator.internal.util.CollectionHelper;
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
 import org.hibernate.validator.messageinterpolation.HibernateMessageInterpolatorContext;
@@ -37,6 +39,12 @@ public class ElTermResolver implements TermResolver {
 	 */
 	private static final String VALIDATED_VALUE_NAME = "validatedValue";
 
+	/**
+	 * The maximal number of parsed expressions kept in the cache. Expressions are not cached anymore once it is reached
+	 * as message parameter values might contain arbitrary expressions.
+	 */
+	private static final int MAX_PARSED_EXPRESSIONS = 1_000;
+
 	/**
 	 * The locale for which to interpolate the expression.
 	 */
@@ -47,6 +55,11 @@ public class ElTermResolver implements TermResolver {
 	 */
 	private final ExpressionFactory expressionFactory;
 
+	/**
+	 * Cache of the expressions parsed by the expression factory, might be null.
+	 */
+	private final Map<String, ValueExpression> parsedExpressions;
+
 	/**
 	 * Construct the resolver. The expression factory has to be passed in to ensure that it is
 	 * set up early and to allow for application control.
@@ -54,16 +67,29 @@ public class ElTermResolver implements TermResolver {
 	 * @param expressionFactory the expression factory.
      */
 	public ElTermResolver(Locale locale, ExpressionFactory expressionFactory) {
+		this( locale, expressionFactory, null );
+	}
+
+	/**
+	 * Construct the resolver. The expression factory has to be passed in to ensure that it is
+	 * set up early and to allow for application control.
+	 * @param locale the locale.
+	 * @param expressionFactory the expression factory.
+	 * @param parsedExpressions the cache of the expressions parsed by the expression factory, {@code null} if the
+	 * expressions should not be cached. The cache needs to be thread-safe.
+	 */
+	public ElTermResolver(Locale locale, ExpressionFactory expressionFactory, Map<String, ValueExpression> parsedExpressions) {
 		this.locale = locale;
 		this.expressionFactory = expressionFactory;
+		this.parsedExpressions = parsedExpressions;
 	}
 
 	@Override
 	public String interpolate(MessageInterpolator.Context context, String expression) {
 		String resolvedExpression = expression;
-		SimpleELContext elContext = new SimpleELContext( expressionFactory );
+		SimpleELContext elContext = new SimpleELContext( expressionFactory, getVariables( context ) );
 		try {
-			ValueExpression valueExpression = bindContextValues( expression, context, elContext );
+			ValueExpression valueExpression = getValueExpression( expression, elContext );
 			resolvedExpression = (String) valueExpression.getValue( elContext );
 		}
 		catch (PropertyNotFoundException pnfe) {
@@ -79,35 +105,42 @@ public String interpolate(MessageInterpolator.Context context, String expression
 		return resolvedExpression;
 	}
 
-	private ValueExpression bindContextValues(String messageTemplate, MessageInterpolator.Context messageInterpolatorContext, SimpleELContext elContext) {
+	private Map<String, Object> getVariables(MessageInterpolator.Context messageInterpolatorContext) {
+		Map<String, Object> constraintAttributes = messageInterpolatorContext.getConstraintDescriptor().getAttributes();
+		Map<String, Object> expressionVariables = messageInterpolatorContext instanceof HibernateMessageInterpolatorContext
+				? ( (HibernateMessageInterpolatorContext) messageInterpolatorContext ).getExpressionVariables()
+				: Collections.emptyMap();
+
+		Map<String, Object> variables = CollectionHelper.newHashMap( 2 + constraintAttributes.size() + expressionVariables.size() );
+
 		// bind the validated value
-		ValueExpression valueExpression = expressionFactory.createValueExpression(
-				messageInterpolatorContext.getValidatedValue(),
-				Object.class
-		);
-		elContext.getVariableMapper().setVariable( VALIDATED_VALUE_NAME, valueExpression );
+		variables.put( VALIDATED_VALUE_NAME, messageInterpolatorContext.getValidatedValue() );
 
 		// bind a formatter instantiated with proper locale
-		valueExpression = expressionFactory.createValueExpression(
-				new FormatterWrapper( locale ),
-				FormatterWrapper.class
-		);
-		elContext.getVariableMapper().setVariable( RootResolver.FORMATTER, valueExpression );
+		variables.put( RootResolver.FORMATTER, new FormatterWrapper( locale ) );
 
 		// map the parameters provided by the annotation values and the parameters + expression variables explicitly
 		// added to the context
-		addVariablesToElContext( elContext, messageInterpolatorContext.getConstraintDescriptor().getAttributes() );
-		if ( messageInterpolatorContext instanceof HibernateMessageInterpolatorContext ) {
-			addVariablesToElContext( elContext, ( (HibernateMessageInterpolatorContext) messageInterpolatorContext ).getExpressionVariables() );
-		}
+		variables.putAll( constraintAttributes );
+		variables.putAll( expressionVariables );
 
-		return expressionFactory.createValueExpression( elContext, messageTemplate, String.class );
+		return variables;
 	}
 
-	private void addVariablesToElContext(SimpleELContext elContext, Map<String, Object> variables) {
-		for ( Map.Entry<String, Object> entry : variables.entrySet() ) {
-			ValueExpression valueExpression = expressionFactory.createValueExpression( entry.getValue(), Object.class );
-			elContext.getVariableMapper().setVariable( entry.getKey(), valueExpression );
+	private ValueExpression getValueExpression(String expression, SimpleELContext elContext) {
+		if ( parsedExpressions == null ) {
+			return expressionFactory.createValueExpression( elContext, expression, String.class );
+		}
+
+		ValueExpression valueExpression = parsedExpressions.get( expression );
+		if ( valueExpression == null ) {
+			// the variables are not bound to the variable mapper of the context so the parsed expression does not
+			// depend on them and can be reused
+			valueExpression = expressionFactory.createValueExpression( elContext, expression, String.class );
+			if ( parsedExpressions.size() < MAX_PARSED_EXPRESSIONS ) {
+				parsedExpressions.putIfAbsent( expression, valueExpression );
+			}
 		}
+		return valueExpression;
 	}
 }
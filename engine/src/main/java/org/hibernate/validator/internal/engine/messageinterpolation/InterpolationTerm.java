@@ -7,8 +7,10 @@
 package org.hibernate.validator.internal.engine.messageinterpolation;
 
 import java.util.Locale;
+import java.util.Map;
 
 import javax.el.ExpressionFactory;
+import javax.el.ValueExpression;
 import javax.validation.MessageInterpolator;
 
 /**
@@ -45,10 +47,21 @@ public class InterpolationTerm {
 	 * @param expressionFactory the expression factory to use if the expression uses EL.
      */
 	public InterpolationTerm(String expression, Locale locale, ExpressionFactory expressionFactory) {
+		this( expression, locale, expressionFactory, null );
+	}
+
+	/**
+	 * Create an interpolation term for an expression.
+	 * @param expression the expression.
+	 * @param locale the locale.
+	 * @param expressionFactory the expression factory to use if the expression uses EL.
+	 * @param parsedExpressions the cache of the parsed EL expressions, might be null.
+	 */
+	public InterpolationTerm(String expression, Locale locale, ExpressionFactory expressionFactory, Map<String, ValueExpression> parsedExpressions) {
 		this.expression = expression;
 		if ( isElExpression( expression ) ) {
 			this.type = InterpolationTermType.EL;
-			this.resolver = new ElTermResolver( locale, expressionFactory );
+			this.resolver = new ElTermResolver( locale, expressionFactory, parsedExpressions );
 		}
 		else {
 			this.type = InterpolationTermType.PARAMETER;
@@ -6,6 +6,9 @@
  */
 package org.hibernate.validator.internal.engine.messageinterpolation.el;
 
+import java.util.Collections;
+import java.util.Map;
+
 import javax.el.ArrayELResolver;
 import javax.el.BeanELResolver;
 import javax.el.CompositeELResolver;
@@ -32,14 +35,40 @@ public class SimpleELContext extends StandardELContext {
 		}
 	};
 
+	/**
+	 * The variables resolved by the {@link RootResolver}.
+	 */
+	private final Map<String, Object> variables;
+
 	public SimpleELContext(ExpressionFactory expressionFactory) {
+		this( expressionFactory, Collections.emptyMap() );
+	}
+
+	/**
+	 * Creates a context resolving the given variables at evaluation time, through the {@link RootResolver}, instead of
+	 * binding them to the variable mapper, which would bind them to the parsed expressions. The expressions parsed with
+	 * this context can thus be evaluated with other variables.
+	 *
+	 * @param expressionFactory the expression factory
+	 * @param variables the variables available to the expressions
+	 */
+	public SimpleELContext(ExpressionFactory expressionFactory, Map<String, Object> variables) {
 		super( expressionFactory );
+		this.variables = variables;
 
 		// In javax.el.ELContext, the ExpressionFactory is extracted from the context map. If it is not found, it
 		// defaults to ELUtil.getExpressionFactory() which, if we provided the ExpressionFactory to the
 		// ResourceBundleMessageInterpolator, might not be the same. Thus, we inject the ExpressionFactory in the
 		// context.
 		putContext( ExpressionFactory.class, expressionFactory );
+
+		// The EL implementation might wrap this context when evaluating an expression so we register it in the context
+		// map for the resolvers to be able to get the variables.
+		putContext( SimpleELContext.class, this );
+	}
+
+	public Map<String, Object> getVariables() {
+		return variables;
 	}
 
 	@Override
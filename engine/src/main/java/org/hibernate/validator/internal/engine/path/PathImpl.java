@@ -10,7 +10,7 @@
 
 import java.io.Serializable;
 import java.lang.invoke.MethodHandles;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -33,7 +33,7 @@
  * @author Kevin Pollet &lt;kevin.pollet@serli.com&gt; (C) 2011 SERLI
  */
 public final class PathImpl implements Path, Serializable {
-	private static final long serialVersionUID = 7564511574909882392L;
+	private static final long serialVersionUID = -2231416398153425377L;
 	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
 
 	private static final String PROPERTY_PATH_SEPARATOR = ".";
@@ -53,11 +53,29 @@ public final class PathImpl implements Path, Serializable {
 	private static final int INDEX_GROUP = 3;
 	private static final int REMAINING_STRING_GROUP = 5;
 
-	private List<Node> nodeList;
-	private boolean nodeListRequiresCopy;
+	/**
+	 * The leaf node of the path. Nodes are immutable and linked to their parent, so the nodes of a path form a
+	 * persistent list which is shared between a path and all the paths derived from it.
+	 */
 	private NodeImpl currentLeafNode;
+
+	/**
+	 * The number of nodes of the path, root node included.
+	 */
+	private int size;
+
 	private int hashCode;
 
+	/**
+	 * Lazily materialized list of the nodes, used for iteration. Only built on demand.
+	 */
+	private transient List<Node> nodeList;
+
+	/**
+	 * Lazily built string representation of the path.
+	 */
+	private transient String asString;
+
 	/**
 	 * Returns a {@code Path} instance representing the path described by the
 	 * given string. To create a root node the empty string should be passed.
@@ -101,160 +119,89 @@ public static PathImpl createRootPath() {
 		return path;
 	}
 
+	/**
+	 * Creates a copy of the given path.
+	 * <p>
+	 * As the nodes are immutable and shared, this is a constant time operation: the copy and the original path may
+	 * then evolve independently.
+	 */
 	public static PathImpl createCopy(PathImpl path) {
 		return new PathImpl( path );
 	}
 
 	public static PathImpl createCopyWithoutLeafNode(PathImpl path) {
-		return new PathImpl( path.nodeList.subList( 0, path.nodeList.size() - 1 ) );
+		return new PathImpl( path.currentLeafNode.getParent(), path.size - 1 );
 	}
 
-
 	public boolean isRootPath() {
-		return nodeList.size() == 1 && nodeList.get( 0 ).getName() == null;
+		return size == 1 && currentLeafNode.getName() == null;
 	}
 
 	public NodeImpl addPropertyNode(String nodeName) {
-		requiresWriteableNodeList();
-
-		NodeImpl parent = currentLeafNode;
-		currentLeafNode = NodeImpl.createPropertyNode( nodeName, parent );
-		nodeList.add( currentLeafNode );
-		resetHashCode();
-		return currentLeafNode;
+		return appendNode( NodeImpl.createPropertyNode( nodeName, currentLeafNode ) );
 	}
 
 	public NodeImpl addContainerElementNode(String nodeName) {
-		requiresWriteableNodeList();
-
-		NodeImpl parent = currentLeafNode;
-		currentLeafNode = NodeImpl.createContainerElementNode( nodeName, parent );
-		nodeList.add( currentLeafNode );
-		resetHashCode();
-		return currentLeafNode;
+		return appendNode( NodeImpl.createContainerElementNode( nodeName, currentLeafNode ) );
 	}
 
 	public NodeImpl addParameterNode(String nodeName, int index) {
-		requiresWriteableNodeList();
-
-		NodeImpl parent = currentLeafNode;
-		currentLeafNode = NodeImpl.createParameterNode( nodeName, parent, index );
-		nodeList.add( currentLeafNode );
-		resetHashCode();
-		return currentLeafNode;
+		return appendNode( NodeImpl.createParameterNode( nodeName, currentLeafNode, index ) );
 	}
 
 	public NodeImpl addCrossParameterNode() {
-		requiresWriteableNodeList();
-
-		NodeImpl parent = currentLeafNode;
-		currentLeafNode = NodeImpl.createCrossParameterNode( parent );
-		nodeList.add( currentLeafNode );
-		resetHashCode();
-		return currentLeafNode;
+		return appendNode( NodeImpl.createCrossParameterNode( currentLeafNode ) );
 	}
 
 	public NodeImpl addBeanNode() {
-		requiresWriteableNodeList();
-
-		NodeImpl parent = currentLeafNode;
-		currentLeafNode = NodeImpl.createBeanNode( parent );
-		nodeList.add( currentLeafNode );
-		resetHashCode();
-		return currentLeafNode;
+		return appendNode( NodeImpl.createBeanNode( currentLeafNode ) );
 	}
 
 	public NodeImpl addReturnValueNode() {
-		requiresWriteableNodeList();
-
-		NodeImpl parent = currentLeafNode;
-		currentLeafNode = NodeImpl.createReturnValue( parent );
-		nodeList.add( currentLeafNode );
-		resetHashCode();
-		return currentLeafNode;
+		return appendNode( NodeImpl.createReturnValue( currentLeafNode ) );
 	}
 
 	private NodeImpl addConstructorNode(String name, Class<?>[] parameterTypes) {
-		requiresWriteableNodeList();
-
-		NodeImpl parent = currentLeafNode;
-		currentLeafNode = NodeImpl.createConstructorNode( name, parent, parameterTypes );
-		nodeList.add( currentLeafNode );
-		resetHashCode();
-		return currentLeafNode;
+		return appendNode( NodeImpl.createConstructorNode( name, currentLeafNode, parameterTypes ) );
 	}
 
 	private NodeImpl addMethodNode(String name, Class<?>[] parameterTypes) {
-		requiresWriteableNodeList();
-
-		NodeImpl parent = currentLeafNode;
-		currentLeafNode = NodeImpl.createMethodNode( name, parent, parameterTypes );
-		nodeList.add( currentLeafNode );
-		resetHashCode();
-		return currentLeafNode;
+		return appendNode( NodeImpl.createMethodNode( name, currentLeafNode, parameterTypes ) );
 	}
 
 	public NodeImpl makeLeafNodeIterable() {
-		requiresWriteableNodeList();
-
-		currentLeafNode = NodeImpl.makeIterable( currentLeafNode );
-
-		nodeList.set( nodeList.size() - 1, currentLeafNode );
-		resetHashCode();
-		return currentLeafNode;
+		return replaceLeafNode( NodeImpl.makeIterable( currentLeafNode ) );
 	}
 
 	public NodeImpl makeLeafNodeIterableAndSetIndex(Integer index) {
-		requiresWriteableNodeList();
-
-		currentLeafNode = NodeImpl.makeIterableAndSetIndex( currentLeafNode, index );
-
-		nodeList.set( nodeList.size() - 1, currentLeafNode );
-		resetHashCode();
-		return currentLeafNode;
+		return replaceLeafNode( NodeImpl.makeIterableAndSetIndex( currentLeafNode, index ) );
 	}
 
 	public NodeImpl makeLeafNodeIterableAndSetMapKey(Object key) {
-		requiresWriteableNodeList();
-
-		currentLeafNode = NodeImpl.makeIterableAndSetMapKey( currentLeafNode, key );
-
-		nodeList.set( nodeList.size() - 1, currentLeafNode );
-		resetHashCode();
-		return currentLeafNode;
+		return replaceLeafNode( NodeImpl.makeIterableAndSetMapKey( currentLeafNode, key ) );
 	}
 
 	public NodeImpl setLeafNodeValueIfRequired(Object value) {
 		// The value is only exposed for property and container element nodes
 		if ( currentLeafNode.getKind() == ElementKind.PROPERTY || currentLeafNode.getKind() == ElementKind.CONTAINER_ELEMENT ) {
-			requiresWriteableNodeList();
-
 			currentLeafNode = NodeImpl.setPropertyValue( currentLeafNode, value );
+			nodeList = null;
 
-			nodeList.set( nodeList.size() - 1, currentLeafNode );
-
-			// the property value is not part of the NodeImpl hashCode so we don't need to reset the PathImpl hashCode
+			// the property value is not part of the NodeImpl hashCode nor of the string representation so we don't
+			// need to reset the PathImpl hashCode and string representation
 		}
 		return currentLeafNode;
 	}
 
 	public NodeImpl setLeafNodeTypeParameter(Class<?> containerClass, Integer typeArgumentIndex) {
-		requiresWriteableNodeList();
-
-		currentLeafNode = NodeImpl.setTypeParameter( currentLeafNode, containerClass, typeArgumentIndex );
-
-		nodeList.set( nodeList.size() - 1, currentLeafNode );
-		resetHashCode();
-		return currentLeafNode;
+		return replaceLeafNode( NodeImpl.setTypeParameter( currentLeafNode, containerClass, typeArgumentIndex ) );
 	}
 
 	public void removeLeafNode() {
-		if ( !nodeList.isEmpty() ) {
-			requiresWriteableNodeList();
-
-			nodeList.remove( nodeList.size() - 1 );
-			currentLeafNode = nodeList.isEmpty() ? null : (NodeImpl) nodeList.get( nodeList.size() - 1 );
-			resetHashCode();
+		if ( size > 0 ) {
+			currentLeafNode = currentLeafNode.getParent();
+			size--;
+			resetCachedState();
 		}
 	}
 
@@ -264,20 +211,29 @@ public NodeImpl getLeafNode() {
 
 	@Override
 	public Iterator<Path.Node> iterator() {
-		if ( nodeList.size() == 0 ) {
+		if ( size == 0 ) {
 			return Collections.<Path.Node>emptyList().iterator();
 		}
-		if ( nodeList.size() == 1 ) {
-			return nodeList.iterator();
+		List<Node> nodes = getNodeList();
+		if ( size == 1 ) {
+			return nodes.iterator();
 		}
-		return nodeList.subList( 1, nodeList.size() ).iterator();
+		return nodes.subList( 1, size ).iterator();
 	}
 
 	public String asString() {
+		if ( asString == null ) {
+			asString = buildString();
+		}
+		return asString;
+	}
+
+	private String buildString() {
 		StringBuilder builder = new StringBuilder();
 		boolean first = true;
-		for ( int i = 1; i < nodeList.size(); i++ ) {
-			NodeImpl nodeImpl = (NodeImpl) nodeList.get( i );
+		List<Node> nodes = getNodeList();
+		for ( int i = 1; i < size; i++ ) {
+			NodeImpl nodeImpl = (NodeImpl) nodes.get( i );
 			String name = nodeImpl.asString();
 			if ( name.isEmpty() ) {
 				// skip the node if it does not contribute to the string representation of the path, eg class level constraints
@@ -288,23 +244,42 @@ public String asString() {
 				builder.append( PROPERTY_PATH_SEPARATOR );
 			}
 
-			builder.append( nodeImpl.asString() );
+			builder.append( name );
 
 			first = false;
 		}
 		return builder.toString();
 	}
 
-	private void requiresWriteableNodeList() {
-		if ( !nodeListRequiresCopy ) {
-			return;
+	private NodeImpl appendNode(NodeImpl node) {
+		// the hash code of a path is built like the one of a list so we can compute it incrementally if known
+		int parentHashCode = hashCode;
+		currentLeafNode = node;
+		size++;
+		resetCachedState();
+		if ( parentHashCode != -1 ) {
+			hashCode = 31 * parentHashCode + node.hashCode();
 		}
+		return node;
+	}
+
+	private NodeImpl replaceLeafNode(NodeImpl node) {
+		currentLeafNode = node;
+		resetCachedState();
+		return node;
+	}
 
-		// Usually, the write operation is about adding one more node, so let's make the list one element larger.
-		List<Node> newNodeList = new ArrayList<>( nodeList.size() + 1 );
-		newNodeList.addAll( nodeList );
-		nodeList = newNodeList;
-		nodeListRequiresCopy = false;
+	private List<Node> getNodeList() {
+		if ( nodeList == null ) {
+			Node[] nodes = new Node[size];
+			NodeImpl current = currentLeafNode;
+			for ( int i = size - 1; i >= 0; i-- ) {
+				nodes[i] = current;
+				current = current.getParent();
+			}
+			nodeList = Arrays.asList( nodes );
+		}
+		return nodeList;
 	}
 
 	@Override
@@ -324,14 +299,23 @@ public boolean equals(Object obj) {
 			return false;
 		}
 		PathImpl other = (PathImpl) obj;
-		if ( nodeList == null ) {
-			if ( other.nodeList != null ) {
-				return false;
-			}
+		if ( size != other.size ) {
+			return false;
 		}
-		else if ( !nodeList.equals( other.nodeList ) ) {
+		if ( hashCode != -1 && other.hashCode != -1 && hashCode != other.hashCode ) {
 			return false;
 		}
+
+		// walk up both node chains, stopping as soon as we reach a prefix shared by both paths
+		NodeImpl node = currentLeafNode;
+		NodeImpl otherNode = other.currentLeafNode;
+		while ( node != otherNode ) {
+			if ( !node.equals( otherNode ) ) {
+				return false;
+			}
+			node = node.getParent();
+			otherNode = otherNode.getParent();
+		}
 		return true;
 	}
 
@@ -346,10 +330,11 @@ public int hashCode() {
 	}
 
 	private int buildHashCode() {
-		final int prime = 31;
+		// same algorithm as List.hashCode() so that it can be computed incrementally when appending nodes
 		int result = 1;
-		result = prime * result
-				+ ( ( nodeList == null ) ? 0 : nodeList.hashCode() );
+		for ( Node node : getNodeList() ) {
+			result = 31 * result + node.hashCode();
+		}
 		return result;
 	}
 
@@ -359,27 +344,27 @@ private int buildHashCode() {
 	 * @param path the path to make a copy of.
 	 */
 	private PathImpl(PathImpl path) {
-		nodeList = path.nodeList;
 		currentLeafNode = path.currentLeafNode;
+		size = path.size;
 		hashCode = path.hashCode;
-		nodeListRequiresCopy = true;
+		nodeList = path.nodeList;
+		asString = path.asString;
 	}
 
 	private PathImpl() {
-		nodeList = new ArrayList<>( 1 );
-		hashCode = -1;
-		nodeListRequiresCopy = false;
+		hashCode = 1;
 	}
 
-	private PathImpl(List<Node> nodeList) {
-		this.nodeList = nodeList;
-		currentLeafNode = (NodeImpl) nodeList.get( nodeList.size() - 1 );
-		hashCode = -1;
-		nodeListRequiresCopy = true;
+	private PathImpl(NodeImpl leafNode, int size) {
+		this.currentLeafNode = leafNode;
+		this.size = size;
+		this.hashCode = -1;
 	}
 
-	private void resetHashCode() {
+	private void resetCachedState() {
 		hashCode = -1;
+		nodeList = null;
+		asString = null;
 	}
 
 	private static PathImpl parseProperty(String propertyName) {
@@ -8,14 +8,16 @@
 
 import java.lang.invoke.MethodHandles;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
-import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import javax.validation.ConstraintValidatorFactory;
 import javax.validation.ConstraintViolation;
+import javax.validation.MessageInterpolator;
 import javax.validation.Path;
 import javax.validation.TraversableResolver;
 import javax.validation.ValidationException;
@@ -97,6 +99,13 @@
 	 */
 	private final boolean disableAlreadyValidatedBeanTracking;
 
+	/**
+	 * The context this context is a sub-context of, {@code null} for the context of a validation call. The processed
+	 * beans and constraints of the parent context are taken into account when checking if a bean or a constraint has
+	 * already been processed.
+	 */
+	private final AbstractValidationContext<T> parent;
+
 	/**
 	 * The set of already processed meta constraints per bean - path ({@link BeanPathMetaConstraintProcessedUnit}).
 	 */
@@ -110,10 +119,10 @@
 	private Set<BeanGroupProcessedUnit> processedGroupUnits;
 
 	/**
-	 * Maps an object to a list of paths in which it has been validated. The objects are the bean instances.
+	 * Maps an object to a tree of the paths in which it has been validated. The objects are the bean instances.
 	 */
 	@Lazy
-	private Map<Object, Set<PathImpl>> processedPathsPerBean;
+	private Map<Object, ProcessedPathsTree> processedPathsPerBean;
 
 	/**
 	 * Contains all failing constraints so far.
@@ -143,6 +152,27 @@ protected AbstractValidationContext(
 		this.rootBeanMetaData = rootBeanMetaData;
 
 		this.disableAlreadyValidatedBeanTracking = disableAlreadyValidatedBeanTracking;
+
+		this.parent = null;
+	}
+
+	/**
+	 * Creates a sub-context of the given context.
+	 */
+	protected AbstractValidationContext(AbstractValidationContext<T> parent, TraversableResolver traversableResolver) {
+		this.constraintValidatorManager = parent.constraintValidatorManager;
+		this.validatorScopedContext = parent.validatorScopedContext;
+		this.constraintValidatorFactory = parent.constraintValidatorFactory;
+		this.traversableResolver = traversableResolver;
+		this.constraintValidatorInitializationContext = parent.constraintValidatorInitializationContext;
+
+		this.rootBean = parent.rootBean;
+		this.rootBeanClass = parent.rootBeanClass;
+		this.rootBeanMetaData = parent.rootBeanMetaData;
+
+		this.disableAlreadyValidatedBeanTracking = parent.disableAlreadyValidatedBeanTracking;
+
+		this.parent = parent;
 	}
 
 	@Override
@@ -227,21 +257,35 @@ public void addConstraintFailure(
 			ConstraintDescriptor<?> descriptor
 	) {
 		String messageTemplate = constraintViolationCreationContext.getMessage();
-		String interpolatedMessage = interpolate(
-				messageTemplate,
-				valueContext.getCurrentValidatedValue(),
+		// at this point we make a copy of the path to avoid side effects
+		Path path = PathImpl.createCopy( constraintViolationCreationContext.getPath() );
+
+		MessageInterpolatorContext messageInterpolatorContext = new MessageInterpolatorContext(
 				descriptor,
-				constraintViolationCreationContext.getPath(),
+				valueContext.getCurrentValidatedValue(),
+				getRootBeanClass(),
+				path,
 				constraintViolationCreationContext.getMessageParameters(),
 				constraintViolationCreationContext.getExpressionVariables()
 		);
-		// at this point we make a copy of the path to avoid side effects
-		Path path = PathImpl.createCopy( constraintViolationCreationContext.getPath() );
+		MessageInterpolator messageInterpolator = validatorScopedContext.getMessageInterpolator();
+
+		String interpolatedMessage;
+		Supplier<String> messageInterpolation;
+		if ( validatorScopedContext.isLazyMessageInterpolation() ) {
+			interpolatedMessage = null;
+			messageInterpolation = () -> interpolate( messageInterpolator, messageTemplate, messageInterpolatorContext );
+		}
+		else {
+			interpolatedMessage = interpolate( messageInterpolator, messageTemplate, messageInterpolatorContext );
+			messageInterpolation = null;
+		}
 
 		getInitializedFailingConstraintViolations().add(
 				createConstraintViolation(
 						messageTemplate,
 						interpolatedMessage,
+						messageInterpolation,
 						path,
 						descriptor,
 						valueContext,
@@ -253,6 +297,7 @@ public void addConstraintFailure(
 	protected abstract ConstraintViolation<T> createConstraintViolation(
 			String messageTemplate,
 			String interpolatedMessage,
+			Supplier<String> messageInterpolation,
 			Path propertyPath,
 			ConstraintDescriptor<?> constraintDescriptor,
 			ValueContext<?, ?> valueContext,
@@ -266,7 +311,14 @@ public boolean hasMetaConstraintBeenProcessed(Object bean, Path path, MetaConstr
 			return false;
 		}
 
-		return getInitializedProcessedPathUnits().contains( new BeanPathMetaConstraintProcessedUnit( bean, path, metaConstraint ) );
+		BeanPathMetaConstraintProcessedUnit processedPathUnit = new BeanPathMetaConstraintProcessedUnit( bean, path, metaConstraint );
+		for ( AbstractValidationContext<T> context = this; context != null; context = context.parent ) {
+			if ( context.processedPathUnits != null && context.processedPathUnits.contains( processedPathUnit ) ) {
+				return true;
+			}
+		}
+
+		return false;
 	}
 
 	@Override
@@ -280,6 +332,38 @@ public void markConstraintProcessed(Object bean, Path path, MetaConstraint<?> me
 		getInitializedProcessedPathUnits().add( new BeanPathMetaConstraintProcessedUnit( bean, path, metaConstraint ) );
 	}
 
+	@Override
+	public BaseBeanValidationContext<T> createSubContext(TraversableResolver traversableResolver) {
+		return new ValidationSubContext<>( this, traversableResolver );
+	}
+
+	@Override
+	public void mergeSubContext(BaseBeanValidationContext<T> subContext) {
+		AbstractValidationContext<T> validationSubContext = (AbstractValidationContext<T>) subContext;
+
+		if ( validationSubContext.failingConstraintViolations != null ) {
+			getInitializedFailingConstraintViolations().addAll( validationSubContext.failingConstraintViolations );
+		}
+		if ( validationSubContext.processedPathUnits != null ) {
+			getInitializedProcessedPathUnits().addAll( validationSubContext.processedPathUnits );
+		}
+		if ( validationSubContext.processedGroupUnits != null ) {
+			getInitializedProcessedGroupUnits().addAll( validationSubContext.processedGroupUnits );
+		}
+		if ( validationSubContext.processedPathsPerBean != null ) {
+			Map<Object, ProcessedPathsTree> processedPathsPerBean = getInitializedProcessedPathsPerBean();
+			for ( Map.Entry<Object, ProcessedPathsTree> entry : validationSubContext.processedPathsPerBean.entrySet() ) {
+				ProcessedPathsTree processedPaths = processedPathsPerBean.get( entry.getKey() );
+				if ( processedPaths == null ) {
+					processedPathsPerBean.put( entry.getKey(), entry.getValue() );
+				}
+				else {
+					processedPaths.merge( entry.getValue() );
+				}
+			}
+		}
+	}
+
 	@Override
 	public ConstraintValidatorContextImpl createConstraintValidatorContextFor(ConstraintDescriptorImpl<?> constraintDescriptor, PathImpl path) {
 		return new ConstraintValidatorContextImpl(
@@ -293,24 +377,9 @@ public ConstraintValidatorContextImpl createConstraintValidatorContextFor(Constr
 	@Override
 	public abstract String toString();
 
-	private String interpolate(
-			String messageTemplate,
-			Object validatedValue,
-			ConstraintDescriptor<?> descriptor,
-			Path path,
-			Map<String, Object> messageParameters,
-			Map<String, Object> expressionVariables) {
-		MessageInterpolatorContext context = new MessageInterpolatorContext(
-				descriptor,
-				validatedValue,
-				getRootBeanClass(),
-				path,
-				messageParameters,
-				expressionVariables
-		);
-
+	private static String interpolate(MessageInterpolator messageInterpolator, String messageTemplate, MessageInterpolatorContext context) {
 		try {
-			return validatorScopedContext.getMessageInterpolator().interpolate(
+			return messageInterpolator.interpolate(
 					messageTemplate,
 					context
 			);
@@ -324,13 +393,13 @@ private String interpolate(
 	}
 
 	private boolean isAlreadyValidatedForPath(Object value, PathImpl path) {
-		Set<PathImpl> pathSet = getInitializedProcessedPathsPerBean().get( value );
-		if ( pathSet == null ) {
-			return false;
-		}
+		for ( AbstractValidationContext<T> context = this; context != null; context = context.parent ) {
+			if ( context.processedPathsPerBean == null ) {
+				continue;
+			}
 
-		for ( PathImpl p : pathSet ) {
-			if ( path.isRootPath() || p.isRootPath() || isSubPathOf( path, p ) || isSubPathOf( p, path ) ) {
+			ProcessedPathsTree processedPaths = context.processedPathsPerBean.get( value );
+			if ( processedPaths != null && ( path.isRootPath() || processedPaths.containsPrefixOrExtensionOf( path ) ) ) {
 				return true;
 			}
 		}
@@ -338,37 +407,28 @@ private boolean isAlreadyValidatedForPath(Object value, PathImpl path) {
 		return false;
 	}
 
-	private boolean isSubPathOf(Path p1, Path p2) {
-		Iterator<Path.Node> p1Iter = p1.iterator();
-		Iterator<Path.Node> p2Iter = p2.iterator();
-		while ( p1Iter.hasNext() ) {
-			Path.Node p1Node = p1Iter.next();
-			if ( !p2Iter.hasNext() ) {
-				return false;
-			}
-			Path.Node p2Node = p2Iter.next();
-			if ( !p1Node.equals( p2Node ) ) {
-				return false;
+	private boolean isAlreadyValidatedForCurrentGroup(Object value, Class<?> group) {
+		BeanGroupProcessedUnit processedGroupUnit = new BeanGroupProcessedUnit( value, group );
+		for ( AbstractValidationContext<T> context = this; context != null; context = context.parent ) {
+			if ( context.processedGroupUnits != null && context.processedGroupUnits.contains( processedGroupUnit ) ) {
+				return true;
 			}
 		}
-		return true;
-	}
 
-	private boolean isAlreadyValidatedForCurrentGroup(Object value, Class<?> group) {
-		return getInitializedProcessedGroupUnits().contains( new BeanGroupProcessedUnit( value, group ) );
+		return false;
 	}
 
 	private void markCurrentBeanAsProcessedForCurrentPath(Object bean, PathImpl path) {
-		// HV-1031 The path object is mutated as we traverse the object tree, hence copy it before saving it
-		Map<Object, Set<PathImpl>> processedPathsPerBean = getInitializedProcessedPathsPerBean();
+		// HV-1031 The path object is mutated as we traverse the object tree, hence we only keep its nodes which are immutable
+		Map<Object, ProcessedPathsTree> processedPathsPerBean = getInitializedProcessedPathsPerBean();
 
-		Set<PathImpl> processedPaths = processedPathsPerBean.get( bean );
+		ProcessedPathsTree processedPaths = processedPathsPerBean.get( bean );
 		if ( processedPaths == null ) {
-			processedPaths = new HashSet<>();
+			processedPaths = new ProcessedPathsTree();
 			processedPathsPerBean.put( bean, processedPaths );
 		}
 
-		processedPaths.add( PathImpl.createCopy( path ) );
+		processedPaths.add( path );
 	}
 
 	private void markCurrentBeanAsProcessedForCurrentGroup(Object bean, Class<?> group) {
@@ -389,7 +449,7 @@ private Set<BeanGroupProcessedUnit> getInitializedProcessedGroupUnits() {
 		return processedGroupUnits;
 	}
 
-	private Map<Object, Set<PathImpl>> getInitializedProcessedPathsPerBean() {
+	private Map<Object, ProcessedPathsTree> getInitializedProcessedPathsPerBean() {
 		if ( processedPathsPerBean == null ) {
 			processedPathsPerBean = new IdentityHashMap<>();
 		}
@@ -403,6 +463,100 @@ private Set<ConstraintViolation<T>> getInitializedFailingConstraintViolations()
 		return failingConstraintViolations;
 	}
 
+	/**
+	 * Prefix tree of the paths in which a given bean has been validated.
+	 * <p>
+	 * Checking if a path is a prefix or an extension of one of the processed paths is then proportional to the depth
+	 * of the path instead of the number of processed paths.
+	 */
+	private static final class ProcessedPathsTree {
+
+		private final PathTreeNode root = new PathTreeNode();
+
+		private boolean containsRootPath;
+
+		private void add(PathImpl path) {
+			if ( path.isRootPath() ) {
+				containsRootPath = true;
+				return;
+			}
+
+			PathTreeNode current = root;
+			for ( Path.Node node : path ) {
+				current = current.getOrCreateChild( node );
+			}
+			current.processed = true;
+		}
+
+		private void merge(ProcessedPathsTree other) {
+			containsRootPath = containsRootPath || other.containsRootPath;
+			root.merge( other.root );
+		}
+
+		private boolean containsPrefixOrExtensionOf(PathImpl path) {
+			if ( containsRootPath ) {
+				return true;
+			}
+
+			PathTreeNode current = root;
+			for ( Path.Node node : path ) {
+				current = current.getChild( node );
+				if ( current == null ) {
+					return false;
+				}
+				// a processed path is a prefix of the given path
+				if ( current.processed ) {
+					return true;
+				}
+			}
+
+			// the given path is a prefix of a processed path
+			return true;
+		}
+	}
+
+	private static final class PathTreeNode {
+
+		private Map<Path.Node, PathTreeNode> children;
+
+		private boolean processed;
+
+		private PathTreeNode getChild(Path.Node node) {
+			if ( children == null ) {
+				return null;
+			}
+			return children.get( node );
+		}
+
+		private PathTreeNode getOrCreateChild(Path.Node node) {
+			if ( children == null ) {
+				children = new HashMap<>();
+			}
+			return children.computeIfAbsent( node, n -> new PathTreeNode() );
+		}
+
+		private void merge(PathTreeNode other) {
+			processed = processed || other.processed;
+
+			if ( other.children == null ) {
+				return;
+			}
+			if ( children == null ) {
+				children = other.children;
+				return;
+			}
+			for ( Map.Entry<Path.Node, PathTreeNode> entry : other.children.entrySet() ) {
+				PathTreeNode child = children.get( entry.getKey() );
+				if ( child == null ) {
+					children.put( entry.getKey(), entry.getValue() );
+				}
+				else {
+					child.merge( entry.getValue() );
+				}
+			}
+		}
+	}
+
 	private static final class BeanPathMetaConstraintProcessedUnit {
 
 		// these fields are final but we don't mark them as final as an optimization
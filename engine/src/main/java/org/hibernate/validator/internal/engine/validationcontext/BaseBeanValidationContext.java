@@ -55,4 +55,27 @@
 	default boolean appliesTo(MetaConstraint<?> metaConstraint) {
 		return true;
 	}
+
+	/**
+	 * Creates a context which can be used to validate a part of the object graph concurrently to other sub-contexts
+	 * of this context.
+	 * <p>
+	 * The sub-context has its own failing constraints and its own tracking of the processed beans and constraints but
+	 * also sees the beans and constraints processed by this context. This context must not be used until the
+	 * sub-context is merged back via {@link #mergeSubContext(BaseBeanValidationContext)}.
+	 *
+	 * @param traversableResolver the traversable resolver used by the sub-context, it must be safe to use it
+	 * concurrently to the ones of the other sub-contexts
+	 *
+	 * @return a new sub-context of this context
+	 */
+	BaseBeanValidationContext<T> createSubContext(TraversableResolver traversableResolver);
+
+	/**
+	 * Merges the failing constraints and the processed beans and constraints of the given sub-context into this
+	 * context.
+	 *
+	 * @param subContext a sub-context created by {@link #createSubContext(TraversableResolver)}
+	 */
+	void mergeSubContext(BaseBeanValidationContext<T> subContext);
 }
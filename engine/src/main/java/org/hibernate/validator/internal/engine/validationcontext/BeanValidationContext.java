@@ -6,6 +6,8 @@
  */
 package org.hibernate.validator.internal.engine.validationcontext;
 
+import java.util.function.Supplier;
+
 import javax.validation.ConstraintValidatorFactory;
 import javax.validation.ConstraintViolation;
 import javax.validation.Path;
@@ -47,7 +49,7 @@ private static boolean buildDisableAlreadyValidatedBeanTracking(BeanMetaData<?>
 
 	@Override
 	protected ConstraintViolation<T> createConstraintViolation(
-			String messageTemplate, String interpolatedMessage, Path propertyPath,
+			String messageTemplate, String interpolatedMessage, Supplier<String> messageInterpolation, Path propertyPath,
 			ConstraintDescriptor<?> constraintDescriptor, ValueContext<?, ?> localContext,
 			ConstraintViolationCreationContext constraintViolationCreationContext) {
 		return ConstraintViolationImpl.forBeanValidation(
@@ -55,6 +57,7 @@ protected ConstraintViolation<T> createConstraintViolation(
 				constraintViolationCreationContext.getMessageParameters(),
 				constraintViolationCreationContext.getExpressionVariables(),
 				interpolatedMessage,
+				messageInterpolation,
 				getRootBeanClass(),
 				getRootBean(),
 				localContext.getCurrentBean(),
@@ -10,6 +10,7 @@
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import javax.validation.ConstraintValidatorFactory;
 import javax.validation.ConstraintViolation;
@@ -116,13 +117,14 @@ public ConstraintValidatorContextImpl createConstraintValidatorContextFor(Constr
 
 	@Override
 	protected ConstraintViolation<T> createConstraintViolation(
-			String messageTemplate, String interpolatedMessage, Path propertyPath, ConstraintDescriptor<?> constraintDescriptor, ValueContext<?, ?> valueContext,
+			String messageTemplate, String interpolatedMessage, Supplier<String> messageInterpolation, Path propertyPath, ConstraintDescriptor<?> constraintDescriptor, ValueContext<?, ?> valueContext,
 			ConstraintViolationCreationContext constraintViolationCreationContext) {
 		return ConstraintViolationImpl.forParameterValidation(
 				messageTemplate,
 				constraintViolationCreationContext.getMessageParameters(),
 				constraintViolationCreationContext.getExpressionVariables(),
 				interpolatedMessage,
+				messageInterpolation,
 				getRootBeanClass(),
 				getRootBean(),
 				valueContext.getCurrentBean(),
@@ -7,6 +7,7 @@
 package org.hibernate.validator.internal.engine.validationcontext;
 
 import java.util.Objects;
+import java.util.function.Supplier;
 
 import javax.validation.ConstraintValidatorFactory;
 import javax.validation.ConstraintViolation;
@@ -80,7 +81,7 @@ private String getPropertyName(ConstraintLocation location) {
 
 	@Override
 	protected ConstraintViolation<T> createConstraintViolation(
-			String messageTemplate, String interpolatedMessage, Path propertyPath,
+			String messageTemplate, String interpolatedMessage, Supplier<String> messageInterpolation, Path propertyPath,
 			ConstraintDescriptor<?> constraintDescriptor, ValueContext<?, ?> localContext,
 			ConstraintViolationCreationContext constraintViolationCreationContext) {
 		return ConstraintViolationImpl.forBeanValidation(
@@ -88,6 +89,7 @@ protected ConstraintViolation<T> createConstraintViolation(
 				constraintViolationCreationContext.getMessageParameters(),
 				constraintViolationCreationContext.getExpressionVariables(),
 				interpolatedMessage,
+				messageInterpolation,
 				getRootBeanClass(),
 				getRootBean(),
 				localContext.getCurrentBean(),
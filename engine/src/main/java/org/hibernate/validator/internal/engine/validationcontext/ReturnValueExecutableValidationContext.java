@@ -8,6 +8,7 @@
 
 import java.lang.reflect.Executable;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import javax.validation.ConstraintValidatorFactory;
 import javax.validation.ConstraintViolation;
@@ -88,13 +89,14 @@ private static boolean buildDisableAlreadyValidatedBeanTracking(Optional<Executa
 	}
 
 	@Override
-	protected ConstraintViolation<T> createConstraintViolation(String messageTemplate, String interpolatedMessage, Path propertyPath, ConstraintDescriptor<?> constraintDescriptor, ValueContext<?, ?> valueContext,
+	protected ConstraintViolation<T> createConstraintViolation(String messageTemplate, String interpolatedMessage, Supplier<String> messageInterpolation, Path propertyPath, ConstraintDescriptor<?> constraintDescriptor, ValueContext<?, ?> valueContext,
 			ConstraintViolationCreationContext constraintViolationCreationContext) {
 		return ConstraintViolationImpl.forReturnValueValidation(
 				messageTemplate,
 				constraintViolationCreationContext.getMessageParameters(),
 				constraintViolationCreationContext.getExpressionVariables(),
 				interpolatedMessage,
+				messageInterpolation,
 				getRootBeanClass(),
 				getRootBean(),
 				valueContext.getCurrentBean(),
@@ -0,0 +1,60 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.engine.validationcontext;
+
+import java.util.function.Supplier;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Path;
+import javax.validation.TraversableResolver;
+import javax.validation.metadata.ConstraintDescriptor;
+
+import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintViolationCreationContext;
+import org.hibernate.validator.internal.engine.valuecontext.ValueContext;
+import org.hibernate.validator.internal.metadata.core.MetaConstraint;
+
+/**
+ * Sub-context of a validation context, used to validate a part of the object graph concurrently to the other
+ * sub-contexts of the same context.
+ * <p>
+ * The constraint violations are created by the parent context so that they are the same as if the validation
+ * were performed by the parent context.
+ *
+ * @author Guillaume Smet
+ */
+class ValidationSubContext<T> extends AbstractValidationContext<T> {
+
+	private final AbstractValidationContext<T> parent;
+
+	ValidationSubContext(AbstractValidationContext<T> parent, TraversableResolver traversableResolver) {
+		super( parent, traversableResolver );
+		this.parent = parent;
+	}
+
+	@Override
+	public boolean appliesTo(MetaConstraint<?> metaConstraint) {
+		return parent.appliesTo( metaConstraint );
+	}
+
+	@Override
+	protected ConstraintViolation<T> createConstraintViolation(
+			String messageTemplate, String interpolatedMessage, Supplier<String> messageInterpolation, Path propertyPath,
+			ConstraintDescriptor<?> constraintDescriptor, ValueContext<?, ?> localContext,
+			ConstraintViolationCreationContext constraintViolationCreationContext) {
+		return parent.createConstraintViolation( messageTemplate, interpolatedMessage, messageInterpolation, propertyPath, constraintDescriptor, localContext,
+				constraintViolationCreationContext );
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder( getClass().getSimpleName() );
+		sb.append( '{' );
+		sb.append( "parent=" ).append( parent );
+		sb.append( '}' );
+		return sb.toString();
+	}
+}
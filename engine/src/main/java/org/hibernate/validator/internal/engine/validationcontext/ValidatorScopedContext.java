@@ -7,6 +7,7 @@
 package org.hibernate.validator.internal.engine.validationcontext;
 
 import java.time.Duration;
+import java.util.concurrent.ForkJoinPool;
 
 import javax.validation.ClockProvider;
 import javax.validation.MessageInterpolator;
@@ -65,6 +66,21 @@ public class ValidatorScopedContext {
 	 */
 	private final Object constraintValidatorPayload;
 
+	/**
+	 * The minimal number of elements of a cascaded container for its elements to be validated in parallel.
+	 */
+	private final int parallelCascadingThreshold;
+
+	/**
+	 * The executor used to validate the elements of large cascaded containers in parallel.
+	 */
+	private final ForkJoinPool parallelCascadingExecutor;
+
+	/**
+	 * Hibernate Validator specific flag to interpolate the messages of the constraint violations lazily.
+	 */
+	private final boolean lazyMessageInterpolation;
+
 	public ValidatorScopedContext(ValidatorFactoryScopedContext validatorFactoryScopedContext) {
 		this.messageInterpolator = validatorFactoryScopedContext.getMessageInterpolator();
 		this.parameterNameProvider = validatorFactoryScopedContext.getParameterNameProvider();
@@ -74,6 +90,9 @@ public ValidatorScopedContext(ValidatorFactoryScopedContext validatorFactoryScop
 		this.failFast = validatorFactoryScopedContext.isFailFast();
 		this.traversableResolverResultCacheEnabled = validatorFactoryScopedContext.isTraversableResolverResultCacheEnabled();
 		this.constraintValidatorPayload = validatorFactoryScopedContext.getConstraintValidatorPayload();
+		this.parallelCascadingThreshold = validatorFactoryScopedContext.getParallelCascadingThreshold();
+		this.parallelCascadingExecutor = validatorFactoryScopedContext.getParallelCascadingExecutor();
+		this.lazyMessageInterpolation = validatorFactoryScopedContext.isLazyMessageInterpolation();
 	}
 
 	public MessageInterpolator getMessageInterpolator() {
@@ -107,4 +126,16 @@ public boolean isTraversableResolverResultCacheEnabled() {
 	public Object getConstraintValidatorPayload() {
 		return this.constraintValidatorPayload;
 	}
+
+	public int getParallelCascadingThreshold() {
+		return this.parallelCascadingThreshold;
+	}
+
+	public ForkJoinPool getParallelCascadingExecutor() {
+		return this.parallelCascadingExecutor;
+	}
+
+	public boolean isLazyMessageInterpolation() {
+		return this.lazyMessageInterpolation;
+	}
 }
@@ -66,6 +66,19 @@
 		this.propertyPath = propertyPath;
 	}
 
+	/**
+	 * Creates a copy of the given value context, with its own property path.
+	 */
+	ValueContext(ValueContext<T, V> original) {
+		this.parameterNameProvider = original.parameterNameProvider;
+		this.currentBean = original.currentBean;
+		this.currentValidatable = original.currentValidatable;
+		this.propertyPath = PathImpl.createCopy( original.propertyPath );
+		this.currentGroup = original.currentGroup;
+		this.currentValue = original.currentValue;
+		this.constraintLocationKind = original.constraintLocationKind;
+	}
+
 	public final PathImpl getPropertyPath() {
 		return propertyPath;
 	}
@@ -31,6 +31,14 @@ public static <T, V> ValueContext<T, V> getLocalExecutionContextForExecutable(
 		return new ValueContext<>( parameterNameProvider, value, validatable, propertyPath );
 	}
 
+	/**
+	 * Creates a copy of the given value context which can be used concurrently to the original one as they don't share
+	 * their mutable state.
+	 */
+	public static <T, V> ValueContext<T, V> copyOf(ValueContext<T, V> valueContext) {
+		return new ValueContext<>( valueContext );
+	}
+
 	@SuppressWarnings("unchecked")
 	public static <T, V> BeanValueContext<T, V> getLocalExecutionContextForBean(
 			ExecutableParameterNameProvider parameterNameProvider,
@@ -8,12 +8,17 @@
 
 import static org.hibernate.validator.internal.util.CollectionHelper.newArrayList;
 import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.Option.IDENTITY_COMPARISONS;
-import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType.SOFT;
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType.STRONG;
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType.WEAK;
 import static org.hibernate.validator.internal.util.logging.Messages.MESSAGES;
 
 import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.hibernate.validator.internal.engine.ConstraintCreationContext;
 import org.hibernate.validator.internal.engine.MethodValidationConfiguration;
@@ -21,6 +26,7 @@
 import org.hibernate.validator.internal.metadata.aggregated.BeanMetaData;
 import org.hibernate.validator.internal.metadata.aggregated.BeanMetaDataBuilder;
 import org.hibernate.validator.internal.metadata.aggregated.BeanMetaDataImpl;
+import org.hibernate.validator.internal.metadata.cache.BeanMetaDataCacheStatisticsImpl;
 import org.hibernate.validator.internal.metadata.core.AnnotationProcessingOptions;
 import org.hibernate.validator.internal.metadata.core.AnnotationProcessingOptionsImpl;
 import org.hibernate.validator.internal.metadata.provider.AnnotationMetaDataProvider;
@@ -34,6 +40,8 @@
 import org.hibernate.validator.internal.util.ExecutableParameterNameProvider;
 import org.hibernate.validator.internal.util.classhierarchy.ClassHierarchyHelper;
 import org.hibernate.validator.internal.util.stereotypes.Immutable;
+import org.hibernate.validator.metadata.BeanMetaDataCache;
+import org.hibernate.validator.metadata.BeanMetaDataCacheFactory;
 
 /**
  * This manager is in charge of providing all constraint related meta data
@@ -54,20 +62,28 @@
 */
 public class BeanMetaDataManagerImpl implements BeanMetaDataManager {
 	/**
-	 * The default initial capacity for this cache.
+	 * The default initial capacity for the built classes map.
 	 */
 	private static final int DEFAULT_INITIAL_CAPACITY = 16;
 
 	/**
-	 * The default load factor for this cache.
+	 * The default load factor for the built classes map.
 	 */
 	private static final float DEFAULT_LOAD_FACTOR = 0.75f;
 
 	/**
-	 * The default concurrency level for this cache.
+	 * The default concurrency level for the built classes map.
 	 */
 	private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
 
+	/**
+	 * Marks the threads currently building bean metadata.
+	 * <p>
+	 * These threads never wait for a construction in progress in another thread: they might otherwise wait for a
+	 * thread which is itself waiting for them.
+	 */
+	private static final ThreadLocal<Boolean> CONSTRUCTING_BEAN_META_DATA = new ThreadLocal<>();
+
 	/**
 	 * Additional metadata providers used for meta data retrieval if
 	 * the XML and/or programmatic configuration is used.
@@ -85,7 +101,30 @@ public class BeanMetaDataManagerImpl implements BeanMetaDataManager {
 	/**
 	 * Used to cache the constraint meta data for validated entities
 	 */
-	private final ConcurrentReferenceHashMap<Class<?>, BeanMetaData<?>> beanMetaDataCache;
+	private final BeanMetaDataCache beanMetaDataCache;
+
+	/**
+	 * The classes whose metadata has already been built, used to detect the metadata rebuilt after having been
+	 * evicted from the cache. The classes are weakly referenced.
+	 */
+	private final ConcurrentReferenceHashMap<Class<?>, Boolean> builtClasses;
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	private final LongAdder rebuilds = new LongAdder();
+
+	/**
+	 * The bean metadata constructions in progress. Concurrent requests for the metadata of a bean being built wait
+	 * for the construction in progress instead of building the very same metadata.
+	 */
+	private final ConcurrentMap<Class<?>, BeanMetaDataConstruction> beanMetaDataConstructions = new ConcurrentHashMap<>();
+
+	/**
+	 * The number of bean metadata constructions avoided by waiting for a construction in progress.
+	 */
+	private final LongAdder avoidedDuplicateBeanMetaDataConstructions = new LongAdder();
 
 	/**
 	 * Used for resolving type parameters. Thread-safe.
@@ -108,6 +147,18 @@ public BeanMetaDataManagerImpl(ConstraintCreationContext constraintCreationConte
 			ValidationOrderGenerator validationOrderGenerator,
 			List<MetaDataProvider> optionalMetaDataProviders,
 			MethodValidationConfiguration methodValidationConfiguration) {
+		this( constraintCreationContext, executableHelper, parameterNameProvider, javaBeanHelper, validationOrderGenerator,
+				optionalMetaDataProviders, methodValidationConfiguration, BeanMetaDataCacheFactory.soft() );
+	}
+
+	public BeanMetaDataManagerImpl(ConstraintCreationContext constraintCreationContext,
+			ExecutableHelper executableHelper,
+			ExecutableParameterNameProvider parameterNameProvider,
+			JavaBeanHelper javaBeanHelper,
+			ValidationOrderGenerator validationOrderGenerator,
+			List<MetaDataProvider> optionalMetaDataProviders,
+			MethodValidationConfiguration methodValidationConfiguration,
+			BeanMetaDataCacheFactory beanMetaDataCacheFactory) {
 		this.constraintCreationContext = constraintCreationContext;
 		this.executableHelper = executableHelper;
 		this.parameterNameProvider = parameterNameProvider;
@@ -115,12 +166,13 @@ public BeanMetaDataManagerImpl(ConstraintCreationContext constraintCreationConte
 
 		this.methodValidationConfiguration = methodValidationConfiguration;
 
-		this.beanMetaDataCache = new ConcurrentReferenceHashMap<>(
+		this.beanMetaDataCache = beanMetaDataCacheFactory.createBeanMetaDataCache();
+		this.builtClasses = new ConcurrentReferenceHashMap<>(
 				DEFAULT_INITIAL_CAPACITY,
 				DEFAULT_LOAD_FACTOR,
 				DEFAULT_CONCURRENCY_LEVEL,
-				SOFT,
-				SOFT,
+				WEAK,
+				STRONG,
 				EnumSet.of( IDENTITY_COMPARISONS )
 		);
 
@@ -150,10 +202,57 @@ public <T> BeanMetaData<T> getBeanMetaData(Class<T> beanClass) {
 		BeanMetaData<T> beanMetaData = (BeanMetaData<T>) beanMetaDataCache.get( beanClass );
 
 		if ( beanMetaData != null ) {
+			hits.increment();
 			return beanMetaData;
 		}
 
-		beanMetaData = createBeanMetaData( beanClass );
+		misses.increment();
+
+		// The metadata is built by a thread building bean metadata itself: we build it directly to avoid deadlocks
+		if ( CONSTRUCTING_BEAN_META_DATA.get() != null ) {
+			return createAndCacheBeanMetaData( beanClass );
+		}
+
+		BeanMetaDataConstruction construction = new BeanMetaDataConstruction();
+		BeanMetaDataConstruction constructionInProgress = beanMetaDataConstructions.putIfAbsent( beanClass, construction );
+
+		// Another thread is building the metadata, we wait for it
+		if ( constructionInProgress != null ) {
+			beanMetaData = (BeanMetaData<T>) constructionInProgress.await();
+
+			if ( beanMetaData != null ) {
+				avoidedDuplicateBeanMetaDataConstructions.increment();
+				return beanMetaData;
+			}
+
+			// the construction failed or we have been interrupted, we build the metadata ourselves
+			return createAndCacheBeanMetaData( beanClass );
+		}
+
+		try {
+			// the metadata might have been cached between the lookup and the registration of the construction
+			beanMetaData = (BeanMetaData<T>) beanMetaDataCache.get( beanClass );
+			if ( beanMetaData == null ) {
+				CONSTRUCTING_BEAN_META_DATA.set( Boolean.TRUE );
+				try {
+					beanMetaData = createAndCacheBeanMetaData( beanClass );
+				}
+				finally {
+					CONSTRUCTING_BEAN_META_DATA.remove();
+				}
+			}
+			construction.complete( beanMetaData );
+			return beanMetaData;
+		}
+		finally {
+			beanMetaDataConstructions.remove( beanClass, construction );
+			construction.release();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> BeanMetaData<T> createAndCacheBeanMetaData(Class<T> beanClass) {
+		BeanMetaData<T> beanMetaData = createBeanMetaData( beanClass );
 		BeanMetaData<T> previousBeanMetaData = (BeanMetaData<T>) beanMetaDataCache.putIfAbsent( beanClass, beanMetaData );
 
 		// we return the previous value if not null
@@ -161,18 +260,45 @@ public <T> BeanMetaData<T> getBeanMetaData(Class<T> beanClass) {
 			return previousBeanMetaData;
 		}
 
+		if ( builtClasses.put( beanClass, Boolean.TRUE ) != null ) {
+			rebuilds.increment();
+		}
+
 		return beanMetaData;
 	}
 
 	@Override
 	public void clear() {
 		beanMetaDataCache.clear();
+		builtClasses.clear();
 	}
 
 	public int numberOfCachedBeanMetaDataInstances() {
 		return beanMetaDataCache.size();
 	}
 
+	/**
+	 * @return the number of bean metadata constructions avoided because a concurrent construction of the same
+	 * metadata was already in progress
+	 */
+	public long numberOfAvoidedDuplicateBeanMetaDataConstructions() {
+		return avoidedDuplicateBeanMetaDataConstructions.sum();
+	}
+
+	/**
+	 * @return a snapshot of the statistics of the bean metadata cache
+	 */
+	public BeanMetaDataCacheStatisticsImpl getBeanMetaDataCacheStatistics() {
+		return new BeanMetaDataCacheStatisticsImpl(
+				hits.sum(),
+				misses.sum(),
+				rebuilds.sum(),
+				beanMetaDataCache.getEvictionCount(),
+				avoidedDuplicateBeanMetaDataConstructions.sum(),
+				beanMetaDataCache.size()
+		);
+	}
+
 	/**
 	 * Creates a {@link org.hibernate.validator.internal.metadata.aggregated.BeanMetaData} containing the meta data from all meta
 	 * data providers for the given type and its hierarchy.
@@ -229,4 +355,37 @@ private <T> List<BeanConfiguration<? super T>> getBeanConfigurationForHierarchy(
 
 		return configurations;
 	}
+
+	/**
+	 * A bean metadata construction in progress.
+	 */
+	private static final class BeanMetaDataConstruction {
+
+		private final CountDownLatch done = new CountDownLatch( 1 );
+
+		private volatile BeanMetaData<?> beanMetaData;
+
+		private void complete(BeanMetaData<?> beanMetaData) {
+			this.beanMetaData = beanMetaData;
+		}
+
+		private void release() {
+			done.countDown();
+		}
+
+		/**
+		 * @return the bean metadata or {@code null} if the construction failed or if the current thread has been
+		 * interrupted while waiting
+		 */
+		private BeanMetaData<?> await() {
+			try {
+				done.await();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return null;
+			}
+			return beanMetaData;
+		}
+	}
 }
@@ -6,14 +6,19 @@
  */
 package org.hibernate.validator.internal.metadata;
 
-import static org.hibernate.validator.internal.util.CollectionHelper.newArrayList;
-
 import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
 import org.hibernate.validator.internal.engine.ConstraintCreationContext;
 import org.hibernate.validator.internal.engine.MethodValidationConfiguration;
@@ -55,7 +60,8 @@ public PredefinedScopeBeanMetaDataManager(ConstraintCreationContext constraintCr
 			List<MetaDataProvider> optionalMetaDataProviders,
 			MethodValidationConfiguration methodValidationConfiguration,
 			BeanMetaDataClassNormalizer beanMetaDataClassNormalizer,
-			Set<Class<?>> beanClassesToInitialize) {
+			Set<Class<?>> beanClassesToInitialize,
+			Executor beanMetaDataInitializationExecutor) {
 		AnnotationProcessingOptions annotationProcessingOptions = getAnnotationProcessingOptionsFromNonDefaultProviders( optionalMetaDataProviders );
 		AnnotationMetaDataProvider defaultProvider = new AnnotationMetaDataProvider(
 				constraintCreationContext,
@@ -71,20 +77,9 @@ public PredefinedScopeBeanMetaDataManager(ConstraintCreationContext constraintCr
 		metaDataProviders.add( defaultProvider );
 		metaDataProviders.addAll( optionalMetaDataProviders );
 
-		Map<Class<?>, BeanMetaData<?>> tmpBeanMetadataMap = new HashMap<>();
-
-		for ( Class<?> validatedClass : beanClassesToInitialize ) {
-			@SuppressWarnings("unchecked")
-			List<Class<?>> classHierarchy = (List<Class<?>>) (Object) ClassHierarchyHelper.getHierarchy( validatedClass, Filters.excludeInterfaces() );
-
-			// note that the hierarchy also contains the initial class
-			for ( Class<?> hierarchyElement : classHierarchy ) {
-				tmpBeanMetadataMap.put( beanMetaDataClassNormalizer.normalize( hierarchyElement ),
-						createBeanMetaData( constraintCreationContext, executableHelper, parameterNameProvider,
-								javaBeanHelper, validationOrderGenerator, optionalMetaDataProviders, methodValidationConfiguration,
-								metaDataProviders, hierarchyElement ) );
-			}
-		}
+		Map<Class<?>, BeanMetaData<?>> tmpBeanMetadataMap = initializeBeanMetaData( constraintCreationContext, executableHelper, parameterNameProvider,
+				validationOrderGenerator, methodValidationConfiguration, metaDataProviders, beanMetaDataClassNormalizer, beanClassesToInitialize,
+				beanMetaDataInitializationExecutor );
 
 		this.beanMetaDataMap = CollectionHelper.toImmutableMap( tmpBeanMetadataMap );
 
@@ -106,35 +101,110 @@ public void clear() {
 		beanMetaDataMap.clear();
 	}
 
+	/**
+	 * Initializes the metadata of the given classes and of the classes of their hierarchies.
+	 * <p>
+	 * The configurations of a type are retrieved once and shared by all the types of its hierarchy. The metadata of a
+	 * class is built as soon as the configurations of all the types of its hierarchy are available. The metadata of
+	 * the cascaded beans are looked up at validation time so they don't need to be initialized first.
+	 *
+	 * @param executor the executor used to initialize the metadata in parallel, {@code null} to initialize them
+	 * sequentially in the current thread
+	 *
+	 * @return the metadata of the classes, indexed by normalized class
+	 */
+	private static Map<Class<?>, BeanMetaData<?>> initializeBeanMetaData(ConstraintCreationContext constraintCreationContext,
+			ExecutableHelper executableHelper,
+			ExecutableParameterNameProvider parameterNameProvider,
+			ValidationOrderGenerator validationOrderGenerator,
+			MethodValidationConfiguration methodValidationConfiguration,
+			List<MetaDataProvider> metaDataProviders,
+			BeanMetaDataClassNormalizer beanMetaDataClassNormalizer,
+			Set<Class<?>> beanClassesToInitialize,
+			Executor executor) {
+		long start = System.nanoTime();
+		Executor initializationExecutor = executor != null ? executor : Runnable::run;
+
+		// note that the hierarchies also contain the initial classes
+		Set<Class<?>> classesToInitialize = new LinkedHashSet<>();
+		for ( Class<?> validatedClass : beanClassesToInitialize ) {
+			classesToInitialize.addAll( ClassHierarchyHelper.getHierarchy( validatedClass, Filters.excludeInterfaces() ) );
+		}
+
+		Map<Class<?>, CompletableFuture<TimedBeanConfigurations>> beanConfigurations = new HashMap<>();
+		Map<Class<?>, CompletableFuture<BeanMetaData<?>>> beanMetaData = new LinkedHashMap<>();
+		for ( Class<?> clazz : classesToInitialize ) {
+			List<Class<?>> hierarchy = new ArrayList<>( ClassHierarchyHelper.getHierarchy( clazz ) );
+
+			List<CompletableFuture<TimedBeanConfigurations>> hierarchyBeanConfigurations = new ArrayList<>( hierarchy.size() );
+			for ( Class<?> hierarchyElement : hierarchy ) {
+				hierarchyBeanConfigurations.add( beanConfigurations.computeIfAbsent( hierarchyElement,
+						c -> CompletableFuture.supplyAsync( () -> TimedBeanConfigurations.of( metaDataProviders, c ), initializationExecutor ) ) );
+			}
+
+			beanMetaData.put( clazz, CompletableFuture.allOf( hierarchyBeanConfigurations.toArray( new CompletableFuture<?>[hierarchyBeanConfigurations.size()] ) )
+					.thenApplyAsync( v -> createBeanMetaData( constraintCreationContext, executableHelper, parameterNameProvider,
+							validationOrderGenerator, methodValidationConfiguration, metaDataProviders.size(), clazz, hierarchyBeanConfigurations ),
+							initializationExecutor ) );
+		}
+
+		Map<Class<?>, BeanMetaData<?>> beanMetaDataMap = CollectionHelper.newHashMap( beanMetaData.size() );
+		for ( Entry<Class<?>, CompletableFuture<BeanMetaData<?>>> entry : beanMetaData.entrySet() ) {
+			beanMetaDataMap.put( beanMetaDataClassNormalizer.normalize( entry.getKey() ), join( entry.getValue() ) );
+		}
+
+		if ( LOG.isDebugEnabled() ) {
+			LOG.allBeanMetaDataInitialized( beanMetaDataMap.size(), TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - start ),
+					executor != null ? executor.toString() : "the current thread" );
+		}
+
+		return beanMetaDataMap;
+	}
+
 	/**
 	 * Creates a {@link org.hibernate.validator.internal.metadata.aggregated.BeanMetaData} containing the meta data from all meta
 	 * data providers for the given type and its hierarchy.
 	 *
 	 * @param <T> The type of interest.
 	 * @param clazz The type's class.
+	 * @param hierarchyBeanConfigurations The configurations of the types of the hierarchy of the class, starting with
+	 * the class itself.
 	 *
 	 * @return A bean meta data object for the given type.
 	 */
+	@SuppressWarnings("unchecked")
 	private static <T> BeanMetaDataImpl<T> createBeanMetaData(ConstraintCreationContext constraintCreationContext,
 			ExecutableHelper executableHelper,
 			ExecutableParameterNameProvider parameterNameProvider,
-			JavaBeanHelper javaBeanHelper,
 			ValidationOrderGenerator validationOrderGenerator,
-			List<MetaDataProvider> optionalMetaDataProviders,
 			MethodValidationConfiguration methodValidationConfiguration,
-			List<MetaDataProvider> metaDataProviders,
-			Class<T> clazz) {
+			int metaDataProviderCount,
+			Class<T> clazz,
+			List<CompletableFuture<TimedBeanConfigurations>> hierarchyBeanConfigurations) {
+		long start = System.nanoTime();
+
 		BeanMetaDataBuilder<T> builder = BeanMetaDataBuilder.getInstance(
 				constraintCreationContext, executableHelper, parameterNameProvider,
 				validationOrderGenerator, clazz, methodValidationConfiguration );
 
-		for ( MetaDataProvider provider : metaDataProviders ) {
-			for ( BeanConfiguration<? super T> beanConfiguration : getBeanConfigurationForHierarchy( provider, clazz ) ) {
-				builder.add( beanConfiguration );
+		for ( int i = 0; i < metaDataProviderCount; i++ ) {
+			for ( CompletableFuture<TimedBeanConfigurations> beanConfigurations : hierarchyBeanConfigurations ) {
+				BeanConfiguration<? super T> beanConfiguration = (BeanConfiguration<? super T>) beanConfigurations.join().beanConfigurations[i];
+				if ( beanConfiguration != null ) {
+					builder.add( beanConfiguration );
+				}
 			}
 		}
 
-		return builder.build();
+		BeanMetaDataImpl<T> beanMetaData = builder.build();
+
+		if ( LOG.isDebugEnabled() ) {
+			long configurationRetrievalDuration = hierarchyBeanConfigurations.get( 0 ).join().durationInNanos;
+			LOG.beanMetaDataInitialized( clazz, toMillis( System.nanoTime() - start + configurationRetrievalDuration ),
+					toMillis( configurationRetrievalDuration ) );
+		}
+
+		return beanMetaData;
 	}
 
 	/**
@@ -149,25 +219,49 @@ private static AnnotationProcessingOptions getAnnotationProcessingOptionsFromNon
 		return options;
 	}
 
+	private static <T> T join(CompletableFuture<T> future) {
+		try {
+			return future.join();
+		}
+		catch (CompletionException e) {
+			// rethrow the original exception, as a sequential initialization would do
+			if ( e.getCause() instanceof RuntimeException ) {
+				throw (RuntimeException) e.getCause();
+			}
+			if ( e.getCause() instanceof Error ) {
+				throw (Error) e.getCause();
+			}
+			throw e;
+		}
+	}
+
+	private static double toMillis(long durationInNanos) {
+		return durationInNanos / 1_000_000d;
+	}
+
 	/**
-	 * Returns a list with the configurations for all types contained in the given type's hierarchy (including
-	 * implemented interfaces) starting at the specified type.
-	 *
-	 * @param beanClass The type of interest.
-	 * @param <T> The type of the class to get the configurations for.
-	 * @return A set with the configurations for the complete hierarchy of the given type. May be empty, but never
-	 * {@code null}.
+	 * The configurations of a type retrieved from each metadata provider and the time spent retrieving them.
 	 */
-	private static <T> List<BeanConfiguration<? super T>> getBeanConfigurationForHierarchy(MetaDataProvider provider, Class<T> beanClass) {
-		List<BeanConfiguration<? super T>> configurations = newArrayList();
+	private static class TimedBeanConfigurations {
 
-		for ( Class<? super T> clazz : ClassHierarchyHelper.getHierarchy( beanClass ) ) {
-			BeanConfiguration<? super T> configuration = provider.getBeanConfiguration( clazz );
-			if ( configuration != null ) {
-				configurations.add( configuration );
-			}
+		private final BeanConfiguration<?>[] beanConfigurations;
+
+		private final long durationInNanos;
+
+		private TimedBeanConfigurations(BeanConfiguration<?>[] beanConfigurations, long durationInNanos) {
+			this.beanConfigurations = beanConfigurations;
+			this.durationInNanos = durationInNanos;
 		}
 
-		return configurations;
+		private static TimedBeanConfigurations of(List<MetaDataProvider> metaDataProviders, Class<?> clazz) {
+			long start = System.nanoTime();
+
+			BeanConfiguration<?>[] beanConfigurations = new BeanConfiguration<?>[metaDataProviders.size()];
+			for ( int i = 0; i < beanConfigurations.length; i++ ) {
+				beanConfigurations[i] = metaDataProviders.get( i ).getBeanConfiguration( clazz );
+			}
+
+			return new TimedBeanConfigurations( beanConfigurations, System.nanoTime() - start );
+		}
 	}
 }
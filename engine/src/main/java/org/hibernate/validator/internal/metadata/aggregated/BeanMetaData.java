@@ -15,6 +15,7 @@
 import javax.validation.metadata.BeanDescriptor;
 
 import org.hibernate.validator.internal.engine.groups.Sequence;
+import org.hibernate.validator.internal.metadata.BeanMetaDataManager;
 import org.hibernate.validator.internal.metadata.core.MetaConstraint;
 import org.hibernate.validator.internal.metadata.facets.Validatable;
 
@@ -113,4 +114,15 @@
 	 *         element itself and goes up the hierarchy chain. Interfaces are not included.
 	 */
 	List<Class<? super T>> getClassHierarchy();
+
+	/**
+	 * Returns the plan used to validate this bean for the default group. The plan is built on first access, using the
+	 * given manager to retrieve the meta data of the classes of the hierarchy, and cached.
+	 *
+	 * @param beanMetaDataManager the manager which created this bean meta data.
+	 *
+	 * @return the validation plan of the default group; it is not applicable if a class of the hierarchy redefines
+	 *         the default group sequence.
+	 */
+	DefaultGroupValidationPlan getDefaultGroupValidationPlan(BeanMetaDataManager beanMetaDataManager);
 }
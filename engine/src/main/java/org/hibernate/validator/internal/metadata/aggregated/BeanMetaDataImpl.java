@@ -19,6 +19,8 @@
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 
 import javax.validation.ElementKind;
@@ -30,6 +32,7 @@
 import org.hibernate.validator.internal.engine.groups.Sequence;
 import org.hibernate.validator.internal.engine.groups.ValidationOrder;
 import org.hibernate.validator.internal.engine.groups.ValidationOrderGenerator;
+import org.hibernate.validator.internal.metadata.BeanMetaDataManager;
 import org.hibernate.validator.internal.metadata.core.MetaConstraint;
 import org.hibernate.validator.internal.metadata.descriptor.BeanDescriptorImpl;
 import org.hibernate.validator.internal.metadata.descriptor.ConstraintDescriptorImpl;
@@ -109,6 +112,13 @@
 	@Immutable
 	private final Set<String> unconstrainedExecutables;
 
+	/**
+	 * The result of the executable lookups, keyed by the executable itself so that resolving the metadata of an
+	 * executable already looked up does not require computing its signature. Unconstrained executables are
+	 * represented by an empty {@code Optional}.
+	 */
+	private final ConcurrentMap<Executable, Optional<ExecutableMetaData>> executableMetaDataByExecutable = new ConcurrentHashMap<>();
+
 	/**
 	 * Property meta data keyed against the property name
 	 */
@@ -160,6 +170,11 @@
 	 */
 	private volatile BeanDescriptor beanDescriptor;
 
+	/**
+	 * The plan used to validate the default group. Lazily created.
+	 */
+	private volatile DefaultGroupValidationPlan defaultGroupValidationPlan;
+
 	/**
 	 * Creates a new {@link BeanMetaDataImpl}
 	 *
@@ -302,13 +317,24 @@ public Set<MetaConstraint<?>> getDirectMetaConstraints() {
 
 	@Override
 	public Optional<ExecutableMetaData> getMetaDataFor(Executable executable) {
+		Optional<ExecutableMetaData> executableMetaData = executableMetaDataByExecutable.get( executable );
+
+		if ( executableMetaData == null ) {
+			executableMetaData = resolveMetaDataFor( executable );
+			executableMetaDataByExecutable.putIfAbsent( executable, executableMetaData );
+		}
+
+		return executableMetaData;
+	}
+
+	private Optional<ExecutableMetaData> resolveMetaDataFor(Executable executable) {
 		String signature = ExecutableHelper.getSignature( executable );
 
 		if ( unconstrainedExecutables.contains( signature ) ) {
 			return Optional.empty();
 		}
 
-		ExecutableMetaData executableMetaData = executableMetaDataMap.get( ExecutableHelper.getSignature( executable ) );
+		ExecutableMetaData executableMetaData = executableMetaDataMap.get( signature );
 
 		if ( executableMetaData == null ) {
 			// there is no executable metadata - specified object and method do not match
@@ -356,6 +382,25 @@ public List<Class<? super T>> getClassHierarchy() {
 		return classHierarchyWithoutInterfaces;
 	}
 
+	@Override
+	public DefaultGroupValidationPlan getDefaultGroupValidationPlan(BeanMetaDataManager beanMetaDataManager) {
+		DefaultGroupValidationPlan defaultGroupValidationPlan = this.defaultGroupValidationPlan;
+
+		if ( defaultGroupValidationPlan == null ) {
+			synchronized (this) {
+				defaultGroupValidationPlan = this.defaultGroupValidationPlan;
+
+				if ( defaultGroupValidationPlan == null ) {
+					defaultGroupValidationPlan = DefaultGroupValidationPlan.of( this, beanMetaDataManager );
+
+					this.defaultGroupValidationPlan = defaultGroupValidationPlan;
+				}
+			}
+		}
+
+		return defaultGroupValidationPlan;
+	}
+
 	private static BeanDescriptor createBeanDescriptor(Class<?> beanClass, Set<MetaConstraint<?>> allMetaConstraints,
 			Map<String, PropertyMetaData> propertyMetaDataMap, Map<String, ExecutableMetaData> executableMetaDataMap, boolean defaultGroupSequenceRedefined,
 			List<Class<?>> resolvedDefaultGroupSequence) {
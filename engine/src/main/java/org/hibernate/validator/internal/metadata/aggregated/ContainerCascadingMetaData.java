@@ -90,6 +90,11 @@ public class ContainerCascadingMetaData implements CascadingMetaData {
 	 */
 	private final Set<ValueExtractorDescriptor> valueExtractorCandidates;
 
+	/**
+	 * The value extractors used to extract the container elements, for the runtime types already encountered.
+	 */
+	private final RuntimeTypeInlineCache<ValueExtractorDescriptor> valueExtractorsByRuntimeType = new RuntimeTypeInlineCache<>();
+
 	public static ContainerCascadingMetaData of(ValueExtractorManager valueExtractorManager, CascadingMetaDataBuilder cascadingMetaDataBuilder,
 			Object context) {
 		return new ContainerCascadingMetaData( valueExtractorManager, cascadingMetaDataBuilder );
@@ -239,6 +244,29 @@ public Set<ValueExtractorDescriptor> getValueExtractorCandidates() {
 		return valueExtractorCandidates;
 	}
 
+	/**
+	 * Returns the maximally specific and container element compliant value extractor for the given runtime type of
+	 * the container.
+	 *
+	 * @return the value extractor or {@code null} if none could be found
+	 */
+	public ValueExtractorDescriptor getValueExtractor(ValueExtractorManager valueExtractorManager, Class<?> runtimeType) {
+		ValueExtractorDescriptor valueExtractor = valueExtractorsByRuntimeType.get( runtimeType );
+		if ( valueExtractor == null ) {
+			valueExtractor = valueExtractorManager.getMaximallySpecificAndRuntimeContainerElementCompliantValueExtractor(
+					enclosingType,
+					typeParameter,
+					runtimeType,
+					valueExtractorCandidates
+			);
+			if ( valueExtractor != null ) {
+				valueExtractorsByRuntimeType.put( runtimeType, valueExtractor );
+			}
+		}
+
+		return valueExtractor;
+	}
+
 	@Override
 	public String toString() {
 		StringBuilder sb = new StringBuilder();
@@ -0,0 +1,81 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.metadata.aggregated;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.validator.internal.metadata.BeanMetaDataManager;
+import org.hibernate.validator.internal.metadata.core.MetaConstraint;
+import org.hibernate.validator.internal.util.stereotypes.Immutable;
+
+/**
+ * The constraints to evaluate when validating a bean for the default group, flattened over the whole class hierarchy.
+ * <p>
+ * The plan is only applicable if none of the classes of the hierarchy redefines the default group sequence: in this
+ * case, the validation of the default group boils down to evaluating the direct constraints of each class of the
+ * hierarchy, in order, with each interface constraint being evaluated only once (HV-466). This is resolved once and
+ * for all when building the plan.
+ *
+ * @author Guillaume Smet
+ */
+public final class DefaultGroupValidationPlan {
+
+	private static final DefaultGroupValidationPlan NOT_APPLICABLE = new DefaultGroupValidationPlan( null );
+
+	@Immutable
+	private final MetaConstraint<?>[] metaConstraints;
+
+	private DefaultGroupValidationPlan(MetaConstraint<?>[] metaConstraints) {
+		this.metaConstraints = metaConstraints;
+	}
+
+	static DefaultGroupValidationPlan of(BeanMetaData<?> beanMetaData, BeanMetaDataManager beanMetaDataManager) {
+		List<MetaConstraint<?>> metaConstraints = new ArrayList<>();
+		Map<Class<?>, Class<?>> validatedInterfaces = new HashMap<>();
+
+		for ( Class<?> clazz : beanMetaData.getClassHierarchy() ) {
+			BeanMetaData<?> hostingBeanMetaData = beanMetaDataManager.getBeanMetaData( clazz );
+			if ( hostingBeanMetaData.isDefaultGroupSequenceRedefined() ) {
+				return NOT_APPLICABLE;
+			}
+
+			for ( MetaConstraint<?> metaConstraint : hostingBeanMetaData.getDirectMetaConstraints() ) {
+				// HV-466, an interface implemented more than one time in the hierarchy has to be validated only one
+				// time. An interface can define more than one constraint, we have to check the class we are validating.
+				Class<?> declaringClass = metaConstraint.getLocation().getDeclaringClass();
+				if ( declaringClass.isInterface() ) {
+					Class<?> validatedForClass = validatedInterfaces.putIfAbsent( declaringClass, clazz );
+					if ( validatedForClass != null && !validatedForClass.equals( clazz ) ) {
+						continue;
+					}
+				}
+
+				metaConstraints.add( metaConstraint );
+			}
+		}
+
+		return new DefaultGroupValidationPlan( metaConstraints.toArray( new MetaConstraint<?>[metaConstraints.size()] ) );
+	}
+
+	/**
+	 * @return {@code true} if the plan can be used to validate the default group, {@code false} if a class of the
+	 * hierarchy redefines the default group sequence.
+	 */
+	public boolean isApplicable() {
+		return metaConstraints != null;
+	}
+
+	/**
+	 * @return the constraints to evaluate, in order. The returned array must not be modified.
+	 */
+	public MetaConstraint<?>[] getMetaConstraints() {
+		return metaConstraints;
+	}
+}
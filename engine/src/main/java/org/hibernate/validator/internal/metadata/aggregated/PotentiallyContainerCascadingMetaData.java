@@ -37,6 +37,11 @@ public class PotentiallyContainerCascadingMetaData implements CascadingMetaData
 
 	private final Set<ValueExtractorDescriptor> potentialValueExtractorDescriptors;
 
+	/**
+	 * The effective cascading metadata for the runtime types already encountered.
+	 */
+	private final RuntimeTypeInlineCache<CascadingMetaData> effectiveCascadingMetaDataByRuntimeType = new RuntimeTypeInlineCache<>();
+
 	public static PotentiallyContainerCascadingMetaData of(CascadingMetaDataBuilder cascadingMetaDataBuilder, Set<ValueExtractorDescriptor> potentialValueExtractorDescriptors, Object context) {
 		return new PotentiallyContainerCascadingMetaData( cascadingMetaDataBuilder, potentialValueExtractorDescriptors );
 	}
@@ -82,6 +87,16 @@ public boolean isContainer() {
 
 	@Override
 	public CascadingMetaData addRuntimeContainerSupport(ValueExtractorManager valueExtractorManager, Class<?> valueClass) {
+		CascadingMetaData effectiveCascadingMetaData = effectiveCascadingMetaDataByRuntimeType.get( valueClass );
+		if ( effectiveCascadingMetaData == null ) {
+			effectiveCascadingMetaData = buildEffectiveCascadingMetaData( valueExtractorManager, valueClass );
+			effectiveCascadingMetaDataByRuntimeType.put( valueClass, effectiveCascadingMetaData );
+		}
+
+		return effectiveCascadingMetaData;
+	}
+
+	private CascadingMetaData buildEffectiveCascadingMetaData(ValueExtractorManager valueExtractorManager, Class<?> valueClass) {
 		ValueExtractorDescriptor compliantValueExtractor = valueExtractorManager.getResolver()
 				.getMaximallySpecificValueExtractorForAllContainerElements( valueClass, potentialValueExtractorDescriptors );
 		if ( compliantValueExtractor == null ) {
@@ -0,0 +1,59 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.metadata.aggregated;
+
+/**
+ * A small inline cache of values resolved from the runtime type of a cascaded value.
+ * <p>
+ * A given cascadable usually only sees one or a few runtime types (e.g. {@code ArrayList} for a {@code List}) so we
+ * keep the resolved values in a small array compared by identity. Once {@link #MAX_ENTRIES} runtime types have been
+ * cached, the cache is considered megamorphic and the values are not cached anymore.
+ * <p>
+ * The entries are copied on write: concurrent additions might lose an entry, in which case it is simply resolved again
+ * later.
+ *
+ * @author Guillaume Smet
+ */
+final class RuntimeTypeInlineCache<V> {
+
+	private static final int MAX_ENTRIES = 4;
+
+	private static final Object[] EMPTY = new Object[0];
+
+	/**
+	 * The runtime types and their values, stored alternately.
+	 */
+	private volatile Object[] entries = EMPTY;
+
+	@SuppressWarnings("unchecked")
+	V get(Class<?> runtimeType) {
+		Object[] entries = this.entries;
+
+		for ( int i = 0; i < entries.length; i += 2 ) {
+			if ( entries[i] == runtimeType ) {
+				return (V) entries[i + 1];
+			}
+		}
+
+		return null;
+	}
+
+	void put(Class<?> runtimeType, V value) {
+		Object[] entries = this.entries;
+
+		if ( entries.length >= MAX_ENTRIES * 2 ) {
+			return;
+		}
+
+		Object[] newEntries = new Object[entries.length + 2];
+		System.arraycopy( entries, 0, newEntries, 0, entries.length );
+		newEntries[entries.length] = runtimeType;
+		newEntries[entries.length + 1] = value;
+
+		this.entries = newEntries;
+	}
+}
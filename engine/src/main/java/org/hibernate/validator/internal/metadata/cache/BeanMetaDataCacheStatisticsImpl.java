@@ -0,0 +1,92 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.metadata.cache;
+
+import org.hibernate.validator.metadata.BeanMetaDataCacheStatistics;
+
+/**
+ * An immutable snapshot of the bean metadata cache statistics.
+ *
+ * @author Guillaume Smet
+ */
+public class BeanMetaDataCacheStatisticsImpl implements BeanMetaDataCacheStatistics {
+
+	private final long hitCount;
+	private final long missCount;
+	private final long rebuildCount;
+	private final long evictionCount;
+	private final long avoidedDuplicateConstructionCount;
+	private final long size;
+
+	public BeanMetaDataCacheStatisticsImpl(long hitCount, long missCount, long rebuildCount, long evictionCount,
+			long avoidedDuplicateConstructionCount, long size) {
+		this.hitCount = hitCount;
+		this.missCount = missCount;
+		this.rebuildCount = rebuildCount;
+		this.evictionCount = evictionCount;
+		this.avoidedDuplicateConstructionCount = avoidedDuplicateConstructionCount;
+		this.size = size;
+	}
+
+	/**
+	 * @return the sum of these statistics and the given ones
+	 */
+	public BeanMetaDataCacheStatisticsImpl add(BeanMetaDataCacheStatistics other) {
+		return new BeanMetaDataCacheStatisticsImpl(
+				hitCount + other.getHitCount(),
+				missCount + other.getMissCount(),
+				rebuildCount + other.getRebuildCount(),
+				evictionCount + other.getEvictionCount(),
+				avoidedDuplicateConstructionCount + other.getAvoidedDuplicateConstructionCount(),
+				size + other.getSize()
+		);
+	}
+
+	@Override
+	public long getHitCount() {
+		return hitCount;
+	}
+
+	@Override
+	public long getMissCount() {
+		return missCount;
+	}
+
+	@Override
+	public long getRebuildCount() {
+		return rebuildCount;
+	}
+
+	@Override
+	public long getEvictionCount() {
+		return evictionCount;
+	}
+
+	@Override
+	public long getAvoidedDuplicateConstructionCount() {
+		return avoidedDuplicateConstructionCount;
+	}
+
+	@Override
+	public long getSize() {
+		return size;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		sb.append( "BeanMetaDataCacheStatisticsImpl" );
+		sb.append( "{hitCount=" ).append( hitCount );
+		sb.append( ", missCount=" ).append( missCount );
+		sb.append( ", rebuildCount=" ).append( rebuildCount );
+		sb.append( ", evictionCount=" ).append( evictionCount );
+		sb.append( ", avoidedDuplicateConstructionCount=" ).append( avoidedDuplicateConstructionCount );
+		sb.append( ", size=" ).append( size );
+		sb.append( '}' );
+		return sb.toString();
+	}
+}
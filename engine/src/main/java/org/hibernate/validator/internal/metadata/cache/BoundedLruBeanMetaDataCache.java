@@ -0,0 +1,155 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.metadata.cache;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
+import org.hibernate.validator.metadata.BeanMetaDataCache;
+import org.hibernate.validator.metadata.BeanMetaDataCacheFactory;
+
+/**
+ * A bean metadata cache keeping at most a given number of metadata instances, evicting the least recently used ones.
+ * <p>
+ * The lookups are lock free: the recency of the entries is tracked with a coarse clock which only advances when
+ * metadata is added to the cache. A lookup stamps the entry with the current time of the clock and only writes the
+ * stamp if it changed, so that the lookups of the bean metadata, which are way more frequent than the additions, do
+ * not contend. The entries used since the last addition are thus considered as equally recent and the least recently
+ * used entry is approximate.
+ * <p>
+ * The least recently used entry is looked up by scanning the cache when metadata is added to a full cache, which is
+ * cheap compared to the construction of the metadata.
+ *
+ * @author Guillaume Smet
+ */
+public class BoundedLruBeanMetaDataCache implements BeanMetaDataCache {
+
+	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+
+	private final ConcurrentHashMap<Class<?>, CacheEntry> beanMetaDataCache = new ConcurrentHashMap<>();
+
+	private final int maxSize;
+
+	/**
+	 * The coarse clock used to stamp the entries, advanced each time metadata is added to the cache.
+	 */
+	private final AtomicLong clock = new AtomicLong();
+
+	private final LongAdder evictionCount = new LongAdder();
+
+	public BoundedLruBeanMetaDataCache(int maxSize) {
+		if ( maxSize <= 0 ) {
+			throw LOG.getInvalidBeanMetaDataCacheMaxSizeException( maxSize );
+		}
+
+		this.maxSize = maxSize;
+	}
+
+	public static BeanMetaDataCacheFactory factory(int maxSize) {
+		if ( maxSize <= 0 ) {
+			throw LOG.getInvalidBeanMetaDataCacheMaxSizeException( maxSize );
+		}
+		return () -> new BoundedLruBeanMetaDataCache( maxSize );
+	}
+
+	@Override
+	public Object get(Class<?> beanClass) {
+		CacheEntry entry = beanMetaDataCache.get( beanClass );
+		if ( entry == null ) {
+			return null;
+		}
+
+		entry.touch( clock.get() );
+		return entry.beanMetaData;
+	}
+
+	@Override
+	public Object putIfAbsent(Class<?> beanClass, Object beanMetaData) {
+		// the added entry is more recent than all the entries used before its addition
+		CacheEntry entry = new CacheEntry( beanMetaData, clock.getAndIncrement() );
+
+		CacheEntry previousEntry = beanMetaDataCache.putIfAbsent( beanClass, entry );
+		if ( previousEntry != null ) {
+			previousEntry.touch( clock.get() );
+			return previousEntry.beanMetaData;
+		}
+
+		evictLeastRecentlyUsedEntries( entry );
+
+		return null;
+	}
+
+	@Override
+	public void clear() {
+		beanMetaDataCache.clear();
+	}
+
+	@Override
+	public int size() {
+		return beanMetaDataCache.size();
+	}
+
+	@Override
+	public long getEvictionCount() {
+		return evictionCount.sum();
+	}
+
+	/**
+	 * Evicts the least recently used entries until the size of the cache is within the bounds.
+	 * <p>
+	 * No lock is involved: concurrent additions might evict a few more entries than strictly required, which is
+	 * harmless as their metadata is simply built again on their next use.
+	 */
+	private void evictLeastRecentlyUsedEntries(CacheEntry addedEntry) {
+		while ( beanMetaDataCache.size() > maxSize ) {
+			Map.Entry<Class<?>, CacheEntry> leastRecentlyUsedEntry = null;
+			for ( Map.Entry<Class<?>, CacheEntry> entry : beanMetaDataCache.entrySet() ) {
+				if ( entry.getValue() == addedEntry ) {
+					continue;
+				}
+				if ( leastRecentlyUsedEntry == null || entry.getValue().lastAccess < leastRecentlyUsedEntry.getValue().lastAccess ) {
+					leastRecentlyUsedEntry = entry;
+				}
+			}
+
+			if ( leastRecentlyUsedEntry == null ) {
+				return;
+			}
+
+			if ( beanMetaDataCache.remove( leastRecentlyUsedEntry.getKey(), leastRecentlyUsedEntry.getValue() ) ) {
+				evictionCount.increment();
+			}
+		}
+	}
+
+	private static final class CacheEntry {
+
+		private final Object beanMetaData;
+
+		/**
+		 * The time of the clock at the last access to this entry.
+		 */
+		private volatile long lastAccess;
+
+		private CacheEntry(Object beanMetaData, long lastAccess) {
+			this.beanMetaData = beanMetaData;
+			this.lastAccess = lastAccess;
+		}
+
+		private void touch(long now) {
+			// only write the stamp if it changed to avoid invalidating the cache line on each lookup
+			if ( lastAccess != now ) {
+				lastAccess = now;
+			}
+		}
+	}
+}
@@ -0,0 +1,90 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.metadata.cache;
+
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.Option.IDENTITY_COMPARISONS;
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType.SOFT;
+
+import java.util.EnumSet;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.validator.internal.util.ConcurrentReferenceHashMap;
+import org.hibernate.validator.metadata.BeanMetaDataCache;
+
+/**
+ * The default bean metadata cache: both the bean classes and the metadata are softly referenced so that the metadata
+ * might be cleared by the garbage collector under memory pressure.
+ * <p>
+ * The entries cleared by the garbage collector are only accounted for in the eviction count once they have been
+ * purged from the cache, which happens when the cache is updated.
+ *
+ * @author Guillaume Smet
+ */
+public class SoftBeanMetaDataCache implements BeanMetaDataCache {
+
+	/**
+	 * The default initial capacity for this cache.
+	 */
+	private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+	/**
+	 * The default load factor for this cache.
+	 */
+	private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+
+	/**
+	 * The default concurrency level for this cache.
+	 */
+	private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+
+	private final ConcurrentReferenceHashMap<Class<?>, Object> beanMetaDataCache;
+
+	private final LongAdder insertions = new LongAdder();
+
+	private final LongAdder removals = new LongAdder();
+
+	public SoftBeanMetaDataCache() {
+		this.beanMetaDataCache = new ConcurrentReferenceHashMap<>(
+				DEFAULT_INITIAL_CAPACITY,
+				DEFAULT_LOAD_FACTOR,
+				DEFAULT_CONCURRENCY_LEVEL,
+				SOFT,
+				SOFT,
+				EnumSet.of( IDENTITY_COMPARISONS )
+		);
+	}
+
+	@Override
+	public Object get(Class<?> beanClass) {
+		return beanMetaDataCache.get( beanClass );
+	}
+
+	@Override
+	public Object putIfAbsent(Class<?> beanClass, Object beanMetaData) {
+		Object previousBeanMetaData = beanMetaDataCache.putIfAbsent( beanClass, beanMetaData );
+		if ( previousBeanMetaData == null ) {
+			insertions.increment();
+		}
+		return previousBeanMetaData;
+	}
+
+	@Override
+	public void clear() {
+		removals.add( beanMetaDataCache.size() );
+		beanMetaDataCache.clear();
+	}
+
+	@Override
+	public int size() {
+		return beanMetaDataCache.size();
+	}
+
+	@Override
+	public long getEvictionCount() {
+		return Math.max( 0, insertions.sum() - removals.sum() - beanMetaDataCache.size() );
+	}
+}
@@ -0,0 +1,46 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.metadata.cache;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.validator.metadata.BeanMetaDataCache;
+
+/**
+ * A bean metadata cache keeping the metadata until it is cleared: it never evicts anything.
+ *
+ * @author Guillaume Smet
+ */
+public class StrongBeanMetaDataCache implements BeanMetaDataCache {
+
+	private final ConcurrentHashMap<Class<?>, Object> beanMetaDataCache = new ConcurrentHashMap<>();
+
+	@Override
+	public Object get(Class<?> beanClass) {
+		return beanMetaDataCache.get( beanClass );
+	}
+
+	@Override
+	public Object putIfAbsent(Class<?> beanClass, Object beanMetaData) {
+		return beanMetaDataCache.putIfAbsent( beanClass, beanMetaData );
+	}
+
+	@Override
+	public void clear() {
+		beanMetaDataCache.clear();
+	}
+
+	@Override
+	public int size() {
+		return beanMetaDataCache.size();
+	}
+
+	@Override
+	public long getEvictionCount() {
+		return 0;
+	}
+}
@@ -26,5 +26,13 @@ public interface AnnotationProcessingOptions {
 
 	boolean areParameterConstraintsIgnoredFor(Constrainable constrainable, int index);
 
+	/**
+	 * @param clazz the class of interest
+	 *
+	 * @return {@code true} if the constraint annotations of all the members of the given class are ignored, meaning
+	 * they don't need to be introspected at all
+	 */
+	boolean areAllMemberConstraintsIgnoredFor(Class<?> clazz);
+
 	void merge(AnnotationProcessingOptions annotationProcessingOptions);
 }
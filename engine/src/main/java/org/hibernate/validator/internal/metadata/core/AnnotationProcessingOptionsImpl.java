@@ -119,6 +119,19 @@ public boolean areClassLevelConstraintsIgnoredFor(Class<?> clazz) {
 		return ignoreAnnotation;
 	}
 
+	@Override
+	public boolean areAllMemberConstraintsIgnoredFor(Class<?> clazz) {
+		if ( !areAllConstraintAnnotationsIgnoredFor( clazz ) ) {
+			return false;
+		}
+
+		// the annotations of some members might explicitly be taken into account
+		return !isAnnotationProcessingEnabledForAMemberOf( clazz, annotationIgnoredForMembers )
+				&& !isAnnotationProcessingEnabledForAMemberOf( clazz, annotationIgnoresForReturnValues )
+				&& !isAnnotationProcessingEnabledForAMemberOf( clazz, annotationIgnoresForCrossParameter )
+				&& !isAnnotationProcessingEnabledForAParameterOf( clazz );
+	}
+
 	@Override
 	public void merge(AnnotationProcessingOptions annotationProcessingOptions) {
 		AnnotationProcessingOptionsImpl annotationProcessingOptionsImpl = (AnnotationProcessingOptionsImpl) annotationProcessingOptions;
@@ -168,6 +181,24 @@ private boolean areAllConstraintAnnotationsIgnoredFor(Class<?> clazz) {
 		return ignoreAnnotationDefaults.containsKey( clazz ) && ignoreAnnotationDefaults.get( clazz );
 	}
 
+	private boolean isAnnotationProcessingEnabledForAParameterOf(Class<?> clazz) {
+		for ( Map.Entry<ExecutableParameterKey, Boolean> annotationIgnore : annotationIgnoresForMethodParameter.entrySet() ) {
+			if ( Boolean.FALSE.equals( annotationIgnore.getValue() ) && clazz.equals( annotationIgnore.getKey().constrainable.getDeclaringClass() ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean isAnnotationProcessingEnabledForAMemberOf(Class<?> clazz, Map<Constrainable, Boolean> annotationIgnores) {
+		for ( Map.Entry<Constrainable, Boolean> annotationIgnore : annotationIgnores.entrySet() ) {
+			if ( Boolean.FALSE.equals( annotationIgnore.getValue() ) && clazz.equals( annotationIgnore.getKey().getDeclaringClass() ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	public class ExecutableParameterKey {
 		private final Constrainable constrainable;
 		private final int index;
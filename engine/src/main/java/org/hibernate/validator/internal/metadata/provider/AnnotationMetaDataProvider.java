@@ -126,9 +126,13 @@ public <T> BeanConfiguration<T> getBeanConfiguration(Class<T> beanClass) {
 	 * @return Retrieves constraint related meta data from the annotations of the given type.
 	 */
 	private <T> BeanConfiguration<T> retrieveBeanConfiguration(Class<T> beanClass) {
-		Set<ConstrainedElement> constrainedElements = getFieldMetaData( beanClass );
-		constrainedElements.addAll( getMethodMetaData( beanClass ) );
-		constrainedElements.addAll( getConstructorMetaData( beanClass ) );
+		// the members whose annotations are ignored, e.g. when the class is entirely configured by a constraint mapping
+		// generated by the annotation processor, don't need to be introspected
+		boolean memberAnnotationsIgnored = annotationProcessingOptions.areAllMemberConstraintsIgnoredFor( beanClass );
+
+		Set<ConstrainedElement> constrainedElements = memberAnnotationsIgnored ? newHashSet() : getFieldMetaData( beanClass );
+		constrainedElements.addAll( getMethodMetaData( beanClass, memberAnnotationsIgnored ) );
+		constrainedElements.addAll( getConstructorMetaData( beanClass, memberAnnotationsIgnored ) );
 
 		Set<MetaConstraint<?>> classLevelConstraints = getClassLevelConstraints( beanClass );
 		if ( !classLevelConstraints.isEmpty() ) {
@@ -220,7 +224,7 @@ private Set<ConstrainedElement> getFieldMetaData(Class<?> beanClass) {
 				continue;
 			}
 
-			JavaBeanField javaBeanField = new JavaBeanField( field );
+			JavaBeanField javaBeanField = javaBeanHelper.field( field );
 
 			if ( annotationProcessingOptions.areMemberConstraintsIgnoredFor( javaBeanField ) ) {
 				continue;
@@ -267,19 +271,19 @@ private Set<MetaConstraint<?>> convertToMetaConstraints(List<ConstraintDescripto
 		return constraints;
 	}
 
-	private Set<ConstrainedExecutable> getConstructorMetaData(Class<?> clazz) {
+	private Set<ConstrainedExecutable> getConstructorMetaData(Class<?> clazz, boolean annotationsIgnored) {
 		Executable[] declaredConstructors = run( GetDeclaredConstructors.action( clazz ) );
 
-		return getMetaData( declaredConstructors );
+		return getMetaData( declaredConstructors, annotationsIgnored );
 	}
 
-	private Set<ConstrainedExecutable> getMethodMetaData(Class<?> clazz) {
+	private Set<ConstrainedExecutable> getMethodMetaData(Class<?> clazz, boolean annotationsIgnored) {
 		Executable[] declaredMethods = run( GetDeclaredMethods.action( clazz ) );
 
-		return getMetaData( declaredMethods );
+		return getMetaData( declaredMethods, annotationsIgnored );
 	}
 
-	private Set<ConstrainedExecutable> getMetaData(Executable[] executableElements) {
+	private Set<ConstrainedExecutable> getMetaData(Executable[] executableElements, boolean annotationsIgnored) {
 		Set<ConstrainedExecutable> executableMetaData = newHashSet();
 
 		for ( Executable executable : executableElements ) {
@@ -289,7 +293,8 @@ private Set<ConstrainedExecutable> getMetaData(Executable[] executableElements)
 				continue;
 			}
 
-			executableMetaData.add( findExecutableMetaData( executable ) );
+			// the ignored annotations don't need to be read, the executable is then handled as an annotation free one
+			executableMetaData.add( findExecutableMetaData( executable, annotationsIgnored ) );
 		}
 
 		return executableMetaData;
@@ -299,18 +304,25 @@ private Set<ConstrainedExecutable> getMetaData(Executable[] executableElements)
 	 * Finds all constraint annotations defined for the given method or constructor.
 	 *
 	 * @param executable The executable element to check for constraints annotations.
+	 * @param annotationFree Whether the executable is known to host no annotation at all.
 	 *
 	 * @return A meta data object describing the constraints specified for the
 	 * given element.
 	 */
-	private ConstrainedExecutable findExecutableMetaData(Executable executable) {
+	private ConstrainedExecutable findExecutableMetaData(Executable executable, boolean annotationFree) {
 		JavaBeanExecutable<?> javaBeanExecutable = javaBeanHelper.executable( executable );
-		List<ConstrainedParameter> parameterConstraints = getParameterMetaData( javaBeanExecutable );
+		List<ConstrainedParameter> parameterConstraints = getParameterMetaData( javaBeanExecutable, annotationFree );
 
-		Map<ConstraintType, List<ConstraintDescriptorImpl<?>>> executableConstraints = findConstraints(
-				javaBeanExecutable,
-				ConstraintLocationKind.of( javaBeanExecutable.getConstrainedElementKind() )
-		).stream().collect( Collectors.groupingBy( ConstraintDescriptorImpl::getConstraintType ) );
+		Map<ConstraintType, List<ConstraintDescriptorImpl<?>>> executableConstraints;
+		if ( annotationFree ) {
+			executableConstraints = Collections.emptyMap();
+		}
+		else {
+			executableConstraints = findConstraints(
+					javaBeanExecutable,
+					ConstraintLocationKind.of( javaBeanExecutable.getConstrainedElementKind() )
+			).stream().collect( Collectors.groupingBy( ConstraintDescriptorImpl::getConstraintType ) );
+		}
 
 		Set<MetaConstraint<?>> crossParameterConstraints;
 		if ( annotationProcessingOptions.areCrossParameterConstraintsIgnoredFor( javaBeanExecutable ) ) {
@@ -332,6 +344,11 @@ private ConstrainedExecutable findExecutableMetaData(Executable executable) {
 			typeArgumentsConstraints = Collections.emptySet();
 			cascadingMetaDataBuilder = CascadingMetaDataBuilder.nonCascading();
 		}
+		else if ( annotationFree ) {
+			returnValueConstraints = Collections.emptySet();
+			typeArgumentsConstraints = Collections.emptySet();
+			cascadingMetaDataBuilder = getAnnotationFreeCascadingMetaData( javaBeanExecutable );
+		}
 		else {
 			typeArgumentsConstraints = findTypeAnnotationConstraints( javaBeanExecutable );
 			returnValueConstraints = convertToMetaConstraints(
@@ -379,10 +396,11 @@ private Set<MetaConstraint<?>> convertToMetaConstraints(List<ConstraintDescripto
 	 * executable.
 	 *
 	 * @param javaBeanExecutable The executable of interest.
+	 * @param annotationFree Whether the executable is known to host no annotation at all.
 	 *
 	 * @return A list with parameter meta data for the given executable.
 	 */
-	private List<ConstrainedParameter> getParameterMetaData(JavaBeanExecutable<?> javaBeanExecutable) {
+	private List<ConstrainedParameter> getParameterMetaData(JavaBeanExecutable<?> javaBeanExecutable, boolean annotationFree) {
 		if ( !javaBeanExecutable.hasParameters() ) {
 			return Collections.emptyList();
 		}
@@ -409,6 +427,22 @@ private List<ConstrainedParameter> getParameterMetaData(JavaBeanExecutable<?> ja
 				continue;
 			}
 
+			if ( annotationFree ) {
+				metaData.add(
+						new ConstrainedParameter(
+								ConfigurationSource.ANNOTATION,
+								javaBeanExecutable,
+								parameter.getGenericType(),
+								i,
+								Collections.emptySet(),
+								Collections.emptySet(),
+								getAnnotationFreeCascadingMetaData( parameter )
+						)
+				);
+				i++;
+				continue;
+			}
+
 			List<ConstraintDescriptorImpl<?>> constraintDescriptors = findConstraints( javaBeanExecutable, parameter, ConstraintLocationKind.PARAMETER );
 			Set<MetaConstraint<?>> parameterConstraints;
 
@@ -817,6 +851,37 @@ private CascadingMetaDataBuilder getCascadingMetaData(JavaBeanAnnotatedElement a
 				containerElementTypesCascadingMetaData, getGroupConversions( annotatedElement.getAnnotatedType() ) );
 	}
 
+	/**
+	 * Builds the cascading metadata of an element known to host no annotation at all: it is equivalent to the one
+	 * built from the annotated type of the element but only requires the generic type of the element.
+	 */
+	private CascadingMetaDataBuilder getAnnotationFreeCascadingMetaData(JavaBeanAnnotatedElement annotatedElement) {
+		return CascadingMetaDataBuilder.annotatedObject( annotatedElement.getType(), false,
+				getAnnotationFreeTypeParametersCascadingMetaData( annotatedElement.getGenericType(), annotatedElement.getTypeParameters() ),
+				Collections.emptyMap() );
+	}
+
+	private Map<TypeVariable<?>, CascadingMetaDataBuilder> getAnnotationFreeTypeParametersCascadingMetaData(Type type,
+			TypeVariable<?>[] typeParameters) {
+		// HV-1428 Container element support is disabled for arrays
+		if ( !( type instanceof ParameterizedType ) ) {
+			return Collections.emptyMap();
+		}
+
+		Type[] typeArguments = ( (ParameterizedType) type ).getActualTypeArguments();
+		Map<TypeVariable<?>, CascadingMetaDataBuilder> typeParametersCascadingMetadata = CollectionHelper.newHashMap( typeParameters.length );
+		for ( int i = 0; i < typeArguments.length; i++ ) {
+			Map<TypeVariable<?>, CascadingMetaDataBuilder> nestedTypeParametersCascadingMetadata = typeArguments[i] instanceof ParameterizedType
+					? getAnnotationFreeTypeParametersCascadingMetaData( typeArguments[i], ReflectionHelper.getClassFromType( typeArguments[i] ).getTypeParameters() )
+					: Collections.emptyMap();
+
+			typeParametersCascadingMetadata.put( typeParameters[i], new CascadingMetaDataBuilder( type, typeParameters[i], false,
+					nestedTypeParametersCascadingMetadata, Collections.emptyMap() ) );
+		}
+
+		return typeParametersCascadingMetadata;
+	}
+
 	/**
 	 * The location of a type argument before it is really considered a constraint location.
 	 * <p>
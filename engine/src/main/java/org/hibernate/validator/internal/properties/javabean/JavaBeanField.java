@@ -7,6 +7,9 @@
 package org.hibernate.validator.internal.properties.javabean;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.AnnotatedType;
 import java.lang.reflect.Field;
 import java.lang.reflect.Type;
@@ -17,6 +20,8 @@
 import org.hibernate.validator.HibernateValidatorPermission;
 import org.hibernate.validator.internal.properties.PropertyAccessor;
 import org.hibernate.validator.internal.util.ReflectionHelper;
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
 import org.hibernate.validator.internal.util.privilegedactions.GetDeclaredField;
 
 /**
@@ -24,14 +29,22 @@
  */
 public class JavaBeanField implements org.hibernate.validator.internal.properties.Field, JavaBeanAnnotatedConstrainable {
 
+	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+
 	private final Field field;
 	private final Type typeForValidatorResolution;
 	private final Type type;
+	private final boolean methodHandleAccessorEnabled;
 
 	public JavaBeanField(Field field) {
+		this( field, false );
+	}
+
+	public JavaBeanField(Field field, boolean methodHandleAccessorEnabled) {
 		this.field = field;
 		this.type = ReflectionHelper.typeOf( field );
 		this.typeForValidatorResolution = ReflectionHelper.boxedType( this.type );
+		this.methodHandleAccessorEnabled = methodHandleAccessorEnabled;
 	}
 
 	@Override
@@ -86,7 +99,18 @@ public TypeVariable<?>[] getTypeParameters() {
 
 	@Override
 	public PropertyAccessor createAccessor() {
-		return new FieldAccessor( field );
+		Field accessibleField = getAccessible( field );
+
+		if ( methodHandleAccessorEnabled ) {
+			try {
+				return new MethodHandleFieldAccessor( accessibleField );
+			}
+			catch (IllegalAccessException | RuntimeException e) {
+				LOG.unableToCreateMethodHandleFallingBackToReflection( field.getName(), e );
+			}
+		}
+
+		return new FieldAccessor( accessibleField );
 	}
 
 	@Override
@@ -126,8 +150,8 @@ private static class FieldAccessor implements PropertyAccessor {
 
 		private Field accessibleField;
 
-		private FieldAccessor(Field field) {
-			this.accessibleField = getAccessible( field );
+		private FieldAccessor(Field accessibleField) {
+			this.accessibleField = accessibleField;
 		}
 
 		@Override
@@ -136,6 +160,34 @@ public Object getValueFrom(Object bean) {
 		}
 	}
 
+	/**
+	 * Accesses the field through a method handle adapted to {@code (Object)Object}, avoiding the access checks
+	 * performed by reflection on each call.
+	 */
+	private static class MethodHandleFieldAccessor implements PropertyAccessor {
+
+		private static final MethodType ACCESSOR_TYPE = MethodType.methodType( Object.class, Object.class );
+
+		private final MethodHandle getter;
+
+		private MethodHandleFieldAccessor(Field accessibleField) throws IllegalAccessException {
+			this.getter = MethodHandles.lookup().unreflectGetter( accessibleField ).asType( ACCESSOR_TYPE );
+		}
+
+		@Override
+		public Object getValueFrom(Object bean) {
+			try {
+				return (Object) getter.invokeExact( bean );
+			}
+			catch (RuntimeException | Error e) {
+				throw e;
+			}
+			catch (Throwable e) {
+				throw new IllegalStateException( e );
+			}
+		}
+	}
+
 	/**
 	 * Returns an accessible copy of the given member.
 	 */
@@ -6,6 +6,10 @@
  */
 package org.hibernate.validator.internal.properties.javabean;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
@@ -17,6 +21,8 @@
 import org.hibernate.validator.internal.util.Contracts;
 import org.hibernate.validator.internal.util.ExecutableParameterNameProvider;
 import org.hibernate.validator.internal.util.ReflectionHelper;
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
 import org.hibernate.validator.internal.util.privilegedactions.GetDeclaredMethod;
 
 /**
@@ -24,6 +30,8 @@
  */
 public class JavaBeanGetter extends JavaBeanMethod implements Getter {
 
+	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+
 	private final String propertyName;
 
 	/**
@@ -34,12 +42,19 @@ public class JavaBeanGetter extends JavaBeanMethod implements Getter {
 	 */
 	private final Class<?> declaringClass;
 
+	private final boolean methodHandleAccessorEnabled;
+
 	public JavaBeanGetter(Class<?> declaringClass, Method method, String propertyName) {
+		this( declaringClass, method, propertyName, false );
+	}
+
+	public JavaBeanGetter(Class<?> declaringClass, Method method, String propertyName, boolean methodHandleAccessorEnabled) {
 		super( method );
 		Contracts.assertNotNull( propertyName, "Property name cannot be null." );
 
 		this.declaringClass = declaringClass;
 		this.propertyName = propertyName;
+		this.methodHandleAccessorEnabled = methodHandleAccessorEnabled;
 	}
 
 	@Override
@@ -76,7 +91,18 @@ public ConstrainedElementKind getConstrainedElementKind() {
 
 	@Override
 	public PropertyAccessor createAccessor() {
-		return new GetterAccessor( executable );
+		Method accessibleGetter = getAccessible( executable );
+
+		if ( methodHandleAccessorEnabled ) {
+			try {
+				return new MethodHandleGetterAccessor( accessibleGetter );
+			}
+			catch (IllegalAccessException | RuntimeException e) {
+				LOG.unableToCreateMethodHandleFallingBackToReflection( executable.getName(), e );
+			}
+		}
+
+		return new GetterAccessor( accessibleGetter );
 	}
 
 	@Override
@@ -107,8 +133,8 @@ private static class GetterAccessor implements PropertyAccessor {
 
 		private Method accessibleGetter;
 
-		private GetterAccessor(Method getter) {
-			this.accessibleGetter = getAccessible( getter );
+		private GetterAccessor(Method accessibleGetter) {
+			this.accessibleGetter = accessibleGetter;
 		}
 
 		@Override
@@ -117,6 +143,35 @@ public Object getValueFrom(Object bean) {
 		}
 	}
 
+	/**
+	 * Invokes the getter through a method handle adapted to {@code (Object)Object}, avoiding the access checks
+	 * performed by reflection on each call.
+	 */
+	private static class MethodHandleGetterAccessor implements PropertyAccessor {
+
+		private static final MethodType ACCESSOR_TYPE = MethodType.methodType( Object.class, Object.class );
+
+		private final String getterName;
+
+		private final MethodHandle getter;
+
+		private MethodHandleGetterAccessor(Method accessibleGetter) throws IllegalAccessException {
+			this.getterName = accessibleGetter.getName();
+			this.getter = MethodHandles.lookup().unreflect( accessibleGetter ).asType( ACCESSOR_TYPE );
+		}
+
+		@Override
+		public Object getValueFrom(Object bean) {
+			try {
+				return (Object) getter.invokeExact( bean );
+			}
+			catch (Throwable e) {
+				// keep the behavior of the reflection based accessor which wraps the exceptions thrown by the getter
+				throw LOG.getUnableToAccessMemberException( getterName, new InvocationTargetException( e ) );
+			}
+		}
+	}
+
 	/**
 	 * Returns an accessible copy of the given method.
 	 */
@@ -35,8 +35,18 @@ public class JavaBeanHelper {
 
 	private final GetterPropertySelectionStrategy getterPropertySelectionStrategy;
 
+	/**
+	 * Whether the values of fields and getters are accessed through method handles instead of reflection.
+	 */
+	private final boolean methodHandlePropertyAccessorsEnabled;
+
 	public JavaBeanHelper(GetterPropertySelectionStrategy getterPropertySelectionStrategy) {
+		this( getterPropertySelectionStrategy, false );
+	}
+
+	public JavaBeanHelper(GetterPropertySelectionStrategy getterPropertySelectionStrategy, boolean methodHandlePropertyAccessorsEnabled) {
 		this.getterPropertySelectionStrategy = getterPropertySelectionStrategy;
+		this.methodHandlePropertyAccessorsEnabled = methodHandlePropertyAccessorsEnabled;
 	}
 
 	public GetterPropertySelectionStrategy getGetterPropertySelectionStrategy() {
@@ -47,7 +57,11 @@ public Optional<JavaBeanField> findDeclaredField(Class<?> declaringClass, String
 		Contracts.assertNotNull( declaringClass, MESSAGES.classCannotBeNull() );
 
 		Field field = run( GetDeclaredField.action( declaringClass, property ) );
-		return Optional.ofNullable( field ).map( JavaBeanField::new );
+		return Optional.ofNullable( field ).map( this::field );
+	}
+
+	public JavaBeanField field(Field field) {
+		return new JavaBeanField( field, methodHandlePropertyAccessorsEnabled );
 	}
 
 	public Optional<JavaBeanGetter> findDeclaredGetter(Class<?> declaringClass, String property) {
@@ -75,7 +89,7 @@ private Optional<JavaBeanGetter> findGetter(Class<?> declaringClass, String prop
 		}
 		else {
 			return Optional.of(
-					new JavaBeanGetter( declaringClass, getter, property )
+					new JavaBeanGetter( declaringClass, getter, property, methodHandlePropertyAccessorsEnabled )
 			);
 		}
 	}
@@ -117,7 +131,7 @@ public JavaBeanMethod executable(Class<?> declaringClass, Method method) {
 
 		Optional<String> correspondingProperty = getterPropertySelectionStrategy.getProperty( executable );
 		if ( correspondingProperty.isPresent() ) {
-			return new JavaBeanGetter( declaringClass, method, correspondingProperty.get() );
+			return new JavaBeanGetter( declaringClass, method, correspondingProperty.get(), methodHandlePropertyAccessorsEnabled );
 		}
 
 		return new JavaBeanMethod( method );
@@ -6,13 +6,25 @@
  */
 package org.hibernate.validator.internal.util;
 
-import static java.util.regex.Pattern.CASE_INSENSITIVE;
-
 import java.net.IDN;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
+ * Checks the validity of domain names and IP address literals.
+ * <p>
+ * The grammar is the one of the following regular expressions, matched in a case insensitive way, but it is checked
+ * in linear time by hand written scanners:
+ * <ul>
+ * <li>a domain is made of labels separated by dots, each label being made of the characters
+ * {@code [a-z0-9!#$%&'*+/=?^_`{|}~]}, of the non ASCII characters and of dashes, without leading or trailing dash;</li>
+ * <li>an IPv4 address literal is {@code \[[0-9]{1,3}\.[0-9]{1,3}\.[0-9]{1,3}\.[0-9]{1,3}\]};</li>
+ * <li>an IPv6 address is either made of 8 groups of 1 to 4 hexadecimal digits separated by colons, the same with at
+ * most 7 groups and exactly one {@code ::}, a link local address {@code fe80:(:[0-9a-f]{0,4}){0,4}%[0-9a-z]+} or an
+ * address ending with an IPv4 address.</li>
+ * </ul>
+ * <p>
+ * As for the regular expressions, the non ASCII characters are the ones of the Basic Multilingual Plane: the
+ * supplementary characters are not allowed.
+ *
  * @author Marko Bekhta
  * @author Guillaume Smet
  */
@@ -24,30 +36,24 @@ public final class DomainNameUtil {
 	 */
 	private static final int MAX_DOMAIN_PART_LENGTH = 255;
 
-	private static final String DOMAIN_CHARS_WITHOUT_DASH = "[a-z\u0080-\uFFFF0-9!#$%&'*+/=?^_`{|}~]";
-	private static final String DOMAIN_LABEL = "(" + DOMAIN_CHARS_WITHOUT_DASH + "-*)*" + DOMAIN_CHARS_WITHOUT_DASH + "+";
-	private static final String DOMAIN = DOMAIN_LABEL + "+(\\." + DOMAIN_LABEL + "+)*";
-
-	private static final String IP_DOMAIN = "[0-9]{1,3}\\.[0-9]{1,3}\\.[0-9]{1,3}\\.[0-9]{1,3}";
-	//IP v6 regex taken from http://stackoverflow.com/questions/53497/regular-expression-that-matches-valid-ipv6-addresses
-	private static final String IP_V6_DOMAIN = "(([0-9a-fA-F]{1,4}:){7,7}[0-9a-fA-F]{1,4}|([0-9a-fA-F]{1,4}:){1,7}:|([0-9a-fA-F]{1,4}:){1,6}:[0-9a-fA-F]{1,4}|([0-9a-fA-F]{1,4}:){1,5}(:[0-9a-fA-F]{1,4}){1,2}|([0-9a-fA-F]{1,4}:){1,4}(:[0-9a-fA-F]{1,4}){1,3}|([0-9a-fA-F]{1,4}:){1,3}(:[0-9a-fA-F]{1,4}){1,4}|([0-9a-fA-F]{1,4}:){1,2}(:[0-9a-fA-F]{1,4}){1,5}|[0-9a-fA-F]{1,4}:((:[0-9a-fA-F]{1,4}){1,6})|:((:[0-9a-fA-F]{1,4}){1,7}|:)|fe80:(:[0-9a-fA-F]{0,4}){0,4}%[0-9a-zA-Z]{1,}|::(ffff(:0{1,4}){0,1}:){0,1}((25[0-5]|(2[0-4]|1{0,1}[0-9]){0,1}[0-9])\\.){3,3}(25[0-5]|(2[0-4]|1{0,1}[0-9]){0,1}[0-9])|([0-9a-fA-F]{1,4}:){1,4}:((25[0-5]|(2[0-4]|1{0,1}[0-9]){0,1}[0-9])\\.){3,3}(25[0-5]|(2[0-4]|1{0,1}[0-9]){0,1}[0-9]))";
-
 	/**
-	 * Regular expression for the domain part of an URL
-	 * <p>
-	 * A host string must be a domain string, an IPv4 address string, or "[", followed by an IPv6 address string,
-	 * followed by "]".
+	 * The maximum length of a label, as verified by {@link IDN#toASCII(String)}.
 	 */
-	private static final Pattern DOMAIN_PATTERN = Pattern.compile(
-			DOMAIN + "|\\[" + IP_V6_DOMAIN + "\\]", CASE_INSENSITIVE
-	);
+	private static final int MAX_LABEL_LENGTH = 63;
+
+	private static final String EMAIL_IPV6_PREFIX = "IPv6:";
+
+	private static final String LINK_LOCAL_IPV6_PREFIX = "fe80:";
+
+	private static final String IPV4_MAPPED_IPV6_PREFIX = "ffff:";
 
 	/**
-	 * Regular expression for the domain part of an email address (everything after '@')
+	 * The ASCII characters allowed in a domain label, in addition to the dash which is not allowed at the beginning or
+	 * at the end of a label.
 	 */
-	private static final Pattern EMAIL_DOMAIN_PATTERN = Pattern.compile(
-			DOMAIN + "|\\[" + IP_DOMAIN + "\\]|" + "\\[IPv6:" + IP_V6_DOMAIN + "\\]", CASE_INSENSITIVE
-	);
+	private static final boolean[] DOMAIN_CHARS_WITHOUT_DASH = asciiCharacters( "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789!#$%&'*+/=?^_`{|}~" );
+
+	private static final int INVALID = -1;
 
 	private DomainNameUtil() {
 	}
@@ -60,7 +66,36 @@ private DomainNameUtil() {
 	 * @return {@code true} if the provided string is a valid domain, {@code false} otherwise
 	 */
 	public static boolean isValidEmailDomainAddress(String domain) {
-		return isValidDomainAddress( domain, EMAIL_DOMAIN_PATTERN );
+		return isValidEmailDomainAddress( domain, 0, domain.length() );
+	}
+
+	/**
+	 * Checks the validity of the domain name used in an email, contained in the given range of a character sequence.
+	 *
+	 * @param value the character sequence containing the domain
+	 * @param start the index of the first character of the domain
+	 * @param end the index after the last character of the domain
+	 * @return {@code true} if the domain is valid, {@code false} otherwise
+	 *
+	 * @see #isValidEmailDomainAddress(String)
+	 */
+	public static boolean isValidEmailDomainAddress(CharSequence value, int start, int end) {
+		if ( start < end && value.charAt( start ) == '[' ) {
+			if ( value.charAt( end - 1 ) != ']' ) {
+				return false;
+			}
+			if ( regionMatchesIgnoreCase( value, start + 1, end - 1, EMAIL_IPV6_PREFIX ) ) {
+				if ( !isValidIpV6Address( value, start + 1 + EMAIL_IPV6_PREFIX.length(), end - 1 ) ) {
+					return false;
+				}
+			}
+			else if ( !isValidIpV4Address( value, start + 1, end - 1, false ) ) {
+				return false;
+			}
+			return hasValidAsciiLength( value, start, end );
+		}
+
+		return isValidDomainName( value, start, end );
 	}
 
 	/**
@@ -70,21 +105,112 @@ public static boolean isValidEmailDomainAddress(String domain) {
 	 * @return {@code true} if the provided string is a valid domain, {@code false} otherwise
 	 */
 	public static boolean isValidDomainAddress(String domain) {
-		return isValidDomainAddress( domain, DOMAIN_PATTERN );
+		return isValidDomainAddress( domain, 0, domain.length() );
 	}
 
-	private static boolean isValidDomainAddress(String domain, Pattern pattern) {
-		// if we have a trailing dot the domain part we have an invalid email address.
-		// the regular expression match would take care of this, but IDN.toASCII drops the trailing '.'
-		if ( domain.endsWith( "." ) ) {
-			return false;
+	/**
+	 * Checks validity of a domain name contained in the given range of a character sequence.
+	 *
+	 * @param value the character sequence containing the domain
+	 * @param start the index of the first character of the domain
+	 * @param end the index after the last character of the domain
+	 * @return {@code true} if the domain is valid, {@code false} otherwise
+	 *
+	 * @see #isValidDomainAddress(String)
+	 */
+	public static boolean isValidDomainAddress(CharSequence value, int start, int end) {
+		if ( start < end && value.charAt( start ) == '[' ) {
+			if ( value.charAt( end - 1 ) != ']' || !isValidIpV6Address( value, start + 1, end - 1 ) ) {
+				return false;
+			}
+			return hasValidAsciiLength( value, start, end );
 		}
 
-		Matcher matcher = pattern.matcher( domain );
-		if ( !matcher.matches() ) {
+		return isValidDomainName( value, start, end );
+	}
+
+	/**
+	 * Checks that the non ASCII character at the given index is part of the Basic Multilingual Plane, i.e. that it is
+	 * not the high surrogate of a supplementary character, as a regular expression would.
+	 *
+	 * @param value the character sequence
+	 * @param index the index of a non ASCII character
+	 * @param end the index after the last character of the range being validated
+	 * @return {@code true} if the character is part of the Basic Multilingual Plane, {@code false} otherwise
+	 */
+	public static boolean isInNonAsciiBmpRange(CharSequence value, int index, int end) {
+		return !Character.isHighSurrogate( value.charAt( index ) )
+				|| index + 1 >= end
+				|| !Character.isLowSurrogate( value.charAt( index + 1 ) );
+	}
+
+	/**
+	 * Builds a lookup table of the given ASCII characters.
+	 *
+	 * @param characters the characters to include
+	 * @return the lookup table, indexed by character
+	 */
+	public static boolean[] asciiCharacters(String characters) {
+		boolean[] table = new boolean[128];
+		for ( int i = 0; i < characters.length(); i++ ) {
+			table[characters.charAt( i )] = true;
+		}
+		return table;
+	}
+
+	private static boolean isValidDomainName(CharSequence value, int start, int end) {
+		boolean ascii = true;
+		int labelLength = 0;
+		int maxLabelLength = 0;
+		char previous = '.';
+
+		for ( int i = start; i < end; i++ ) {
+			char c = value.charAt( i );
+			if ( c == '.' ) {
+				// empty labels and labels ending with a dash are invalid
+				if ( labelLength == 0 || previous == '-' ) {
+					return false;
+				}
+				maxLabelLength = Math.max( maxLabelLength, labelLength );
+				labelLength = 0;
+			}
+			else if ( c == '-' ) {
+				if ( labelLength == 0 ) {
+					return false;
+				}
+				labelLength++;
+			}
+			else if ( c < 128 ) {
+				if ( !DOMAIN_CHARS_WITHOUT_DASH[c] ) {
+					return false;
+				}
+				labelLength++;
+			}
+			else {
+				if ( !isInNonAsciiBmpRange( value, i, end ) ) {
+					return false;
+				}
+				ascii = false;
+				labelLength++;
+			}
+			previous = c;
+		}
+
+		// a trailing dot is invalid, even if IDN.toASCII drops it
+		if ( labelLength == 0 || previous == '-' ) {
 			return false;
 		}
 
+		if ( !ascii ) {
+			// the non ASCII labels are converted to their ASCII compatible encoding before checking their length
+			return hasValidIdnLength( value.subSequence( start, end ).toString() );
+		}
+
+		// an ASCII domain is not modified by IDN.toASCII()
+		return Math.max( maxLabelLength, labelLength ) <= MAX_LABEL_LENGTH && end - start <= MAX_DOMAIN_PART_LENGTH;
+	}
+
+	private static boolean hasValidIdnLength(String domain) {
 		String asciiString;
 		try {
 			asciiString = IDN.toASCII( domain );
@@ -93,11 +219,249 @@ private static boolean isValidDomainAddress(String domain, Pattern pattern) {
 			return false;
 		}
 
-		if ( asciiString.length() > MAX_DOMAIN_PART_LENGTH ) {
+		return asciiString.length() <= MAX_DOMAIN_PART_LENGTH;
+	}
+
+	/**
+	 * Checks the length of the labels and of the domain for an ASCII domain, the way {@link IDN#toASCII(String)} does.
+	 */
+	private static boolean hasValidAsciiLength(CharSequence value, int start, int end) {
+		if ( end - start > MAX_DOMAIN_PART_LENGTH ) {
 			return false;
 		}
+		int labelStart = start;
+		for ( int i = start; i <= end; i++ ) {
+			if ( i == end || value.charAt( i ) == '.' ) {
+				if ( i - labelStart > MAX_LABEL_LENGTH ) {
+					return false;
+				}
+				labelStart = i + 1;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isValidIpV6Address(CharSequence value, int start, int end) {
+		int zoneIndex = indexOf( value, '%', start, end );
+		if ( zoneIndex >= 0 ) {
+			return isValidLinkLocalIpV6Address( value, start, zoneIndex, end );
+		}
+
+		if ( indexOf( value, '.', start, end ) >= 0 ) {
+			return isValidIpV6AddressWithIpV4Suffix( value, start, end );
+		}
+
+		int doubleColonIndex = indexOfDoubleColon( value, start, end );
+		if ( doubleColonIndex < 0 ) {
+			return countHexGroups( value, start, end ) == 8;
+		}
+
+		int leadingGroupCount = countHexGroups( value, start, doubleColonIndex );
+		int trailingGroupCount = countHexGroups( value, doubleColonIndex + 2, end );
+		return leadingGroupCount != INVALID && trailingGroupCount != INVALID && leadingGroupCount + trailingGroupCount <= 7;
+	}
+
+	/**
+	 * Checks a link local address with a zone index: {@code fe80:(:[0-9a-f]{0,4}){0,4}%[0-9a-z]+}.
+	 */
+	private static boolean isValidLinkLocalIpV6Address(CharSequence value, int start, int zoneIndex, int end) {
+		if ( !regionMatchesIgnoreCase( value, start, zoneIndex, LINK_LOCAL_IPV6_PREFIX ) ) {
+			return false;
+		}
+
+		int groupCount = 0;
+		int i = start + LINK_LOCAL_IPV6_PREFIX.length();
+		while ( i < zoneIndex ) {
+			if ( value.charAt( i ) != ':' || ++groupCount > 4 ) {
+				return false;
+			}
+			i++;
+			int groupStart = i;
+			while ( i < zoneIndex && isHexDigit( value.charAt( i ) ) ) {
+				i++;
+			}
+			if ( i - groupStart > 4 ) {
+				return false;
+			}
+		}
 
+		if ( zoneIndex + 1 == end ) {
+			return false;
+		}
+		for ( i = zoneIndex + 1; i < end; i++ ) {
+			char c = value.charAt( i );
+			if ( !( c >= '0' && c <= '9' ) && !( c >= 'a' && c <= 'z' ) && !( c >= 'A' && c <= 'Z' ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Checks an address ending with an IPv4 address: either {@code ::}, {@code ::ffff:} or {@code ::ffff:0{1,4}:}
+	 * followed by the IPv4 address or 1 to 4 groups followed by {@code ::} and the IPv4 address.
+	 */
+	private static boolean isValidIpV6AddressWithIpV4Suffix(CharSequence value, int start, int end) {
+		int lastColonIndex = lastIndexOf( value, ':', start, end );
+		if ( lastColonIndex < start + 1 || !isValidIpV4Address( value, lastColonIndex + 1, end, true ) ) {
+			return false;
+		}
+
+		if ( value.charAt( start ) != ':' ) {
+			if ( value.charAt( lastColonIndex - 1 ) != ':' ) {
+				return false;
+			}
+			int groupCount = countHexGroups( value, start, lastColonIndex - 1 );
+			return groupCount >= 1 && groupCount <= 4;
+		}
+
+		if ( value.charAt( start + 1 ) != ':' ) {
+			return false;
+		}
+		int i = start + 2;
+		if ( i == lastColonIndex + 1 ) {
+			return true;
+		}
+		if ( !regionMatchesIgnoreCase( value, i, lastColonIndex + 1, IPV4_MAPPED_IPV6_PREFIX ) ) {
+			return false;
+		}
+		i += IPV4_MAPPED_IPV6_PREFIX.length();
+		if ( i == lastColonIndex + 1 ) {
+			return true;
+		}
+		int zeroCount = lastColonIndex - i;
+		if ( zeroCount < 1 || zeroCount > 4 ) {
+			return false;
+		}
+		for ( ; i < lastColonIndex; i++ ) {
+			if ( value.charAt( i ) != '0' ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Checks an IPv4 address made of 4 numbers of 1 to 3 digits separated by dots.
+	 *
+	 * @param strict if the numbers must be written the way the IPv6 address grammar expects it, i.e. between 0 and 255
+	 * without leading zeros for the 3 digits numbers
+	 */
+	private static boolean isValidIpV4Address(CharSequence value, int start, int end, boolean strict) {
+		int numberCount = 0;
+		int numberStart = start;
+		for ( int i = start; i <= end; i++ ) {
+			if ( i < end && value.charAt( i ) != '.' ) {
+				char c = value.charAt( i );
+				if ( c < '0' || c > '9' ) {
+					return false;
+				}
+				continue;
+			}
+
+			int numberLength = i - numberStart;
+			if ( numberLength < 1 || numberLength > 3 || ++numberCount > 4 ) {
+				return false;
+			}
+			if ( strict && numberLength == 3 && !isValidThreeDigitsIpV4Number( value, numberStart ) ) {
+				return false;
+			}
+			numberStart = i + 1;
+		}
+		return numberCount == 4;
+	}
+
+	private static boolean isValidThreeDigitsIpV4Number(CharSequence value, int start) {
+		char first = value.charAt( start );
+		if ( first == '1' ) {
+			return true;
+		}
+		if ( first != '2' ) {
+			return false;
+		}
+		char second = value.charAt( start + 1 );
+		return second < '5' || ( second == '5' && value.charAt( start + 2 ) <= '5' );
+	}
+
+	/**
+	 * Counts the groups of 1 to 4 hexadecimal digits separated by colons in the given range.
+	 *
+	 * @return the number of groups, {@code 0} for an empty range and {@link #INVALID} if the range is not made of
+	 * such groups
+	 */
+	private static int countHexGroups(CharSequence value, int start, int end) {
+		if ( start == end ) {
+			return 0;
+		}
+		int groupCount = 0;
+		int groupStart = start;
+		for ( int i = start; i <= end; i++ ) {
+			if ( i < end && value.charAt( i ) != ':' ) {
+				if ( !isHexDigit( value.charAt( i ) ) ) {
+					return INVALID;
+				}
+				continue;
+			}
+
+			int groupLength = i - groupStart;
+			if ( groupLength < 1 || groupLength > 4 ) {
+				return INVALID;
+			}
+			groupCount++;
+			groupStart = i + 1;
+		}
+		return groupCount;
+	}
+
+	private static boolean isHexDigit(char c) {
+		return ( c >= '0' && c <= '9' ) || ( c >= 'a' && c <= 'f' ) || ( c >= 'A' && c <= 'F' );
+	}
+
+	/**
+	 * Checks that the range starts with the given ASCII prefix, ignoring the case.
+	 */
+	private static boolean regionMatchesIgnoreCase(CharSequence value, int start, int end, String prefix) {
+		if ( end - start < prefix.length() ) {
+			return false;
+		}
+		for ( int i = 0; i < prefix.length(); i++ ) {
+			char c = value.charAt( start + i );
+			char expected = prefix.charAt( i );
+			if ( c != expected && toLowerCase( c ) != toLowerCase( expected ) ) {
+				return false;
+			}
+		}
 		return true;
 	}
 
+	private static char toLowerCase(char c) {
+		return c >= 'A' && c <= 'Z' ? (char) ( c + ( 'a' - 'A' ) ) : c;
+	}
+
+	private static int indexOf(CharSequence value, char searched, int start, int end) {
+		for ( int i = start; i < end; i++ ) {
+			if ( value.charAt( i ) == searched ) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static int indexOfDoubleColon(CharSequence value, int start, int end) {
+		for ( int i = start; i < end - 1; i++ ) {
+			if ( value.charAt( i ) == ':' && value.charAt( i + 1 ) == ':' ) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static int lastIndexOf(CharSequence value, char searched, int start, int end) {
+		for ( int i = end - 1; i >= start; i-- ) {
+			if ( value.charAt( i ) == searched ) {
+				return i;
+			}
+		}
+		return -1;
+	}
 }
@@ -887,4 +887,34 @@ ConstraintDefinitionException getConstraintValidatorDefinitionConstraintMismatch
 	@LogMessage(level = ERROR)
 	@Message(id = 251, value = "An error occurred while loading an instance of service %s.")
 	void unableToLoadInstanceOfService(String serviceName, @Cause ServiceConfigurationError e);
+
+	@LogMessage(level = DEBUG)
+	@Message(id = 252, value = "Unable to create a method handle to access %s, falling back to reflection.")
+	void unableToCreateMethodHandleFallingBackToReflection(String memberName, @Cause Exception e);
+
+	@Message(id = 253, value = "Unable to parse the parallel cascading threshold property %s. It should be an integer.")
+	ValidationException getUnableToParseParallelCascadingThresholdException(String thresholdProperty, @Cause Exception e);
+
+	@Message(id = 254, value = "The maximum size of a bean metadata cache must be positive, got %d.")
+	IllegalArgumentException getInvalidBeanMetaDataCacheMaxSizeException(int maxSize);
+
+	@Message(id = 255, value = "Unable to parse the bean metadata cache maximum size property %s. It should be an integer.")
+	ValidationException getUnableToParseBeanMetaDataCacheMaxSizeException(String maxSizeProperty, @Cause Exception e);
+
+	@Message(id = 256, value = "Unable to instantiate bean metadata cache factory class %s.")
+	ValidationException getUnableToInstantiateBeanMetaDataCacheFactoryClassException(String beanMetaDataCacheFactoryClassName, @Cause Exception e);
+
+	@LogMessage(level = DEBUG)
+	@Message(id = 257, value = "Initialized the bean metadata of %1$s in %2$.3f ms, %3$.3f ms of which spent retrieving the configuration of the class.")
+	void beanMetaDataInitialized(@FormatWith(ClassObjectFormatter.class) Class<?> beanClass, double durationInMillis, double configurationRetrievalInMillis);
+
+	@LogMessage(level = DEBUG)
+	@Message(id = 258, value = "Initialized the bean metadata of %1$d classes in %2$d ms using %3$s.")
+	void allBeanMetaDataInitialized(int classCount, long durationInMillis, String executor);
+
+	@Message(id = 259, value = "Unable to parse the constraint validator cache maximum number of factories property %s. It should be an integer.")
+	ValidationException getUnableToParseConstraintValidatorCacheMaxFactoriesException(String maxFactoriesProperty, @Cause Exception e);
+
+	@Message(id = 260, value = "The maximum number of constraint validator factories of the constraint validator cache must be positive, got %d.")
+	IllegalArgumentException getInvalidConstraintValidatorCacheMaxFactoriesException(int maxFactories);
 }
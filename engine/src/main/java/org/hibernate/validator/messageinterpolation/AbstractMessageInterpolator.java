@@ -22,6 +22,7 @@
 import javax.validation.MessageInterpolator;
 import javax.validation.ValidationException;
 
+import org.hibernate.validator.internal.engine.messageinterpolation.CompiledMessage;
 import org.hibernate.validator.internal.engine.messageinterpolation.InterpolationTermType;
 import org.hibernate.validator.internal.engine.messageinterpolation.LocalizedMessage;
 import org.hibernate.validator.internal.engine.messageinterpolation.parser.MessageDescriptorFormatException;
@@ -103,14 +104,10 @@ public abstract class AbstractMessageInterpolator implements MessageInterpolator
 	private final ResourceBundleLocator contributorResourceBundleLocator;
 
 	/**
-	 * Step 1-3 of message interpolation can be cached. We do this in this map.
+	 * Step 1-3 of message interpolation can be cached. We do this in this map. The resolved messages are compiled so
+	 * that step 4, which replaces message parameters, does not need to parse them again.
 	 */
-	private final ConcurrentReferenceHashMap<LocalizedMessage, String> resolvedMessages;
-
-	/**
-	 * Step 4 of message interpolation replaces message parameters. The token list for message parameters is cached in this map.
-	 */
-	private final ConcurrentReferenceHashMap<String, List<Token>> tokenizedParameterMessages;
+	private final ConcurrentReferenceHashMap<LocalizedMessage, CompiledMessage> resolvedMessages;
 
 	/**
 	 * Step 5 of message interpolation replaces EL expressions. The token list for EL expressions is cached in this map.
@@ -245,15 +242,7 @@ public AbstractMessageInterpolator(ResourceBundleLocator userResourceBundleLocat
 
 		this.cachingEnabled = cacheMessages;
 		if ( cachingEnabled ) {
-			this.resolvedMessages = new ConcurrentReferenceHashMap<LocalizedMessage, String>(
-					DEFAULT_INITIAL_CAPACITY,
-					DEFAULT_LOAD_FACTOR,
-					DEFAULT_CONCURRENCY_LEVEL,
-					SOFT,
-					SOFT,
-					EnumSet.noneOf( ConcurrentReferenceHashMap.Option.class )
-			);
-			this.tokenizedParameterMessages = new ConcurrentReferenceHashMap<String, List<Token>>(
+			this.resolvedMessages = new ConcurrentReferenceHashMap<LocalizedMessage, CompiledMessage>(
 					DEFAULT_INITIAL_CAPACITY,
 					DEFAULT_LOAD_FACTOR,
 					DEFAULT_CONCURRENCY_LEVEL,
@@ -272,7 +261,6 @@ public AbstractMessageInterpolator(ResourceBundleLocator userResourceBundleLocat
 		}
 		else {
 			resolvedMessages = null;
-			tokenizedParameterMessages = null;
 			tokenizedELMessages = null;
 		}
 	}
@@ -323,25 +311,29 @@ private String interpolateMessage(String message, Context context, Locale locale
 			return replaceEscapedLiterals( message );
 		}
 
-		String resolvedMessage = null;
+		CompiledMessage compiledMessage;
 
 		// either retrieve message from cache, or if message is not yet there or caching is disabled,
 		// perform message resolution algorithm (step 1)
 		if ( cachingEnabled ) {
-			resolvedMessage = resolvedMessages.computeIfAbsent( new LocalizedMessage( message, locale ), lm -> resolveMessage( message, locale ) );
+			compiledMessage = resolvedMessages.computeIfAbsent( new LocalizedMessage( message, locale ),
+					lm -> CompiledMessage.compile( resolveMessage( message, locale ) ) );
 		}
 		else {
-			resolvedMessage = resolveMessage( message, locale );
+			compiledMessage = CompiledMessage.compile( resolveMessage( message, locale ) );
 		}
 
+		String resolvedMessage = compiledMessage.getResolvedMessage();
+
 		// there's no need for steps 2-3 unless there's `{param}`/`${expr}` in the message
-		if ( resolvedMessage.indexOf( '{' ) > -1 ) {
+		if ( compiledMessage.hasInterpolationTerms() ) {
 			// resolve parameter expressions (step 2)
-			resolvedMessage = interpolateExpression(
-					new TokenIterator( getParameterTokens( resolvedMessage, tokenizedParameterMessages, InterpolationTermType.PARAMETER ) ),
-					context,
-					locale
-			);
+			resolvedMessage = compiledMessage.render( term -> interpolate( context, locale, term ) );
+
+			// if neither the message nor the parameter values contain EL expressions or escaped literals, we are done
+			if ( !compiledMessage.requiresFurtherInterpolation( resolvedMessage ) ) {
+				return resolvedMessage;
+			}
 
 			// resolve EL expressions (step 3)
 			resolvedMessage = interpolateExpression(
@@ -6,6 +6,8 @@
  */
 package org.hibernate.validator.messageinterpolation;
 
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType.SOFT;
+
 import java.lang.invoke.MethodHandles;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
@@ -15,8 +17,10 @@
 
 import javax.el.ELManager;
 import javax.el.ExpressionFactory;
+import javax.el.ValueExpression;
 
 import org.hibernate.validator.internal.engine.messageinterpolation.InterpolationTerm;
+import org.hibernate.validator.internal.util.ConcurrentReferenceHashMap;
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
 import org.hibernate.validator.internal.util.privilegedactions.GetClassLoader;
@@ -39,6 +43,12 @@ public class ResourceBundleMessageInterpolator extends AbstractMessageInterpolat
 
 	private final ExpressionFactory expressionFactory;
 
+	/**
+	 * The EL expressions parsed by the expression factory. They don't depend on the resource bundles so they are cached
+	 * even if the caching of the messages is disabled.
+	 */
+	private final ConcurrentReferenceHashMap<String, ValueExpression> parsedExpressions = new ConcurrentReferenceHashMap<>( 100, SOFT, SOFT );
+
 	public ResourceBundleMessageInterpolator() {
 		this( Collections.emptySet() );
 	}
@@ -108,7 +118,7 @@ public ResourceBundleMessageInterpolator(ResourceBundleLocator userResourceBundl
 
 	@Override
 	public String interpolate(Context context, Locale locale, String term) {
-		InterpolationTerm expression = new InterpolationTerm( term, locale, expressionFactory );
+		InterpolationTerm expression = new InterpolationTerm( term, locale, expressionFactory, parsedExpressions );
 		return expression.interpolate( context );
 	}
 
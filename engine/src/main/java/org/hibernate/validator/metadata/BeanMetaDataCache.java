@@ -0,0 +1,58 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.metadata;
+
+import org.hibernate.validator.Incubating;
+
+/**
+ * Caches the metadata of the validated beans.
+ * <p>
+ * The metadata is opaque to the cache: it is built by Hibernate Validator on a cache miss and should be kept as long
+ * as the cache policy allows it. Metadata evicted from the cache is rebuilt on the next request.
+ * <p>
+ * Implementations must be thread-safe.
+ *
+ * @author Guillaume Smet
+ * @see BeanMetaDataCacheFactory
+ * @since 6.1
+ */
+@Incubating
+public interface BeanMetaDataCache {
+
+	/**
+	 * @param beanClass the bean class
+	 *
+	 * @return the cached metadata of the given bean class, {@code null} if not cached
+	 */
+	Object get(Class<?> beanClass);
+
+	/**
+	 * Caches the metadata of the given bean class if no metadata is cached yet for this class.
+	 *
+	 * @param beanClass the bean class
+	 * @param beanMetaData the metadata of the bean class
+	 *
+	 * @return the metadata previously cached or {@code null} if the given metadata has been cached
+	 */
+	Object putIfAbsent(Class<?> beanClass, Object beanMetaData);
+
+	/**
+	 * Removes all the cached metadata.
+	 */
+	void clear();
+
+	/**
+	 * @return the number of cached metadata instances
+	 */
+	int size();
+
+	/**
+	 * @return the number of metadata instances evicted from the cache by its eviction policy, not including the ones
+	 * removed by {@link #clear()}
+	 */
+	long getEvictionCount();
+}
@@ -0,0 +1,70 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.metadata;
+
+import org.hibernate.validator.Incubating;
+import org.hibernate.validator.internal.metadata.cache.BoundedLruBeanMetaDataCache;
+import org.hibernate.validator.internal.metadata.cache.SoftBeanMetaDataCache;
+import org.hibernate.validator.internal.metadata.cache.StrongBeanMetaDataCache;
+
+/**
+ * Creates the caches of the bean metadata.
+ * <p>
+ * A validator factory might use several caches, for instance if validators with different method validation
+ * configurations are created from it, thus the factory.
+ * <p>
+ * Implementations must be thread-safe and have a public no-arg constructor if configured by their class name.
+ *
+ * @author Guillaume Smet
+ * @since 6.1
+ */
+@Incubating
+public interface BeanMetaDataCacheFactory {
+
+	/**
+	 * @return a new bean metadata cache
+	 */
+	BeanMetaDataCache createBeanMetaDataCache();
+
+	/**
+	 * Returns the default cache factory: the metadata is softly referenced and might be cleared by the garbage
+	 * collector under memory pressure.
+	 *
+	 * @return a factory creating soft caches
+	 */
+	static BeanMetaDataCacheFactory soft() {
+		return SoftBeanMetaDataCache::new;
+	}
+
+	/**
+	 * Returns a cache factory keeping the metadata until the validator factory is closed.
+	 * <p>
+	 * The cached bean classes are strongly referenced.
+	 *
+	 * @return a factory creating strong caches
+	 */
+	static BeanMetaDataCacheFactory strong() {
+		return StrongBeanMetaDataCache::new;
+	}
+
+	/**
+	 * Returns a cache factory keeping at most the given number of metadata instances, evicting the least recently used
+	 * ones.
+	 * <p>
+	 * The recency of the metadata is approximate: the metadata used since the last addition to the cache are
+	 * considered as equally recent. The cached bean classes are strongly referenced.
+	 *
+	 * @param maxSize the maximum number of metadata instances kept in the cache
+	 *
+	 * @return a factory creating bounded caches with a least recently used eviction policy
+	 *
+	 * @throws IllegalArgumentException if the maximum size is not positive
+	 */
+	static BeanMetaDataCacheFactory boundedLru(int maxSize) {
+		return BoundedLruBeanMetaDataCache.factory( maxSize );
+	}
+}
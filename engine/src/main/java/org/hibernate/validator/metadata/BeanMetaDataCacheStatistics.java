@@ -0,0 +1,58 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.metadata;
+
+import org.hibernate.validator.Incubating;
+
+/**
+ * A snapshot of the statistics of the bean metadata caches of a validator factory.
+ *
+ * @author Guillaume Smet
+ * @since 6.1
+ */
+@Incubating
+public interface BeanMetaDataCacheStatistics {
+
+	/**
+	 * @return the number of requests served from the cache
+	 */
+	long getHitCount();
+
+	/**
+	 * @return the number of requests for metadata not present in the cache
+	 */
+	long getMissCount();
+
+	/**
+	 * @return the number of metadata instances built again after having been evicted from the cache
+	 */
+	long getRebuildCount();
+
+	/**
+	 * Returns the number of metadata instances evicted from the cache.
+	 * <p>
+	 * For the default {@linkplain BeanMetaDataCacheFactory#soft() soft} cache, this count is approximate: the entries
+	 * cleared by the garbage collector are not tracked individually so the count is derived from the number of
+	 * insertions minus the number of explicit removals minus the current size of the cache. Concurrent updates might
+	 * thus be reflected partially, and the cleared entries are only accounted for once they have been purged from the
+	 * cache.
+	 *
+	 * @return the number of metadata instances evicted from the cache
+	 */
+	long getEvictionCount();
+
+	/**
+	 * @return the number of metadata constructions avoided by waiting for the concurrent construction of the same
+	 * metadata
+	 */
+	long getAvoidedDuplicateConstructionCount();
+
+	/**
+	 * @return the number of metadata instances currently cached
+	 */
+	long getSize();
+}
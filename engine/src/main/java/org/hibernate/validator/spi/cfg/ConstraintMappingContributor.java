@@ -15,6 +15,14 @@
  * {@link org.hibernate.validator.HibernateValidatorConfiguration#CONSTRAINT_MAPPING_CONTRIBUTORS}, thus allowing to set
  * up constraints to be validated by default validators dynamically via the API for programmatic constraint declaration.
  * <p>
+ * Constraint mapping contributors can also be registered via the Java service loader mechanism by listing them in
+ * {@code META-INF/services/org.hibernate.validator.spi.cfg.ConstraintMappingContributor}. The Hibernate Validator
+ * annotation processor can generate such contributors from the constraint annotations of the compiled beans. These
+ * contributors are only discovered if enabled via
+ * {@link org.hibernate.validator.BaseHibernateValidatorConfiguration#enableConstraintMappingContributorDiscovery(boolean)}
+ * or the {@link org.hibernate.validator.HibernateValidatorConfiguration#ENABLE_CONSTRAINT_MAPPING_CONTRIBUTOR_DISCOVERY}
+ * property. A contributor registered both ways is only applied once.
+ * <p>
  * Implementations must have a no-args constructor.
  * <p>
  * One or more mappings can be added as shown in the following:
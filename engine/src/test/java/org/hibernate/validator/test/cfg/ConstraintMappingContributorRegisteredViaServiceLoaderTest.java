@@ -0,0 +1,165 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.cfg;
+
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import javax.validation.Validator;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Null;
+import javax.validation.constraints.Size;
+
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.cfg.defs.MinDef;
+import org.hibernate.validator.cfg.defs.SizeDef;
+import org.hibernate.validator.spi.cfg.ConstraintMappingContributor;
+import org.hibernate.validator.testutils.ValidatorUtil;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the contribution of constraint mappings via a contributor registered with the service loader mechanism, as
+ * generated by the annotation processor.
+ *
+ * @author Guillaume Smet
+ */
+public class ConstraintMappingContributorRegisteredViaServiceLoaderTest {
+
+	@Test
+	public void shouldApplyConstraintMappingsFromContributorsRegisteredViaServiceLoader() throws Exception {
+		Path directory = Files.createTempDirectory( "hv-contributors" );
+		Path serviceFile = directory.resolve( "META-INF/services/" + ConstraintMappingContributor.class.getName() );
+		Files.createDirectories( serviceFile.getParent() );
+		Files.write( serviceFile, Collections.singleton( MarathonConstraintMappingContributor.class.getName() ), StandardCharsets.UTF_8 );
+
+		try ( URLClassLoader classLoader = new URLClassLoader( new URL[] { directory.toUri().toURL() }, getClass().getClassLoader() ) ) {
+			Validator validator = ValidatorUtil.getConfiguration( HibernateValidator.class )
+					.externalClassLoader( classLoader )
+					.enableConstraintMappingContributorDiscovery( true )
+					.buildValidatorFactory()
+					.getValidator();
+
+			// the annotations of the bean are ignored by the contributed mapping
+			assertThat( validator.validate( new Marathon() ) ).containsOnlyViolations(
+					violationOf( Size.class ).withProperty( "name" ),
+					violationOf( Min.class ).withProperty( "numberOfHelpers" )
+			);
+		}
+		finally {
+			Files.delete( serviceFile );
+		}
+	}
+
+	@Test
+	public void shouldApplyContributorRegisteredViaServiceLoaderAndPropertyOnlyOnce() throws Exception {
+		Path directory = Files.createTempDirectory( "hv-contributors" );
+		Path serviceFile = directory.resolve( "META-INF/services/" + ConstraintMappingContributor.class.getName() );
+		Files.createDirectories( serviceFile.getParent() );
+		Files.write( serviceFile, Collections.singleton( MarathonConstraintMappingContributor.class.getName() ), StandardCharsets.UTF_8 );
+
+		try ( URLClassLoader classLoader = new URLClassLoader( new URL[] { directory.toUri().toURL() }, getClass().getClassLoader() ) ) {
+			Validator validator = ValidatorUtil.getConfiguration( HibernateValidator.class )
+					.externalClassLoader( classLoader )
+					.enableConstraintMappingContributorDiscovery( true )
+					.addProperty( HibernateValidatorConfiguration.CONSTRAINT_MAPPING_CONTRIBUTORS, MarathonConstraintMappingContributor.class.getName() )
+					.buildValidatorFactory()
+					.getValidator();
+
+			assertThat( validator.validate( new Marathon() ) ).containsOnlyViolations(
+					violationOf( Size.class ).withProperty( "name" ),
+					violationOf( Min.class ).withProperty( "numberOfHelpers" )
+			);
+		}
+		finally {
+			Files.delete( serviceFile );
+		}
+	}
+
+	@Test
+	public void shouldNotDiscoverContributorsRegisteredViaServiceLoaderByDefault() throws Exception {
+		Path directory = Files.createTempDirectory( "hv-contributors" );
+		Path serviceFile = directory.resolve( "META-INF/services/" + ConstraintMappingContributor.class.getName() );
+		Files.createDirectories( serviceFile.getParent() );
+		Files.write( serviceFile, Collections.singleton( MarathonConstraintMappingContributor.class.getName() ), StandardCharsets.UTF_8 );
+
+		try ( URLClassLoader classLoader = new URLClassLoader( new URL[] { directory.toUri().toURL() }, getClass().getClassLoader() ) ) {
+			Validator validator = ValidatorUtil.getConfiguration( HibernateValidator.class )
+					.externalClassLoader( classLoader )
+					.buildValidatorFactory()
+					.getValidator();
+
+			assertThat( validator.validate( new Marathon() ) ).containsOnlyViolations(
+					violationOf( Null.class ).withProperty( "name" ),
+					violationOf( NotNull.class ).withProperty( "organizer" )
+			);
+		}
+		finally {
+			Files.delete( serviceFile );
+		}
+	}
+
+	@Test
+	public void shouldDiscoverContributorsRegisteredViaServiceLoaderIfEnabledViaProperty() throws Exception {
+		Path directory = Files.createTempDirectory( "hv-contributors" );
+		Path serviceFile = directory.resolve( "META-INF/services/" + ConstraintMappingContributor.class.getName() );
+		Files.createDirectories( serviceFile.getParent() );
+		Files.write( serviceFile, Collections.singleton( MarathonConstraintMappingContributor.class.getName() ), StandardCharsets.UTF_8 );
+
+		try ( URLClassLoader classLoader = new URLClassLoader( new URL[] { directory.toUri().toURL() }, getClass().getClassLoader() ) ) {
+			Validator validator = ValidatorUtil.getConfiguration( HibernateValidator.class )
+					.externalClassLoader( classLoader )
+					.addProperty( HibernateValidatorConfiguration.ENABLE_CONSTRAINT_MAPPING_CONTRIBUTOR_DISCOVERY, "true" )
+					.buildValidatorFactory()
+					.getValidator();
+
+			assertThat( validator.validate( new Marathon() ) ).containsOnlyViolations(
+					violationOf( Size.class ).withProperty( "name" ),
+					violationOf( Min.class ).withProperty( "numberOfHelpers" )
+			);
+		}
+		finally {
+			Files.delete( serviceFile );
+		}
+	}
+
+	public static class MarathonConstraintMappingContributor implements ConstraintMappingContributor {
+
+		@Override
+		public void createConstraintMappings(ConstraintMappingBuilder builder) {
+			builder.addConstraintMapping()
+				.type( Marathon.class )
+					.ignoreAllAnnotations()
+					.field( "name" )
+						.constraint( new SizeDef().min( 5 ) )
+					.field( "numberOfHelpers" )
+						.constraint( new MinDef().value( 1 ) );
+		}
+	}
+
+	@SuppressWarnings("unused")
+	private static class Marathon {
+
+		@Null
+		private String name = "Rome";
+
+		private int numberOfHelpers;
+
+		@NotNull
+		public String getOrganizer() {
+			return null;
+		}
+	}
+}
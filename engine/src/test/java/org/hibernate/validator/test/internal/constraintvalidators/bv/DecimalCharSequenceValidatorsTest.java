@@ -0,0 +1,159 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.constraintvalidators.bv;
+
+import static org.testng.Assert.assertEquals;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import javax.validation.constraints.DecimalMax;
+import javax.validation.constraints.DecimalMin;
+import javax.validation.constraints.Digits;
+
+import org.hibernate.validator.internal.constraintvalidators.bv.DecimalMaxValidatorForCharSequence;
+import org.hibernate.validator.internal.constraintvalidators.bv.DecimalMinValidatorForCharSequence;
+import org.hibernate.validator.internal.constraintvalidators.bv.DigitsValidatorForCharSequence;
+import org.hibernate.validator.internal.util.annotation.ConstraintAnnotationDescriptor;
+import org.hibernate.validator.testutil.MyCustomStringImpl;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Checks that the character sequence based {@code DecimalMin}, {@code DecimalMax} and {@code Digits} validators, which
+ * scan the character sequences directly, return the same results as the {@code BigDecimal} based implementation.
+ *
+ * @author Guillaume Smet
+ */
+public class DecimalCharSequenceValidatorsTest {
+
+	private static final String[] BOUNDS = {
+			"0", "-0", "0.00", "1", "-1", "15.0E0", "123.450", "-123.45", "0.001", "-0.001", "1E+3", "-1000", "99999999999999999999.9"
+	};
+
+	private static final int[][] DIGITS = { { 0, 0 }, { 1, 0 }, { 0, 2 }, { 2, 3 }, { 5, 2 }, { 20, 20 } };
+
+	private static final String[] EDGE_CASES = {
+			"", "+", "-", ".", "+.", "-.", "..", "0", "-0", "+0", "00", "000.000", "0.", ".0", "-.0", "5.", ".5", "-.5", "+.5",
+			"007", "-007.50", "0.001", "0.0010", "-0.001", "123.45", "123.450", "123.4500001", "123.44999", "-123.45", "-123.46",
+			"-123.449", "15", "15.0", "15.00000000001", "14.99999999999", "1000", "999.9999", "1000.0001", "-1000", "-999",
+			"-1000.1", "1e3", "1E3", "1E+3", "1e-3", "-1.5E2", "1e", "1e+", "e3", ".e3", "1.2.3", "1..2", "--1", "+-1", "1-",
+			" 1", "1 ", "1,5", "0x10", "NaN", "Infinity", "١٢٣", "-١.٥", "1٥", "1é",
+			"99999999999999999999.9", "99999999999999999999.90", "99999999999999999999.91", "100000000000000000000",
+			"000000000000000000000000000000000000000000000000000000000001"
+	};
+
+	private static final char[] ALPHABET = "0000123456789+-.eE x٥".toCharArray();
+
+	private List<String> values;
+
+	@BeforeClass
+	public void generateValues() {
+		values = new ArrayList<>( Arrays.asList( EDGE_CASES ) );
+
+		Random random = new Random( 42L );
+		for ( int i = 0; i < 5000; i++ ) {
+			char[] value = new char[random.nextInt( 12 )];
+			for ( int j = 0; j < value.length; j++ ) {
+				value[j] = ALPHABET[random.nextInt( ALPHABET.length )];
+			}
+			values.add( new String( value ) );
+		}
+	}
+
+	@Test
+	public void testDecimalMaxIsConsistentWithBigDecimal() {
+		for ( String bound : BOUNDS ) {
+			for ( boolean inclusive : new boolean[]{ true, false } ) {
+				DecimalMaxValidatorForCharSequence validator = new DecimalMaxValidatorForCharSequence();
+				validator.initialize( decimalMax( bound, inclusive ) );
+
+				for ( String value : values ) {
+					Integer comparison = compareUsingBigDecimal( value, bound );
+					boolean expected = comparison != null && ( inclusive ? comparison <= 0 : comparison < 0 );
+					assertEquals( validator.isValid( value, null ), expected, "DecimalMax(" + bound + ", " + inclusive + ") for \"" + value + "\"" );
+					assertEquals( validator.isValid( new MyCustomStringImpl( value ), null ), expected );
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testDecimalMinIsConsistentWithBigDecimal() {
+		for ( String bound : BOUNDS ) {
+			for ( boolean inclusive : new boolean[]{ true, false } ) {
+				DecimalMinValidatorForCharSequence validator = new DecimalMinValidatorForCharSequence();
+				validator.initialize( decimalMin( bound, inclusive ) );
+
+				for ( String value : values ) {
+					Integer comparison = compareUsingBigDecimal( value, bound );
+					boolean expected = comparison != null && ( inclusive ? comparison >= 0 : comparison > 0 );
+					assertEquals( validator.isValid( value, null ), expected, "DecimalMin(" + bound + ", " + inclusive + ") for \"" + value + "\"" );
+					assertEquals( validator.isValid( new MyCustomStringImpl( value ), null ), expected );
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testDigitsIsConsistentWithBigDecimal() {
+		for ( int[] digits : DIGITS ) {
+			DigitsValidatorForCharSequence validator = new DigitsValidatorForCharSequence();
+			validator.initialize( digits( digits[0], digits[1] ) );
+
+			for ( String value : values ) {
+				boolean expected = hasDigitsUsingBigDecimal( value, digits[0], digits[1] );
+				assertEquals( validator.isValid( value, null ), expected, "Digits(" + digits[0] + ", " + digits[1] + ") for \"" + value + "\"" );
+				assertEquals( validator.isValid( new MyCustomStringImpl( value ), null ), expected );
+			}
+		}
+	}
+
+	private static Integer compareUsingBigDecimal(String value, String bound) {
+		try {
+			return new BigDecimal( value ).compareTo( new BigDecimal( bound ) );
+		}
+		catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	private static boolean hasDigitsUsingBigDecimal(String value, int maxIntegerLength, int maxFractionLength) {
+		BigDecimal bigNum;
+		try {
+			bigNum = new BigDecimal( value );
+		}
+		catch (NumberFormatException e) {
+			return false;
+		}
+		return maxIntegerLength >= bigNum.precision() - bigNum.scale() && maxFractionLength >= Math.max( bigNum.scale(), 0 );
+	}
+
+	private static DecimalMax decimalMax(String value, boolean inclusive) {
+		ConstraintAnnotationDescriptor.Builder<DecimalMax> descriptorBuilder = new ConstraintAnnotationDescriptor.Builder<>( DecimalMax.class );
+		descriptorBuilder.setAttribute( "value", value );
+		descriptorBuilder.setAttribute( "inclusive", inclusive );
+		return descriptorBuilder.build().getAnnotation();
+	}
+
+	private static DecimalMin decimalMin(String value, boolean inclusive) {
+		ConstraintAnnotationDescriptor.Builder<DecimalMin> descriptorBuilder = new ConstraintAnnotationDescriptor.Builder<>( DecimalMin.class );
+		descriptorBuilder.setAttribute( "value", value );
+		descriptorBuilder.setAttribute( "inclusive", inclusive );
+		return descriptorBuilder.build().getAnnotation();
+	}
+
+	private static Digits digits(int integer, int fraction) {
+		ConstraintAnnotationDescriptor.Builder<Digits> descriptorBuilder = new ConstraintAnnotationDescriptor.Builder<>( Digits.class );
+		descriptorBuilder.setAttribute( "integer", integer );
+		descriptorBuilder.setAttribute( "fraction", fraction );
+		return descriptorBuilder.build().getAnnotation();
+	}
+}
@@ -0,0 +1,230 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.constraintvalidators.hv;
+
+import static java.util.regex.Pattern.CASE_INSENSITIVE;
+import static org.testng.Assert.assertEquals;
+
+import java.net.IDN;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import org.hibernate.validator.internal.constraintvalidators.hv.EmailValidator;
+import org.hibernate.validator.internal.util.DomainNameUtil;
+import org.hibernate.validator.testutil.MyCustomStringImpl;
+import org.testng.annotations.Test;
+
+/**
+ * Checks that the email and domain validation gives the same results as the regular expressions it replaced.
+ *
+ * @author Guillaume Smet
+ */
+public class EmailValidatorRegexpConsistencyTest {
+
+	private static final String[] EMAILS = {
+			"emmanuel@hibernate.org", "emma-n_uel@hibernate", "*@example.net", "---@example.com", "x@example.com",
+			"\"much.more unusual\"@example.com", "\"very.unusual.@.unusual.com\"@example.com",
+			"\"very.(),:;<>[]\\\".VERY.\\\"very@\\\\ \\\"very\\\".unusual\"@strange.example.com",
+			"\"some \".\" strange \".\" part*:; \"@strange.example.com", "\" \"@example.org", "\"\"@example.org",
+			"\"a\\b\"@example.org", "\"a\\\"@example.org", "\"a\\\\\"@example.org", "\"a\"b@example.org", "a.\"b\"@example.org",
+			"\"a\".\"b\"@example.org", "\"a\"\"b\"@example.org", "\"a@example.org", "a\"@example.org", "\"a\tb\"@example.org",
+			"emma nuel@hibernate.org", "emma\nnuel@hibernate.org", "emma@nuel@hibernate.org", "emmanuel@", "@example.com",
+			"me.@example.com", ".me@example.com", "me@example..com", "me@example.com.", "me@.example.com", "me@-example.com",
+			"me@example-.com", "me@ex--ample.com", "me@exämple.com", "mé@example.com", "é@é",
+			"me@безопасность.рф",
+			"😀@example.com", "me@😀.com", "\uD800@example.com", "\uDE00@example.com", "me@exa\uD800mple.com",
+			"me@example。com", "me@xn--fken-gra.no", "me@xn--80ahgue5b.xn--p1ai", "me@xn--ä.com",
+			"me@[123.12.2.11]", "me@[1.2.3]", "me@[1.2.3.4.5]", "me@[1234.1.1.1]", "me@[999.999.999.999]", "me@[1.2.3.4",
+			"me@1.2.3.4]", "me@[]", "me@[", "me@]", "me@[IPv6:2001:DB8::1]", "me@[ipv6:2001:db8::1]", "me@[IPv6:::]",
+			"me@[IPv6:::1]", "me@[IPv6:1::]", "me@[IPv6:1:2:3:4:5:6:7:8]", "me@[IPv6:1:2:3:4:5:6:7]", "me@[IPv6:1:2:3:4:5:6:7:8:9]",
+			"me@[IPv6:1:2:3:4:5:6:7::]", "me@[IPv6:::2:3:4:5:6:7:8]", "me@[IPv6:1::3:4:5:6:7:8]", "me@[IPv6:1:2:3:4:5:6::7:8]",
+			"me@[IPv6:1::2::3]", "me@[IPv6::::1]", "me@[IPv6:12345::1]", "me@[IPv6:g::1]", "me@[IPv6:::1.2.3.4]",
+			"me@[IPv6:::ffff:1.2.3.4]", "me@[IPv6:::FFFF:255.255.255.255]", "me@[IPv6:::ffff:0:1.2.3.4]",
+			"me@[IPv6:::ffff:00000:1.2.3.4]", "me@[IPv6:::ffff:1:1.2.3.4]", "me@[IPv6:::fffe:1.2.3.4]", "me@[IPv6:::256.1.1.1]",
+			"me@[IPv6:::1.2.3.04]", "me@[IPv6:::1.2.3.099]", "me@[IPv6:::1.2.3.199]", "me@[IPv6:::1.2.3.249]", "me@[IPv6:::1.2.3.250]",
+			"me@[IPv6:::1.2.3]", "me@[IPv6:1:2:3:4::1.2.3.4]", "me@[IPv6:1:2:3:4:5::1.2.3.4]", "me@[IPv6:1::2:1.2.3.4]",
+			"me@[IPv6:1:1.2.3.4]", "me@[IPv6:fe80::1%eth0]", "me@[IPv6:FE80::1%eth0]", "me@[IPv6:fe80:%eth0]",
+			"me@[IPv6:fe80::::1%eth0]", "me@[IPv6:fe80:::::1%eth0]", "me@[IPv6:fe80::12345%eth0]", "me@[IPv6:fe80::1%]",
+			"me@[IPv6:fe80::1%eth-0]", "me@[IPv6:fe81::1%eth0]", "me@[IPv6:fe80::1.2%eth0]", "me@[IPv6:1::1%eth0]",
+			"me@[IPv6:fe80::1%" + repeat( 'a', 70 ) + "]",
+			"me@[2001:DB8::1]", "me@[IPv6:2001:DB8::1", "me@IPv6:2001:DB8::1]"
+	};
+
+	private static final String[] DOMAINS = {
+			"hibernate.org", "localhost", "[2001:DB8::1]", "[::]", "[1.2.3.4]", "[IPv6:2001:DB8::1]", "[::ffff:1.2.3.4]",
+			"[fe80::1%eth0]", "a", "", ".", "a.", ".a", "a..b", "-a", "a-", "a-b", "1.2.3.4", "ä.de", "ä.", "a b",
+			"a_b", "a%b", "a[b", "a:b"
+	};
+
+	private static final char[] EMAIL_ALPHABET = "aZ09.-_+@\"\\ ()[]:;,<>!#%~é😀\uD800。\t".toCharArray();
+
+	private static final char[] IP_ALPHABET = "0019afF.:::%[]eE".toCharArray();
+
+	private static final String[] IP_TOKENS = {
+			"[", "]", "IPv6:", "::", ":", ".", "1", "12", "255", "256", "0", "ffff", "FFFF", "abcd", "12345", "fe80", "%", "eth0", "1.2.3.4"
+	};
+
+	private final EmailValidator emailValidator = new EmailValidator();
+
+	@Test
+	public void testEmailValidationIsConsistentWithRegexps() {
+		List<String> emails = new ArrayList<>( Arrays.asList( EMAILS ) );
+		emails.addAll( lengthLimits() );
+
+		Random random = new Random( 42L );
+		for ( int i = 0; i < 20000; i++ ) {
+			emails.add( randomString( random, EMAIL_ALPHABET, 16 ) );
+		}
+		for ( int i = 0; i < 20000; i++ ) {
+			emails.add( "me@" + randomString( random, IP_ALPHABET, 24 ) );
+			emails.add( "me@" + randomTokens( random ) );
+		}
+
+		for ( String email : emails ) {
+			assertEquals( emailValidator.isValid( email, null ), isValidEmailUsingRegexps( email ), "Email \"" + email + "\"" );
+			assertEquals( emailValidator.isValid( new MyCustomStringImpl( email ), null ), isValidEmailUsingRegexps( email ) );
+		}
+	}
+
+	@Test
+	public void testDomainValidationIsConsistentWithRegexps() {
+		List<String> domains = new ArrayList<>( Arrays.asList( DOMAINS ) );
+		for ( String email : EMAILS ) {
+			domains.add( email.substring( email.lastIndexOf( '@' ) + 1 ) );
+		}
+		for ( String email : lengthLimits() ) {
+			domains.add( email.substring( email.lastIndexOf( '@' ) + 1 ) );
+		}
+
+		Random random = new Random( 42L );
+		for ( int i = 0; i < 20000; i++ ) {
+			domains.add( randomString( random, IP_ALPHABET, 24 ) );
+			domains.add( randomTokens( random ) );
+		}
+
+		for ( String domain : domains ) {
+			assertEquals( DomainNameUtil.isValidDomainAddress( domain ), isValidDomainAddressUsingRegexps( domain, DOMAIN_PATTERN ),
+					"Domain \"" + domain + "\"" );
+			assertEquals( DomainNameUtil.isValidEmailDomainAddress( domain ), isValidDomainAddressUsingRegexps( domain, EMAIL_DOMAIN_PATTERN ),
+					"Email domain \"" + domain + "\"" );
+		}
+	}
+
+	private static List<String> lengthLimits() {
+		String label63 = repeat( 'a', 63 );
+		String nonAsciiLabel = repeat( 'ä', 55 );
+		return Arrays.asList(
+				repeat( 'a', 64 ) + "@example.com",
+				repeat( 'a', 65 ) + "@example.com",
+				"\"" + repeat( 'a', 62 ) + "\"@example.com",
+				"\"" + repeat( 'a', 63 ) + "\"@example.com",
+				"me@" + label63 + ".com",
+				"me@" + label63 + "a.com",
+				"me@" + label63 + "。" + label63,
+				"me@" + label63 + "." + label63 + "." + label63 + "." + repeat( 'a', 63 ),
+				"me@" + label63 + "." + label63 + "." + label63 + "." + repeat( 'a', 64 ),
+				"me@" + label63 + "." + label63 + "." + label63 + "." + repeat( 'a', 61 ),
+				"me@" + label63 + "." + label63 + "." + label63 + "." + repeat( 'a', 62 ),
+				"me@" + nonAsciiLabel + ".com",
+				"me@" + nonAsciiLabel + "ääää.com"
+		);
+	}
+
+	private static String randomString(Random random, char[] alphabet, int maxLength) {
+		char[] value = new char[random.nextInt( maxLength )];
+		for ( int i = 0; i < value.length; i++ ) {
+			value[i] = alphabet[random.nextInt( alphabet.length )];
+		}
+		return new String( value );
+	}
+
+	private static String randomTokens(Random random) {
+		StringBuilder value = new StringBuilder();
+		int tokenCount = random.nextInt( 12 );
+		for ( int i = 0; i < tokenCount; i++ ) {
+			value.append( IP_TOKENS[random.nextInt( IP_TOKENS.length )] );
+		}
+		return value.toString();
+	}
+
+	private static String repeat(char c, int count) {
+		char[] value = new char[count];
+		Arrays.fill( value, c );
+		return new String( value );
+	}
+
+	// the regular expression based implementation the email and domain validation used to rely on
+
+	private static final int MAX_LOCAL_PART_LENGTH = 64;
+
+	private static final String LOCAL_PART_ATOM = "[a-z0-9!#$%&'*+/=?^_`{|}~\u0080-\uFFFF-]";
+	private static final String LOCAL_PART_INSIDE_QUOTES_ATOM = "([a-z0-9!#$%&'*.(),<>\\[\\]:;  @+/=?^_`{|}~\u0080-\uFFFF-]|\\\\\\\\|\\\\\\\")";
+	private static final Pattern LOCAL_PART_PATTERN = Pattern.compile(
+			"(" + LOCAL_PART_ATOM + "+|\"" + LOCAL_PART_INSIDE_QUOTES_ATOM + "+\")" +
+					"(\\." + "(" + LOCAL_PART_ATOM + "+|\"" + LOCAL_PART_INSIDE_QUOTES_ATOM + "+\")" + ")*", CASE_INSENSITIVE
+	);
+
+	private static final int MAX_DOMAIN_PART_LENGTH = 255;
+
+	private static final String DOMAIN_CHARS_WITHOUT_DASH = "[a-z\u0080-\uFFFF0-9!#$%&'*+/=?^_`{|}~]";
+	private static final String DOMAIN_LABEL = "(" + DOMAIN_CHARS_WITHOUT_DASH + "-*)*" + DOMAIN_CHARS_WITHOUT_DASH + "+";
+	private static final String DOMAIN = DOMAIN_LABEL + "+(\\." + DOMAIN_LABEL + "+)*";
+
+	private static final String IP_DOMAIN = "[0-9]{1,3}\\.[0-9]{1,3}\\.[0-9]{1,3}\\.[0-9]{1,3}";
+	private static final String IP_V6_DOMAIN = "(([0-9a-fA-F]{1,4}:){7,7}[0-9a-fA-F]{1,4}|([0-9a-fA-F]{1,4}:){1,7}:|([0-9a-fA-F]{1,4}:){1,6}:[0-9a-fA-F]{1,4}|([0-9a-fA-F]{1,4}:){1,5}(:[0-9a-fA-F]{1,4}){1,2}|([0-9a-fA-F]{1,4}:){1,4}(:[0-9a-fA-F]{1,4}){1,3}|([0-9a-fA-F]{1,4}:){1,3}(:[0-9a-fA-F]{1,4}){1,4}|([0-9a-fA-F]{1,4}:){1,2}(:[0-9a-fA-F]{1,4}){1,5}|[0-9a-fA-F]{1,4}:((:[0-9a-fA-F]{1,4}){1,6})|:((:[0-9a-fA-F]{1,4}){1,7}|:)|fe80:(:[0-9a-fA-F]{0,4}){0,4}%[0-9a-zA-Z]{1,}|::(ffff(:0{1,4}){0,1}:){0,1}((25[0-5]|(2[0-4]|1{0,1}[0-9]){0,1}[0-9])\\.){3,3}(25[0-5]|(2[0-4]|1{0,1}[0-9]){0,1}[0-9])|([0-9a-fA-F]{1,4}:){1,4}:((25[0-5]|(2[0-4]|1{0,1}[0-9]){0,1}[0-9])\\.){3,3}(25[0-5]|(2[0-4]|1{0,1}[0-9]){0,1}[0-9]))";
+
+	private static final Pattern DOMAIN_PATTERN = Pattern.compile(
+			DOMAIN + "|\\[" + IP_V6_DOMAIN + "\\]", CASE_INSENSITIVE
+	);
+
+	private static final Pattern EMAIL_DOMAIN_PATTERN = Pattern.compile(
+			DOMAIN + "|\\[" + IP_DOMAIN + "\\]|" + "\\[IPv6:" + IP_V6_DOMAIN + "\\]", CASE_INSENSITIVE
+	);
+
+	private static boolean isValidEmailUsingRegexps(String value) {
+		if ( value.length() == 0 ) {
+			return true;
+		}
+
+		int splitPosition = value.lastIndexOf( '@' );
+		if ( splitPosition < 0 ) {
+			return false;
+		}
+
+		String localPart = value.substring( 0, splitPosition );
+		String domainPart = value.substring( splitPosition + 1 );
+
+		if ( localPart.length() > MAX_LOCAL_PART_LENGTH || !LOCAL_PART_PATTERN.matcher( localPart ).matches() ) {
+			return false;
+		}
+
+		return isValidDomainAddressUsingRegexps( domainPart, EMAIL_DOMAIN_PATTERN );
+	}
+
+	private static boolean isValidDomainAddressUsingRegexps(String domain, Pattern pattern) {
+		if ( domain.endsWith( "." ) ) {
+			return false;
+		}
+
+		if ( !pattern.matcher( domain ).matches() ) {
+			return false;
+		}
+
+		String asciiString;
+		try {
+			asciiString = IDN.toASCII( domain );
+		}
+		catch (IllegalArgumentException e) {
+			return false;
+		}
+
+		return asciiString.length() <= MAX_DOMAIN_PART_LENGTH;
+	}
+}
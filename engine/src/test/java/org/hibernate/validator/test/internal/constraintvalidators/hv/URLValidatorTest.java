@@ -29,6 +29,7 @@
 import org.hibernate.validator.cfg.ConstraintMapping;
 import org.hibernate.validator.cfg.defs.URLDef;
 import org.hibernate.validator.constraints.URL;
+import org.hibernate.validator.constraintvalidators.ParsingURLValidator;
 import org.hibernate.validator.constraintvalidators.RegexpURLValidator;
 import org.hibernate.validator.internal.constraintvalidators.hv.URLValidator;
 import org.hibernate.validator.internal.util.annotation.ConstraintAnnotationDescriptor;
@@ -48,6 +49,7 @@ public class URLValidatorTest {
 
 	private URLValidator urlValidator;
 	private RegexpURLValidator regexpURLValidator;
+	private ParsingURLValidator parsingURLValidator;
 
 	private ConstraintAnnotationDescriptor.Builder<URL> descriptorBuilder;
 
@@ -56,6 +58,7 @@ public void setUp() {
 		descriptorBuilder = new ConstraintAnnotationDescriptor.Builder<URL>( URL.class );
 		urlValidator = new URLValidator();
 		regexpURLValidator = new RegexpURLValidator();
+		parsingURLValidator = new ParsingURLValidator();
 	}
 
 	@Test
@@ -66,6 +69,9 @@ public void valid_urls_pass_validation() {
 
 		regexpURLValidator.initialize( url );
 		assertValidUrls( regexpURLValidator );
+
+		parsingURLValidator.initialize( url );
+		assertValidUrls( parsingURLValidator );
 	}
 
 	@Test
@@ -78,6 +84,9 @@ public void url_validators_can_handle_character_sequences() {
 
 		regexpURLValidator.initialize( url );
 		assertValidCharSequenceUrls( regexpURLValidator );
+
+		parsingURLValidator.initialize( url );
+		assertValidCharSequenceUrls( parsingURLValidator );
 	}
 
 	@Test
@@ -90,6 +99,9 @@ public void http_protocol_can_be_verified_explicitly() {
 
 		regexpURLValidator.initialize( url );
 		assertHttpProtocolMatch( regexpURLValidator );
+
+		parsingURLValidator.initialize( url );
+		assertHttpProtocolMatch( parsingURLValidator );
 	}
 
 	@Test
@@ -102,6 +114,9 @@ public void file_protocol_can_be_verified_explicitly() {
 
 		regexpURLValidator.initialize( url );
 		assertFileProtocolMatch( regexpURLValidator );
+
+		parsingURLValidator.initialize( url );
+		assertFileProtocolMatch( parsingURLValidator );
 	}
 
 	@Test
@@ -114,6 +129,9 @@ public void port_can_be_verified_explicitly() {
 
 		regexpURLValidator.initialize( url );
 		assertPortMatch( regexpURLValidator );
+
+		parsingURLValidator.initialize( url );
+		assertPortMatch( parsingURLValidator );
 	}
 
 	@Test
@@ -126,6 +144,9 @@ public void host_can_be_verified_explicitly() {
 
 		regexpURLValidator.initialize( url );
 		assertHostMatch( regexpURLValidator );
+
+		parsingURLValidator.initialize( url );
+		assertHostMatch( parsingURLValidator );
 	}
 
 	@Test
@@ -143,6 +164,9 @@ public void protocol_host_and_port_can_be_verified_explicitly() {
 
 		regexpURLValidator.initialize( url );
 		assertProtocolHostAnsPortMatch( regexpURLValidator );
+
+		parsingURLValidator.initialize( url );
+		assertProtocolHostAnsPortMatch( parsingURLValidator );
 	}
 
 	@Test
@@ -154,6 +178,76 @@ public void the_empty_string_is_considered_a_valid_url() {
 
 		regexpURLValidator.initialize( url );
 		assertTrue( regexpURLValidator.isValid( "", null ) );
+
+		parsingURLValidator.initialize( url );
+		assertTrue( parsingURLValidator.isValid( "", null ) );
+	}
+
+	@Test
+	public void parsing_url_validator_behaves_differently_from_the_other_url_validators() {
+		URL url = descriptorBuilder.build().getAnnotation();
+		parsingURLValidator.initialize( url );
+
+		// URLs without authority
+		assertTrue( parsingURLValidator.isValid( "mailto:someone@example.com", null ) );
+		assertTrue( parsingURLValidator.isValid( "jar:file:/tmp/archive.jar!/entry", null ) );
+		assertTrue( parsingURLValidator.isValid( "urn:isbn:0451450523", null ) );
+		assertFalse( parsingURLValidator.isValid( "mailto:some one@example.com", null ) );
+
+		// protocols without handler, rejected by the default URLValidator
+		urlValidator.initialize( url );
+		assertTrue( parsingURLValidator.isValid( "javascript:alert(1)", null ) );
+		assertFalse( urlValidator.isValid( "javascript:alert(1)", null ) );
+		assertTrue( parsingURLValidator.isValid( "foo://bar", null ) );
+		assertFalse( urlValidator.isValid( "foo://bar", null ) );
+
+		// URLs accepted by the default URLValidator
+		assertFalse( parsingURLValidator.isValid( "http://", null ) );
+		assertTrue( urlValidator.isValid( "http://", null ) );
+		assertFalse( parsingURLValidator.isValid( "http://a..b/", null ) );
+		assertTrue( urlValidator.isValid( "http://a..b/", null ) );
+		assertFalse( parsingURLValidator.isValid( "http://exa mple.com", null ) );
+		assertTrue( urlValidator.isValid( "http://exa mple.com", null ) );
+
+		// empty host, only allowed for files
+		assertTrue( parsingURLValidator.isValid( "file:///tmp/file.txt", null ) );
+		assertTrue( parsingURLValidator.isValid( "FILE:///tmp/file.txt", null ) );
+		assertFalse( parsingURLValidator.isValid( "http:///tmp/file.txt", null ) );
+
+		// empty and invalid ports
+		assertTrue( parsingURLValidator.isValid( "http://example.com:/", null ) );
+		assertFalse( parsingURLValidator.isValid( "http://example.com:99999999999/", null ) );
+		assertFalse( parsingURLValidator.isValid( "http://example.com:8o/", null ) );
+
+		// percent-encoded octets
+		assertTrue( parsingURLValidator.isValid( "http://example.com/a%20b?c=%C3%A9#%2f", null ) );
+		assertFalse( parsingURLValidator.isValid( "http://example.com/a%2", null ) );
+		assertFalse( parsingURLValidator.isValid( "http://example.com/a%zz", null ) );
+
+		// IP literals
+		assertTrue( parsingURLValidator.isValid( "http://[::1]:8080/", null ) );
+		assertTrue( parsingURLValidator.isValid( "http://[::ffff:192.168.0.1]/", null ) );
+		assertFalse( parsingURLValidator.isValid( "http://[::1/", null ) );
+		assertFalse( parsingURLValidator.isValid( "http://[fe80::1%25eth0]/", null ) );
+		assertFalse( parsingURLValidator.isValid( "http://[v1.future]/", null ) );
+	}
+
+	@Test
+	public void parsing_url_validator_checks_the_attributes_for_the_urls_without_authority() {
+		descriptorBuilder.setAttribute( "protocol", "mailto" );
+		parsingURLValidator.initialize( descriptorBuilder.build().getAnnotation() );
+		assertTrue( parsingURLValidator.isValid( "mailto:someone@example.com", null ) );
+		assertTrue( parsingURLValidator.isValid( "MAILTO:someone@example.com", null ) );
+		assertFalse( parsingURLValidator.isValid( "http://example.com", null ) );
+
+		descriptorBuilder.setAttribute( "host", "example.com" );
+		parsingURLValidator.initialize( descriptorBuilder.build().getAnnotation() );
+		assertFalse( parsingURLValidator.isValid( "mailto:someone@example.com", null ) );
+
+		descriptorBuilder.setAttribute( "host", "" );
+		descriptorBuilder.setAttribute( "protocol", "http" );
+		parsingURLValidator.initialize( descriptorBuilder.build().getAnnotation() );
+		assertFalse( parsingURLValidator.isValid( "javascript:alert(1)", null ) );
 	}
 
 	@Test
@@ -224,7 +318,7 @@ public void url_validator_using_regexp_only_can_be_configured_via_constraint_def
 		);
 		config.constraintValidatorFactory( constraintValidatorFactory );
 
-		assertDefaultURLConstraintValidatorOverridden( config, constraintValidatorFactory );
+		assertDefaultURLConstraintValidatorOverridden( config, constraintValidatorFactory, RegexpURLValidator.class );
 	}
 
 	@Test
@@ -240,11 +334,52 @@ public void url_validator_using_regexp_only_can_be_configured_via_xml() {
 		);
 		config.constraintValidatorFactory( constraintValidatorFactory );
 
-		assertDefaultURLConstraintValidatorOverridden( config, constraintValidatorFactory );
+		assertDefaultURLConstraintValidatorOverridden( config, constraintValidatorFactory, RegexpURLValidator.class );
+	}
+
+	@Test
+	public void parsing_url_validator_can_be_configured_via_constraint_definition_contributor() {
+		HibernateValidatorConfiguration config = ValidatorUtil.getConfiguration( HibernateValidator.class );
+
+		ConstraintMapping constraintMapping = config.createConstraintMapping();
+
+		constraintMapping
+				.constraintDefinition( URL.class )
+				.includeExistingValidators( false )
+				.validatedBy( ParsingURLValidator.class );
+
+		config.addMapping( constraintMapping );
+
+		DelegatingConstraintValidatorFactory constraintValidatorFactory = new DelegatingConstraintValidatorFactory(
+				config.getDefaultConstraintValidatorFactory()
+		);
+		config.constraintValidatorFactory( constraintValidatorFactory );
+
+		assertDefaultURLConstraintValidatorOverridden( config, constraintValidatorFactory, ParsingURLValidator.class );
+	}
+
+	@Test
+	public void default_url_validator_requires_a_protocol_handler() {
+		Validator validator = ValidatorUtil.getValidator();
+		URLContainer container = new DefaultURLContainerAnnotated();
+
+		container.setUrl( "javascript:alert(1)" );
+		assertThat( validator.validate( container ) ).containsOnlyViolations(
+				violationOf( URL.class ).withMessage( "must be a valid URL" )
+		);
+
+		container.setUrl( "foo://bar" );
+		assertThat( validator.validate( container ) ).containsOnlyViolations(
+				violationOf( URL.class ).withMessage( "must be a valid URL" )
+		);
+
+		container.setUrl( "http://" );
+		assertNoViolations( validator.validate( container ) );
 	}
 
 	private void assertDefaultURLConstraintValidatorOverridden(Configuration config,
-			DelegatingConstraintValidatorFactory constraintValidatorFactory) {
+			DelegatingConstraintValidatorFactory constraintValidatorFactory,
+			Class<?> expectedConstraintValidatorClass) {
 		Validator validator = config.buildValidatorFactory().getValidator();
 		Set<ConstraintViolation<Foo>> constraintViolations = validator.validate( new Foo() );
 
@@ -255,7 +390,7 @@ private void assertDefaultURLConstraintValidatorOverridden(Configuration config,
 				"Wrong number of requested validator instances"
 		);
 		assertTrue(
-				constraintValidatorFactory.requestedConstraintValidators.contains( RegexpURLValidator.class ),
+				constraintValidatorFactory.requestedConstraintValidators.contains( expectedConstraintValidatorClass ),
 				"The wrong validator type has been requested."
 		);
 	}
@@ -357,7 +492,7 @@ private void assertValidUrls(ConstraintValidator<URL, CharSequence> validator) {
 			assertFalse( validator.isValid( "h://test", null ) );
 		}
 
-		if ( validator instanceof RegexpURLValidator ) {
+		if ( validator instanceof RegexpURLValidator || validator instanceof ParsingURLValidator ) {
 			assertFalse( validator.isValid( "http://", null ) );
 			assertFalse( validator.isValid( "http://.", null ) );
 			assertFalse( validator.isValid( "http://..", null ) );
@@ -466,6 +601,14 @@ public String getUrl() {
 		}
 	}
 
+	private static class DefaultURLContainerAnnotated extends URLContainer {
+		@Override
+		@URL
+		public String getUrl() {
+			return url;
+		}
+	}
+
 	private static class CaseInsensitiveURLContainerAnnotated extends URLContainer {
 
 		@Override
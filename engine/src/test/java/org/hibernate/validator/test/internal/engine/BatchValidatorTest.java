@@ -0,0 +1,156 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+import org.hibernate.validator.BatchValidator;
+import org.hibernate.validator.testutils.ValidatorUtil;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * @author Guillaume Smet
+ */
+public class BatchValidatorTest {
+
+	private Validator validator;
+
+	private BatchValidator batchValidator;
+
+	@BeforeMethod
+	public void setUp() {
+		validator = ValidatorUtil.getValidator();
+		batchValidator = validator.unwrap( BatchValidator.class );
+	}
+
+	@Test
+	public void testValidateAllReturnsViolationsKeyedByIndex() {
+		List<Object> objects = Arrays.asList( new Item( "a", 1 ), new Item( null, 1 ), new Item( "c", 1 ), new Item( null, -1 ), new Unconstrained() );
+
+		Map<Integer, Set<ConstraintViolation<Object>>> violations = batchValidator.validateAll( objects );
+
+		assertThat( violations.keySet() ).containsExactly( 1, 3 );
+		assertThat( toPaths( violations ) ).isEqualTo( toPaths( validateOneByOne( objects ) ) );
+		assertThat( toPaths( violations ).get( 3 ) ).containsOnly( "name", "quantity" );
+	}
+
+	@Test
+	public void testValidateAllWithMixedTypes() {
+		List<Object> objects = new ArrayList<>();
+		for ( int i = 0; i < 20; i++ ) {
+			objects.add( i % 2 == 0 ? new Item( i % 3 == 0 ? null : "item", i ) : new Order( i % 3 == 0 ? null : "order" ) );
+		}
+
+		assertThat( toPaths( batchValidator.validateAll( objects ) ) ).isEqualTo( toPaths( validateOneByOne( objects ) ) );
+	}
+
+	@Test
+	public void testValidateAllWithGroups() {
+		List<Item> items = Arrays.asList( new Item( null, 1 ), new Item( "b", 200 ) );
+
+		Map<Integer, Set<ConstraintViolation<Item>>> violations = batchValidator.validateAll( items, Strict.class );
+
+		assertThat( violations.keySet() ).containsExactly( 1 );
+		assertThat( toPaths( violations ).get( 1 ) ).containsOnly( "quantity" );
+	}
+
+	@Test
+	public void testValidateAllAsStream() {
+		List<Item> items = Arrays.asList( new Item( null, 1 ), new Item( "b", 1 ), new Item( "c", -1 ) );
+
+		Map<Integer, Set<ConstraintViolation<Item>>> violations = batchValidator.validateAllAsStream( items )
+				.collect( Collectors.toMap( Map.Entry::getKey, Map.Entry::getValue, ( v1, v2 ) -> v1, LinkedHashMap::new ) );
+
+		assertThat( violations.keySet() ).containsExactly( 0, 2 );
+		assertThat( toPaths( violations ) ).isEqualTo( toPaths( batchValidator.validateAll( items ) ) );
+	}
+
+	@Test
+	public void testValidateAllAsStreamIsLazy() {
+		List<Item> items = Arrays.asList( new Item( null, 1 ), new Item( "b", 1 ), null );
+
+		assertThat( batchValidator.validateAllAsStream( items ).findFirst().get().getKey() ).isEqualTo( 0 );
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testNullIterableIsRejected() {
+		batchValidator.validateAll( null );
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testNullElementIsRejected() {
+		batchValidator.validateAll( Arrays.asList( new Item( "a", 1 ), null ) );
+	}
+
+	private <T> Map<Integer, Set<ConstraintViolation<T>>> validateOneByOne(List<T> objects) {
+		Map<Integer, Set<ConstraintViolation<T>>> violations = new LinkedHashMap<>();
+		for ( int i = 0; i < objects.size(); i++ ) {
+			Set<ConstraintViolation<T>> objectViolations = validator.validate( objects.get( i ) );
+			if ( !objectViolations.isEmpty() ) {
+				violations.put( i, objectViolations );
+			}
+		}
+		return violations;
+	}
+
+	private static <T> Map<Integer, Set<String>> toPaths(Map<Integer, Set<ConstraintViolation<T>>> violations) {
+		Map<Integer, Set<String>> paths = new LinkedHashMap<>();
+		for ( Map.Entry<Integer, Set<ConstraintViolation<T>>> entry : violations.entrySet() ) {
+			paths.put( entry.getKey(), entry.getValue().stream()
+					.map( violation -> violation.getPropertyPath().toString() )
+					.collect( Collectors.toSet() ) );
+		}
+		return paths;
+	}
+
+	private interface Strict {
+	}
+
+	private static class Item {
+
+		@NotNull
+		private final String name;
+
+		@Min(0)
+		@Min(value = 0, groups = Strict.class)
+		@Max(value = 100, groups = Strict.class)
+		private final int quantity;
+
+		private Item(String name, int quantity) {
+			this.name = name;
+			this.quantity = quantity;
+		}
+	}
+
+	private static class Order {
+
+		@NotNull
+		private final String reference;
+
+		private Order(String reference) {
+			this.reference = reference;
+		}
+	}
+
+	private static class Unconstrained {
+	}
+}
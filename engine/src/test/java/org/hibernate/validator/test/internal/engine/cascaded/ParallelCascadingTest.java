@@ -0,0 +1,200 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.engine.cascaded;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Valid;
+import javax.validation.ValidationException;
+import javax.validation.Validator;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.testutils.ValidatorUtil;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Tests that validating the elements of large containers in parallel gives the same results as a sequential
+ * validation.
+ *
+ * @author Guillaume Smet
+ */
+public class ParallelCascadingTest {
+
+	private static final int NUMBER_OF_ELEMENTS = 1_000;
+
+	private ForkJoinPool executor;
+
+	@BeforeClass
+	public void setUpExecutor() {
+		executor = new ForkJoinPool( 4 );
+	}
+
+	@AfterClass
+	public void shutDownExecutor() {
+		executor.shutdown();
+	}
+
+	@Test
+	public void testListElementsAreValidatedInParallel() {
+		Order order = createOrder();
+
+		assertThat( getViolations( getParallelValidator( false ), order ) )
+				.isNotEmpty()
+				.isEqualTo( getViolations( getSequentialValidator( false ), order ) );
+	}
+
+	@Test
+	public void testMapValuesAreValidatedInParallel() {
+		Catalog catalog = new Catalog();
+		for ( int i = 0; i < NUMBER_OF_ELEMENTS; i++ ) {
+			catalog.lines.put( "line-" + i, new Line( i % 5 == 0 ? null : "product-" + i, i ) );
+		}
+
+		assertThat( getViolations( getParallelValidator( false ), catalog ) )
+				.hasSize( NUMBER_OF_ELEMENTS / 5 )
+				.isEqualTo( getViolations( getSequentialValidator( false ), catalog ) );
+	}
+
+	@Test
+	public void testSetElementsAreValidatedSequentially() {
+		Basket basket = new Basket();
+		for ( int i = 0; i < NUMBER_OF_ELEMENTS; i++ ) {
+			basket.lines.add( new Line( "product-" + i, i % 3 == 0 ? -1 : i ) );
+		}
+
+		assertThat( getViolations( getParallelValidator( false ), basket ) )
+				.isEqualTo( getViolations( getSequentialValidator( false ), basket ) );
+	}
+
+	@Test
+	public void testFailFastReturnsTheViolationOfTheFirstFailingElement() {
+		Order order = new Order();
+		order.reference = "order";
+		for ( int i = 0; i < NUMBER_OF_ELEMENTS; i++ ) {
+			order.lines.add( new Line( "product-" + i, i < 500 || i % 10 != 0 ? 1 : -1 ) );
+		}
+
+		Set<String> violations = getViolations( getParallelValidator( true ), order );
+
+		assertThat( violations ).containsExactly( "lines[500].quantity" );
+		assertThat( violations ).isEqualTo( getViolations( getSequentialValidator( true ), order ) );
+	}
+
+	@Test
+	public void testCyclesAreDetected() {
+		Order order = createOrder();
+		for ( Line line : order.lines ) {
+			line.order = order;
+		}
+
+		assertThat( getViolations( getParallelValidator( false ), order ) )
+				.isEqualTo( getViolations( getSequentialValidator( false ), order ) );
+	}
+
+	@Test(expectedExceptions = ValidationException.class, expectedExceptionsMessageRegExp = "HV\\d{6}.*")
+	public void testExceptionsAreRethrownUnchanged() {
+		Order order = createOrder();
+		order.lines.set( 700, new FailingLine() );
+
+		getParallelValidator( false ).validate( order );
+	}
+
+	private Validator getParallelValidator(boolean failFast) {
+		return ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.failFast( failFast )
+				.parallelCascadingThreshold( 100 )
+				.parallelCascadingExecutor( executor )
+				.buildValidatorFactory()
+				.getValidator();
+	}
+
+	private Validator getSequentialValidator(boolean failFast) {
+		HibernateValidatorConfiguration configuration = ValidatorUtil.getConfiguration( HibernateValidator.class );
+		return configuration.failFast( failFast )
+				.buildValidatorFactory()
+				.getValidator();
+	}
+
+	private static <T> Set<String> getViolations(Validator validator, T object) {
+		Set<ConstraintViolation<T>> violations = validator.validate( object );
+		return violations.stream()
+				.map( violation -> violation.getPropertyPath().toString() )
+				.collect( Collectors.toCollection( HashSet::new ) );
+	}
+
+	private static Order createOrder() {
+		Order order = new Order();
+		for ( int i = 0; i < NUMBER_OF_ELEMENTS; i++ ) {
+			order.lines.add( new Line( i % 7 == 0 ? null : "product-" + i, i % 7 == 0 ? -1 : i ) );
+		}
+		return order;
+	}
+
+	private static class Order {
+
+		@NotNull
+		private String reference;
+
+		@Valid
+		private List<Line> lines = new ArrayList<>();
+	}
+
+	private static class Catalog {
+
+		private Map<String, @Valid Line> lines = new LinkedHashMap<>();
+	}
+
+	private static class Basket {
+
+		@Valid
+		private Set<Line> lines = new HashSet<>();
+	}
+
+	private static class Line {
+
+		@NotNull
+		private String product;
+
+		@Min(0)
+		private int quantity;
+
+		@Valid
+		private Order order;
+
+		private Line(String product, int quantity) {
+			this.product = product;
+			this.quantity = quantity;
+		}
+	}
+
+	private static class FailingLine extends Line {
+
+		private FailingLine() {
+			super( "product", 1 );
+		}
+
+		@NotNull
+		public String getName() {
+			throw new UnsupportedOperationException();
+		}
+	}
+}
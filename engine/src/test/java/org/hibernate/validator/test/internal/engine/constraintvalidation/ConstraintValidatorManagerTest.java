@@ -16,8 +16,11 @@
 import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertTrue;
 
+import java.lang.ref.WeakReference;
 import java.time.Clock;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 import javax.validation.ClockProvider;
@@ -31,7 +34,9 @@
 import javax.validation.metadata.ConstraintDescriptor;
 import javax.validation.metadata.PropertyDescriptor;
 
+import org.hibernate.validator.HibernateValidatorConfiguration;
 import org.hibernate.validator.HibernateValidatorFactory;
+import org.hibernate.validator.constraintvalidation.ConstraintValidatorCacheStatistics;
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
 import org.hibernate.validator.internal.constraintvalidators.bv.NotNullValidator;
 import org.hibernate.validator.internal.engine.DefaultClockProvider;
@@ -165,23 +170,38 @@ public void testConstraintValidatorInstancesAreCachedPerFactory() {
 	}
 
 	@Test
-	public void testOnlyTheInstancesForTheLeastRecentlyUsedCustomFactoryAreCached() {
+	public void testOnlyTheInstancesForTheMostRecentlyUsedCustomFactoriesAreCached() {
+		constraintValidatorManager = new ConstraintValidatorManagerImpl( constraintValidatorFactory, getDummyConstraintValidatorInitializationContext(), 4 );
 		ConstraintDescriptorImpl<?> constraintDescriptor = getConstraintDescriptorForProperty( "s1" );
 
+		List<MyCustomValidatorFactory> customValidatorFactories = new ArrayList<>();
 		for ( int i = 0; i < 10; i++ ) {
+			MyCustomValidatorFactory customValidatorFactory = new MyCustomValidatorFactory();
+			customValidatorFactories.add( customValidatorFactory );
+
 			constraintValidatorManager.getInitializedValidator(
 					String.class,
 					constraintDescriptor,
-					new MyCustomValidatorFactory(),
+					customValidatorFactory,
 					getDummyConstraintValidatorInitializationContext()
 			);
 
 			assertEquals(
-					constraintValidatorManager.numberOfCachedConstraintValidatorInstances(), 1,
-					"There should be only one instance cached"
+					constraintValidatorManager.numberOfCachedConstraintValidatorInstances(), Math.min( i + 1, 4 ),
+					"Only the instances of the 4 most recently used factories should be cached"
 			);
 		}
 
+		for ( int i = 0; i < 6; i++ ) {
+			assertEquals( customValidatorFactories.get( i ).releasedInstances, 1, "The instances of the evicted factories should be released" );
+		}
+
+		ConstraintValidatorCacheStatistics statistics = constraintValidatorManager.getConstraintValidatorCacheStatistics();
+		assertEquals( statistics.getMissCount(), 10 );
+		assertEquals( statistics.getEvictionCount(), 6 );
+		assertEquals( statistics.getNonDefaultConstraintValidatorFactoryCount(), 4 );
+		assertEquals( statistics.getSize(), 4 );
+
 		constraintValidatorManager.clear();
 		assertEquals(
 				constraintValidatorManager.numberOfCachedConstraintValidatorInstances(),
@@ -190,6 +210,202 @@ public void testOnlyTheInstancesForTheLeastRecentlyUsedCustomFactoryAreCached()
 		);
 	}
 
+	@Test
+	public void testTheLeastRecentlyUsedCustomFactoryIsEvicted() {
+		constraintValidatorManager = new ConstraintValidatorManagerImpl( constraintValidatorFactory, getDummyConstraintValidatorInitializationContext(), 2 );
+		ConstraintDescriptorImpl<?> constraintDescriptor = getConstraintDescriptorForProperty( "s1" );
+
+		MyCustomValidatorFactory customValidatorFactory1 = new MyCustomValidatorFactory();
+		MyCustomValidatorFactory customValidatorFactory2 = new MyCustomValidatorFactory();
+		MyCustomValidatorFactory customValidatorFactory3 = new MyCustomValidatorFactory();
+
+		ConstraintValidator<?, ?> constraintValidator1 = constraintValidatorManager.getInitializedValidator(
+				String.class, constraintDescriptor, customValidatorFactory1, getDummyConstraintValidatorInitializationContext()
+		);
+		ConstraintValidator<?, ?> constraintValidator2 = constraintValidatorManager.getInitializedValidator(
+				String.class, constraintDescriptor, customValidatorFactory2, getDummyConstraintValidatorInitializationContext()
+		);
+
+		// the first factory is now the most recently used one
+		assertThat( constraintValidatorManager.getInitializedValidator(
+				String.class, constraintDescriptor, customValidatorFactory1, getDummyConstraintValidatorInitializationContext()
+		) ).isSameAs( constraintValidator1 );
+
+		constraintValidatorManager.getInitializedValidator(
+				String.class, constraintDescriptor, customValidatorFactory3, getDummyConstraintValidatorInitializationContext()
+		);
+
+		assertEquals( customValidatorFactory1.releasedInstances, 0 );
+		assertEquals( customValidatorFactory2.releasedInstances, 1 );
+
+		assertThat( constraintValidatorManager.getInitializedValidator(
+				String.class, constraintDescriptor, customValidatorFactory1, getDummyConstraintValidatorInitializationContext()
+		) ).isSameAs( constraintValidator1 );
+		assertThat( constraintValidatorManager.getInitializedValidator(
+				String.class, constraintDescriptor, customValidatorFactory2, getDummyConstraintValidatorInitializationContext()
+		) ).isNotSameAs( constraintValidator2 );
+
+		ConstraintValidatorCacheStatistics statistics = constraintValidatorManager.getConstraintValidatorCacheStatistics();
+		assertEquals( statistics.getHitCount(), 2 );
+		assertEquals( statistics.getMissCount(), 4 );
+		assertEquals( statistics.getHitRatio(), 1D / 3 );
+	}
+
+	@Test
+	public void testConstraintValidatorCacheStatisticsAreExposedByTheValidatorFactory() {
+		try ( ValidatorFactory factory = getConfiguration().buildValidatorFactory() ) {
+			HibernateValidatorFactory hibernateValidatorFactory = factory.unwrap( HibernateValidatorFactory.class );
+
+			MyCustomValidatorFactory customValidatorFactory1 = new MyCustomValidatorFactory();
+			MyCustomValidatorFactory customValidatorFactory2 = new MyCustomValidatorFactory();
+
+			for ( int i = 0; i < 5; i++ ) {
+				hibernateValidatorFactory.usingContext().constraintValidatorFactory( customValidatorFactory1 ).getValidator().validate( new Foo() );
+				hibernateValidatorFactory.usingContext().constraintValidatorFactory( customValidatorFactory2 ).getValidator().validate( new Foo() );
+			}
+
+			// the following validations are served by the inline caches of the constraint trees
+			ConstraintValidatorCacheStatistics statistics = hibernateValidatorFactory.getConstraintValidatorCacheStatistics();
+			assertEquals( statistics.getMissCount(), 4 );
+			assertEquals( statistics.getEvictionCount(), 0 );
+			assertEquals( statistics.getNonDefaultConstraintValidatorFactoryCount(), 2 );
+			assertEquals( statistics.getSize(), 4 );
+		}
+	}
+
+	@Test
+	public void testConstraintValidatorsReleasedByTheManagerAreNotUsedAnymore() {
+		try ( ValidatorFactory factory = getConfiguration()
+				.addProperty( HibernateValidatorConfiguration.CONSTRAINT_VALIDATOR_CACHE_MAX_FACTORIES, "1" )
+				.buildValidatorFactory() ) {
+			HibernateValidatorFactory hibernateValidatorFactory = factory.unwrap( HibernateValidatorFactory.class );
+
+			MyCustomValidatorFactory customValidatorFactory1 = new MyCustomValidatorFactory();
+			MyCustomValidatorFactory customValidatorFactory2 = new MyCustomValidatorFactory();
+
+			for ( int i = 0; i < 3; i++ ) {
+				hibernateValidatorFactory.usingContext().constraintValidatorFactory( customValidatorFactory1 ).getValidator().validate( new Foo() );
+			}
+			assertEquals( customValidatorFactory1.createdInstances, 2 );
+
+			hibernateValidatorFactory.usingContext().constraintValidatorFactory( customValidatorFactory2 ).getValidator().validate( new Foo() );
+			assertEquals( customValidatorFactory1.releasedInstances, 2 );
+
+			hibernateValidatorFactory.usingContext().constraintValidatorFactory( customValidatorFactory1 ).getValidator().validate( new Foo() );
+			assertEquals( customValidatorFactory1.createdInstances, 4 );
+		}
+	}
+
+	@Test
+	public void testReleasingTheConstraintValidatorsOfAFactoryKeepsTheOtherFactoriesInlineCached() {
+		try ( ValidatorFactory factory = getConfiguration()
+				.addProperty( HibernateValidatorConfiguration.CONSTRAINT_VALIDATOR_CACHE_MAX_FACTORIES, "2" )
+				.buildValidatorFactory() ) {
+			HibernateValidatorFactory hibernateValidatorFactory = factory.unwrap( HibernateValidatorFactory.class );
+
+			MyCustomValidatorFactory customValidatorFactory1 = new MyCustomValidatorFactory();
+			MyCustomValidatorFactory customValidatorFactory2 = new MyCustomValidatorFactory();
+			MyCustomValidatorFactory customValidatorFactory3 = new MyCustomValidatorFactory();
+
+			hibernateValidatorFactory.usingContext().constraintValidatorFactory( customValidatorFactory1 ).getValidator().validate( new Foo() );
+			hibernateValidatorFactory.usingContext().constraintValidatorFactory( customValidatorFactory2 ).getValidator().validate( new Foo() );
+
+			// releases the constraint validators of the least recently used factory
+			hibernateValidatorFactory.usingContext().constraintValidatorFactory( customValidatorFactory3 ).getValidator().validate( new Foo() );
+			assertEquals( customValidatorFactory1.releasedInstances, 2 );
+			ConstraintValidatorCacheStatistics statistics = hibernateValidatorFactory.getConstraintValidatorCacheStatistics();
+			assertEquals( statistics.getHitCount(), 0 );
+			assertEquals( statistics.getMissCount(), 6 );
+
+			// the constraint validators of the second factory are still served by the inline caches of the constraint
+			// trees, without looking them up in the cache of the manager
+			hibernateValidatorFactory.usingContext().constraintValidatorFactory( customValidatorFactory2 ).getValidator().validate( new Foo() );
+			statistics = hibernateValidatorFactory.getConstraintValidatorCacheStatistics();
+			assertEquals( statistics.getHitCount(), 0 );
+			assertEquals( statistics.getMissCount(), 6 );
+
+			// while the released ones are not used anymore
+			hibernateValidatorFactory.usingContext().constraintValidatorFactory( customValidatorFactory1 ).getValidator().validate( new Foo() );
+			assertEquals( customValidatorFactory1.createdInstances, 4 );
+		}
+	}
+
+	@Test
+	public void testConstraintTreesDoNotKeepTheCustomFactoriesReachable() throws Exception {
+		try ( ValidatorFactory factory = getConfiguration().buildValidatorFactory() ) {
+			HibernateValidatorFactory hibernateValidatorFactory = factory.unwrap( HibernateValidatorFactory.class );
+
+			WeakReference<MyCustomValidatorFactory> customValidatorFactory = validateWithNewCustomValidatorFactory( hibernateValidatorFactory );
+
+			for ( int i = 0; i < 100 && customValidatorFactory.get() != null; i++ ) {
+				System.gc();
+				Thread.sleep( 10 );
+			}
+
+			assertNull( customValidatorFactory.get(), "The custom constraint validator factory should have been garbage collected" );
+		}
+	}
+
+	@Test
+	public void testConstraintValidatorsOfThePerRequestInitializationContextsAreEvicted() {
+		try ( ValidatorFactory factory = getConfiguration().buildValidatorFactory() ) {
+			HibernateValidatorFactory hibernateValidatorFactory = factory.unwrap( HibernateValidatorFactory.class );
+
+			for ( int i = 0; i < 1000; i++ ) {
+				ClockProvider clockProvider = new ClockProvider() {
+					@Override
+					public Clock getClock() {
+						return Clock.systemDefaultZone();
+					}
+				};
+				hibernateValidatorFactory.usingContext().clockProvider( clockProvider ).getValidator().validate( new Foo() );
+			}
+
+			ConstraintValidatorCacheStatistics statistics = hibernateValidatorFactory.getConstraintValidatorCacheStatistics();
+			assertEquals( statistics.getMissCount(), 2000 );
+			assertEquals( statistics.getNonDefaultConstraintValidatorFactoryCount(), ConstraintValidatorManagerImpl.DEFAULT_MAX_CACHED_NON_DEFAULT_CONSTRAINT_VALIDATOR_FACTORIES );
+			assertEquals( statistics.getSize(), 2 * ConstraintValidatorManagerImpl.DEFAULT_MAX_CACHED_NON_DEFAULT_CONSTRAINT_VALIDATOR_FACTORIES );
+			assertEquals( statistics.getEvictionCount(), 2000 - statistics.getSize() );
+		}
+	}
+
+	@Test
+	public void testTheLeastRecentlyUsedInitializationContextIsEvicted() {
+		constraintValidatorManager = new ConstraintValidatorManagerImpl( constraintValidatorFactory, getDummyConstraintValidatorInitializationContext(), 2 );
+		ConstraintDescriptorImpl<?> constraintDescriptor = getConstraintDescriptorForProperty( "s1" );
+
+		MyCustomValidatorFactory customValidatorFactory = new MyCustomValidatorFactory();
+		HibernateConstraintValidatorInitializationContext initializationContext1 = getConstraintValidatorInitializationContext(
+				new DefaultScriptEvaluatorFactory( null ), DefaultClockProvider.INSTANCE, Duration.ZERO );
+		HibernateConstraintValidatorInitializationContext initializationContext2 = getConstraintValidatorInitializationContext(
+				new DefaultScriptEvaluatorFactory( null ), DefaultClockProvider.INSTANCE, Duration.ofSeconds( 1 ) );
+		HibernateConstraintValidatorInitializationContext initializationContext3 = getConstraintValidatorInitializationContext(
+				new DefaultScriptEvaluatorFactory( null ), DefaultClockProvider.INSTANCE, Duration.ofSeconds( 2 ) );
+
+		ConstraintValidator<?, ?> constraintValidator1 = constraintValidatorManager.getInitializedValidator(
+				String.class, constraintDescriptor, customValidatorFactory, initializationContext1
+		);
+		constraintValidatorManager.getInitializedValidator(
+				String.class, constraintDescriptor, customValidatorFactory, initializationContext2
+		);
+
+		// the first context is now the most recently used one
+		assertThat( constraintValidatorManager.getInitializedValidator(
+				String.class, constraintDescriptor, customValidatorFactory, initializationContext1
+		) ).isSameAs( constraintValidator1 );
+
+		constraintValidatorManager.getInitializedValidator(
+				String.class, constraintDescriptor, customValidatorFactory, initializationContext3
+		);
+
+		assertEquals( customValidatorFactory.createdInstances, 3 );
+		assertEquals( customValidatorFactory.releasedInstances, 1, "The instance of the least recently used context should be released" );
+		assertThat( constraintValidatorManager.getInitializedValidator(
+				String.class, constraintDescriptor, customValidatorFactory, initializationContext1
+		) ).isSameAs( constraintValidator1 );
+		assertEquals( constraintValidatorManager.getConstraintValidatorCacheStatistics().getNonDefaultConstraintValidatorFactoryCount(), 2 );
+	}
+
 	@Test
 	@TestForIssue(jiraKey = "HV-662")
 	public void testValidatorsAreCachedPerConstraint() {
@@ -458,6 +674,14 @@ public void testHibernateConstraintValidatorsAreNotCachedByConstraintTree() {
 		}
 	}
 
+	private WeakReference<MyCustomValidatorFactory> validateWithNewCustomValidatorFactory(HibernateValidatorFactory hibernateValidatorFactory) {
+		MyCustomValidatorFactory customValidatorFactory = new MyCustomValidatorFactory();
+		for ( int i = 0; i < 2; i++ ) {
+			hibernateValidatorFactory.usingContext().constraintValidatorFactory( customValidatorFactory ).getValidator().validate( new Foo() );
+		}
+		return new WeakReference<>( customValidatorFactory );
+	}
+
 	private ConstraintDescriptorImpl<?> getConstraintDescriptorForProperty(String propertyName) {
 		return getSingleConstraintDescriptorForProperty( validator, Foo.class, propertyName );
 	}
@@ -487,17 +711,23 @@ public class Foo {
 	public class MyCustomValidatorFactory implements ConstraintValidatorFactory {
 		private final ConstraintValidatorFactory delegate;
 
+		private int createdInstances;
+
+		private int releasedInstances;
+
 		public MyCustomValidatorFactory() {
 			delegate = new ConstraintValidatorFactoryImpl();
 		}
 
 		@Override
 		public <T extends ConstraintValidator<?, ?>> T getInstance(Class<T> key) {
+			createdInstances++;
 			return delegate.getInstance( key );
 		}
 
 		@Override
 		public void releaseInstance(ConstraintValidator<?, ?> instance) {
+			releasedInstances++;
 			delegate.releaseInstance( instance );
 		}
 	}
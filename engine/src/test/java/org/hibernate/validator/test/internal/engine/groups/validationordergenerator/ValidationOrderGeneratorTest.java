@@ -6,6 +6,8 @@
  */
 package org.hibernate.validator.test.internal.engine.groups.validationordergenerator;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -27,6 +29,8 @@
 import org.hibernate.validator.test.internal.engine.groups.validationorder.Second;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
 
 /**
  * @author Hardy Ferentschik
@@ -140,6 +144,30 @@ private int countGroups(ValidationOrder chain) {
 		return count;
 	}
 
+	@Test
+	public void testValidationOrderOfGroupListIsCached() {
+		List<Class<?>> groups = new ArrayList<>( Arrays.<Class<?>>asList( First.class, Default.class ) );
+		ValidationOrder validationOrder = generator.getValidationOrder( groups );
+
+		assertSame( generator.getValidationOrder( Arrays.<Class<?>>asList( First.class, Default.class ) ), validationOrder );
+
+		// modifying the list passed by the caller does not alter the cache
+		groups.set( 0, Second.class );
+		assertNotSame( generator.getValidationOrder( groups ), validationOrder );
+		assertSame( generator.getValidationOrder( Arrays.<Class<?>>asList( First.class, Default.class ) ), validationOrder );
+
+		// the expanded validation order of a single group shares the same cache
+		assertSame( generator.getValidationOrder( First.class, true ), generator.getValidationOrder( Arrays.<Class<?>>asList( First.class ) ) );
+	}
+
+	@Test
+	public void testNonExpandedValidationOrderIsCached() {
+		ValidationOrder validationOrder = generator.getValidationOrder( GroupA.class, false );
+
+		assertSame( generator.getValidationOrder( GroupA.class, false ), validationOrder );
+		assertEquals( countGroups( validationOrder ), 1 );
+		assertEquals( countGroups( generator.getValidationOrder( GroupA.class, true ) ), 2 );
+	}
 
 	interface GroupA extends Default {
 	}
@@ -0,0 +1,95 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.engine.messageinterpolation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.hibernate.validator.internal.engine.messageinterpolation.CompiledMessage;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for {@code CompiledMessage}.
+ *
+ * @author Guillaume Smet
+ */
+public class CompiledMessageTest {
+
+	@Test
+	public void testMessageWithoutParameters() {
+		CompiledMessage compiledMessage = CompiledMessage.compile( "must not be null" );
+
+		assertThat( compiledMessage.hasInterpolationTerms() ).isFalse();
+		assertThat( compiledMessage.render( parameters() ) ).isEqualTo( "must not be null" );
+	}
+
+	@Test
+	public void testParametersAreReplacedInOnePass() {
+		CompiledMessage compiledMessage = CompiledMessage.compile( "size must be between {min} and {max}" );
+
+		String rendered = compiledMessage.render( parameters( "{min}", "1", "{max}", "10" ) );
+
+		assertThat( compiledMessage.hasInterpolationTerms() ).isTrue();
+		assertThat( rendered ).isEqualTo( "size must be between 1 and 10" );
+		assertThat( compiledMessage.requiresFurtherInterpolation( rendered ) ).isFalse();
+	}
+
+	@Test
+	public void testParameterResolvedToNullIsRenderedAsNull() {
+		CompiledMessage compiledMessage = CompiledMessage.compile( "must be at most {max}" );
+
+		assertThat( compiledMessage.render( term -> null ) ).isEqualTo( "must be at most null" );
+	}
+
+	@Test
+	public void testAdjacentParameters() {
+		CompiledMessage compiledMessage = CompiledMessage.compile( "{min}{max}" );
+
+		assertThat( compiledMessage.render( parameters( "{min}", "1", "{max}", "10" ) ) ).isEqualTo( "110" );
+	}
+
+	@Test
+	public void testMessageWithELExpressionRequiresFurtherInterpolation() {
+		CompiledMessage compiledMessage = CompiledMessage.compile( "${validatedValue} is lower than {min}" );
+
+		String rendered = compiledMessage.render( parameters( "{validatedValue}", "{validatedValue}", "{min}", "1" ) );
+
+		assertThat( rendered ).isEqualTo( "${validatedValue} is lower than 1" );
+		assertThat( compiledMessage.requiresFurtherInterpolation( rendered ) ).isTrue();
+	}
+
+	@Test
+	public void testMessageWithEscapedLiteralsRequiresFurtherInterpolation() {
+		CompiledMessage compiledMessage = CompiledMessage.compile( "\\{min\\} is {min}" );
+
+		String rendered = compiledMessage.render( parameters( "{min}", "1" ) );
+
+		assertThat( rendered ).isEqualTo( "\\{min\\} is 1" );
+		assertThat( compiledMessage.requiresFurtherInterpolation( rendered ) ).isTrue();
+	}
+
+	@Test
+	public void testParameterValueWithMetaCharactersRequiresFurtherInterpolation() {
+		CompiledMessage compiledMessage = CompiledMessage.compile( "must match {regexp}" );
+
+		String rendered = compiledMessage.render( parameters( "{regexp}", "[a-z]{2}" ) );
+
+		assertThat( rendered ).isEqualTo( "must match [a-z]{2}" );
+		assertThat( compiledMessage.requiresFurtherInterpolation( rendered ) ).isTrue();
+	}
+
+	private static Function<String, String> parameters(String... termsAndValues) {
+		Map<String, String> values = new HashMap<>();
+		for ( int i = 0; i < termsAndValues.length; i += 2 ) {
+			values.put( termsAndValues[i], termsAndValues[i + 1] );
+		}
+		return term -> values.getOrDefault( term, term );
+	}
+}
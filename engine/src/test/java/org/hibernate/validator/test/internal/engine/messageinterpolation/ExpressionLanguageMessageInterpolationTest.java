@@ -303,6 +303,29 @@ public void testSingleEscapedQuoteInELExpression() {
 		);
 	}
 
+	@Test
+	public void testParsedExpressionIsReusedWithOtherVariables() {
+		String message = "${validatedValue} is not ${formatter.format('%s', expected)}";
+
+		String actual = interpolatorUnderTest.interpolate( message, new MessageInterpolatorContext(
+				notNullDescriptor,
+				"foo",
+				null,
+				null,
+				Collections.<String, Object>emptyMap(),
+				Collections.<String, Object>singletonMap( "expected", "bar" ) ) );
+		assertEquals( actual, "foo is not bar", "Wrong substitution" );
+
+		actual = interpolatorUnderTest.interpolate( message, new MessageInterpolatorContext(
+				notNullDescriptor,
+				"baz",
+				null,
+				null,
+				Collections.<String, Object>emptyMap(),
+				Collections.<String, Object>singletonMap( "expected", "qux" ) ) );
+		assertEquals( actual, "baz is not qux", "The variables of the first interpolation should not be reused" );
+	}
+
 	private MessageInterpolatorContext createMessageInterpolatorContext(ConstraintDescriptorImpl<?> descriptor) {
 		return new MessageInterpolatorContext(
 				descriptor,
@@ -0,0 +1,208 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.engine.messageinterpolation;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import javax.validation.Constraint;
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+import javax.validation.ConstraintViolation;
+import javax.validation.MessageInterpolator;
+import javax.validation.Payload;
+import javax.validation.Validator;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.NotNull;
+
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorContext;
+import org.hibernate.validator.messageinterpolation.ResourceBundleMessageInterpolator;
+import org.hibernate.validator.testutils.ValidatorUtil;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * @author Guillaume Smet
+ */
+public class LazyMessageInterpolationTest {
+
+	private CountingMessageInterpolator messageInterpolator;
+
+	@BeforeMethod
+	public void setUp() {
+		messageInterpolator = new CountingMessageInterpolator();
+	}
+
+	@Test
+	public void testMessageIsInterpolatedOnFirstAccessOnly() {
+		Set<ConstraintViolation<Item>> violations = getValidator( true ).validate( new Item( null, 20 ) );
+
+		assertThat( violations ).hasSize( 2 );
+		assertThat( messageInterpolator.count.get() ).isEqualTo( 0 );
+
+		ConstraintViolation<Item> violation = violations.iterator().next();
+		String message = violation.getMessage();
+
+		assertThat( message ).isNotNull();
+		assertThat( violation.getMessage() ).isSameAs( message );
+		assertThat( messageInterpolator.count.get() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testMessagesAreTheSameAsWithEagerInterpolation() {
+		Item item = new Item( null, 20 );
+
+		assertThat( getMessages( getValidator( true ).validate( item ) ) )
+				.containsOnly( "must not be null", "must be less than or equal to 10" )
+				.isEqualTo( getMessages( getValidator( false ).validate( item ) ) );
+	}
+
+	@Test
+	public void testEqualsAndHashCodeDoNotForceInterpolation() {
+		Validator validator = getValidator( true );
+		Item item = new Item( null, 20 );
+
+		Set<ConstraintViolation<Item>> violations = validator.validate( item );
+		Set<ConstraintViolation<Item>> otherViolations = new HashSet<>( validator.validate( item ) );
+
+		assertThat( otherViolations ).isEqualTo( violations );
+		assertThat( messageInterpolator.count.get() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testViolationsOnlyDifferingByTheirMessageParametersAreKept() {
+		Set<ConstraintViolation<Range>> violations = getValidator( true ).validate( new Range() );
+
+		assertThat( getMessages( violations ) ).containsOnly( "bound 1", "bound 2" );
+	}
+
+	@Test
+	public void testSerializationInterpolatesTheMessage() throws Exception {
+		ConstraintViolation<Item> violation = getValidator( true ).validate( new Item( "name", 20 ) ).iterator().next();
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try ( ObjectOutputStream out = new ObjectOutputStream( bytes ) ) {
+			out.writeObject( violation );
+		}
+		assertThat( messageInterpolator.count.get() ).isEqualTo( 1 );
+
+		try ( ObjectInputStream in = new ObjectInputStream( new ByteArrayInputStream( bytes.toByteArray() ) ) ) {
+			@SuppressWarnings("unchecked")
+			ConstraintViolation<Item> deserializedViolation = (ConstraintViolation<Item>) in.readObject();
+			assertThat( deserializedViolation.getMessage() ).isEqualTo( "must be less than or equal to 10" );
+		}
+	}
+
+	@Test
+	public void testLazyMessageInterpolationCanBeEnabledWithProperty() {
+		Validator validator = ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.messageInterpolator( messageInterpolator )
+				.addProperty( HibernateValidatorConfiguration.LAZY_MESSAGE_INTERPOLATION, "true" )
+				.buildValidatorFactory()
+				.getValidator();
+
+		validator.validate( new Item( null, 20 ) );
+
+		assertThat( messageInterpolator.count.get() ).isEqualTo( 0 );
+	}
+
+	private Validator getValidator(boolean lazyMessageInterpolation) {
+		return ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.messageInterpolator( messageInterpolator )
+				.lazyMessageInterpolation( lazyMessageInterpolation )
+				.buildValidatorFactory()
+				.getValidator();
+	}
+
+	private static <T> Set<String> getMessages(Set<ConstraintViolation<T>> violations) {
+		return violations.stream()
+				.map( ConstraintViolation::getMessage )
+				.collect( Collectors.toSet() );
+	}
+
+	private static class CountingMessageInterpolator implements MessageInterpolator {
+
+		private final MessageInterpolator delegate = new ResourceBundleMessageInterpolator();
+
+		private final AtomicInteger count = new AtomicInteger();
+
+		@Override
+		public String interpolate(String messageTemplate, Context context) {
+			count.incrementAndGet();
+			return delegate.interpolate( messageTemplate, context, Locale.ENGLISH );
+		}
+
+		@Override
+		public String interpolate(String messageTemplate, Context context, Locale locale) {
+			count.incrementAndGet();
+			return delegate.interpolate( messageTemplate, context, locale );
+		}
+	}
+
+	private static class Item implements Serializable {
+
+		@NotNull
+		private final String name;
+
+		@Max(10)
+		private final int quantity;
+
+		private Item(String name, int quantity) {
+			this.name = name;
+			this.quantity = quantity;
+		}
+	}
+
+	@TwoBounds
+	private static class Range {
+	}
+
+	@Documented
+	@Constraint(validatedBy = TwoBoundsValidator.class)
+	@Target(TYPE)
+	@Retention(RUNTIME)
+	public @interface TwoBounds {
+
+		String message() default "bound {bound}";
+
+		Class<?>[] groups() default { };
+
+		Class<? extends Payload>[] payload() default { };
+	}
+
+	public static class TwoBoundsValidator implements ConstraintValidator<TwoBounds, Range> {
+
+		@Override
+		public boolean isValid(Range value, ConstraintValidatorContext context) {
+			HibernateConstraintValidatorContext hibernateContext = context.unwrap( HibernateConstraintValidatorContext.class );
+			hibernateContext.disableDefaultConstraintViolation();
+			for ( int i = 1; i <= 2; i++ ) {
+				hibernateContext.addMessageParameter( "bound", i )
+						.buildConstraintViolationWithTemplate( "bound {bound}" )
+						.addConstraintViolation();
+			}
+			return false;
+		}
+	}
+}
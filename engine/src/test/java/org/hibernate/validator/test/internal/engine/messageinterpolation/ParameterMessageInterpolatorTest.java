@@ -10,6 +10,7 @@
 import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
 import static org.hibernate.validator.testutils.ValidatorUtil.getConfiguration;
 
+import java.util.Locale;
 import java.util.Set;
 
 import javax.validation.ConstraintViolation;
@@ -71,6 +72,26 @@ public void testParameterMessageInterpolatorIgnoresELExpressions() {
 		log4jRootLogger.removeAppender( assertingLogger );
 	}
 
+	@Test
+	public void testParameterInterpolatedToNullIsRenderedAsNull() {
+		Validator validator = getConfiguration()
+				.messageInterpolator( new ParameterMessageInterpolator() {
+					@Override
+					public String interpolate(Context context, Locale locale, String term) {
+						return null;
+					}
+				} )
+				.buildValidatorFactory()
+				.getValidator();
+
+		Set<ConstraintViolation<Bar>> constraintViolations = validator.validate( new Bar() );
+		assertThat( constraintViolations ).containsOnlyViolations(
+				violationOf( Size.class )
+						.withProperty( "snafu" )
+						.withMessage( "must be at most null" )
+		);
+	}
+
 	public static class Foo {
 		@Size(max = 1, message = "{max}")
 		private String snafu = "12";
@@ -78,4 +99,9 @@ public static class Foo {
 		@Size(max = 2, message = "${validatedValue}")
 		private String bar = "123";
 	}
+
+	public static class Bar {
+		@Size(max = 1, message = "must be at most {max}")
+		private String snafu = "12";
+	}
 }
@@ -164,6 +164,40 @@ public void testEmptyString() {
 		assertTrue( path.iterator().hasNext() );
 	}
 
+	@Test
+	public void testCopiesEvolveIndependently() {
+		PathImpl path = PathImpl.createPathFromString( "orders[3].deliveryAddress" );
+		PathImpl copy = PathImpl.createCopy( path );
+
+		path.addPropertyNode( "street" );
+		copy.addPropertyNode( "city" );
+		copy.makeLeafNodeIterableAndSetIndex( 1 );
+
+		assertEquals( path.toString(), "orders[3].deliveryAddress.street" );
+		assertEquals( copy.toString(), "orders[3].deliveryAddress.city[1]" );
+
+		copy.removeLeafNode();
+		assertEquals( copy.toString(), "orders[3].deliveryAddress" );
+		assertEquals( PathImpl.createCopyWithoutLeafNode( path ), copy );
+	}
+
+	@Test
+	public void testEqualsAndHashCodeOfStructurallySharedPaths() {
+		PathImpl path = PathImpl.createPathFromString( "orders[3].deliveryAddress" );
+		PathImpl copy = PathImpl.createCopy( path );
+		copy.addPropertyNode( "street" );
+
+		PathImpl parsed = PathImpl.createPathFromString( "orders[3].deliveryAddress.street" );
+
+		assertEquals( copy, parsed );
+		assertEquals( copy.hashCode(), parsed.hashCode() );
+		assertFalse( path.equals( parsed ) );
+
+		copy.removeLeafNode();
+		assertEquals( copy, path );
+		assertEquals( copy.hashCode(), path.hashCode() );
+	}
+
 	@Test
 	public void testNonStringMapKey() {
 		Validator validator = ValidatorUtil.getValidator();
@@ -0,0 +1,187 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.metadata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.validator.testutils.ConstraintValidatorInitializationHelper.getDummyConstraintCreationContext;
+
+import java.util.Collections;
+
+import javax.validation.ValidationException;
+import javax.validation.Validator;
+import javax.validation.constraints.NotNull;
+
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.HibernateValidatorFactory;
+import org.hibernate.validator.internal.engine.DefaultParameterNameProvider;
+import org.hibernate.validator.internal.engine.MethodValidationConfiguration;
+import org.hibernate.validator.internal.engine.groups.ValidationOrderGenerator;
+import org.hibernate.validator.internal.metadata.BeanMetaDataManagerImpl;
+import org.hibernate.validator.internal.metadata.aggregated.BeanMetaData;
+import org.hibernate.validator.internal.metadata.provider.MetaDataProvider;
+import org.hibernate.validator.internal.properties.DefaultGetterPropertySelectionStrategy;
+import org.hibernate.validator.internal.properties.javabean.JavaBeanHelper;
+import org.hibernate.validator.internal.util.ExecutableHelper;
+import org.hibernate.validator.internal.util.ExecutableParameterNameProvider;
+import org.hibernate.validator.internal.util.TypeResolutionHelper;
+import org.hibernate.validator.metadata.BeanMetaDataCache;
+import org.hibernate.validator.metadata.BeanMetaDataCacheFactory;
+import org.hibernate.validator.metadata.BeanMetaDataCacheStatistics;
+import org.hibernate.validator.testutils.ValidatorUtil;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for the configurable bean metadata cache.
+ *
+ * @author Guillaume Smet
+ */
+public class BeanMetaDataCacheTest {
+
+	@Test
+	public void testHitsAndMissesAreCounted() {
+		HibernateValidatorFactory validatorFactory = ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.buildValidatorFactory()
+				.unwrap( HibernateValidatorFactory.class );
+		Validator validator = validatorFactory.getValidator();
+
+		validator.validate( new Foo() );
+		BeanMetaDataCacheStatistics statistics = validatorFactory.getBeanMetaDataCacheStatistics();
+
+		validator.validate( new Foo() );
+		BeanMetaDataCacheStatistics newStatistics = validatorFactory.getBeanMetaDataCacheStatistics();
+
+		assertThat( statistics.getMissCount() ).isGreaterThan( 0 );
+		assertThat( newStatistics.getMissCount() ).isEqualTo( statistics.getMissCount() );
+		assertThat( newStatistics.getHitCount() ).isGreaterThan( statistics.getHitCount() );
+		assertThat( newStatistics.getSize() ).isEqualTo( statistics.getSize() );
+		assertThat( newStatistics.getRebuildCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testBoundedLruCacheEvictsTheLeastRecentlyUsedMetaData() {
+		BeanMetaDataManagerImpl metaDataManager = new BeanMetaDataManagerImpl(
+				getDummyConstraintCreationContext(),
+				new ExecutableHelper( new TypeResolutionHelper() ),
+				new ExecutableParameterNameProvider( new DefaultParameterNameProvider() ),
+				new JavaBeanHelper( new DefaultGetterPropertySelectionStrategy() ),
+				new ValidationOrderGenerator(),
+				Collections.<MetaDataProvider>emptyList(),
+				new MethodValidationConfiguration.Builder().build(),
+				BeanMetaDataCacheFactory.boundedLru( 2 )
+		);
+
+		BeanMetaData<Foo> fooBeanMetaData = metaDataManager.getBeanMetaData( Foo.class );
+		metaDataManager.getBeanMetaData( Bar.class );
+		assertThat( metaDataManager.getBeanMetaData( Foo.class ) ).isSameAs( fooBeanMetaData );
+		// Bar is the least recently used
+		metaDataManager.getBeanMetaData( Baz.class );
+		metaDataManager.getBeanMetaData( Bar.class );
+
+		BeanMetaDataCacheStatistics statistics = metaDataManager.getBeanMetaDataCacheStatistics();
+		assertThat( statistics.getSize() ).isEqualTo( 2 );
+		assertThat( statistics.getEvictionCount() ).isEqualTo( 2 );
+		assertThat( statistics.getRebuildCount() ).isEqualTo( 1 );
+		assertThat( statistics.getMissCount() ).isEqualTo( 4 );
+		assertThat( statistics.getHitCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testBoundedLruCacheCanBeConfiguredWithProperties() {
+		HibernateValidatorFactory validatorFactory = ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.addProperty( HibernateValidatorConfiguration.BEAN_METADATA_CACHE, "lru" )
+				.addProperty( HibernateValidatorConfiguration.BEAN_METADATA_CACHE_MAX_SIZE, "1" )
+				.buildValidatorFactory()
+				.unwrap( HibernateValidatorFactory.class );
+		Validator validator = validatorFactory.getValidator();
+
+		validator.validate( new Foo() );
+		validator.validate( new Bar() );
+
+		BeanMetaDataCacheStatistics statistics = validatorFactory.getBeanMetaDataCacheStatistics();
+		assertThat( statistics.getSize() ).isEqualTo( 1 );
+		assertThat( statistics.getEvictionCount() ).isGreaterThan( 0 );
+	}
+
+	@Test
+	public void testCacheFactoryCanBeConfiguredByClassName() {
+		HibernateValidatorFactory validatorFactory = ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.addProperty( HibernateValidatorConfiguration.BEAN_METADATA_CACHE, CountingBeanMetaDataCacheFactory.class.getName() )
+				.buildValidatorFactory()
+				.unwrap( HibernateValidatorFactory.class );
+
+		validatorFactory.getValidator().validate( new Foo() );
+
+		assertThat( validatorFactory.getBeanMetaDataCacheStatistics().getEvictionCount() ).isEqualTo( 42 );
+	}
+
+	@Test(expectedExceptions = ValidationException.class, expectedExceptionsMessageRegExp = "HV000256.*")
+	public void testUnknownCacheFactoryClassThrowsException() {
+		ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.addProperty( HibernateValidatorConfiguration.BEAN_METADATA_CACHE, "org.hibernate.validator.DoesNotExist" )
+				.buildValidatorFactory();
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "HV000254.*")
+	public void testBoundedLruCacheRequiresAPositiveMaxSize() {
+		BeanMetaDataCacheFactory.boundedLru( 0 );
+	}
+
+	public static class CountingBeanMetaDataCacheFactory implements BeanMetaDataCacheFactory {
+
+		@Override
+		public BeanMetaDataCache createBeanMetaDataCache() {
+			BeanMetaDataCache delegate = BeanMetaDataCacheFactory.strong().createBeanMetaDataCache();
+
+			return new BeanMetaDataCache() {
+
+				@Override
+				public Object get(Class<?> beanClass) {
+					return delegate.get( beanClass );
+				}
+
+				@Override
+				public Object putIfAbsent(Class<?> beanClass, Object beanMetaData) {
+					return delegate.putIfAbsent( beanClass, beanMetaData );
+				}
+
+				@Override
+				public void clear() {
+					delegate.clear();
+				}
+
+				@Override
+				public int size() {
+					return delegate.size();
+				}
+
+				@Override
+				public long getEvictionCount() {
+					return 42;
+				}
+			};
+		}
+	}
+
+	private static class Foo {
+
+		@NotNull
+		private String foo = "foo";
+	}
+
+	private static class Bar {
+
+		@NotNull
+		private String bar = "bar";
+	}
+
+	private static class Baz {
+
+		@NotNull
+		private String baz = "baz";
+	}
+}
@@ -7,8 +7,10 @@
 package org.hibernate.validator.test.internal.metadata;
 
 import static org.hibernate.validator.testutils.ConstraintValidatorInitializationHelper.getDummyConstraintCreationContext;
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.fail;
 
@@ -20,6 +22,14 @@
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.validation.constraints.NotNull;
 
 import org.hibernate.validator.internal.engine.DefaultParameterNameProvider;
 import org.hibernate.validator.internal.engine.MethodValidationConfiguration;
@@ -35,6 +45,8 @@
 import org.hibernate.validator.internal.util.TypeResolutionHelper;
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
+import org.hibernate.validator.spi.properties.ConstrainableExecutable;
+import org.hibernate.validator.spi.properties.GetterPropertySelectionStrategy;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
@@ -118,6 +130,42 @@ public void testGetMetaDataForUnConstrainedEntity() {
 		assertFalse( beanMetaData.hasConstraints() );
 	}
 
+	@Test
+	public void testConcurrentRequestsWaitForTheConstructionInProgress() throws Exception {
+		BlockingGetterPropertySelectionStrategy getterPropertySelectionStrategy = new BlockingGetterPropertySelectionStrategy();
+		BeanMetaDataManagerImpl metaDataManager = new BeanMetaDataManagerImpl(
+				getDummyConstraintCreationContext(),
+				new ExecutableHelper( new TypeResolutionHelper() ),
+				new ExecutableParameterNameProvider( new DefaultParameterNameProvider() ),
+				new JavaBeanHelper( getterPropertySelectionStrategy ),
+				new ValidationOrderGenerator(),
+				Collections.<MetaDataProvider>emptyList(),
+				new MethodValidationConfiguration.Builder().build()
+		);
+
+		AtomicReference<BeanMetaData<?>> firstBeanMetaData = new AtomicReference<>();
+		AtomicReference<BeanMetaData<?>> secondBeanMetaData = new AtomicReference<>();
+		Thread firstThread = new Thread( () -> firstBeanMetaData.set( metaDataManager.getBeanMetaData( SlowlyIntrospectedEntity.class ) ) );
+		Thread secondThread = new Thread( () -> secondBeanMetaData.set( metaDataManager.getBeanMetaData( SlowlyIntrospectedEntity.class ) ) );
+
+		firstThread.start();
+		assertTrue( getterPropertySelectionStrategy.constructionStarted.await( 10, TimeUnit.SECONDS ) );
+
+		secondThread.start();
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos( 10 );
+		while ( secondThread.getState() != Thread.State.WAITING && System.nanoTime() < deadline ) {
+			Thread.sleep( 10 );
+		}
+
+		getterPropertySelectionStrategy.constructionReleased.countDown();
+		firstThread.join();
+		secondThread.join();
+
+		assertSame( secondBeanMetaData.get(), firstBeanMetaData.get() );
+		assertEquals( getterPropertySelectionStrategy.constructions.get(), 1 );
+		assertEquals( metaDataManager.numberOfAvoidedDuplicateBeanMetaDataConstructions(), 1L );
+	}
+
 	public class CustomClassLoader extends ClassLoader {
 
 		/**
@@ -184,4 +232,42 @@ public static class UnconstrainedEntity {
 		@SuppressWarnings("unused")
 		private String foo;
 	}
+
+	public static class SlowlyIntrospectedEntity {
+
+		@NotNull
+		public String getSlowlyIntrospectedProperty() {
+			return null;
+		}
+	}
+
+	private static class BlockingGetterPropertySelectionStrategy implements GetterPropertySelectionStrategy {
+
+		private final GetterPropertySelectionStrategy delegate = new DefaultGetterPropertySelectionStrategy();
+
+		private final CountDownLatch constructionStarted = new CountDownLatch( 1 );
+
+		private final CountDownLatch constructionReleased = new CountDownLatch( 1 );
+
+		private final AtomicInteger constructions = new AtomicInteger();
+
+		@Override
+		public Optional<String> getProperty(ConstrainableExecutable executable) {
+			if ( "getSlowlyIntrospectedProperty".equals( executable.getName() ) && constructions.incrementAndGet() == 1 ) {
+				constructionStarted.countDown();
+				try {
+					constructionReleased.await();
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			return delegate.getProperty( executable );
+		}
+
+		@Override
+		public Set<String> getGetterMethodNameCandidates(String propertyName) {
+			return delegate.getGetterMethodNameCandidates( propertyName );
+		}
+	}
 }
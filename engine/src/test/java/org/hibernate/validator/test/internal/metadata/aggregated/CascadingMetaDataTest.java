@@ -0,0 +1,111 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.metadata.aggregated;
+
+import static org.hibernate.validator.testutils.ConstraintValidatorInitializationHelper.getDummyConstraintCreationContext;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import javax.validation.Valid;
+
+import org.hibernate.validator.internal.engine.ConstraintCreationContext;
+import org.hibernate.validator.internal.engine.DefaultParameterNameProvider;
+import org.hibernate.validator.internal.engine.MethodValidationConfiguration;
+import org.hibernate.validator.internal.engine.groups.ValidationOrderGenerator;
+import org.hibernate.validator.internal.engine.valueextraction.ValueExtractorDescriptor;
+import org.hibernate.validator.internal.engine.valueextraction.ValueExtractorManager;
+import org.hibernate.validator.internal.metadata.BeanMetaDataManagerImpl;
+import org.hibernate.validator.internal.metadata.aggregated.CascadingMetaData;
+import org.hibernate.validator.internal.metadata.aggregated.ContainerCascadingMetaData;
+import org.hibernate.validator.internal.metadata.provider.MetaDataProvider;
+import org.hibernate.validator.internal.properties.DefaultGetterPropertySelectionStrategy;
+import org.hibernate.validator.internal.properties.javabean.JavaBeanHelper;
+import org.hibernate.validator.internal.util.ExecutableHelper;
+import org.hibernate.validator.internal.util.ExecutableParameterNameProvider;
+import org.hibernate.validator.internal.util.TypeResolutionHelper;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the resolution of the cascading metadata based on the runtime type of the cascaded values.
+ *
+ * @author Guillaume Smet
+ */
+public class CascadingMetaDataTest {
+
+	private ValueExtractorManager valueExtractorManager;
+
+	private BeanMetaDataManagerImpl beanMetaDataManager;
+
+	@BeforeMethod
+	public void setupBeanMetaDataManager() {
+		ConstraintCreationContext constraintCreationContext = getDummyConstraintCreationContext();
+		valueExtractorManager = constraintCreationContext.getValueExtractorManager();
+		beanMetaDataManager = new BeanMetaDataManagerImpl(
+				constraintCreationContext,
+				new ExecutableHelper( new TypeResolutionHelper() ),
+				new ExecutableParameterNameProvider( new DefaultParameterNameProvider() ),
+				new JavaBeanHelper( new DefaultGetterPropertySelectionStrategy() ),
+				new ValidationOrderGenerator(),
+				Collections.<MetaDataProvider>emptyList(),
+				new MethodValidationConfiguration.Builder().build()
+		);
+	}
+
+	@Test
+	public void runtimeContainerSupportIsResolvedOncePerRuntimeType() {
+		CascadingMetaData cascadingMetaData = getCascadingMetaData( "potentialContainer" );
+
+		CascadingMetaData listCascadingMetaData = cascadingMetaData.addRuntimeContainerSupport( valueExtractorManager, ArrayList.class );
+		assertTrue( listCascadingMetaData.isContainer() );
+		assertSame( cascadingMetaData.addRuntimeContainerSupport( valueExtractorManager, ArrayList.class ), listCascadingMetaData );
+
+		CascadingMetaData setCascadingMetaData = cascadingMetaData.addRuntimeContainerSupport( valueExtractorManager, HashSet.class );
+		assertTrue( setCascadingMetaData.isContainer() );
+		assertSame( cascadingMetaData.addRuntimeContainerSupport( valueExtractorManager, HashSet.class ), setCascadingMetaData );
+		assertSame( cascadingMetaData.addRuntimeContainerSupport( valueExtractorManager, ArrayList.class ), listCascadingMetaData );
+
+		CascadingMetaData beanCascadingMetaData = cascadingMetaData.addRuntimeContainerSupport( valueExtractorManager, Bean.class );
+		assertFalse( beanCascadingMetaData.isContainer() );
+		assertSame( beanCascadingMetaData, cascadingMetaData );
+	}
+
+	@Test
+	public void valueExtractorIsResolvedOncePerRuntimeType() {
+		ContainerCascadingMetaData containerElementCascadingMetaData = getCascadingMetaData( "list" ).as( ContainerCascadingMetaData.class )
+				.getContainerElementTypesCascadingMetaData()
+				.get( 0 );
+
+		ValueExtractorDescriptor valueExtractor = containerElementCascadingMetaData.getValueExtractor( valueExtractorManager, ArrayList.class );
+		assertNotNull( valueExtractor );
+		assertSame( containerElementCascadingMetaData.getValueExtractor( valueExtractorManager, ArrayList.class ), valueExtractor );
+	}
+
+	private CascadingMetaData getCascadingMetaData(String propertyName) {
+		return beanMetaDataManager.getBeanMetaData( Bean.class ).getMetaDataFor( propertyName )
+				.getCascadables()
+				.iterator()
+				.next()
+				.getCascadingMetaData();
+	}
+
+	@SuppressWarnings("unused")
+	private static class Bean {
+
+		@Valid
+		private Object potentialContainer;
+
+		private List<@Valid Bean> list;
+	}
+}
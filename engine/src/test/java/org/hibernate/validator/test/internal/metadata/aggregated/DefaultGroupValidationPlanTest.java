@@ -0,0 +1,132 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.metadata.aggregated;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.validator.testutils.ConstraintValidatorInitializationHelper.getDummyConstraintCreationContext;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.validation.GroupSequence;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+import org.hibernate.validator.internal.engine.DefaultParameterNameProvider;
+import org.hibernate.validator.internal.engine.MethodValidationConfiguration;
+import org.hibernate.validator.internal.engine.groups.ValidationOrderGenerator;
+import org.hibernate.validator.internal.metadata.BeanMetaDataManager;
+import org.hibernate.validator.internal.metadata.BeanMetaDataManagerImpl;
+import org.hibernate.validator.internal.metadata.aggregated.BeanMetaData;
+import org.hibernate.validator.internal.metadata.aggregated.DefaultGroupValidationPlan;
+import org.hibernate.validator.internal.metadata.provider.MetaDataProvider;
+import org.hibernate.validator.internal.properties.DefaultGetterPropertySelectionStrategy;
+import org.hibernate.validator.internal.properties.javabean.JavaBeanHelper;
+import org.hibernate.validator.internal.util.ExecutableHelper;
+import org.hibernate.validator.internal.util.ExecutableParameterNameProvider;
+import org.hibernate.validator.internal.util.TypeResolutionHelper;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * @author Guillaume Smet
+ */
+public class DefaultGroupValidationPlanTest {
+
+	private BeanMetaDataManager beanMetaDataManager;
+
+	@BeforeMethod
+	public void setupBeanMetaDataManager() {
+		beanMetaDataManager = new BeanMetaDataManagerImpl(
+				getDummyConstraintCreationContext(),
+				new ExecutableHelper( new TypeResolutionHelper() ),
+				new ExecutableParameterNameProvider( new DefaultParameterNameProvider() ),
+				new JavaBeanHelper( new DefaultGetterPropertySelectionStrategy() ),
+				new ValidationOrderGenerator(),
+				Collections.<MetaDataProvider>emptyList(),
+				new MethodValidationConfiguration.Builder().build()
+		);
+	}
+
+	@Test
+	public void planContainsConstraintsOfWholeHierarchy() {
+		DefaultGroupValidationPlan plan = getPlan( Child.class );
+
+		assertThat( plan.isApplicable() ).isTrue();
+		assertThat( getDeclaringClasses( plan ) ).containsOnly( Child.class, Parent.class, Named.class );
+	}
+
+	@Test
+	public void interfaceConstraintsAreOnlyIncludedOnce() {
+		DefaultGroupValidationPlan plan = getPlan( Child.class );
+
+		assertThat( getDeclaringClasses( plan ) ).containsOnlyOnce( Named.class );
+	}
+
+	@Test
+	public void planIsCached() {
+		assertThat( getPlan( Child.class ) ).isSameAs( getPlan( Child.class ) );
+	}
+
+	@Test
+	public void planIsNotApplicableWhenDefaultGroupSequenceIsRedefinedInHierarchy() {
+		assertThat( getPlan( ParentWithGroupSequence.class ).isApplicable() ).isFalse();
+		assertThat( getPlan( ChildOfParentWithGroupSequence.class ).isApplicable() ).isFalse();
+	}
+
+	private DefaultGroupValidationPlan getPlan(Class<?> beanClass) {
+		BeanMetaData<?> beanMetaData = beanMetaDataManager.getBeanMetaData( beanClass );
+		return beanMetaData.getDefaultGroupValidationPlan( beanMetaDataManager );
+	}
+
+	private static List<Class<?>> getDeclaringClasses(DefaultGroupValidationPlan plan) {
+		return Arrays.stream( plan.getMetaConstraints() )
+				.map( c -> c.getLocation().getDeclaringClass() )
+				.collect( Collectors.toList() );
+	}
+
+	public interface Named {
+
+		@NotNull
+		String getName();
+	}
+
+	public static class Parent implements Named {
+
+		@Min(1)
+		private int rank;
+
+		@Override
+		public String getName() {
+			return null;
+		}
+	}
+
+	public static class Child extends Parent implements Named {
+
+		@NotNull
+		private String nickname;
+	}
+
+	@GroupSequence({ Marker.class, ParentWithGroupSequence.class })
+	public static class ParentWithGroupSequence {
+
+		@NotNull
+		private String name;
+	}
+
+	public static class ChildOfParentWithGroupSequence extends ParentWithGroupSequence {
+
+		@NotNull
+		private String nickname;
+	}
+
+	public interface Marker {
+	}
+}
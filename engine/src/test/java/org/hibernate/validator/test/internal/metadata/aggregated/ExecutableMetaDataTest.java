@@ -10,6 +10,7 @@
 import static org.hibernate.validator.testutils.ConstraintValidatorInitializationHelper.getDummyConstraintCreationContext;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 
 import java.lang.annotation.Annotation;
@@ -39,6 +40,7 @@
 import org.hibernate.validator.internal.util.TypeResolutionHelper;
 import org.hibernate.validator.test.internal.metadata.ConsistentDateParameters;
 import org.hibernate.validator.test.internal.metadata.Customer;
+import org.hibernate.validator.test.internal.metadata.CustomerRepository;
 import org.hibernate.validator.test.internal.metadata.CustomerRepository.ValidationGroup;
 import org.hibernate.validator.test.internal.metadata.CustomerRepositoryExt;
 import org.hibernate.validator.testutil.TestForIssue;
@@ -350,4 +352,37 @@ public void unconstrainedMethod() throws Exception {
 
 		assertFalse( beanMetaData.getMetaDataFor( method ).isPresent() );
 	}
+
+	@Test
+	public void repeatedLookupsReturnSameMetaData() throws Exception {
+		Method method = CustomerRepositoryExt.class.getMethod( "createCustomer", CharSequence.class, String.class );
+		ExecutableMetaData methodMetaData = beanMetaData.getMetaDataFor( method ).get();
+
+		assertSame( beanMetaData.getMetaDataFor( method ).get(), methodMetaData );
+		assertSame(
+				beanMetaData.getMetaDataFor( CustomerRepositoryExt.class.getMethod( "createCustomer", CharSequence.class, String.class ) ).get(),
+				methodMetaData
+		);
+		assertSame(
+				beanMetaData.getMetaDataFor( CustomerRepository.class.getMethod( "createCustomer", CharSequence.class, String.class ) ).get(),
+				methodMetaData
+		);
+
+		Method unconstrainedMethod = CustomerRepositoryExt.class.getMethod( "updateCustomer", Customer.class );
+		assertFalse( beanMetaData.getMetaDataFor( unconstrainedMethod ).isPresent() );
+		assertFalse( beanMetaData.getMetaDataFor( unconstrainedMethod ).isPresent() );
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "HV000162.*")
+	public void lookupOfMethodNotDefinedByTypeFailsRepeatedly() throws Exception {
+		Method method = String.class.getMethod( "length" );
+
+		try {
+			beanMetaData.getMetaDataFor( method );
+		}
+		catch (IllegalArgumentException e) {
+			// make sure the failure is not cached as an unconstrained executable
+			beanMetaData.getMetaDataFor( method );
+		}
+	}
 }
@@ -10,11 +10,15 @@
 import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
 import static org.hibernate.validator.testutil.ConstraintViolationAssert.pathWith;
 import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+import static org.testng.Assert.assertTrue;
 
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Locale;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.validation.ConstraintViolation;
 import javax.validation.Valid;
@@ -197,6 +201,39 @@ public void testBeanMetaDataClassNormalizerNoNormalizer() {
 		validator.validate( new BeanProxy() );
 	}
 
+	@Test
+	public void testParallelBeanMetaDataInitialization() throws NoSuchMethodException, SecurityException {
+		Set<Class<?>> beanMetaDataToInitialize = new HashSet<>();
+		beanMetaDataToInitialize.add( Bean.class );
+		beanMetaDataToInitialize.add( AnotherBean.class );
+
+		AtomicInteger submittedTasks = new AtomicInteger();
+		Executor executor = task -> {
+			submittedTasks.incrementAndGet();
+			ForkJoinPool.commonPool().execute( task );
+		};
+
+		Validator validator = Validation.byProvider( PredefinedScopeHibernateValidator.class )
+				.configure()
+				.initializeBeanMetaData( beanMetaDataToInitialize )
+				.parallelBeanMetaDataInitialization( true )
+				.beanMetaDataInitializationExecutor( executor )
+				.buildValidatorFactory()
+				.getValidator();
+
+		assertTrue( submittedTasks.get() > 0 );
+
+		assertNoViolations( validator.validate( new Bean( "property", "test@example.com" ) ) );
+		assertThat( validator.validate( new Bean( null, "invalid" ) ) ).containsOnlyViolations(
+				violationOf( NotNull.class ).withProperty( "property" ),
+				violationOf( Email.class ).withProperty( "email" ) );
+		assertThat( validator.forExecutables()
+				.validateParameters( new Bean(), Bean.class.getMethod( "setEmail", String.class ),
+						new Object[]{ "invalid" } ) ).containsOnlyViolations(
+				violationOf( Email.class )
+						.withPropertyPath( pathWith().method( "setEmail" ).parameter( "email", 0 ) ) );
+	}
+
 	@Test
 	public void testBeanMetaDataClassNormalizer() {
 		Set<Class<?>> beanMetaDataToInitialize = new HashSet<>();
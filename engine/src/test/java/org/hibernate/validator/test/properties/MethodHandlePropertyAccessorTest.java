@@ -0,0 +1,160 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.pathWith;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Set;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Valid;
+import javax.validation.Validation;
+import javax.validation.ValidationException;
+import javax.validation.Validator;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.cfg.ConstraintMapping;
+import org.hibernate.validator.cfg.defs.SizeDef;
+import org.hibernate.validator.testutil.ConstraintViolationAssert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the method handle based property accessors.
+ *
+ * @author Guillaume Smet
+ */
+public class MethodHandlePropertyAccessorTest {
+
+	@Test
+	public void testMethodHandlePropertyAccessors() {
+		Validator validator = Validation.byProvider( HibernateValidator.class )
+				.configure()
+				.enableMethodHandlePropertyAccessors( true )
+				.buildValidatorFactory()
+				.getValidator();
+
+		assertViolations( validator.validate( new Order( null, -1, 150L, new Customer( null ) ) ) );
+		assertThat( validator.validate( new Order( "order", 1, 50L, new Customer( "customer" ) ) ) ).isEmpty();
+	}
+
+	@Test
+	public void testMethodHandlePropertyAccessorsWithProperty() {
+		Validator validator = Validation.byProvider( HibernateValidator.class )
+				.configure()
+				.addProperty( HibernateValidatorConfiguration.ENABLE_METHOD_HANDLE_PROPERTY_ACCESSORS, "true" )
+				.buildValidatorFactory()
+				.getValidator();
+
+		assertViolations( validator.validate( new Order( null, -1, 150L, new Customer( null ) ) ) );
+	}
+
+	@Test
+	public void testMethodHandlePropertyAccessorsWithProgrammaticMapping() {
+		HibernateValidatorConfiguration configuration = Validation.byProvider( HibernateValidator.class )
+				.configure()
+				.enableMethodHandlePropertyAccessors( true );
+		ConstraintMapping mapping = configuration.createConstraintMapping();
+		mapping.type( Customer.class )
+				.getter( "name" )
+						.constraint( new SizeDef().min( 5 ) );
+		configuration.addMapping( mapping );
+		Validator validator = configuration.buildValidatorFactory().getValidator();
+
+		Set<ConstraintViolation<Customer>> violations = validator.validate( new Customer( "abc" ) );
+
+		ConstraintViolationAssert.assertThat( violations ).containsOnlyViolations(
+				violationOf( Size.class ).withProperty( "name" )
+		);
+	}
+
+	@Test
+	public void testExceptionThrownByGetterIsWrapped() {
+		Validator validator = Validation.byProvider( HibernateValidator.class )
+				.configure()
+				.enableMethodHandlePropertyAccessors( true )
+				.buildValidatorFactory()
+				.getValidator();
+
+		try {
+			validator.validate( new FailingGetter() );
+		}
+		catch (ValidationException e) {
+			assertThat( e.getCause() ).isInstanceOf( InvocationTargetException.class );
+			assertThat( e.getCause().getCause() ).isInstanceOf( UnsupportedOperationException.class );
+			return;
+		}
+
+		throw new AssertionError( "A ValidationException should have been thrown." );
+	}
+
+	private void assertViolations(Set<ConstraintViolation<Order>> violations) {
+		ConstraintViolationAssert.assertThat( violations ).containsOnlyViolations(
+				violationOf( NotNull.class ).withProperty( "reference" ),
+				violationOf( Min.class ).withProperty( "quantity" ),
+				violationOf( Max.class ).withProperty( "amount" ),
+				violationOf( NotNull.class ).withPropertyPath( pathWith()
+						.property( "customer" )
+						.property( "name" ) )
+		);
+	}
+
+	private static class Order {
+
+		@NotNull
+		private final String reference;
+
+		@Min(0)
+		private final int quantity;
+
+		private final long amount;
+
+		@Valid
+		private final Customer customer;
+
+		private Order(String reference, int quantity, long amount, Customer customer) {
+			this.reference = reference;
+			this.quantity = quantity;
+			this.amount = amount;
+			this.customer = customer;
+		}
+
+		@Max(100)
+		private long getAmount() {
+			return amount;
+		}
+	}
+
+	private static class Customer {
+
+		private final String name;
+
+		private Customer(String name) {
+			this.name = name;
+		}
+
+		@NotNull
+		public String getName() {
+			return name;
+		}
+	}
+
+	private static class FailingGetter {
+
+		@NotNull
+		public String getValue() {
+			throw new UnsupportedOperationException();
+		}
+	}
+}
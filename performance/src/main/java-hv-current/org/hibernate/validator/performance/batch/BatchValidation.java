@@ -0,0 +1,114 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.performance.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validation;
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+import javax.validation.constraints.AssertTrue;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+import org.hibernate.validator.BatchValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the validation of a batch of objects with {@link BatchValidator#validateAll(Iterable, Class[])} to a
+ * loop calling {@link Validator#validate(Object, Class[])}.
+ *
+ * @author Guillaume Smet
+ */
+public class BatchValidation {
+
+	@State(Scope.Benchmark)
+	public static class BatchValidationState {
+
+		@Param({ "10", "1000" })
+		public int batchSize;
+
+		public volatile Validator validator;
+		public volatile BatchValidator batchValidator;
+		public volatile List<Driver> drivers;
+
+		@Setup
+		public void setUp() {
+			ValidatorFactory factory = Validation.byDefaultProvider().configure().buildValidatorFactory();
+			validator = factory.getValidator();
+			batchValidator = validator.unwrap( BatchValidator.class );
+
+			ThreadLocalRandom random = ThreadLocalRandom.current();
+			drivers = new ArrayList<>( batchSize );
+			for ( int i = 0; i < batchSize; i++ ) {
+				drivers.add( new Driver( random.nextInt( 10 ) == 0 ? null : "Driver " + i, random.nextInt( 100 ), random.nextBoolean() ) );
+			}
+		}
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Fork(value = 1)
+	@Threads(50)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 20)
+	public void testValidateInLoop(BatchValidationState state, Blackhole bh) {
+		for ( Driver driver : state.drivers ) {
+			Set<ConstraintViolation<Driver>> violations = state.validator.validate( driver );
+			bh.consume( violations );
+		}
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Fork(value = 1)
+	@Threads(50)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 20)
+	public void testValidateAll(BatchValidationState state, Blackhole bh) {
+		Map<Integer, Set<ConstraintViolation<Driver>>> violations = state.batchValidator.validateAll( state.drivers );
+		bh.consume( violations );
+	}
+
+	public static class Driver {
+
+		@NotNull
+		private String name;
+
+		@Min(18)
+		private int age;
+
+		@AssertTrue
+		private boolean hasDrivingLicense;
+
+		public Driver(String name, int age, boolean hasDrivingLicense) {
+			this.name = name;
+			this.age = age;
+			this.hasDrivingLicense = hasDrivingLicense;
+		}
+	}
+}
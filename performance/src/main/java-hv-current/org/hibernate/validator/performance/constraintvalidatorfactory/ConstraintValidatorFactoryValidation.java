@@ -0,0 +1,158 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.performance.constraintvalidatorfactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorFactory;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validation;
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+import javax.validation.constraints.AssertTrue;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the validation with the default constraint validator factory to the validation with custom constraint
+ * validator factories, e.g. one per tenant, set via {@link ValidatorFactory#usingContext()}.
+ *
+ * @author Guillaume Smet
+ */
+public class ConstraintValidatorFactoryValidation {
+
+	@State(Scope.Benchmark)
+	public static class ConstraintValidatorFactoryValidationState {
+
+		/**
+		 * The number of custom constraint validator factories the validations are spread over.
+		 */
+		@Param({ "1", "4", "32" })
+		public int customConstraintValidatorFactoryCount;
+
+		public volatile ValidatorFactory validatorFactory;
+		public volatile Validator defaultValidator;
+		public volatile Validator[] customValidators;
+		public volatile List<Driver> drivers;
+
+		@Setup
+		public void setUp() {
+			validatorFactory = Validation.byDefaultProvider().configure().buildValidatorFactory();
+			defaultValidator = validatorFactory.getValidator();
+
+			customValidators = new Validator[customConstraintValidatorFactoryCount];
+			for ( int i = 0; i < customConstraintValidatorFactoryCount; i++ ) {
+				customValidators[i] = validatorFactory.usingContext()
+						.constraintValidatorFactory( new DelegatingConstraintValidatorFactory( validatorFactory.getConstraintValidatorFactory() ) )
+						.getValidator();
+			}
+
+			ThreadLocalRandom random = ThreadLocalRandom.current();
+			drivers = new ArrayList<>( 100 );
+			for ( int i = 0; i < 100; i++ ) {
+				drivers.add( new Driver( random.nextInt( 10 ) == 0 ? null : "Driver " + i, random.nextInt( 100 ), random.nextBoolean() ) );
+			}
+		}
+
+		@TearDown
+		public void tearDown() {
+			validatorFactory.close();
+		}
+
+		public Validator nextCustomValidator() {
+			return customValidators[ThreadLocalRandom.current().nextInt( customValidators.length )];
+		}
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Fork(value = 1)
+	@Threads(50)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 20)
+	public void testValidationWithDefaultConstraintValidatorFactory(ConstraintValidatorFactoryValidationState state, Blackhole bh) {
+		for ( Driver driver : state.drivers ) {
+			Set<ConstraintViolation<Driver>> violations = state.defaultValidator.validate( driver );
+			bh.consume( violations );
+		}
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Fork(value = 1)
+	@Threads(50)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 20)
+	public void testValidationWithCustomConstraintValidatorFactories(ConstraintValidatorFactoryValidationState state, Blackhole bh) {
+		Validator validator = state.nextCustomValidator();
+		for ( Driver driver : state.drivers ) {
+			Set<ConstraintViolation<Driver>> violations = validator.validate( driver );
+			bh.consume( violations );
+		}
+	}
+
+	private static class DelegatingConstraintValidatorFactory implements ConstraintValidatorFactory {
+
+		private final ConstraintValidatorFactory delegate;
+
+		private DelegatingConstraintValidatorFactory(ConstraintValidatorFactory delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public <T extends ConstraintValidator<?, ?>> T getInstance(Class<T> key) {
+			return delegate.getInstance( key );
+		}
+
+		@Override
+		public void releaseInstance(ConstraintValidator<?, ?> instance) {
+			delegate.releaseInstance( instance );
+		}
+	}
+
+	public static class Driver {
+
+		@NotNull
+		@Size(min = 3, max = 50)
+		private String name;
+
+		@Min(18)
+		private int age;
+
+		@AssertTrue
+		private boolean hasDrivingLicense;
+
+		public Driver(String name, int age, boolean hasDrivingLicense) {
+			this.name = name;
+			this.age = age;
+			this.hasDrivingLicense = hasDrivingLicense;
+		}
+	}
+}
@@ -11,6 +11,8 @@
 
 import org.hibernate.validator.performance.cascaded.CascadedValidation;
 import org.hibernate.validator.performance.cascaded.CascadedWithLotsOfItemsValidation;
+import org.hibernate.validator.performance.cascaded.CascadedWithSharedReferencesValidation;
+import org.hibernate.validator.performance.messageinterpolation.MessageInterpolation;
 import org.hibernate.validator.performance.simple.SimpleValidation;
 import org.hibernate.validator.performance.statistical.StatisticalValidation;
 
@@ -35,10 +37,17 @@ public final class BenchmarkRunner {
 			SimpleValidation.class.getName(),
 			CascadedValidation.class.getName(),
 			CascadedWithLotsOfItemsValidation.class.getName(),
+			CascadedWithSharedReferencesValidation.class.getName(),
 			StatisticalValidation.class.getName(),
+			MessageInterpolation.class.getName(),
 			// Benchmarks specific to Bean Validation 2.0
 			// Tests are located in a separate source folder only added for implementations compatible with BV 2.0
-			"org.hibernate.validator.performance.multilevel.MultiLevelContainerValidation"
+			"org.hibernate.validator.performance.multilevel.MultiLevelContainerValidation",
+			// Benchmarks specific to the current version of Hibernate Validator
+			// Tests are located in a separate source folder only added when benchmarking the current version
+			"org.hibernate.validator.performance.batch.BatchValidation",
+			"org.hibernate.validator.performance.constraintvalidatorfactory.ConstraintValidatorFactoryValidation",
+			"org.hibernate.validator.performance.url.URLValidation"
 	).map( BenchmarkRunner::classForName ).filter( Objects::nonNull );
 
 	private BenchmarkRunner() {
@@ -25,7 +25,9 @@
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Threads;
 import org.openjdk.jmh.annotations.Warmup;
@@ -38,11 +40,21 @@ public class CascadedValidation {
 
 	@State(Scope.Benchmark)
 	public static class CascadedValidationState {
+		/**
+		 * Hibernate Validator specific, ignored by the other implementations.
+		 */
+		@Param({ "false", "true" })
+		public String methodHandlePropertyAccessors;
+
 		public volatile Validator validator;
 		public volatile Person person;
 
-		public CascadedValidationState() {
-			ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
+		@Setup
+		public void setUp() {
+			ValidatorFactory factory = Validation.byDefaultProvider()
+					.configure()
+					.addProperty( "hibernate.validator.enable_method_handle_property_accessors", methodHandlePropertyAccessors )
+					.buildValidatorFactory();
 			validator = factory.getValidator();
 
 			// TODO graphs needs to be generated and deeper
@@ -39,6 +39,8 @@ public class CascadedWithLotsOfItemsValidation {
 
 	private static final int NUMBER_OF_ARTICLES_PER_SHOP = 2000;
 
+	private static final int PARALLEL_CASCADING_THRESHOLD = 1000;
+
 	@State(Scope.Benchmark)
 	public static class CascadedWithLotsOfItemsValidationState {
 		public volatile Validator validator;
@@ -51,16 +53,36 @@ public CascadedWithLotsOfItemsValidationState() {
 
 			shop = createShop();
 		}
+	}
 
-		private Shop createShop() {
-			Shop shop = new Shop( 1 );
+	/**
+	 * Validates the articles of the shop in parallel, using the common fork-join pool.
+	 */
+	@State(Scope.Benchmark)
+	public static class ParallelCascadedWithLotsOfItemsValidationState {
+		public volatile Validator validator;
 
-			for ( int i = 0; i < NUMBER_OF_ARTICLES_PER_SHOP; i++ ) {
-				shop.addArticle( new Article( i ) );
-			}
+		public volatile Shop shop;
+
+		public ParallelCascadedWithLotsOfItemsValidationState() {
+			ValidatorFactory factory = Validation.byDefaultProvider()
+					.configure()
+					.addProperty( "hibernate.validator.parallel_cascading_threshold", String.valueOf( PARALLEL_CASCADING_THRESHOLD ) )
+					.buildValidatorFactory();
+			validator = factory.getValidator();
 
-			return shop;
+			shop = createShop();
+		}
+	}
+
+	private static Shop createShop() {
+		Shop shop = new Shop( 1 );
+
+		for ( int i = 0; i < NUMBER_OF_ARTICLES_PER_SHOP; i++ ) {
+			shop.addArticle( new Article( i ) );
 		}
+
+		return shop;
 	}
 
 	@Benchmark
@@ -77,6 +99,20 @@ public void testCascadedValidationWithLotsOfItems(CascadedWithLotsOfItemsValidat
 		bh.consume( violations );
 	}
 
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.SECONDS)
+	@Fork(value = 1)
+	@Threads(1)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 20)
+	public void testCascadedValidationWithLotsOfItemsInParallel(ParallelCascadedWithLotsOfItemsValidationState state, Blackhole bh) {
+		Set<ConstraintViolation<Shop>> violations = state.validator.validate( state.shop );
+		assertThat( violations ).hasSize( 0 );
+
+		bh.consume( violations );
+	}
+
 	public static class Shop {
 		@NotNull
 		private Integer id;
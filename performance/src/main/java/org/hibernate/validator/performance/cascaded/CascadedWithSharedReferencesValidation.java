@@ -0,0 +1,171 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.performance.cascaded;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Valid;
+import javax.validation.Validation;
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+import javax.validation.constraints.NotNull;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Validates a graph in which a few reference data objects are reachable from a lot of different paths, thus stressing
+ * the tracking of the already validated beans.
+ *
+ * @author Guillaume Smet
+ */
+public class CascadedWithSharedReferencesValidation {
+
+	private static final int NUMBER_OF_ORDERS = 20;
+
+	private static final int NUMBER_OF_LINES_PER_ORDER = 50;
+
+	private static final int NUMBER_OF_PRODUCTS = 5;
+
+	@State(Scope.Benchmark)
+	public static class CascadedWithSharedReferencesValidationState {
+		public volatile Validator validator;
+
+		public volatile Customer customer;
+
+		public CascadedWithSharedReferencesValidationState() {
+			ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
+			validator = factory.getValidator();
+
+			customer = createCustomer();
+		}
+
+		private Customer createCustomer() {
+			Currency currency = new Currency( "EUR" );
+
+			List<Product> products = new ArrayList<>();
+			for ( int i = 0; i < NUMBER_OF_PRODUCTS; i++ ) {
+				products.add( new Product( "product-" + i, currency ) );
+			}
+
+			Customer customer = new Customer( "customer", currency );
+			for ( int i = 0; i < NUMBER_OF_ORDERS; i++ ) {
+				Order order = new Order( i, currency );
+				for ( int j = 0; j < NUMBER_OF_LINES_PER_ORDER; j++ ) {
+					order.addLine( new OrderLine( j, products.get( j % NUMBER_OF_PRODUCTS ) ) );
+				}
+				customer.addOrder( order );
+			}
+
+			return customer;
+		}
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.SECONDS)
+	@Fork(value = 1)
+	@Threads(20)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 20)
+	public void testCascadedValidationWithSharedReferences(CascadedWithSharedReferencesValidationState state, Blackhole bh) {
+		Set<ConstraintViolation<Customer>> violations = state.validator.validate( state.customer );
+		assertThat( violations ).hasSize( 0 );
+
+		bh.consume( violations );
+	}
+
+	public static class Customer {
+		@NotNull
+		private String name;
+
+		@Valid
+		private Currency preferredCurrency;
+
+		@Valid
+		private List<Order> orders = new ArrayList<>();
+
+		public Customer(String name, Currency preferredCurrency) {
+			this.name = name;
+			this.preferredCurrency = preferredCurrency;
+		}
+
+		public void addOrder(Order order) {
+			orders.add( order );
+		}
+	}
+
+	public static class Order {
+		@NotNull
+		private Integer id;
+
+		@Valid
+		private Currency currency;
+
+		@Valid
+		private List<OrderLine> lines = new ArrayList<>();
+
+		public Order(Integer id, Currency currency) {
+			this.id = id;
+			this.currency = currency;
+		}
+
+		public void addLine(OrderLine line) {
+			lines.add( line );
+		}
+	}
+
+	public static class OrderLine {
+		@NotNull
+		private Integer position;
+
+		@Valid
+		private Product product;
+
+		public OrderLine(Integer position, Product product) {
+			this.position = position;
+			this.product = product;
+		}
+	}
+
+	public static class Product {
+		@NotNull
+		private String reference;
+
+		@Valid
+		private Currency currency;
+
+		public Product(String reference, Currency currency) {
+			this.reference = reference;
+			this.currency = currency;
+		}
+	}
+
+	public static class Currency {
+		@NotNull
+		private String code;
+
+		public Currency(String code) {
+			this.code = code;
+		}
+	}
+}
@@ -0,0 +1,129 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.performance.messageinterpolation;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.validation.MessageInterpolator;
+import javax.validation.Validation;
+import javax.validation.ValidatorFactory;
+import javax.validation.constraints.Size;
+import javax.validation.metadata.ConstraintDescriptor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the interpolation of messages containing message parameters, EL expressions or both.
+ *
+ * @author Guillaume Smet
+ */
+public class MessageInterpolation {
+
+	private static final String PARAMETER_MESSAGE = "size must be between {min} and {max}";
+
+	private static final String EL_MESSAGE = "${validatedValue} must not be longer than ${max} characters";
+
+	private static final String MIXED_MESSAGE = "size of ${validatedValue} must be between {min} and {max}";
+
+	@State(Scope.Benchmark)
+	public static class MessageInterpolationState {
+
+		public volatile MessageInterpolator messageInterpolator;
+		public volatile MessageInterpolator.Context context;
+
+		@Setup
+		public void setUp() {
+			ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
+			messageInterpolator = factory.getMessageInterpolator();
+
+			ConstraintDescriptor<?> constraintDescriptor = factory.getValidator()
+					.getConstraintsForClass( Book.class )
+					.getConstraintsForProperty( "title" )
+					.getConstraintDescriptors()
+					.iterator()
+					.next();
+			context = new SimpleContext( constraintDescriptor, "Hibernate Validator in Action" );
+		}
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Fork(value = 1)
+	@Threads(50)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 20)
+	public void testParameterMessageInterpolation(MessageInterpolationState state, Blackhole bh) {
+		bh.consume( state.messageInterpolator.interpolate( PARAMETER_MESSAGE, state.context ) );
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Fork(value = 1)
+	@Threads(50)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 20)
+	public void testELMessageInterpolation(MessageInterpolationState state, Blackhole bh) {
+		bh.consume( state.messageInterpolator.interpolate( EL_MESSAGE, state.context ) );
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Fork(value = 1)
+	@Threads(50)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 20)
+	public void testMixedMessageInterpolation(MessageInterpolationState state, Blackhole bh) {
+		bh.consume( state.messageInterpolator.interpolate( MIXED_MESSAGE, state.context ) );
+	}
+
+	private static class SimpleContext implements MessageInterpolator.Context {
+
+		private final ConstraintDescriptor<?> constraintDescriptor;
+
+		private final Object validatedValue;
+
+		private SimpleContext(ConstraintDescriptor<?> constraintDescriptor, Object validatedValue) {
+			this.constraintDescriptor = constraintDescriptor;
+			this.validatedValue = validatedValue;
+		}
+
+		@Override
+		public ConstraintDescriptor<?> getConstraintDescriptor() {
+			return constraintDescriptor;
+		}
+
+		@Override
+		public Object getValidatedValue() {
+			return validatedValue;
+		}
+
+		@Override
+		public <T> T unwrap(Class<T> type) {
+			throw new UnsupportedOperationException();
+		}
+	}
+
+	public static class Book {
+
+		@Size(min = 1, max = 20)
+		private String title;
+	}
+}
@@ -24,7 +24,9 @@
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Threads;
 import org.openjdk.jmh.annotations.Warmup;
@@ -50,12 +52,22 @@ public class SimpleValidation {
 
 	@State(Scope.Benchmark)
 	public static class ValidationState {
+		/**
+		 * Hibernate Validator specific, ignored by the other implementations.
+		 */
+		@Param({ "false", "true" })
+		public String methodHandlePropertyAccessors;
+
 		public volatile Validator validator;
 		public volatile ThreadLocalRandom random;
 		public volatile Driver[] drivers;
 
-		{
-			ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
+		@Setup
+		public void setUp() {
+			ValidatorFactory factory = Validation.byDefaultProvider()
+					.configure()
+					.addProperty( "hibernate.validator.enable_method_handle_property_accessors", methodHandlePropertyAccessors )
+					.buildValidatorFactory();
 			validator = factory.getValidator();
 			random = ThreadLocalRandom.current();
 